@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# CDS 아카이브 학습 실행 (./gradlew cdsArchive 에서 호출)
+# - 풀어 놓은 bootJar 를 -XX:ArchiveClassesAtExit 로 실행하고 카테고리 API 를 모두 호출한 뒤 정상 종료
+# - 종료 시 지금까지 로드된 클래스(요청 처리 경로 포함)가 <cds-dir>/app.jsa 로 기록됨
+#
+# 사용법 : JAVA_BIN=/path/to/java AOT=false scripts/cds-train.sh build/cds
+set -euo pipefail
+
+CDS_DIR=${1:?cds directory}
+JAVA_BIN=${JAVA_BIN:-java}
+AOT=${AOT:-false}
+PORT=${PORT:-18080}
+BASE="http://localhost:${PORT}/api"
+
+JAR=$(ls "${CDS_DIR}"/*.jar | head -n 1)
+JVM_OPTS=("-XX:ArchiveClassesAtExit=${CDS_DIR}/app.jsa")
+if [[ "${AOT}" == "true" ]]; then
+  JVM_OPTS+=("-Dspring.aot.enabled=true")
+fi
+
+"${JAVA_BIN}" "${JVM_OPTS[@]}" -jar "${JAR}" \
+  --server.port="${PORT}" \
+  --spring.datasource.url=jdbc:h2:mem:cds-train \
+  --spring.jpa.hibernate.ddl-auto=create-drop \
+  --spring.jpa.show-sql=false \
+  > "${CDS_DIR}/train.log" 2>&1 &
+APP_PID=$!
+trap 'kill "${APP_PID}" 2>/dev/null || true' EXIT
+
+# readiness 대기 (최대 120초, 시간 초과 시 학습 실패)
+READY=false
+for _ in $(seq 1 1200); do
+  if curl -sf "${BASE}/actuator/health/readiness" > /dev/null; then READY=true; break; fi
+  if ! kill -0 "${APP_PID}" 2>/dev/null; then cat "${CDS_DIR}/train.log"; exit 1; fi
+  sleep 0.1
+done
+if [[ "${READY}" != "true" ]]; then
+  echo "readiness timeout (120s)" >&2
+  cat "${CDS_DIR}/train.log"
+  exit 1
+fi
+
+json() { curl -sf -H 'Content-Type: application/json' "$@"; }
+id_of() { sed -E 's/.*"id":([0-9]+).*/\1/'; }
+
+# 등록 / 수정 / 정렬 / 순서 이동 / 일괄 이동 / 일괄 활성 / 조회 / 평면 목록 / 검색 / 링크 조회 / 내보내기 / 가져오기 / 삭제
+ROOT=$(json -X POST "${BASE}/categories" -d '{"title":"상의","displayOrder":1,"link":"/category/top"}' | id_of)
+OTHER=$(json -X POST "${BASE}/categories" -d '{"title":"하의","displayOrder":2}' | id_of)
+SHIRT=$(json -X POST "${BASE}/categories" -d "{\"title\":\"셔츠\",\"parentId\":${ROOT},\"displayOrder\":1}" | id_of)
+KNIT=$(json -X POST "${BASE}/categories" -d "{\"title\":\"니트\",\"parentId\":${ROOT},\"displayOrder\":2}" | id_of)
+json -X PATCH "${BASE}/categories/${SHIRT}" -d "{\"title\":\"셔츠/블라우스\",\"parentId\":${ROOT}}" > /dev/null
+json -X PUT "${BASE}/categories/${ROOT}/order" -d "{\"childIds\":[${KNIT},${SHIRT}]}" > /dev/null
+json -X PATCH "${BASE}/categories/${SHIRT}/position" -d "{\"beforeId\":${KNIT}}" > /dev/null
+json -X PATCH "${BASE}/categories/bulk/parent" -d "{\"moves\":[{\"id\":${KNIT},\"parentId\":${OTHER}}]}" > /dev/null
+json -X PATCH "${BASE}/categories/bulk/active" -d "{\"items\":[{\"id\":${KNIT},\"active\":false}]}" > /dev/null
+curl -sf "${BASE}/categories/${KNIT}/path-migration" > /dev/null || true
+for _ in 1 2 3; do
+  curl -sf "${BASE}/categories" > /dev/null
+  curl -sf "${BASE}/categories?parentId=${ROOT}" > /dev/null
+  curl -sf "${BASE}/categories?parentIds=${ROOT},${OTHER}&fields=title" > /dev/null
+  curl -sf "${BASE}/categories/flat?size=100" > /dev/null
+  curl -sf -G "${BASE}/categories/search" --data-urlencode "prefix=셔" > /dev/null
+  curl -sf -G "${BASE}/categories/search" --data-urlencode "prefix=ㅅㅊ" > /dev/null
+  curl -sf -G "${BASE}/categories/resolve" --data-urlencode "link=/category/top" > /dev/null
+  curl -sf -G "${BASE}/categories/resolve" --data-urlencode "link=/category/top/sale" > /dev/null
+done
+curl -sf "${BASE}/categories/export?format=ndjson" > /dev/null
+curl -sf -H 'Accept-Encoding: gzip' "${BASE}/categories/export?format=csv" > /dev/null
+printf 'ref,parentRef,title\nouter,,아우터\ncoat,outer,코트\n' > "${CDS_DIR}/train-import.csv"
+curl -sf -F "file=@${CDS_DIR}/train-import.csv" -F dryRun=true "${BASE}/categories/import" > /dev/null
+curl -sf -F "file=@${CDS_DIR}/train-import.csv" "${BASE}/categories/import" > /dev/null
+curl -sf -X DELETE "${BASE}/categories/${SHIRT}" > /dev/null
+curl -s "${BASE}/categories?parentId=999999" > /dev/null
+
+# 정상 종료 (SIGTERM → 종료 시 아카이브 기록)
+kill -TERM "${APP_PID}"
+wait "${APP_PID}" || true
+trap - EXIT
+
+test -s "${CDS_DIR}/app.jsa"
+echo "CDS archive: ${CDS_DIR}/app.jsa ($(du -h "${CDS_DIR}/app.jsa" | cut -f1))"
@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# 시작 시간 측정 : 프로세스 실행부터 첫 GET /api/categories 200 응답까지 (ms)
+#
+# 사용법 : scripts/startup-benchmark.sh [jar|cds|aot-cds] [반복 횟수]
+#   jar     : build/libs bootJar 그대로 실행            (./gradlew bootJar)
+#   cds     : build/cds 풀어 놓은 jar + CDS 아카이브      (./gradlew cdsArchive)
+#   aot-cds : AOT 처리 jar + CDS 아카이브                 (./gradlew cdsArchive -Paot)
+# 환경 변수 : JAVA_BIN (java 21), PORT (기본 18081), APP_ARGS (추가 애플리케이션 인자)
+set -euo pipefail
+
+MODE=${1:-jar}
+RUNS=${2:-5}
+JAVA_BIN=${JAVA_BIN:-java}
+PORT=${PORT:-18081}
+ROOT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+URL="http://localhost:${PORT}/api/categories"
+
+case "${MODE}" in
+  jar)
+    JAR=$(ls "${ROOT_DIR}"/build/libs/*.jar | grep -v plain | head -n 1)
+    JVM_OPTS=()
+    ;;
+  cds)
+    JAR=$(ls "${ROOT_DIR}"/build/cds/*.jar | head -n 1)
+    JVM_OPTS=("-XX:SharedArchiveFile=${ROOT_DIR}/build/cds/app.jsa")
+    ;;
+  aot-cds)
+    JAR=$(ls "${ROOT_DIR}"/build/cds/*.jar | head -n 1)
+    JVM_OPTS=("-XX:SharedArchiveFile=${ROOT_DIR}/build/cds/app.jsa" "-Dspring.aot.enabled=true")
+    ;;
+  *)
+    echo "unknown mode: ${MODE} (jar|cds|aot-cds)" >&2
+    exit 1
+    ;;
+esac
+
+now_ms() { echo $(( $(date +%s%N) / 1000000 )); }
+
+RESULTS=()
+for run in $(seq 1 "${RUNS}"); do
+  started=$(now_ms)
+  # shellcheck disable=SC2086
+  "${JAVA_BIN}" "${JVM_OPTS[@]}" -jar "${JAR}" \
+    --server.port="${PORT}" \
+    --spring.datasource.url="jdbc:h2:mem:startup-${run}" \
+    --spring.jpa.hibernate.ddl-auto=create-drop \
+    --spring.jpa.show-sql=false \
+    ${APP_ARGS:-} \
+    > /tmp/startup-benchmark.log 2>&1 &
+  pid=$!
+
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' "${URL}" || true)" == "200" ]]; do
+    if ! kill -0 "${pid}" 2>/dev/null; then cat /tmp/startup-benchmark.log; exit 1; fi
+    sleep 0.02
+  done
+  elapsed=$(( $(now_ms) - started ))
+  RESULTS+=("${elapsed}")
+  echo "run ${run}: ${elapsed}ms"
+
+  kill -TERM "${pid}"
+  wait "${pid}" || true
+done
+
+SORTED=($(printf '%s\n' "${RESULTS[@]}" | sort -n))
+echo "[${MODE}] time to first GET /api/categories : min ${SORTED[0]}ms, median ${SORTED[$(( ${#SORTED[@]} / 2 ))]}ms (${RUNS} runs)"
@@ -4,16 +4,20 @@ import com.musinsa.shop.common.exception.DuplicateResourceException;
 import com.musinsa.shop.common.exception.ExceptionCode;
 import com.musinsa.shop.common.exception.InvalidRequestException;
 import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.common.exception.ResponseAbortedException;
 import com.musinsa.shop.common.response.ResultResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 
 import java.util.stream.Collectors;
 
@@ -28,6 +32,13 @@ public class GlobalExceptionHandler {
       return ResultResponse.of(ExceptionCode.SERVER_ERROR);
     }
 
+    // 스트리밍 응답 커밋 후 실패 (기록한 쪽에서 로그 기록) : 이미 기록된 본문 뒤에 에러 응답을 덧붙이지 않도록
+    // 그대로 다시 던져 처리하지 않은 예외로 서블릿 컨테이너까지 전파 (커밋된 응답은 컨테이너가 연결 종료)
+    @ExceptionHandler(ResponseAbortedException.class)
+    public void handleResponseAbortedException(ResponseAbortedException e) {
+        throw e;
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(InvalidRequestException.class)
     public ResultResponse<Object> handleInvalidRequestException(InvalidRequestException e) {
@@ -54,6 +65,13 @@ public class GlobalExceptionHandler {
         return ResultResponse.of(ExceptionCode.INVALID_REQUEST, "필수 요청 파라미터가 누락되었습니다: " + e.getParameterName());
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(MissingServletRequestPartException.class)
+    public ResultResponse<Object> handleMissingServletRequestPartException(MissingServletRequestPartException e) {
+        log.error("handleMissingServletRequestPartException: {}", e.getMessage(), e);
+        return ResultResponse.of(ExceptionCode.INVALID_REQUEST, "필수 요청 파일이 누락되었습니다: " + e.getRequestPartName());
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResultResponse<Object> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
@@ -68,6 +86,14 @@ public class GlobalExceptionHandler {
         return ResultResponse.of(ExceptionCode.METHOD_NOT_ALLOWED);
     }
 
+    // Accept 헤더의 응답 형식으로 변환할 수 없는 응답 (예: 트리 조회 외 API 의 Protobuf 요청)
+    @ResponseStatus(HttpStatus.NOT_ACCEPTABLE)
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResultResponse<Object> handleMediaTypeNotAcceptableException(HttpMediaTypeNotAcceptableException e) {
+        log.error("handleMediaTypeNotAcceptableException: {}", e.getMessage(), e);
+        return ResultResponse.of(ExceptionCode.NOT_ACCEPTABLE);
+    }
+
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResultResponse<Object> handleNotFoundException(ResourceNotFoundException e) {
@@ -81,4 +107,12 @@ public class GlobalExceptionHandler {
         log.error("handleDuplicateException: {}", e.getMessage(), e);
         return ResultResponse.of(ExceptionCode.DUPLICATE_RESOURCE, e.getMessage());
     }
+
+    // 커밋 시점 유니크 제약 위반 (동일 상위 카테고리 내 이름 동시 변경 등)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResultResponse<Object> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        log.error("handleDataIntegrityViolationException: {}", e.getMessage(), e);
+        return ResultResponse.of(ExceptionCode.DUPLICATE_RESOURCE);
+    }
 }
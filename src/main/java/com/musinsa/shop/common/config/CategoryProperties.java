@@ -0,0 +1,175 @@
+package com.musinsa.shop.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 카테고리 도메인 설정 (application.yml: category.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "category")
+public class CategoryProperties {
+
+    private final Tree tree = new Tree();
+
+    private final PathMigration pathMigration = new PathMigration();
+
+    private final TitleIndex titleIndex = new TitleIndex();
+
+    private final LinkIndex linkIndex = new LinkIndex();
+
+    private final Flat flat = new Flat();
+
+    private final Search search = new Search();
+
+    private final BulkImport bulkImport = new BulkImport();
+
+    private final SubtreeCache subtreeCache = new SubtreeCache();
+
+    private final WarmUp warmUp = new WarmUp();
+
+    private final Order order = new Order();
+
+    @Getter
+    @Setter
+    public static class Tree {
+        // 컬럼형 저장소(CompactCategoryTree)로 트리 조회 여부
+        private boolean compactStore = false;
+
+        // 트랜잭션 밖 트리 조회(캐시 적재 포함)를 JDBC 행 처리로 수행 여부 (false: QueryDSL 프로젝션)
+        private boolean jdbcRead = true;
+
+        // 여러 하위 트리 동시 조회(parentIds) 시 한 번에 조회할 수 있는 최대 카테고리 수
+        private int maxParentIds = 50;
+
+        // DB 트리 버전 확인 주기 : 다른 인스턴스 변경을 보관 트리/하위 트리 캐시에 반영하는 최대 지연
+        private Duration versionCheckInterval = Duration.ofSeconds(1);
+
+        private final Snapshot snapshot = new Snapshot();
+
+        private final ParallelAssembly parallelAssembly = new ParallelAssembly();
+    }
+
+    @Getter
+    @Setter
+    public static class ParallelAssembly {
+        // 최상위 카테고리별 하위 트리 병렬 구성/정렬 사용 여부
+        private boolean enabled = true;
+
+        // 병렬 구성 최소 노드 수 (미만이면 순차 구성)
+        private int threshold = 50_000;
+
+        // 병렬 구성 ForkJoinPool 스레드 수 (0 : CPU 코어 수)
+        private int parallelism = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        // 메모리 매핑 스냅샷 파일로 트리 조회 여부
+        private boolean enabled = false;
+
+        // 스냅샷 파일 경로 (동일 호스트 인스턴스 간 공유)
+        private String path = "./data/category-tree.snapshot";
+    }
+
+    @Getter
+    @Setter
+    public static class PathMigration {
+        // 하위 카테고리 path 비동기 변경 chunk 크기 (트랜잭션 1회당 변경 행 수)
+        private int chunkSize = 500;
+
+        // 진행 중인 작업 조회 주기 (ms)
+        private long pollInterval = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class TitleIndex {
+        // 이름 중복 검사에 메모리 색인(상위 카테고리별 하위 이름) 사용 여부
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class LinkIndex {
+        // 링크로 카테고리 조회에 메모리 색인(링크 → 카테고리 ID) 사용 여부 (미사용 시 DB 조회)
+        private boolean enabled = true;
+
+        // 메모리 색인에 정확히 일치하는 링크가 없으면 DB 에서 후보 링크 조회 (다른 인스턴스에서 등록/변경한 링크 반영)
+        private boolean dbFallback = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Flat {
+        // 평면 목록 기본 페이지 크기
+        private int defaultPageSize = 100;
+
+        // 평면 목록 최대 페이지 크기 (요청 크기가 더 크면 최대 크기로 조회)
+        private int maxPageSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        // 이름 자동완성 기본 조회 건수
+        private int defaultLimit = 10;
+
+        // 이름 자동완성 최대 조회 건수 (요청 건수가 더 크면 최대 건수로 조회)
+        private int maxLimit = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkImport {
+        // 가져오기 JDBC 배치 크기 (INSERT/UPDATE 1회당 행 수)
+        private int batchSize = 1000;
+
+        // 결과에 담는 행 단위 오류 최대 건수 (전체 오류 수는 별도 집계)
+        private int maxReportedErrors = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class SubtreeCache {
+        // parentId 별 하위 트리 캐시 사용 여부 (컬럼형 저장소/스냅샷 미사용 시 적용)
+        private boolean enabled = true;
+
+        // 캐시 최대 가중치 (보관하는 하위 트리 노드 수 합계)
+        private long maxWeight = 100_000;
+
+        // 최신이 아닌 트리를 즉시 응답하고 백그라운드에서 재조회 (stale-while-revalidate)
+        private boolean staleWhileRevalidate = false;
+
+        // 조회 후 이 시간이 지나면 변경이 없어도 백그라운드 재조회 (다른 인스턴스 변경 반영)
+        private Duration refreshAfter = Duration.ofSeconds(30);
+
+        // 응답 가능한 트리 최대 경과 시간, 초과 시 재조회 완료까지 대기
+        private Duration maxStaleness = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class WarmUp {
+        // 시작 시 워밍업 후 요청 수신 가능(readiness) 보고 여부
+        private boolean enabled = true;
+
+        // 합성 트리 구성 + JSON 직렬화 반복 횟수
+        private int iterations = 200;
+
+        // 합성 트리 노드 수
+        private int syntheticNodes = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Order {
+        // 정렬 순서 이동 후 이웃 순위와 남은 간격이 이 값 미만이면 커밋 후 백그라운드에서 하위 카테고리 순위 재지정
+        private int rebalanceMinGap = 8;
+    }
+}
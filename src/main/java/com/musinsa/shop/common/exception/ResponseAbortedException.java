@@ -0,0 +1,11 @@
+package com.musinsa.shop.common.exception;
+
+/**
+ * 응답 커밋 후 스트리밍 본문 기록 중 실패
+ * - 공통 에러 응답을 덧붙이지 않고 서블릿 컨테이너까지 전파하여 연결 종료 (클라이언트는 잘린 응답으로 실패 인식)
+ */
+public class ResponseAbortedException extends RuntimeException {
+    public ResponseAbortedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
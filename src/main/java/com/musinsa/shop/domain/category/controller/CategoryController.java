@@ -1,26 +1,72 @@
 package com.musinsa.shop.domain.category.controller;
 
+import com.musinsa.shop.common.exception.ResponseAbortedException;
 import com.musinsa.shop.common.response.ResultResponse;
+import com.musinsa.shop.domain.category.dto.CategoryBulkActiveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryBulkMoveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryExportFormat;
+import com.musinsa.shop.domain.category.dto.CategoryFlatPageResponse;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.dto.CategoryImportFormat;
+import com.musinsa.shop.domain.category.dto.CategoryImportResponse;
+import com.musinsa.shop.domain.category.dto.CategoryOrderMoveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryOrderRequest;
+import com.musinsa.shop.domain.category.dto.CategoryPathMigrationResponse;
 import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryResolveResponse;
 import com.musinsa.shop.domain.category.dto.CategoryResponse;
+import com.musinsa.shop.domain.category.dto.CategorySearchResponse;
+import com.musinsa.shop.domain.category.dto.CategorySparseTreeResponse;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
 import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
 import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.service.CategoryBulkService;
+import com.musinsa.shop.domain.category.service.CategoryExportService;
+import com.musinsa.shop.domain.category.service.CategoryFlatService;
+import com.musinsa.shop.domain.category.service.CategoryImportService;
+import com.musinsa.shop.domain.category.service.CategoryLinkService;
+import com.musinsa.shop.domain.category.service.CategoryOrderService;
+import com.musinsa.shop.domain.category.service.CategoryPathMigrationService;
+import com.musinsa.shop.domain.category.service.CategorySearchService;
 import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.service.CategoryTreeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+@Slf4j
 @RestController
 @RequestMapping("/categories")
 @RequiredArgsConstructor
 @Tag(name = "카테고리 API", description = "카테고리 등록, 수정, 삭제, 조회 API")
 public class CategoryController {
 
+    private static final int EXPORT_GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final CategoryService categoryService;
+    private final CategoryTreeService categoryTreeService;
+    private final CategoryBulkService categoryBulkService;
+    private final CategoryPathMigrationService categoryPathMigrationService;
+    private final CategoryFlatService categoryFlatService;
+    private final CategorySearchService categorySearchService;
+    private final CategoryLinkService categoryLinkService;
+    private final CategoryExportService categoryExportService;
+    private final CategoryImportService categoryImportService;
+    private final CategoryOrderService categoryOrderService;
 
     @PostMapping
     @Operation(summary = "카테고리 등록")
@@ -32,11 +78,62 @@ public class CategoryController {
     @PatchMapping("/{id}")
     @Operation(summary = "카테고리 수정")
     public ResultResponse<CategoryResponse> updateCategory(@PathVariable Long id,
-                                                           @RequestBody CategoryUpdateRequest categoryRequest) {
-        CategoryResponse result = categoryService.updateCategory(id, categoryRequest);
+                                                           @RequestBody CategoryUpdateRequest categoryRequest,
+                                                           @RequestParam(defaultValue = "false") boolean asyncPathUpdate) {
+        CategoryResponse result = categoryService.updateCategory(id, categoryRequest, asyncPathUpdate);
         return ResultResponse.success(result);
     }
 
+    @GetMapping("/{id}/path-migration")
+    @Operation(summary = "하위 카테고리 경로 변경 작업 상태 조회")
+    public ResultResponse<CategoryPathMigrationResponse> getPathMigration(@PathVariable Long id) {
+        CategoryPathMigrationResponse result = categoryPathMigrationService.getLatestMigration(id);
+        return ResultResponse.success(result);
+    }
+
+    @PutMapping("/{parentId}/order")
+    @Operation(summary = "하위 카테고리 정렬 순서 일괄 변경")
+    public ResultResponse<Void> reorderCategories(@PathVariable Long parentId,
+                                                  @Valid @RequestBody CategoryOrderRequest orderRequest) {
+        categoryService.reorderCategories(parentId, orderRequest.getChildIds());
+        return ResultResponse.success(null);
+    }
+
+    @PatchMapping("/{id}/position")
+    @Operation(summary = "카테고리 정렬 순서 이동 (같은 상위 카테고리의 기준 카테고리 앞/뒤, 본인 1행만 변경)")
+    public ResultResponse<Void> moveCategoryOrder(@PathVariable Long id,
+                                                  @RequestBody CategoryOrderMoveRequest moveRequest) {
+        categoryOrderService.moveCategory(id, moveRequest.getBeforeId(), moveRequest.getAfterId());
+        return ResultResponse.success(null);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "카테고리 트리 일괄 가져오기 (CSV/JSON 파일, dryRun 시 검증만 수행)")
+    public ResultResponse<CategoryImportResponse> importCategories(@RequestPart("file") MultipartFile file,
+                                                                   @RequestParam(required = false) String format,
+                                                                   @RequestParam(required = false) Long parentId,
+                                                                   @RequestParam(defaultValue = "false") boolean dryRun) throws IOException {
+        CategoryImportFormat importFormat = CategoryImportFormat.of(format, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            CategoryImportResponse result = categoryImportService.importCategories(in, importFormat, parentId, dryRun);
+            return ResultResponse.success(result);
+        }
+    }
+
+    @PatchMapping("/bulk/parent")
+    @Operation(summary = "카테고리 일괄 이동")
+    public ResultResponse<Void> moveCategories(@Valid @RequestBody CategoryBulkMoveRequest moveRequest) {
+        categoryBulkService.moveCategories(moveRequest.getMoves());
+        return ResultResponse.success(null);
+    }
+
+    @PatchMapping("/bulk/active")
+    @Operation(summary = "카테고리 활성 여부 일괄 변경")
+    public ResultResponse<Void> updateActiveCategories(@Valid @RequestBody CategoryBulkActiveRequest activeRequest) {
+        categoryBulkService.updateActiveCategories(activeRequest.getItems());
+        return ResultResponse.success(null);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "카테고리 삭제")
     public ResultResponse<Void> deleteCategory(@PathVariable Long id) {
@@ -45,9 +142,108 @@ public class CategoryController {
     }
 
     @GetMapping
-    @Operation(summary = "카테고리 트리 조회")
-    public ResultResponse<List<CategoryTreeResponse>> getCategories(@RequestParam(required = false) Long parentId) {
-        List<CategoryTreeResponse> categories = categoryService.getCategories(parentId);
+    @Operation(summary = "카테고리 트리 조회 (parentIds 지정 시 여러 카테고리 하위 트리를 한 번에 조회, fields 지정 시 선택 필드만 응답)")
+    public ResultResponse<?> getCategories(@RequestParam(required = false) Long parentId,
+                                           @RequestParam(required = false) List<Long> parentIds,
+                                           @RequestParam(required = false) String fields) {
+        CategoryTreeFields treeFields = CategoryTreeFields.from(fields);
+        List<CategoryTreeResponse> categories = parentIds != null
+                ? categoryTreeService.getSubtrees(parentId, parentIds)
+                : categoryTreeService.getCategories(parentId, treeFields);
+        return treeFields.isAll()
+                ? ResultResponse.success(categories)
+                : ResultResponse.success(new CategorySparseTreeResponse(categories, treeFields));
+    }
+
+    @GetMapping("/flat")
+    @Operation(summary = "카테고리 평면 목록 조회 (keyset 페이지네이션)")
+    public ResultResponse<CategoryFlatPageResponse> getFlatCategories(@Valid @ModelAttribute CategoryFlatRequest flatRequest) {
+        CategoryFlatPageResponse result = categoryFlatService.getFlatCategories(flatRequest);
+        return ResultResponse.success(result);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "카테고리 이름 자동완성 (접두어, 초성 검색 지원)")
+    public ResultResponse<List<CategorySearchResponse>> searchCategories(@RequestParam String prefix,
+                                                                        @RequestParam(required = false) Integer limit) {
+        List<CategorySearchResponse> categories = categorySearchService.search(prefix, limit);
         return ResultResponse.success(categories);
     }
+
+    @GetMapping("/resolve")
+    @Operation(summary = "링크로 카테고리 조회 (정확히 일치하지 않으면 가장 긴 상위 경로 링크와 일치)")
+    public ResultResponse<CategoryResolveResponse> resolveCategory(@RequestParam String link) {
+        CategoryResolveResponse result = categoryLinkService.resolve(link);
+        return ResultResponse.success(result);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "카테고리 전체 내보내기 (NDJSON/CSV 스트리밍, Accept-Encoding: gzip 시 gzip 압축)")
+    public void exportCategories(@RequestParam(defaultValue = "ndjson") String format,
+                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                 HttpServletResponse response) throws IOException {
+        CategoryExportFormat exportFormat = CategoryExportFormat.from(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"categories." + exportFormat.getExtension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), EXPORT_GZIP_BUFFER_SIZE)
+                : response.getOutputStream();
+        try {
+            categoryExportService.exportCategories(exportFormat, out);
+        } catch (IOException | RuntimeException e) {
+            // 기록 전 실패 : 내보내기 헤더(Content-Encoding 등)를 지우고 공통 에러 응답
+            if (!response.isCommitted()) {
+                response.reset();
+                throw e;
+            }
+            // 기록 중 실패 : 에러 응답을 덧붙이지 않고 연결 종료
+            log.error("카테고리 내보내기 중단: {}", e.getMessage(), e);
+            throw new ResponseAbortedException("카테고리 내보내기 중단", e);
+        }
+    }
+
+    // Accept-Encoding 의 gzip 허용 여부 : gzip(x-gzip) 의 q 값 > 0, gzip 을 명시하지 않았으면 * 의 q 값 기준
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    quality = parseQuality(parameter.substring(2).trim());
+                }
+            }
+
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    // 잘못된 q 값은 허용하지 않음(0)으로 처리
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.musinsa.shop.domain.category.controller;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.musinsa.shop.common.response.ResultResponse;
+import com.musinsa.shop.domain.category.dto.CategorySparseTreeResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 카테고리 트리 응답 Protobuf 변환 (Accept: application/x-protobuf)
+ * - 스키마 : proto/category_tree.proto (CategoryTreeResult), 응답 객체를 Jackson Protobuf 모듈로 바로 기록 (코드 생성 미사용)
+ * - 스키마는 트리 응답 공통 형식(ResultResponse)만 정의하므로 트리 조회/오류 응답만 변환, 그 외 응답은 406 Not Acceptable
+ * - 요청 본문 변환 미지원, 변환기 목록 마지막에 등록 (Accept 미지정/와일드카드 요청은 JSON 응답)
+ */
+public class CategoryTreeProtobufHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    private static final String SCHEMA_LOCATION = "proto/category_tree.proto";
+    private static final String ROOT_MESSAGE = "CategoryTreeResult";
+
+    private final ProtobufSchema schema;
+
+    public CategoryTreeProtobufHttpMessageConverter() {
+        super(new ProtobufMapper(), APPLICATION_PROTOBUF);
+        this.schema = loadSchema();
+    }
+
+    public static ProtobufSchema loadSchema() {
+        try (InputStream in = new ClassPathResource(SCHEMA_LOCATION).getInputStream()) {
+            return ProtobufSchemaLoader.std.load(in, ROOT_MESSAGE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("카테고리 트리 Protobuf 스키마를 읽을 수 없습니다: " + SCHEMA_LOCATION, e);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ResultResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    // 응답 data 선언 타입이 트리(ResultResponse<?>) 또는 오류 응답(Object/Void)인 경우만 변환
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!super.canWrite(type, clazz, mediaType)) return false;
+        if (type == null) return true;
+
+        Class<?> data = ResolvableType.forType(type).as(ResultResponse.class).getGeneric(0).resolve(Object.class);
+        return data == Object.class || data == Void.class;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Object data = ((ResultResponse<?>) object).getData();
+        if (data != null && !(data instanceof List<?>) && !(data instanceof CategorySparseTreeResponse)) {
+            throw new HttpMessageNotWritableException("Protobuf 응답을 지원하지 않는 응답입니다: " + data.getClass().getSimpleName());
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable JavaType javaType, @Nullable MediaType contentType) {
+        return writer.with(schema);
+    }
+}
@@ -0,0 +1,38 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리 일괄 활성/비활성 요청 Model")
+public class CategoryBulkActiveRequest {
+
+    @Valid
+    @NotEmpty(message = "변경할 카테고리 목록은 필수입니다.")
+    @Schema(description = "카테고리별 활성 여부 목록")
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "카테고리 활성 여부 항목")
+    public static class Item {
+
+        @NotNull(message = "카테고리 ID는 필수입니다.")
+        @Schema(description = "카테고리 ID", example = "3")
+        private Long id;
+
+        @NotNull(message = "활성 여부는 필수입니다.")
+        @Schema(description = "활성 여부", example = "false")
+        private Boolean active;
+    }
+}
@@ -0,0 +1,37 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리 일괄 이동 요청 Model")
+public class CategoryBulkMoveRequest {
+
+    @Valid
+    @NotEmpty(message = "이동할 카테고리 목록은 필수입니다.")
+    @Schema(description = "이동할 카테고리와 새 상위 카테고리 목록")
+    private List<Move> moves;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "카테고리 이동 항목")
+    public static class Move {
+
+        @NotNull(message = "카테고리 ID는 필수입니다.")
+        @Schema(description = "이동할 카테고리 ID", example = "3")
+        private Long id;
+
+        @Schema(description = "새 상위 카테고리 ID (null 이면 최상위로 이동)", example = "1", nullable = true)
+        private Long parentId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.musinsa.shop.domain.category.dto;
+
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 카테고리 내보내기 형식
+ * - NDJSON : 한 줄에 카테고리 1건 (JSON 객체)
+ * - CSV : 첫 줄 헤더, 이후 한 줄에 카테고리 1건 (RFC 4180)
+ */
+@Getter
+@AllArgsConstructor
+public enum CategoryExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv"),
+    ;
+
+    private final String contentType;
+    private final String extension;
+
+    // 요청 파라미터 형식 값 (대소문자 구분 없음, 예: ndjson, csv)
+    public static CategoryExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 내보내기 형식입니다: " + value));
+    }
+}
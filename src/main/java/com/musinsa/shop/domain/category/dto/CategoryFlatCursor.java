@@ -0,0 +1,36 @@
+package com.musinsa.shop.domain.category.dto;
+
+import com.musinsa.shop.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 카테고리 평면 목록 keyset cursor : 이전 페이지 마지막 항목의 path
+ * - path 는 자기 ID 로 끝나므로 유일 ((path, id) 순서와 동일)
+ * - 응답에는 Base64(URL) 로 인코딩한 문자열로 전달
+ */
+public record CategoryFlatCursor(String path) {
+
+    public static CategoryFlatCursor after(CategoryFlatResponse last) {
+        return new CategoryFlatCursor(last.getPath());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CategoryFlatCursor decode(String cursor) {
+        String path;
+        try {
+            path = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+
+        if (!path.startsWith("/") || !path.endsWith("/")) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+        return new CategoryFlatCursor(path);
+    }
+}
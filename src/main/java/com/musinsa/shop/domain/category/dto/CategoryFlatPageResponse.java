@@ -0,0 +1,19 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "카테고리 평면 목록 페이지 응답")
+public class CategoryFlatPageResponse {
+
+    @Schema(description = "카테고리 목록")
+    private List<CategoryFlatResponse> items;
+
+    @Schema(description = "다음 페이지 cursor (마지막 페이지는 null)")
+    private String nextCursor;
+}
@@ -0,0 +1,40 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리 평면 목록 조회 조건")
+public class CategoryFlatRequest {
+
+    @Schema(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Schema(description = "페이지 크기 (최대 category.flat.max-page-size)", example = "100")
+    private Integer size;
+
+    @Schema(description = "카테고리 표시 여부 (생략 시 전체)", example = "true")
+    private Boolean active;
+
+    @Schema(description = "삭제 여부 (생략 시 false, 빈 값 지정 시 전체)", example = "false")
+    private Boolean deleted = false;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "마지막 수정 일시 하한 (이후 수정된 카테고리만)", example = "2025-01-01T00:00:00")
+    private LocalDateTime updatedSince;
+
+    @Min(value = 1, message = "최대 깊이는 1 이상이어야 합니다.")
+    @Schema(description = "최대 깊이 (최상위 카테고리: 1)", example = "2")
+    private Integer maxDepth;
+}
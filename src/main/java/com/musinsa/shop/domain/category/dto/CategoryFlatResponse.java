@@ -0,0 +1,36 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리 평면 목록 항목")
+public class CategoryFlatResponse {
+
+    private Long id;
+    private String title;
+    private Long parentId;
+    private String path;
+    private String link;
+    private int displayOrder;
+    private boolean active;
+    private boolean deleted;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime deletedAt;
+
+    @Schema(description = "깊이 (최상위 카테고리: 1)", example = "2")
+    public int getDepth() {
+        int depth = -1;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '/') depth++;
+        }
+        return depth;
+    }
+}
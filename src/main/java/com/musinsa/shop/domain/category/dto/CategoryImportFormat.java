@@ -0,0 +1,31 @@
+package com.musinsa.shop.domain.category.dto;
+
+import com.musinsa.shop.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+/**
+ * 카테고리 가져오기 형식
+ * - CSV : 첫 줄 헤더 (ref,parentRef,title,displayOrder,link,active, 순서 무관), 이후 한 줄에 카테고리 1건 (RFC 4180)
+ * - JSON : 카테고리 객체 배열 또는 NDJSON (한 줄에 객체 1개)
+ */
+public enum CategoryImportFormat {
+    CSV,
+    JSON,
+    ;
+
+    // 요청 파라미터 형식 값 (대소문자 구분 없음), 미지정 시 파일 확장자 (.csv / .json, .ndjson)
+    public static CategoryImportFormat of(String format, String filename) {
+        if (format != null) {
+            return Arrays.stream(values())
+                    .filter(value -> value.name().equalsIgnoreCase(format))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException("지원하지 않는 가져오기 형식입니다: " + format));
+        }
+
+        String name = filename != null ? filename.toLowerCase() : "";
+        if (name.endsWith(".csv")) return CSV;
+        if (name.endsWith(".json") || name.endsWith(".ndjson")) return JSON;
+        throw new InvalidRequestException("가져오기 형식(format)을 지정해야 합니다.");
+    }
+}
@@ -0,0 +1,33 @@
+package com.musinsa.shop.domain.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카테고리 가져오기 결과
+ * - dryRun : true 면 검증만 수행 (createdCount = 0)
+ * - errors : 행 단위 오류 (최대 category.import.max-reported-errors 건, 전체 수는 errorCount)
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryImportResponse {
+    private boolean dryRun;
+    private int totalRows;
+    private int rootCount;
+    private int maxDepth;
+    private int createdCount;
+    private int errorCount;
+    private List<Error> errors;
+    private long elapsedMillis;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Error {
+        // 데이터 행 번호 (1부터, CSV 헤더 제외)
+        private int row;
+        private String ref;
+        private String message;
+    }
+}
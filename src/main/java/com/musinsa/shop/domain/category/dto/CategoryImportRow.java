@@ -0,0 +1,24 @@
+package com.musinsa.shop.domain.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카테고리 가져오기 파일의 행 (CSV 1줄 / JSON 객체 1개)
+ * - ref : 파일 안에서 카테고리를 가리키는 키 (DB ID 아님)
+ * - parentRef : 상위 카테고리 ref (없으면 가져오기 대상 상위 카테고리 바로 아래)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryImportRow {
+    private String ref;
+    private String parentRef;
+    private String title;
+    private Integer displayOrder;
+    private String link;
+    private Boolean active;
+}
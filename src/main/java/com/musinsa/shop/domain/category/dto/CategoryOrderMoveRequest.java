@@ -0,0 +1,19 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리 정렬 순서 이동 요청 Model (beforeId, afterId 중 하나만 지정)")
+public class CategoryOrderMoveRequest {
+
+    @Schema(description = "이 카테고리 바로 앞으로 이동 (같은 상위 카테고리의 하위 카테고리)", example = "4", nullable = true)
+    private Long beforeId;
+
+    @Schema(description = "이 카테고리 바로 뒤로 이동 (같은 상위 카테고리의 하위 카테고리)", example = "2", nullable = true)
+    private Long afterId;
+}
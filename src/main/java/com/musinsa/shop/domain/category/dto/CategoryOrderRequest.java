@@ -0,0 +1,20 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "하위 카테고리 정렬 순서 변경 요청 Model")
+public class CategoryOrderRequest {
+
+    @NotEmpty(message = "하위 카테고리 ID 목록은 필수입니다.")
+    @Schema(description = "정렬 순서대로 나열한 하위 카테고리 ID 전체 목록", example = "[3, 2, 4]")
+    private List<Long> childIds;
+}
@@ -0,0 +1,56 @@
+package com.musinsa.shop.domain.category.dto;
+
+import com.musinsa.shop.domain.category.entity.CategoryPathMigration;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "하위 카테고리 경로 변경 작업 응답")
+public class CategoryPathMigrationResponse {
+
+    @Schema(description = "작업 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "이동한 카테고리 ID", example = "3")
+    private Long categoryId;
+
+    @Schema(description = "이전 path", example = "/1/3/")
+    private String oldPath;
+
+    @Schema(description = "신규 path", example = "/2/3/")
+    private String newPath;
+
+    @Schema(description = "작업 상태 (PENDING, IN_PROGRESS, COMPLETED)", example = "IN_PROGRESS")
+    private PathMigrationStatus status;
+
+    @Schema(description = "작업 등록 시점 하위 카테고리 수", example = "12000")
+    private long totalCount;
+
+    @Schema(description = "변경 완료한 하위 카테고리 수", example = "3000")
+    private long processedCount;
+
+    @Schema(description = "작업 등록 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "작업 완료 일시")
+    private LocalDateTime completedAt;
+
+    public static CategoryPathMigrationResponse of(CategoryPathMigration migration) {
+        return new CategoryPathMigrationResponse(
+                migration.getId(),
+                migration.getCategoryId(),
+                migration.getOldPath(),
+                migration.getNewPath(),
+                migration.getStatus(),
+                migration.getTotalCount(),
+                migration.getProcessedCount(),
+                migration.getCreatedAt(),
+                migration.getCompletedAt()
+        );
+    }
+}
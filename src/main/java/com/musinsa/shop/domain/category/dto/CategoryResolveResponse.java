@@ -0,0 +1,20 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "링크로 조회한 카테고리")
+public class CategoryResolveResponse {
+
+    @Schema(description = "카테고리 ID", example = "3")
+    private Long id;
+
+    @Schema(description = "일치한 카테고리 링크", example = "/category/top/shirt")
+    private String link;
+
+    @Schema(description = "일치한 링크 뒤 나머지 경로 (링크와 정확히 일치하면 null)", example = "/sale")
+    private String remainingPath;
+}
@@ -0,0 +1,28 @@
+package com.musinsa.shop.domain.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "카테고리 이름 자동완성 항목")
+public class CategorySearchResponse {
+
+    @Schema(description = "카테고리 ID", example = "3")
+    private Long id;
+
+    @Schema(description = "카테고리 이름", example = "셔츠")
+    private String title;
+
+    @Schema(description = "상위 카테고리 ID (최상위 null)", example = "1")
+    private Long parentId;
+
+    @Schema(description = "최상위 카테고리부터 본인까지 ID 경로", example = "/1/3/")
+    private String path;
+
+    @Schema(description = "최상위 카테고리부터 본인까지 이름", example = "[\"상의\", \"셔츠\"]")
+    private List<String> breadcrumb;
+}
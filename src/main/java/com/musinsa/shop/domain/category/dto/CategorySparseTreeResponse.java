@@ -0,0 +1,77 @@
+package com.musinsa.shop.domain.category.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields.Field;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 카테고리 트리 응답 - 선택 필드만 직렬화 (GET /categories?fields=...)
+ * - 캐시/저장소 트리 노드를 복사/변경하지 않고 직렬화 시 선택 필드만 기록 (JSON 배열, 노드 필드 순서는 CategoryTreeResponse 와 동일)
+ */
+@Getter
+@AllArgsConstructor
+@JsonSerialize(using = CategorySparseTreeResponse.Serializer.class)
+public class CategorySparseTreeResponse {
+
+    private final List<CategoryTreeResponse> tree;
+    private final CategoryTreeFields fields;
+
+    public static class Serializer extends StdSerializer<CategorySparseTreeResponse> {
+
+        public Serializer() {
+            super(CategorySparseTreeResponse.class);
+        }
+
+        @Override
+        public void serialize(CategorySparseTreeResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeNodes(value.tree, value.fields, gen);
+        }
+
+        private static void writeNodes(List<CategoryTreeResponse> nodes, CategoryTreeFields fields, JsonGenerator gen) throws IOException {
+            gen.writeStartArray();
+            for (CategoryTreeResponse node : nodes) {
+                writeNode(node, fields, gen);
+            }
+            gen.writeEndArray();
+        }
+
+        private static void writeNode(CategoryTreeResponse node, CategoryTreeFields fields, JsonGenerator gen) throws IOException {
+            gen.writeStartObject();
+            if (fields.includes(Field.ID)) {
+                gen.writeNumberField(Field.ID.getProperty(), node.getId());
+            }
+            if (fields.includes(Field.TITLE)) {
+                gen.writeStringField(Field.TITLE.getProperty(), node.getTitle());
+            }
+            if (fields.includes(Field.PARENT_ID)) {
+                gen.writeFieldName(Field.PARENT_ID.getProperty());
+                if (node.getParentId() == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(node.getParentId());
+                }
+            }
+            if (fields.includes(Field.LINK)) {
+                gen.writeStringField(Field.LINK.getProperty(), node.getLink());
+            }
+            if (fields.includes(Field.DISPLAY_ORDER)) {
+                gen.writeNumberField(Field.DISPLAY_ORDER.getProperty(), node.getDisplayOrder());
+            }
+            if (fields.includes(Field.ACTIVE)) {
+                gen.writeBooleanField(Field.ACTIVE.getProperty(), node.isActive());
+            }
+            if (fields.includes(Field.CHILDREN)) {
+                gen.writeFieldName(Field.CHILDREN.getProperty());
+                writeNodes(node.getChildren(), fields, gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+}
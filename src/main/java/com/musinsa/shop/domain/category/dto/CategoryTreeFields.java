@@ -0,0 +1,85 @@
+package com.musinsa.shop.domain.category.dto;
+
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 응답 필드 선택 (GET /categories?fields=id,title,children)
+ * - 선택하지 않으면 전체 필드 (ALL)
+ * - children 미선택 시 하위 카테고리 없이 최상위(또는 요청 카테고리)만 응답
+ * - DB 조회 시 선택하지 않은 title/link/active 컬럼은 조회하지 않음 (트리 구성/정렬용 id, parentId, path, displayOrder 는 항상 조회)
+ */
+@EqualsAndHashCode
+public final class CategoryTreeFields {
+
+    public static final CategoryTreeFields ALL = new CategoryTreeFields(EnumSet.allOf(Field.class));
+
+    private final Set<Field> fields;
+
+    private CategoryTreeFields(Set<Field> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public enum Field {
+        ID("id"),
+        TITLE("title"),
+        PARENT_ID("parentId"),
+        LINK("link"),
+        DISPLAY_ORDER("displayOrder"),
+        ACTIVE("active"),
+        CHILDREN("children"),
+        ;
+
+        // 응답 JSON 필드명
+        private final String property;
+
+        static Field from(String property) {
+            return Arrays.stream(values())
+                    .filter(field -> field.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException("지원하지 않는 필드입니다: " + property));
+        }
+    }
+
+    // 요청 파라미터 필드 목록 (쉼표 구분, 응답 JSON 필드명 그대로, 비어 있으면 전체 필드)
+    public static CategoryTreeFields from(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+
+        Set<Field> fields = EnumSet.noneOf(Field.class);
+        for (String property : value.split(",")) {
+            if (!property.isBlank()) {
+                fields.add(Field.from(property.strip()));
+            }
+        }
+        return fields.isEmpty() || fields.size() == Field.values().length ? ALL : new CategoryTreeFields(fields);
+    }
+
+    public static CategoryTreeFields of(Field first, Field... rest) {
+        Set<Field> fields = EnumSet.of(first, rest);
+        return fields.size() == Field.values().length ? ALL : new CategoryTreeFields(fields);
+    }
+
+    public boolean isAll() {
+        return fields.size() == Field.values().length;
+    }
+
+    public boolean includes(Field field) {
+        return fields.contains(field);
+    }
+
+    @Override
+    public String toString() {
+        return fields.toString();
+    }
+}
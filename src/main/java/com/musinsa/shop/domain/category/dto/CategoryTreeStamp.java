@@ -0,0 +1,16 @@
+package com.musinsa.shop.domain.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 카테고리 트리 변경 확인용 스탬프
+ * - DB 트리 버전 (category_tree_version, 카테고리 변경 트랜잭션마다 증가)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class CategoryTreeStamp {
+    private long version;
+}
@@ -6,14 +6,21 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
+/**
+ * 카테고리 엔티티
+ * - 계층은 parent(단방향 ManyToOne) / parentKey / path 로 관리, 하위 카테고리 목록은 Repository 쿼리로 조회
+ *   (하위 컬렉션을 두면 등록/이동/삭제 시 같은 상위의 하위 카테고리 전체가 영속성 컨텍스트에 적재됨)
+ * - effectiveActive / effectiveDeleted 는 상위 카테고리까지 반영한 노출 여부로 쓰기 시점에 유지 (트리 조회는 조상 확인 없이 두 컬럼으로 필터)
+ * - linkKey 는 삭제되지 않은 카테고리의 link (링크 유니크 제약 + 링크로 카테고리 조회 인덱스)
+ * - displayOrder 는 간격(DISPLAY_ORDER_GAP)을 둔 정렬 순위 : 형제 사이 이동은 이웃 순위의 중간값으로 본인 행만 변경
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,11 +28,24 @@ import java.util.List;
 @Table(
         name = "category",
         indexes = {
-                @Index(name = "idx_category_tree_query", columnList = "path, deleted, active")
+                @Index(name = "idx_category_tree_query", columnList = "path, deleted, active"),
+                @Index(name = "idx_category_live_path", columnList = "deleted, path, active"),
+                @Index(name = "idx_category_visible_path", columnList = "effective_deleted, effective_active, path"),
+                @Index(name = "idx_category_parent_order", columnList = "parent_key, display_order")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_category_parent_title", columnNames = {"parent_key", "title"}),
+                @UniqueConstraint(name = "uk_category_link_key", columnNames = {"link_key"})
         }
 )
 public class Category {
 
+    // 최상위 카테고리의 parent_key
+    public static final long ROOT_PARENT_KEY = 0L;
+
+    // 정렬 순위 간격 : 순서 일괄 변경/재지정 시 n 번째 카테고리는 n * 간격 (이웃 사이에 중간값으로 끼워 넣을 여유)
+    public static final int DISPLAY_ORDER_GAP = 1024;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,8 +57,10 @@ public class Category {
     @JoinColumn(name = "parent_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Category parent;
 
-    @OneToMany(mappedBy = "parent")
-    private List<Category> children = new ArrayList<>();
+    // 이름 유니크 제약용 상위 카테고리 키 (최상위: 0, 삭제: -id)
+    // parent_id 는 최상위가 NULL 이라 유니크 제약으로 중복을 막을 수 없어 별도 컬럼으로 관리
+    @Column(name = "parent_key", nullable = false)
+    private Long parentKey;
 
     @Column(name = "path", length = 512)
     private String path;
@@ -49,6 +71,10 @@ public class Category {
     @Column(name = "link", length = 512)
     private String link;
 
+    // 링크 유니크 제약용 키 (link 가 비어 있거나 삭제된 카테고리는 NULL : 유니크 제약에서 제외, 삭제된 카테고리 링크 재사용 가능)
+    @Column(name = "link_key", length = 512)
+    private String linkKey;
+
     @Column(name = "active")
     private Boolean active;
 
@@ -58,6 +84,16 @@ public class Category {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 유효 활성 여부 : 본인과 모든 상위 카테고리가 활성 (활성 변경/이동 시 하위 카테고리까지 path prefix 단위로 일괄 갱신)
+    @ColumnDefault("true")
+    @Column(name = "effective_active", nullable = false)
+    private Boolean effectiveActive;
+
+    // 유효 삭제 여부 : 본인 또는 상위 카테고리 중 삭제된 카테고리 존재
+    @ColumnDefault("false")
+    @Column(name = "effective_deleted", nullable = false)
+    private Boolean effectiveDeleted;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -66,17 +102,6 @@ public class Category {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    // ===== 연관 관계 메서드 ===== //
-    public void addChildCategory(Category child) {
-        this.children.add(child);
-        child.parent = this;
-    }
-
-    public void removeChildCategory(Category child) {
-        this.children.remove(child);
-        child.parent = null;
-    }
-
     // ===== 생성 메서드 ===== //
     public static Category create(String title, Integer displayOrder, String link, Boolean active, Category parent) {
         validateTitle(title);
@@ -85,16 +110,33 @@ public class Category {
         category.title = title;
         category.displayOrder = (displayOrder != null) ? displayOrder : 9999;
         category.link = link;
+        category.linkKey = linkKeyOf(link);
         category.active = (active != null) ? active : true;
         category.parent = parent;
+        category.parentKey = parentKeyOf(parent);
         category.deleted = false;
+        category.effectiveActive = category.active && (parent == null || parent.getEffectiveActive());
+        category.effectiveDeleted = parent != null && parent.getEffectiveDeleted();
+        return category;
+    }
 
-        // 연관 관계 설정
-        if (parent != null) {
-            parent.addChildCategory(category);
-        }
+    public static Long parentKeyOf(Category parent) {
+        return parent != null ? parent.getId() : Long.valueOf(ROOT_PARENT_KEY);
+    }
 
-        return category;
+    public static String linkKeyOf(String link) {
+        return (link != null && !link.isBlank()) ? link : null;
+    }
+
+    // index 번째(0부터) 정렬 순위
+    public static int displayOrderAt(int index) {
+        return (int) Math.min((long) (index + 1) * DISPLAY_ORDER_GAP, Integer.MAX_VALUE);
+    }
+
+    // 마지막 정렬 순위 다음 순위 (하위 카테고리가 없으면 첫 순위)
+    public static int displayOrderAfter(Integer lastDisplayOrder) {
+        if (lastDisplayOrder == null) return displayOrderAt(0);
+        return (int) Math.min((long) lastDisplayOrder + DISPLAY_ORDER_GAP, Integer.MAX_VALUE);
     }
 
     private static void validateTitle(String title) {
@@ -117,23 +159,22 @@ public class Category {
     private void update(String title, Integer displayOrder, String link, Boolean active) {
         if (title != null) this.title = title;
         if (displayOrder != null) this.displayOrder = displayOrder;
-        if (link != null) this.link = link;
+        if (link != null) {
+            this.link = link;
+            this.linkKey = linkKeyOf(link);
+        }
         if (active != null) this.active = active;
     }
 
+    // ===== 정렬 순위 변경 메서드 ===== //
+    public void changeDisplayOrder(int displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
     // ===== 부모 변경 메서드 ===== //
     private void changeParent(Category newParent) {
-        // 기존 부모를 children 제거
-        if (this.parent != null) {
-            this.parent.removeChildCategory(this);
-        }
-
-        // 새로운 부모 설정
         this.parent = newParent;
-        if (newParent != null) {
-            newParent.addChildCategory(this);
-        }
-
+        this.parentKey = parentKeyOf(newParent);
         updatePath();
     }
 
@@ -147,11 +188,10 @@ public class Category {
     // ===== 삭제 처리 메서드 ===== //
     public void softDelete() {
         this.deleted = true;
+        this.effectiveDeleted = true;
         this.deletedAt = LocalDateTime.now();
-
-        // 연관관계 정리
-        if (this.parent != null) {
-            this.parent.removeChildCategory(this);
-        }
+        this.parentKey = (this.id != null) ? -this.id : null;   // 삭제된 카테고리는 이름 유니크 제약에서 제외
+        this.linkKey = null;                                     // 삭제된 카테고리는 링크 유니크 제약에서 제외
+        this.parent = null;
     }
 }
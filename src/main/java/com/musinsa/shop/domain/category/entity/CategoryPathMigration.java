@@ -0,0 +1,92 @@
+package com.musinsa.shop.domain.category.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하위 카테고리 path 비동기 변경 작업
+ * - 카테고리 이동 시 이동한 카테고리만 즉시 변경하고, 하위 카테고리 path(oldPath → newPath)는 백그라운드에서 chunk 단위 변경
+ * - 작업이 끝나기 전까지 조회는 이 테이블로 이전 path 를 신규 path 로 해석
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "category_path_migration",
+        indexes = {
+                @Index(name = "idx_category_path_migration_status", columnList = "status"),
+                @Index(name = "idx_category_path_migration_category", columnList = "category_id")
+        }
+)
+public class CategoryPathMigration {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "old_path", nullable = false, length = 512)
+    private String oldPath;
+
+    @Column(name = "new_path", nullable = false, length = 512)
+    private String newPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PathMigrationStatus status;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // ===== 생성 메서드 ===== //
+    public static CategoryPathMigration create(Long categoryId, String oldPath, String newPath, long totalCount) {
+        CategoryPathMigration migration = new CategoryPathMigration();
+        migration.categoryId = categoryId;
+        migration.oldPath = oldPath;
+        migration.newPath = newPath;
+        migration.status = PathMigrationStatus.PENDING;
+        migration.totalCount = totalCount;
+        migration.processedCount = 0;
+        return migration;
+    }
+
+    // ===== 진행 처리 메서드 ===== //
+    // chunk 처리 결과 반영 : chunk 크기보다 적게 처리되면 남은 하위 카테고리 없음 → 완료
+    public void progress(int processed, int chunkSize) {
+        this.processedCount += processed;
+        if (processed < chunkSize) {
+            this.status = PathMigrationStatus.COMPLETED;
+            this.completedAt = LocalDateTime.now();
+        } else {
+            this.status = PathMigrationStatus.IN_PROGRESS;
+        }
+    }
+
+    public boolean isCompleted() {
+        return status == PathMigrationStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,35 @@
+package com.musinsa.shop.domain.category.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 트리 버전 (1행)
+ * - 카테고리를 변경하는 트랜잭션은 커밋 전에 version 을 1 증가 (등록/수정/삭제/이동/순서/가져오기/하위 path 변경 chunk)
+ * - 여러 인스턴스가 같은 DB 를 공유하므로 다른 인스턴스의 변경도 version 비교로 확인 (스냅샷 스탬프, 보관 트리 재검증)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "category_tree_version")
+public class CategoryTreeVersion {
+
+    // 버전 행 ID (항상 1행)
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // ===== 생성 메서드 ===== //
+    public static CategoryTreeVersion create(long version) {
+        CategoryTreeVersion treeVersion = new CategoryTreeVersion();
+        treeVersion.id = ID;
+        treeVersion.version = version;
+        return treeVersion;
+    }
+}
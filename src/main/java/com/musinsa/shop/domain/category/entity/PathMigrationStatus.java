@@ -0,0 +1,15 @@
+package com.musinsa.shop.domain.category.entity;
+
+import java.util.List;
+
+/**
+ * 하위 카테고리 path 비동기 변경 상태
+ */
+public enum PathMigrationStatus {
+    PENDING,        // 대기
+    IN_PROGRESS,    // 진행 중
+    COMPLETED;      // 완료
+
+    // 하위 카테고리 path 가 아직 이전 path 로 남아 있을 수 있는 상태
+    public static final List<PathMigrationStatus> ACTIVE = List.of(PENDING, IN_PROGRESS);
+}
@@ -0,0 +1,39 @@
+package com.musinsa.shop.domain.category.event;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 카테고리 변경 이벤트
+ * - 카테고리 등록/수정/삭제 시 발행 (트랜잭션 커밋 후 처리)
+ * - categoryIds: 변경된 카테고리 ID
+ * - paths: 변경으로 영향 받는 카테고리 path (부모 변경 시 이전/신규 path 모두 포함)
+ */
+@Getter
+public class CategoryChangedEvent {
+
+    private final Set<Long> categoryIds;
+    private final Set<String> paths;
+
+    private CategoryChangedEvent(Set<Long> categoryIds, Set<String> paths) {
+        this.categoryIds = categoryIds;
+        this.paths = paths;
+    }
+
+    public static CategoryChangedEvent of(Long categoryId, String... paths) {
+        return of(Collections.singletonList(categoryId), Arrays.asList(paths));
+    }
+
+    public static CategoryChangedEvent of(Collection<Long> categoryIds, Collection<String> paths) {
+        return new CategoryChangedEvent(nonNullSet(categoryIds), nonNullSet(paths));
+    }
+
+    private static <T> Set<T> nonNullSet(Collection<T> values) {
+        Set<T> result = new LinkedHashSet<>();
+        values.stream()
+                .filter(Objects::nonNull)
+                .forEach(result::add);
+        return Collections.unmodifiableSet(result);
+    }
+}
@@ -0,0 +1,91 @@
+package com.musinsa.shop.domain.category.repository;
+
+import com.musinsa.shop.domain.category.entity.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카테고리 JDBC 배치 Repository (대량 등록용)
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 PreparedStatement 배치로 INSERT/UPDATE
+ * - JPA 와 같은 DataSource 를 사용하므로 진행 중인 트랜잭션에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO category " +
+            "(title, parent_id, parent_key, display_order, link, link_key, active, deleted, effective_active, effective_deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?, FALSE, ?, ?)";
+
+    private static final String UPDATE_PATH_SQL = "UPDATE category SET path = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 INSERT 1회 (path 는 ID 생성 후 updatePaths 로 기록)
+     * @return 생성된 카테고리 ID (categories 순서)
+     */
+    public List<Long> insertAll(List<NewCategory> categories, LocalDateTime now) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+                Timestamp timestamp = Timestamp.valueOf(now);
+                for (NewCategory category : categories) {
+                    statement.setString(1, category.title());
+                    if (category.parentId() != null) {
+                        statement.setLong(2, category.parentId());
+                        statement.setLong(3, category.parentId());
+                    } else {
+                        statement.setNull(2, Types.BIGINT);
+                        statement.setLong(3, Category.ROOT_PARENT_KEY);
+                    }
+                    statement.setInt(4, category.displayOrder());
+                    statement.setString(5, category.link());
+                    statement.setString(6, Category.linkKeyOf(category.link()));
+                    statement.setBoolean(7, category.active());
+                    statement.setBoolean(8, category.effectiveActive());
+                    statement.setTimestamp(9, timestamp);
+                    statement.setTimestamp(10, timestamp);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>(categories.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != categories.size()) {
+                    throw new IllegalStateException("생성된 카테고리 ID 수가 등록 건수와 다릅니다: " + ids.size() + "/" + categories.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * ID 별 path 배치 UPDATE 1회
+     */
+    public void updatePaths(List<Long> ids, List<String> paths) {
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            args.add(new Object[]{paths.get(i), ids.get(i)});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PATH_SQL, args);
+    }
+
+    // effectiveActive : 본인과 상위 카테고리 모두 활성 여부 (가져오기 시 메모리에서 계산)
+    public record NewCategory(String title, Long parentId, int displayOrder, String link, boolean active,
+                              boolean effectiveActive) {
+    }
+}
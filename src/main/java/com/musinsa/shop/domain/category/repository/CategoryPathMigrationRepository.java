@@ -0,0 +1,31 @@
+package com.musinsa.shop.domain.category.repository;
+
+import com.musinsa.shop.domain.category.entity.CategoryPathMigration;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategoryPathMigrationRepository extends JpaRepository<CategoryPathMigration, Long> {
+    List<CategoryPathMigration> findAllByStatusInOrderByIdAsc(Collection<PathMigrationStatus> statuses);
+
+    Optional<CategoryPathMigration> findTopByCategoryIdOrderByIdDesc(Long categoryId);
+
+    // 이동 검사용 진행 중인 작업 잠금 조회 (잠금 읽기라 트랜잭션 시작 이후 커밋된 작업까지 조회)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT m FROM CategoryPathMigration m WHERE m.status IN :statuses ORDER BY m.id")
+    List<CategoryPathMigration> findAllByStatusInForShare(@Param("statuses") Collection<PathMigrationStatus> statuses);
+
+    // 작업 단위 잠금 조회 (여러 워커/인스턴스가 동시에 같은 작업의 chunk 를 처리하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM CategoryPathMigration m WHERE m.id = :id")
+    Optional<CategoryPathMigration> findByIdForUpdate(@Param("id") Long id);
+}
@@ -1,25 +1,265 @@
 package com.musinsa.shop.domain.category.repository;
 
+import com.musinsa.shop.domain.category.dto.CategoryDto;
 import com.musinsa.shop.domain.category.entity.Category;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 카테고리 Repository
+ * - path prefix 조건은 LIKE 대신 범위 조건 [path, path 마지막 '/' 를 '0' 으로 바꾼 값) 으로 조회
+ *   (바인딩 파라미터로 만든 LIKE 패턴은 H2 가 인덱스 범위로 변환하지 못해 전체 스캔)
+ * - LIMIT 쿼리의 정렬은 인덱스 컬럼 순서 그대로 지정 (deleted 를 등호 조건으로 고정해도 ORDER BY 에서 빠지면
+ *   H2 가 인덱스 순서로 읽지 않고 조건에 맞는 행 전체를 정렬)
+ * - 쿼리별 인덱스 사용 여부는 CategoryQueryPlanTest 에서 실행 계획으로 검증
+ * - 일괄 UPDATE 도 updated_at 갱신 (평면 목록 updatedSince 조건으로 상위 변경에 따라 바뀐 하위 카테고리 조회)
+ */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryRepositoryCustom {
-    boolean existsByParentIdAndTitle(Long parentId, String title);
+    // 이름 중복 검사 : 유니크 제약과 같은 parent_key 기준 (parent_id 파생 쿼리는 상위 카테고리 조인으로 인덱스 미사용)
+    default boolean existsByParentIdAndTitle(Long parentId, String title) {
+        return existsByParentKeyAndTitle(toParentKey(parentId), title);
+    }
+
+    default boolean existsByParentIdAndTitleAndIdNot(Long parentId, String title, Long id) {
+        return existsByParentKeyAndTitleAndIdNot(toParentKey(parentId), title, id);
+    }
+
+    boolean existsByParentKeyAndTitle(Long parentKey, String title);
+
+    boolean existsByParentKeyAndTitleAndIdNot(Long parentKey, String title, Long id);
+
+    // 링크 중복 검사 / 링크로 조회 : 삭제되지 않은 카테고리 링크(link_key) 유니크 인덱스 사용
+    boolean existsByLinkKey(String linkKey);
+
+    boolean existsByLinkKeyAndIdNot(String linkKey, Long id);
 
-    boolean existsByParentIdAndTitleAndIdNot(Long parentId, String title, Long id);
+    @Query("SELECT new com.musinsa.shop.domain.category.dto.CategoryDto(" +
+            "c.id, c.title, c.parent.id, c.path, c.link, c.displayOrder, c.active, c.deletedAt, c.createdAt, c.updatedAt) " +
+            "FROM Category c " +
+            "WHERE c.linkKey IN :links")
+    List<CategoryDto> findAllByLinkKeys(@Param("links") Collection<String> links);
+
+    private static Long toParentKey(Long parentId) {
+        return parentId != null ? parentId : Category.ROOT_PARENT_KEY;
+    }
 
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Category c " +
-            "SET c.path = CONCAT(:newPath, SUBSTRING(c.path, LENGTH(:oldPath) + 1)) " +
-            "WHERE c.path LIKE CONCAT(:oldPath, '%') " +
+            "SET c.path = CONCAT(:newPath, SUBSTRING(c.path, LENGTH(:oldPath) + 1)), c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.path >= :oldPath AND c.path < CONCAT(SUBSTRING(:oldPath, 1, LENGTH(:oldPath) - 1), '0') " +
             "AND c.id <> :selfId " +
             "AND c.deleted = false")
     void bulkUpdatePath(@Param("selfId") Long selfId, @Param("oldPath") String oldPath, @Param("newPath") String newPath);
 
-    boolean existsByParentIdAndDeletedFalse(Long parentId);
+    // 하위 카테고리 path 비동기 변경용 : 이전 path 로 남아 있는 하위 카테고리 수 / ID chunk / ID 기준 path 변경
+    @Query("SELECT COUNT(c) FROM Category c " +
+            "WHERE c.path >= :path AND c.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0') " +
+            "AND c.id <> :selfId " +
+            "AND c.deleted = false")
+    long countDescendants(@Param("selfId") Long selfId, @Param("path") String path);
+
+    @Query("SELECT c.id FROM Category c " +
+            "WHERE c.path >= :path AND c.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0') " +
+            "AND c.id <> :selfId " +
+            "AND c.deleted = false " +
+            "ORDER BY c.deleted, c.path")
+    List<Long> findDescendantIds(@Param("selfId") Long selfId, @Param("path") String path, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c " +
+            "SET c.path = CONCAT(:newPath, SUBSTRING(c.path, LENGTH(:oldPath) + 1)), c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.id IN :ids " +
+            "AND c.path >= :oldPath AND c.path < CONCAT(SUBSTRING(:oldPath, 1, LENGTH(:oldPath) - 1), '0')")
+    int bulkUpdatePathByIds(@Param("ids") Collection<Long> ids,
+                            @Param("oldPath") String oldPath,
+                            @Param("newPath") String newPath);
+
+    // 삭제되지 않은 하위 카테고리 존재 여부 / 수 : parent_key 는 삭제 시 음수가 되므로 parent_key 일치 = 삭제되지 않은 하위 카테고리
+    default boolean existsByParentIdAndDeletedFalse(Long parentId) {
+        return existsByParentKey(toParentKey(parentId));
+    }
+
+    default long countByParentIdAndDeletedFalse(Long parentId) {
+        return countByParentKey(toParentKey(parentId));
+    }
+
+    boolean existsByParentKey(Long parentKey);
+
+    long countByParentKey(Long parentKey);
+
+    // 정렬 순위 : parent_key + display_order 인덱스 (parent_key 일치 = 삭제되지 않은 하위 카테고리)
+    @Query("SELECT MAX(c.displayOrder) FROM Category c " +
+            "WHERE c.parentKey = :parentKey")
+    Integer findMaxDisplayOrder(@Param("parentKey") Long parentKey);
+
+    // 기준 순위 이하 / 이상 중 가장 가까운 순위 (이동 카테고리, 기준 카테고리 제외, 없으면 null)
+    @Query("SELECT MAX(c.displayOrder) FROM Category c " +
+            "WHERE c.parentKey = :parentKey " +
+            "AND c.displayOrder <= :displayOrder " +
+            "AND c.id NOT IN :excludeIds")
+    Integer findPrecedingDisplayOrder(@Param("parentKey") Long parentKey,
+                                      @Param("displayOrder") int displayOrder,
+                                      @Param("excludeIds") Collection<Long> excludeIds);
+
+    @Query("SELECT MIN(c.displayOrder) FROM Category c " +
+            "WHERE c.parentKey = :parentKey " +
+            "AND c.displayOrder >= :displayOrder " +
+            "AND c.id NOT IN :excludeIds")
+    Integer findFollowingDisplayOrder(@Param("parentKey") Long parentKey,
+                                      @Param("displayOrder") int displayOrder,
+                                      @Param("excludeIds") Collection<Long> excludeIds);
+
+    // 상위 카테고리 키 (정렬 순서 이동 시 카테고리 적재 전 상위 카테고리 잠금용, 삭제 시 -id)
+    @Query("SELECT c.parentKey FROM Category c WHERE c.id = :id")
+    Optional<Long> findParentKeyById(@Param("id") Long id);
+
+    // 하위 카테고리 정렬 순위 변경 잠금 (순서 이동/순위 재지정 직렬화) : 상위 카테고리 행
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Category c WHERE c.id = :id")
+    Optional<Category> findByIdForUpdate(@Param("id") Long id);
+
+    // 최상위 카테고리는 상위 행이 없으므로 최상위 카테고리 행 전체 잠금 (ID 순)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Category c WHERE c.parentKey = " + Category.ROOT_PARENT_KEY + " ORDER BY c.parentKey, c.id")
+    List<Category> findRootsForUpdate();
+
+    // 경로 변경 잠금 (이동 검사 ~ 커밋 직렬화) : path 가 속한 최상위 카테고리 행 (ID 순)
+    // 겹치는 하위 트리(상위/하위 관계 path)는 같은 최상위 카테고리에 속하므로 같은 행에서 대기
+    default void lockPathTrees(Collection<String> paths) {
+        List<Long> rootIds = paths.stream()
+                .filter(Objects::nonNull)
+                .map(path -> Long.valueOf(path.substring(1, path.indexOf('/', 1))))
+                .distinct()
+                .sorted()
+                .toList();
+        if (!rootIds.isEmpty()) {
+            findAllByIdInForUpdate(rootIds);
+        }
+    }
+
+    // 잠금만 필요하므로 엔티티를 적재하지 않고 ID 만 조회
+    @Query(value = "SELECT c.id FROM category c WHERE c.id IN (:ids) ORDER BY c.id FOR UPDATE", nativeQuery = true)
+    List<Long> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 하위 카테고리 목록 : 트리 조회와 같은 순서 (displayOrder, 같은 순위는 path 순)
+    @Query("SELECT new com.musinsa.shop.domain.category.dto.CategoryDto(" +
+            "c.id, c.title, c.parent.id, c.path, c.link, c.displayOrder, c.active, c.deletedAt, c.createdAt, c.updatedAt) " +
+            "FROM Category c " +
+            "WHERE c.parentKey = :parentKey " +
+            "ORDER BY c.parentKey, c.displayOrder, c.path")
+    List<CategoryDto> findChildrenInDisplayOrder(@Param("parentKey") Long parentKey);
+
+    // 여러 카테고리 본인 포함 하위 path 일괄 변경 (일괄 이동용) : 같은 상위 path(oldPrefix)에서 같은 상위 path(newPrefix)로 옮기는 카테고리 묶음
+    // 이전 path 중 처음 ~ 마지막 path 하위 범위를 읽고, 상위 path 다음 구간까지가 이동 카테고리 이전 path 인 행만 prefix 치환
+    // (path 범위 조건을 OR 로 묶으면 인덱스를 사용하지 못해 하나의 범위 + 구간 일치 조건 사용)
+    default int bulkUpdateSubtreePaths(String oldPrefix, String newPrefix, Collection<String> oldPaths) {
+        List<String> sorted = oldPaths.stream().sorted().toList();
+        return bulkUpdateSubtreePaths(oldPrefix, newPrefix, sorted, sorted.get(0), sorted.get(sorted.size() - 1));
+    }
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Category c " +
+            "SET c.path = CONCAT(:newPrefix, SUBSTRING(c.path, LENGTH(:oldPrefix) + 1)), c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.path >= :firstPath AND c.path < CONCAT(SUBSTRING(:lastPath, 1, LENGTH(:lastPath) - 1), '0') " +
+            "AND SUBSTRING(c.path, 1, LOCATE('/', c.path, LENGTH(:oldPrefix) + 1)) IN :oldPaths " +
+            "AND c.deleted = false")
+    int bulkUpdateSubtreePaths(@Param("oldPrefix") String oldPrefix,
+                               @Param("newPrefix") String newPrefix,
+                               @Param("oldPaths") Collection<String> oldPaths,
+                               @Param("firstPath") String firstPath,
+                               @Param("lastPath") String lastPath);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Category c " +
+            "SET c.parent = :parent, c.parentKey = :parentKey, c.updatedAt = :updatedAt " +
+            "WHERE c.id IN :ids " +
+            "AND c.deleted = false")
+    int bulkUpdateParent(@Param("parent") Category parent,
+                         @Param("parentKey") Long parentKey,
+                         @Param("ids") Collection<Long> ids,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Category c " +
+            "SET c.active = :active, c.updatedAt = :updatedAt " +
+            "WHERE c.id IN :ids " +
+            "AND c.deleted = false")
+    int bulkUpdateActive(@Param("ids") Collection<Long> ids,
+                         @Param("active") boolean active,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 유효 노출 여부 재계산 : path 하위 트리(본인 포함)를 본인 활성/삭제 여부 + 상위 카테고리 유효 여부로 일괄 변경
+    // (하위 트리 안의 비활성/삭제 카테고리 아래는 findInactivePaths / findPathsUnderDeletedParent 로 찾아 추가 변경)
+    // 값이 바뀌는 행만 변경 : 같은 값으로 UPDATE 해도 행/인덱스를 다시 쓰므로 하위 트리 전체를 쓰지 않도록 조건 추가
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c " +
+            "SET c.effectiveActive = CASE WHEN c.active = true AND :parentActive = true THEN true ELSE false END, " +
+            "c.effectiveDeleted = CASE WHEN c.deleted = true OR :parentDeleted = true THEN true ELSE false END, " +
+            "c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.path >= :path AND c.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0') " +
+            "AND (c.effectiveActive <> CASE WHEN c.active = true AND :parentActive = true THEN true ELSE false END " +
+            "OR c.effectiveDeleted <> CASE WHEN c.deleted = true OR :parentDeleted = true THEN true ELSE false END)")
+    int bulkUpdateEffectiveFlags(@Param("path") String path,
+                                 @Param("parentActive") boolean parentActive,
+                                 @Param("parentDeleted") boolean parentDeleted);
+
+    // path 하위 트리(본인 포함) 비노출 : 이미 비노출인 행 제외
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c " +
+            "SET c.effectiveActive = false, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.path >= :path AND c.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0') " +
+            "AND c.effectiveActive = true")
+    int bulkDeactivateSubtree(@Param("path") String path);
+
+    // path 하위 트리(본인 포함) 유효 삭제 : 삭제된 카테고리 아래 하위 카테고리가 남는 경우만 실행되므로 변경 행 조건 없이 path 범위로 변경
+    // (effective_deleted = false 조건을 두면 idx_category_visible_path 의 플래그 컬럼만으로 탐색)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c " +
+            "SET c.effectiveDeleted = true, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.path >= :path AND c.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0')")
+    int bulkHideDeletedSubtree(@Param("path") String path);
+
+    // path 하위 트리(본인 포함)의 비활성 카테고리 path
+    @Query("SELECT c.path FROM Category c " +
+            "WHERE c.deleted = false " +
+            "AND c.path >= :path AND c.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0') " +
+            "AND c.active = false " +
+            "ORDER BY c.deleted, c.path")
+    List<String> findInactivePaths(@Param("path") String path);
+
+    // path 하위 트리(본인 포함)에서 상위 카테고리가 삭제된 카테고리 path (삭제된 카테고리 아래 등록/이동된 경우)
+    @Query("SELECT c.path FROM Category c JOIN c.parent p " +
+            "WHERE c.deleted = false " +
+            "AND c.path >= :path AND c.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0') " +
+            "AND p.deleted = true " +
+            "ORDER BY c.deleted, c.path")
+    List<String> findPathsUnderDeletedParent(@Param("path") String path);
+
+    // 전체 내보내기용 : 삭제된 카테고리 포함 ID 순 스트림 (DTO 로 조회하여 영속성 컨텍스트에 쌓이지 않음, 트랜잭션 안에서 소비 후 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.musinsa.shop.domain.category.dto.CategoryDto(" +
+            "c.id, c.title, c.parent.id, c.path, c.link, c.displayOrder, c.active, c.deletedAt, c.createdAt, c.updatedAt) " +
+            "FROM Category c " +
+            "ORDER BY c.id")
+    Stream<CategoryDto> streamAllForExport();
 }
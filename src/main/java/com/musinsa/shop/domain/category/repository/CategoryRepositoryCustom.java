@@ -1,11 +1,35 @@
 package com.musinsa.shop.domain.category.repository;
 
 import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryFlatCursor;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.dto.CategoryFlatResponse;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CategoryRepositoryCustom {
     List<CategoryDto> findAllTree();
 
+    List<CategoryDto> findAllTree(CategoryTreeFields fields);
+
     List<CategoryDto> findTreeByPath(String path);
+
+    List<CategoryDto> findTreeByPath(String path, CategoryTreeFields fields);
+
+    List<CategoryDto> findTreeByPaths(Collection<String> paths);
+
+    List<CategoryDto> findTreeByPaths(Collection<String> paths, CategoryTreeFields fields);
+
+    List<CategoryDto> findAllByIds(Collection<Long> ids);
+
+    List<CategoryDto> findChildrenOfParents(Collection<Long> parentIds, boolean includeRoots);
+
+    List<CategoryDto> findAllLiveTitles();
+
+    List<CategoryFlatResponse> findFlatPage(CategoryFlatRequest condition, CategoryFlatCursor after, int limit);
+
+    long bulkUpdateDisplayOrder(Long parentId, Map<Long, Integer> displayOrders);
 }
@@ -1,42 +1,179 @@
 package com.musinsa.shop.domain.category.repository;
 
 import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryFlatCursor;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.dto.CategoryFlatResponse;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields.Field;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
 
 import static com.musinsa.shop.domain.category.entity.QCategory.category;
 
 @RequiredArgsConstructor
 public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
 
     @Override
     public List<CategoryDto> findAllTree() {
-        return treeBaseQuery()
-                .where(category.deleted.isFalse(), category.active.isTrue())
+        return findAllTree(CategoryTreeFields.ALL);
+    }
+
+    // 응답 필드 선택 시 선택하지 않은 컬럼은 조회하지 않음 (트리 기본 쿼리와 같은 조건/정렬)
+    @Override
+    public List<CategoryDto> findAllTree(CategoryTreeFields fields) {
+        return treeBaseQuery(fields)
+                .where(category.effectiveDeleted.isFalse(), category.effectiveActive.isTrue())
                 .fetch();
     }
 
     @Override
     public List<CategoryDto> findTreeByPath(String path) {
+        return findTreeByPath(path, CategoryTreeFields.ALL);
+    }
+
+    @Override
+    public List<CategoryDto> findTreeByPath(String path, CategoryTreeFields fields) {
+        return treeBaseQuery(fields)
+                .where(
+                        category.effectiveDeleted.isFalse(),
+                        category.effectiveActive.isTrue(),
+                        pathStartsWith(path)
+                )
+                .fetch();
+    }
+
+    // 여러 path 중 하나로 시작하는 하위 트리 1회 조회 (여러 하위 트리 동시 조회, 하위 path 비동기 변경 중 이전/신규 path 혼재 시)
+    // path 범위 조건을 OR 로 묶으면 인덱스를 사용하지 못해 path 별 범위 조회를 UNION ALL 로 묶어 1회 실행
+    // (QueryDSL 은 UNION 미지원으로 HQL 사용, 겹치는 하위 트리는 ID 기준 중복 제거)
+    @Override
+    public List<CategoryDto> findTreeByPaths(Collection<String> paths) {
+        return findTreeByPaths(paths, CategoryTreeFields.ALL);
+    }
+
+    @Override
+    public List<CategoryDto> findTreeByPaths(Collection<String> paths, CategoryTreeFields fields) {
+        List<String> ranges = List.copyOf(new LinkedHashSet<>(paths));
+        if (ranges.isEmpty()) return List.of();
+
+        String select = "SELECT c.id, c.parent.id, c.path, c.displayOrder" +
+                (fields.includes(Field.TITLE) ? ", c.title" : "") +
+                (fields.includes(Field.LINK) ? ", c.link" : "") +
+                (fields.includes(Field.ACTIVE) ? ", c.active" : "") +
+                " FROM Category c ";
+        StringJoiner hql = new StringJoiner(" UNION ALL ");
+        for (int i = 0; i < ranges.size(); i++) {
+            hql.add(select + "WHERE c.effectiveDeleted = false AND c.effectiveActive = true " +
+                    "AND c.path >= :from" + i + " AND c.path < :to" + i);
+        }
+
+        TypedQuery<Object[]> query = entityManager.createQuery(hql.toString(), Object[].class);
+        for (int i = 0; i < ranges.size(); i++) {
+            query.setParameter("from" + i, ranges.get(i));
+            query.setParameter("to" + i, upperBound(ranges.get(i)));
+        }
+
+        Map<Long, CategoryDto> categories = new LinkedHashMap<>();
+        for (Object[] row : query.getResultList()) {
+            CategoryDto dto = toTreeDto(row, fields);
+            categories.putIfAbsent(dto.getId(), dto);
+        }
+
+        return categories.values().stream()
+                .sorted(Comparator.comparing(CategoryDto::getPath))
+                .toList();
+    }
+
+    @Override
+    public List<CategoryDto> findAllByIds(Collection<Long> ids) {
         return treeBaseQuery()
                 .where(
-                        category.path.startsWith(path),
-                        category.deleted.isFalse(),
-                        category.active.isTrue()
+                        category.id.in(ids),
+                        category.deleted.isFalse()
                 )
                 .fetch();
     }
 
-    // 트리 기본 쿼리
-    private JPQLQuery<CategoryDto> treeBaseQuery() {
+    // 상위 카테고리별 하위 카테고리 조회 (이름 중복 검사용) - includeRoots: 최상위 카테고리 포함 여부
+    // 이름 유니크 제약과 같은 parent_key 기준 조회 (삭제된 카테고리 제외, 유니크 인덱스 사용)
+    @Override
+    public List<CategoryDto> findChildrenOfParents(Collection<Long> parentIds, boolean includeRoots) {
+        Set<Long> parentKeys = new HashSet<>(parentIds);
+        if (includeRoots) {
+            parentKeys.add(Category.ROOT_PARENT_KEY);
+        }
+        if (parentKeys.isEmpty()) {
+            return List.of();
+        }
+
+        return treeBaseQuery()
+                .where(category.parentKey.in(parentKeys))
+                .fetch();
+    }
+
+    // 삭제되지 않은 카테고리의 상위 카테고리 ID, 이름, 링크 조회 (이름/링크 색인 구성용)
+    @Override
+    public List<CategoryDto> findAllLiveTitles() {
         return queryFactory
                 .select(Projections.fields(CategoryDto.class,
+                        category.id,
+                        category.title,
+                        category.parent.id.as("parentId"),
+                        category.link
+                ))
+                .from(category)
+                .where(category.deleted.isFalse())
+                .fetch();
+    }
+
+    // 평면 목록 keyset 페이지 조회 : 이전 페이지 마지막 path 이후 limit 건 (OFFSET 미사용)
+    @Override
+    public List<CategoryFlatResponse> findFlatPage(CategoryFlatRequest condition, CategoryFlatCursor after, int limit) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (after != null) {
+            where.and(category.path.gt(after.path()));
+        }
+        if (condition.getDeleted() != null) {
+            where.and(category.deleted.eq(condition.getDeleted()));
+        }
+        if (condition.getActive() != null) {
+            where.and(category.active.eq(condition.getActive()));
+        }
+        if (condition.getUpdatedSince() != null) {
+            where.and(category.updatedAt.goe(condition.getUpdatedSince()));
+        }
+        if (condition.getMaxDepth() != null) {
+            where.and(Expressions.numberTemplate(Integer.class,
+                    "length({0}) - length(replace({0}, '/', '')) - 1", category.path).loe(condition.getMaxDepth()));
+        }
+
+        // deleted 고정 시 정렬에도 포함해야 (deleted, path) 인덱스 순서로 읽고 LIMIT 에서 멈춤
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        if (condition.getDeleted() != null) {
+            orders.add(category.deleted.asc());
+        }
+        orders.add(category.path.asc());
+
+        return queryFactory
+                .select(Projections.fields(CategoryFlatResponse.class,
                         category.id,
                         category.title,
                         category.parent.id.as("parentId"),
@@ -44,11 +181,92 @@ public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
                         category.link,
                         category.displayOrder,
                         category.active,
-                        category.deletedAt,
+                        category.deleted,
                         category.createdAt,
-                        category.updatedAt
+                        category.updatedAt,
+                        category.deletedAt
                 ))
                 .from(category)
+                .where(where)
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .limit(limit)
+                .fetch();
+    }
+
+    // 하위 카테고리 정렬 순서 일괄 변경: CASE 식으로 단일 UPDATE 실행 (parentId null : 최상위 카테고리, parent_key 기준)
+    // QueryDSL 은 WHEN 마다 식을 중첩하여 직렬화하므로 (항목이 많으면 StackOverflowError) 하위 카테고리 수와 무관하게 1회 실행하도록 SQL 직접 구성
+    // 파라미터 : ?1 parent_key, ?2 updated_at, 이후 (id, displayOrder) 쌍 (id 파라미터는 IN 조건에 재사용)
+    @Override
+    public long bulkUpdateDisplayOrder(Long parentId, Map<Long, Integer> displayOrders) {
+        if (displayOrders.isEmpty()) return 0L;
+
+        StringBuilder cases = new StringBuilder();
+        StringJoiner ids = new StringJoiner(", ", "(", ")");
+        int position = 3;
+        for (int i = 0; i < displayOrders.size(); i++, position += 2) {
+            cases.append(" WHEN ?").append(position).append(" THEN ?").append(position + 1);
+            ids.add("?" + position);
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "UPDATE category SET display_order = CASE id" + cases + " ELSE display_order END, updated_at = ?2 " +
+                        "WHERE parent_key = ?1 AND deleted = FALSE AND id IN " + ids);
+        query.setParameter(1, parentId != null ? parentId : Category.ROOT_PARENT_KEY);
+        query.setParameter(2, LocalDateTime.now());
+        position = 3;
+        for (Map.Entry<Long, Integer> entry : displayOrders.entrySet()) {
+            query.setParameter(position++, entry.getKey());
+            query.setParameter(position++, entry.getValue());
+        }
+        return query.executeUpdate();
+    }
+
+    // path prefix 조건 : [path, 마지막 문자 + 1) 범위 (바인딩한 LIKE 패턴은 인덱스 범위로 변환되지 않음)
+    private BooleanExpression pathStartsWith(String path) {
+        return category.path.goe(path).and(category.path.lt(upperBound(path)));
+    }
+
+    // path prefix 범위 상한 : 마지막 문자 + 1
+    private static String upperBound(String path) {
+        return path.substring(0, path.length() - 1) + (char) (path.charAt(path.length() - 1) + 1);
+    }
+
+    // UNION 조회 행 → 트리 DTO (findTreeByPaths 조회 컬럼 순서, 선택하지 않은 필드는 기본값)
+    private static CategoryDto toTreeDto(Object[] row, CategoryTreeFields fields) {
+        int column = 4;
+        String title = fields.includes(Field.TITLE) ? (String) row[column++] : null;
+        String link = fields.includes(Field.LINK) ? (String) row[column++] : null;
+        boolean active = fields.includes(Field.ACTIVE) && (Boolean) row[column];
+        return new CategoryDto((Long) row[0], title, (Long) row[1], (String) row[2], link, (Integer) row[3], active,
+                null, null, null);
+    }
+
+    // 트리 기본 쿼리 (트리 응답에 필요한 컬럼만 조회)
+    private JPQLQuery<CategoryDto> treeBaseQuery() {
+        return treeBaseQuery(CategoryTreeFields.ALL);
+    }
+
+    // 트리 기본 쿼리 - 선택한 응답 필드 컬럼만 조회 (트리 구성/정렬용 id, parentId, path, displayOrder 는 항상 조회)
+    private JPQLQuery<CategoryDto> treeBaseQuery(CategoryTreeFields fields) {
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+                category.id,
+                category.parent.id.as("parentId"),
+                category.path,
+                category.displayOrder
+        ));
+        if (fields.includes(Field.TITLE)) {
+            columns.add(category.title);
+        }
+        if (fields.includes(Field.LINK)) {
+            columns.add(category.link);
+        }
+        if (fields.includes(Field.ACTIVE)) {
+            columns.add(category.active);
+        }
+
+        return queryFactory
+                .select(Projections.fields(CategoryDto.class, columns.toArray(Expression[]::new)))
+                .from(category)
                 .orderBy(category.path.asc());
     }
 }
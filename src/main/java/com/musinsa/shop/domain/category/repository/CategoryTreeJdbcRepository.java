@@ -0,0 +1,193 @@
+package com.musinsa.shop.domain.category.repository;
+
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields.Field;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * 카테고리 트리 조회 JDBC Repository (트랜잭션 밖 조회 전용 빠른 경로)
+ * - 영속성 컨텍스트/QueryDSL 프로젝션(리플렉션 필드 주입)을 거치지 않고 ResultSet 에서 트리 노드를 바로 생성
+ * - 트리 응답에 필요한 컬럼만 조회 (응답 필드 선택 시 선택한 컬럼만), path 순으로 읽으므로 상위 카테고리가 먼저 나와 1회 순회로 연결
+ * - flush 되지 않은 영속성 컨텍스트 변경은 보이지 않으므로 쓰기 트랜잭션 안에서는 CategoryRepository 사용
+ * - 조건/정렬은 CategoryRepositoryImpl 트리 쿼리와 동일 (유효 노출 여부 + path 범위 조건, idx_category_visible_path 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryTreeJdbcRepository {
+
+    // 트리 노드 컬럼 (toNode 컬럼 순서, 선택하지 않은 응답 필드는 조회하지 않고 상수로 채움)
+    private static final String TREE_COLUMNS = "SELECT id, %s, parent_id, %s, display_order, %s";
+
+    private static final String ALL_TREE_SQL = "%s FROM category " +
+            "WHERE effective_deleted = FALSE AND effective_active = TRUE " +
+            "ORDER BY path";
+
+    private static final String TREE_BY_PATH_RANGE_SQL = "%s, path FROM category " +
+            "WHERE effective_deleted = FALSE AND effective_active = TRUE AND path >= ? AND path < ?";
+
+    private static final String TREE_BY_PATH_SQL = TREE_BY_PATH_RANGE_SQL + " ORDER BY path";
+
+    private static final String PATH_SQL = "SELECT path FROM category WHERE id = ?";
+
+    private static final String PATHS_SQL = "SELECT id, path FROM category WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 트리 (최상위 카테고리 목록, 하위는 path 순 연결)
+     */
+    public List<CategoryTreeResponse> findAllTree() {
+        return findAllTree(CategoryTreeFields.ALL);
+    }
+
+    /**
+     * 전체 트리 - 선택한 응답 필드 컬럼만 조회
+     */
+    public List<CategoryTreeResponse> findAllTree(CategoryTreeFields fields) {
+        TreeRowHandler handler = new TreeRowHandler();
+        jdbcTemplate.query(ALL_TREE_SQL.formatted(treeColumns(fields)), handler);
+        return handler.roots;
+    }
+
+    /**
+     * path 로 시작하는 하위 트리 (결과에 상위 카테고리가 없는 노드가 최상위)
+     */
+    public List<CategoryTreeResponse> findTreeByPath(String path) {
+        return findTreeByPath(path, CategoryTreeFields.ALL);
+    }
+
+    public List<CategoryTreeResponse> findTreeByPath(String path, CategoryTreeFields fields) {
+        TreeRowHandler handler = new TreeRowHandler();
+        jdbcTemplate.query(TREE_BY_PATH_SQL.formatted(treeColumns(fields)), handler, path, upperBound(path));
+        return handler.roots;
+    }
+
+    /**
+     * 여러 path 중 하나로 시작하는 하위 트리 (여러 하위 트리 동시 조회, 하위 path 비동기 변경 중 이전/신규 path 혼재 시)
+     * - path 별 범위 조회를 UNION ALL 로 묶어 1회 실행 (OR 로 묶으면 path 범위로 인덱스를 탐색하지 못함)
+     * - ID 기준 중복 제거, 이전/신규 path 가 섞여 상위가 뒤에 나올 수 있어 전체 노드 생성 후 연결
+     */
+    public List<CategoryTreeResponse> findTreeByPaths(Collection<String> paths) {
+        return findTreeByPaths(paths, CategoryTreeFields.ALL);
+    }
+
+    public List<CategoryTreeResponse> findTreeByPaths(Collection<String> paths, CategoryTreeFields fields) {
+        List<String> ranges = List.copyOf(new LinkedHashSet<>(paths));
+        if (ranges.isEmpty()) return List.of();
+
+        String rangeSql = "(" + TREE_BY_PATH_RANGE_SQL.formatted(treeColumns(fields)) + ")";
+        StringJoiner sql = new StringJoiner(" UNION ALL ", "", " ORDER BY path");
+        Object[] args = new Object[ranges.size() * 2];
+        for (int i = 0; i < ranges.size(); i++) {
+            sql.add(rangeSql);
+            args[i * 2] = ranges.get(i);
+            args[i * 2 + 1] = upperBound(ranges.get(i));
+        }
+
+        Map<Long, PathNode> nodes = new LinkedHashMap<>();
+        jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> {
+            CategoryTreeResponse node = toNode(rs);
+            nodes.putIfAbsent(node.getId(), new PathNode(rs.getString(7), node));
+        }, args);
+
+        Map<Long, CategoryTreeResponse> byId = new HashMap<>();
+        nodes.forEach((id, pathNode) -> byId.put(id, pathNode.node()));
+
+        List<CategoryTreeResponse> roots = new ArrayList<>();
+        nodes.values().stream()
+                .sorted(Comparator.comparing(PathNode::path))
+                .map(PathNode::node)
+                .forEach(node -> {
+                    CategoryTreeResponse parent = node.getParentId() != null ? byId.get(node.getParentId()) : null;
+                    if (parent == null) {
+                        roots.add(node);
+                    } else {
+                        parent.getChildren().add(node);
+                    }
+                });
+        return roots;
+    }
+
+    // 카테고리 path (삭제 여부 무관), 없으면 empty
+    public Optional<String> findPath(Long id) {
+        return jdbcTemplate.query(PATH_SQL, rs -> rs.next() ? Optional.ofNullable(rs.getString(1)) : Optional.empty(), id);
+    }
+
+    // 카테고리별 path (삭제 여부 무관), 없는 카테고리는 결과에서 제외
+    public Map<Long, String> findPaths(Collection<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Map<Long, String> paths = new HashMap<>();
+        jdbcTemplate.query(PATHS_SQL.formatted(placeholders),
+                (RowCallbackHandler) rs -> paths.put(rs.getLong(1), rs.getString(2)), ids.toArray());
+        return paths;
+    }
+
+    // path prefix 범위 상한 : 마지막 문자 + 1 (CategoryRepositoryImpl.pathStartsWith 와 동일)
+    private static String upperBound(String path) {
+        return path.substring(0, path.length() - 1) + (char) (path.charAt(path.length() - 1) + 1);
+    }
+
+    private static String treeColumns(CategoryTreeFields fields) {
+        return TREE_COLUMNS.formatted(
+                fields.includes(Field.TITLE) ? "title" : "NULL",
+                fields.includes(Field.LINK) ? "link" : "NULL",
+                fields.includes(Field.ACTIVE) ? "active" : "FALSE");
+    }
+
+    private static CategoryTreeResponse toNode(ResultSet rs) throws SQLException {
+        long parentId = rs.getLong(3);
+        boolean root = rs.wasNull();
+        return new CategoryTreeResponse(
+                rs.getLong(1),
+                rs.getString(2),
+                root ? null : parentId,
+                rs.getString(4),
+                rs.getInt(5),
+                rs.getBoolean(6),
+                new ArrayList<>()
+        );
+    }
+
+    // path 순 행을 읽으면서 상위 노드에 연결 (상위가 결과에 없으면 최상위)
+    private static final class TreeRowHandler implements RowCallbackHandler {
+
+        private final Map<Long, CategoryTreeResponse> nodes = new HashMap<>();
+        private final List<CategoryTreeResponse> roots = new ArrayList<>();
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            CategoryTreeResponse node = toNode(rs);
+            nodes.put(node.getId(), node);
+
+            CategoryTreeResponse parent = node.getParentId() != null ? nodes.get(node.getParentId()) : null;
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.getChildren().add(node);
+            }
+        }
+    }
+
+    private record PathNode(String path, CategoryTreeResponse node) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.musinsa.shop.domain.category.repository;
+
+import com.musinsa.shop.domain.category.entity.CategoryTreeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CategoryTreeVersionRepository extends JpaRepository<CategoryTreeVersion, Long> {
+
+    // 버전 1 증가 : 대기 중인 카테고리 변경을 먼저 flush 하여 버전 행 잠금을 트랜잭션의 마지막 잠금으로 획득
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CategoryTreeVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+    int increment(@Param("id") Long id);
+
+    @Query("SELECT v.version FROM CategoryTreeVersion v WHERE v.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+}
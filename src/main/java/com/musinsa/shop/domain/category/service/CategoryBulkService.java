@@ -0,0 +1,269 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.exception.DuplicateResourceException;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryBulkActiveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryBulkMoveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 일괄 변경 서비스
+ * - 여러 카테고리의 이동/활성 여부 변경을 하나의 트랜잭션에서 처리
+ * - 카테고리 수만큼 단건 수정을 반복하지 않고 조회 1회 + 집합 단위 UPDATE 로 처리
+ * - 변경한 카테고리 하위 트리 유효 노출 여부 재계산 (CategoryVisibilityUpdater)
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryBulkService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryPathMigrationRepository pathMigrationRepository;
+    private final CategoryTitleIndex titleIndex;
+    private final CategoryVisibilityUpdater visibilityUpdater;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 카테고리 일괄 이동
+     * - 이동 대상과 새 상위 카테고리를 한 번에 조회, 조회한 path 로 부모 관계를 구성하여 배치 전체 순환 참조 검사
+     * - 하위 path 비동기 변경이 진행 중인 하위 트리와 겹치면 이동 불가 (조회한 path 가 현재 구조와 다를 수 있음)
+     * - 이동 후 동일 상위 카테고리 내 이름 중복 검사 (배치 내 이동 포함)
+     * - path 는 (이전 상위 카테고리, 새 상위 카테고리) 별 prefix 치환 UPDATE 1회 (하위 카테고리 포함), 부모는 새 상위 카테고리별 UPDATE 1회
+     * - 이동한 카테고리 하위 트리는 새 상위 카테고리 기준으로 유효 노출 여부 재계산
+     */
+    @Transactional
+    public void moveCategories(List<CategoryBulkMoveRequest.Move> moves) {
+        Map<Long, Long> targetParents = toTargetParents(moves);
+
+        Set<Long> ids = new HashSet<>(targetParents.keySet());
+        targetParents.values().stream()
+                .filter(Objects::nonNull)
+                .forEach(ids::add);
+        Map<Long, CategoryDto> categories = findCategories(ids);
+        validateNotMigrating(categories.values());
+        Map<Long, Long> parents = toParentView(categories.values());
+
+        // 상위 카테고리가 그대로인 항목 제외
+        targetParents.entrySet().removeIf(entry -> Objects.equals(parents.get(entry.getKey()), entry.getValue()));
+        if (targetParents.isEmpty()) return;
+
+        validateNoCycle(targetParents, parents);
+        validateDuplicateTitles(targetParents, categories);
+
+        Map<Long, Long> moved = new HashMap<>(parents);
+        List<String> affectedPaths = updateSubtreePaths(targetParents, moved);
+        updateParents(targetParents);
+        Map<String, Long> movedPaths = new HashMap<>();
+        targetParents.forEach((id, parentId) -> movedPaths.put(toPath(id, moved), parentId));
+        visibilityUpdater.refreshAll(movedPaths);
+        updateTitleIndex(targetParents, parents, categories);
+
+        eventPublisher.publishEvent(CategoryChangedEvent.of(targetParents.keySet(), affectedPaths));
+    }
+
+    // 이동 요청 목록 → (카테고리 ID, 새 상위 카테고리 ID) : 중복 ID, 자기 자신 지정 검사
+    private Map<Long, Long> toTargetParents(List<CategoryBulkMoveRequest.Move> moves) {
+        Map<Long, Long> targetParents = new LinkedHashMap<>();
+        for (CategoryBulkMoveRequest.Move move : moves) {
+            if (targetParents.containsKey(move.getId())) {
+                throw new InvalidRequestException("중복된 카테고리 ID가 포함되어 있습니다.");
+            }
+            if (move.getId().equals(move.getParentId())) {
+                throw new InvalidRequestException("자기 자신을 부모로 지정할 수 없습니다.");
+            }
+            targetParents.put(move.getId(), move.getParentId());
+        }
+        return targetParents;
+    }
+
+    // 카테고리 일괄 조회 : 삭제되었거나 없는 카테고리 포함 시 예외
+    private Map<Long, CategoryDto> findCategories(Set<Long> ids) {
+        Map<Long, CategoryDto> categories = categoryRepository.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(CategoryDto::getId, Function.identity()));
+        if (categories.size() != ids.size()) {
+            throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다.");
+        }
+        return categories;
+    }
+
+    // 하위 path 비동기 변경이 진행 중인 하위 트리와 겹치는 카테고리 포함 시 예외
+    // 경로 변경 잠금 후 검사 : 겹치는 이동/작업 등록은 잠금 대기 후 먼저 커밋된 작업 기준으로 검사
+    private void validateNotMigrating(Collection<CategoryDto> categories) {
+        categoryRepository.lockPathTrees(categories.stream().map(CategoryDto::getPath).toList());
+        PendingPathMigrations pending = new PendingPathMigrations(
+                pathMigrationRepository.findAllByStatusInForShare(PathMigrationStatus.ACTIVE));
+        if (pending.isEmpty()) return;
+
+        for (CategoryDto category : categories) {
+            if (pending.overlaps(category.getPath())) {
+                throw new InvalidRequestException("하위 카테고리 경로 변경이 진행 중인 카테고리입니다.");
+            }
+        }
+    }
+
+    // 조회한 카테고리 path 로 부모 관계 구성 (path 에 포함된 상위 카테고리 전체, 최상위는 null)
+    private Map<Long, Long> toParentView(Collection<CategoryDto> categories) {
+        Map<Long, Long> parents = new HashMap<>();
+        for (CategoryDto category : categories) {
+            Long parentId = null;
+            for (String segment : category.getPath().split("/")) {
+                if (segment.isEmpty()) continue;
+                Long id = Long.valueOf(segment);
+                parents.put(id, parentId);
+                parentId = id;
+            }
+        }
+        return parents;
+    }
+
+    // 순환 참조 검사 : 이동 후 부모 관계에서 새 상위 카테고리의 조상 중 자기 자신이 있으면 예외
+    private void validateNoCycle(Map<Long, Long> targetParents, Map<Long, Long> parents) {
+        for (Long id : targetParents.keySet()) {
+            Set<Long> visited = new HashSet<>();
+            Long current = targetParents.get(id);
+            while (current != null && visited.add(current)) {
+                if (current.equals(id)) {
+                    throw new InvalidRequestException("하위 카테고리를 부모로 지정할 수 없습니다.");
+                }
+                current = targetParents.containsKey(current) ? targetParents.get(current) : parents.get(current);
+            }
+        }
+    }
+
+    // 이름 중복 검사 : 새 상위 카테고리의 기존 하위 카테고리(이동해 나가는 카테고리 제외) + 함께 이동하는 카테고리 기준
+    private void validateDuplicateTitles(Map<Long, Long> targetParents, Map<Long, CategoryDto> categories) {
+        Set<Long> parentIds = targetParents.values().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<CategoryDto> siblings = categoryRepository.findChildrenOfParents(parentIds, targetParents.containsValue(null));
+
+        Map<Long, Set<String>> titlesByParent = new HashMap<>();
+        for (CategoryDto sibling : siblings) {
+            if (targetParents.containsKey(sibling.getId())) continue;
+            titlesByParent.computeIfAbsent(sibling.getParentId(), key -> new HashSet<>()).add(sibling.getTitle());
+        }
+
+        targetParents.forEach((id, parentId) -> {
+            String title = categories.get(id).getTitle();
+            if (!titlesByParent.computeIfAbsent(parentId, key -> new HashSet<>()).add(title)) {
+                throw new DuplicateResourceException("동일 상위 카테고리 내 이미 존재하는 카테고리명입니다.");
+            }
+        });
+    }
+
+    // path 일괄 변경 : 이동 전 부모 관계로 이전 path, 이동 후 부모 관계로 신규 path 계산
+    // (이전 상위 path, 신규 상위 path) 가 같은 카테고리를 묶어 prefix 치환 UPDATE 1회 (하위 카테고리 포함)
+    // 이동 카테고리 하위에 다른 이동 카테고리가 있으면 깊은 묶음부터 실행 (먼저 옮긴 하위 트리는 신규 path 라 상위 묶음 범위에서 제외)
+    // current : 이동 전 부모 관계 → 이동 후 부모 관계로 갱신됨
+    private List<String> updateSubtreePaths(Map<Long, Long> targetParents, Map<Long, Long> current) {
+        Map<Long, String> oldPaths = new LinkedHashMap<>();
+        targetParents.keySet().forEach(id -> oldPaths.put(id, toPath(id, current)));
+        current.putAll(targetParents);
+
+        List<String> affectedPaths = new ArrayList<>();
+        Map<List<String>, List<String>> groups = new LinkedHashMap<>();
+        oldPaths.forEach((id, oldPath) -> {
+            String newPath = toPath(id, current);
+            groups.computeIfAbsent(List.of(parentPath(oldPath), parentPath(newPath)), key -> new ArrayList<>()).add(oldPath);
+            affectedPaths.add(oldPath);
+            affectedPaths.add(newPath);
+        });
+
+        groups.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<List<String>, List<String>> group) -> depth(group.getKey().get(0))).reversed())
+                .forEach(group -> categoryRepository.bulkUpdateSubtreePaths(group.getKey().get(0), group.getKey().get(1), group.getValue()));
+        return affectedPaths;
+    }
+
+    // 상위 path : 마지막 구간 제거 ("/1/2/" → "/1/", 최상위는 "/")
+    private static String parentPath(String path) {
+        return path.substring(0, path.lastIndexOf('/', path.length() - 2) + 1);
+    }
+
+    private static int depth(String path) {
+        return (int) path.chars().filter(ch -> ch == '/').count();
+    }
+
+    private String toPath(Long id, Map<Long, Long> parents) {
+        Deque<Long> ancestors = new ArrayDeque<>();
+        for (Long current = id; current != null; current = parents.get(current)) {
+            ancestors.addFirst(current);
+        }
+
+        StringBuilder path = new StringBuilder("/");
+        ancestors.forEach(ancestor -> path.append(ancestor).append('/'));
+        return path.toString();
+    }
+
+    // 부모 일괄 변경 : 새 상위 카테고리별 UPDATE 1회
+    private void updateParents(Map<Long, Long> targetParents) {
+        Map<Long, List<Long>> idsByParent = new LinkedHashMap<>();
+        targetParents.forEach((id, parentId) -> idsByParent.computeIfAbsent(parentId, key -> new ArrayList<>()).add(id));
+
+        LocalDateTime now = LocalDateTime.now();
+        idsByParent.forEach((parentId, ids) -> {
+            Category parent = parentId != null ? categoryRepository.getReferenceById(parentId) : null;
+            Long parentKey = parentId != null ? parentId : Category.ROOT_PARENT_KEY;
+            categoryRepository.bulkUpdateParent(parent, parentKey, ids, now);
+        });
+    }
+
+    // 이름 색인 반영 : 커밋 후 이전 상위 카테고리 이름 제거 → 새 상위 카테고리 이름 추가 순서로 반영
+    private void updateTitleIndex(Map<Long, Long> targetParents, Map<Long, Long> parents,
+                                  Map<Long, CategoryDto> categories) {
+        targetParents.keySet().forEach(id -> titleIndex.removeAfterCommit(parents.get(id), categories.get(id).getTitle()));
+        targetParents.forEach((id, parentId) -> titleIndex.addAfterCommit(parentId, categories.get(id).getTitle()));
+    }
+
+    /**
+     * 카테고리 활성 여부 일괄 변경
+     * - 활성/비활성 각각 UPDATE 1회
+     * - 변경한 카테고리 하위 트리 유효 노출 여부 재계산
+     */
+    @Transactional
+    public void updateActiveCategories(List<CategoryBulkActiveRequest.Item> items) {
+        Map<Long, Boolean> actives = new LinkedHashMap<>();
+        for (CategoryBulkActiveRequest.Item item : items) {
+            if (actives.putIfAbsent(item.getId(), item.getActive()) != null) {
+                throw new InvalidRequestException("중복된 카테고리 ID가 포함되어 있습니다.");
+            }
+        }
+
+        Map<Long, CategoryDto> categories = findCategories(actives.keySet());
+
+        Map<Boolean, List<Long>> idsByActive = actives.entrySet().stream()
+                .collect(Collectors.partitioningBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        LocalDateTime now = LocalDateTime.now();
+        idsByActive.forEach((active, ids) -> {
+            if (!ids.isEmpty()) {
+                categoryRepository.bulkUpdateActive(ids, active, now);
+            }
+        });
+
+        Map<String, Long> parentIds = new HashMap<>();
+        categories.values().forEach(category -> parentIds.put(category.getPath(), category.getParentId()));
+        visibilityUpdater.refreshAll(parentIds);
+
+        List<String> affectedPaths = categories.values().stream()
+                .map(CategoryDto::getPath)
+                .toList();
+        eventPublisher.publishEvent(CategoryChangedEvent.of(actives.keySet(), affectedPaths));
+    }
+}
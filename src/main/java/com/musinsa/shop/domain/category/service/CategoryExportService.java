@@ -0,0 +1,48 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryExportFormat;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 카테고리 전체 내보내기 서비스 (분석용 데이터 추출)
+ * - 읽기 전용 트랜잭션 1개에서 forward-only 커서로 조회하며 1건씩 출력 스트림에 기록
+ * - 페이지 API 반복 호출 없이 요청 1회로 전체 카테고리(삭제 포함) 추출, 메모리 사용량은 카테고리 수와 무관
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryExportService {
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 카테고리 ID 순 내보내기
+     * - out 은 전체 기록을 마친 경우에만 close (gzip 스트림이면 close 시 마무리 블록 기록)
+     * - 도중 실패 시 남은 버퍼/마무리 블록을 기록하지 않음 (잘린 결과가 완전한 파일로 읽히지 않도록)
+     * @return 내보낸 카테고리 수
+     */
+    @Transactional(readOnly = true)
+    public long exportCategories(CategoryExportFormat format, OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<CategoryDto> categories = categoryRepository.streamAllForExport()) {
+            CategoryExportWriter writer = CategoryExportWriter.of(format, out, objectMapper);
+            Iterator<CategoryDto> iterator = categories.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+            writer.close();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,139 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 카테고리 내보내기 행 단위 출력
+ * - 카테고리 1건씩 출력 스트림에 바로 기록 (전체 결과를 메모리에 모으지 않음)
+ * - 행마다 flush 하지 않고 close 시점에 flush (버퍼 단위로 하위 스트림 기록)
+ */
+public interface CategoryExportWriter extends Closeable {
+
+    void write(CategoryDto category) throws IOException;
+
+    static CategoryExportWriter of(CategoryExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out, objectMapper);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    /**
+     * NDJSON : 카테고리 1건당 JSON 한 줄 (API 응답과 같은 ObjectMapper 설정 사용)
+     */
+    class NdjsonWriter implements CategoryExportWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter objectWriter;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.objectWriter = objectMapper.writerFor(CategoryDto.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("");
+        }
+
+        @Override
+        public void write(CategoryDto category) throws IOException {
+            objectWriter.writeValue(generator, category);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * CSV : 첫 줄 헤더, 쉼표/따옴표/줄바꿈 포함 값은 따옴표로 감싸고 따옴표는 두 번 기록, null 은 빈 값, 일시는 ISO-8601
+     */
+    class CsvWriter implements CategoryExportWriter {
+
+        private static final String HEADER = "id,title,parentId,path,link,displayOrder,active,deletedAt,createdAt,updatedAt";
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(CategoryDto category) throws IOException {
+            writer.write(String.valueOf(category.getId()));
+            writer.write(',');
+            writeText(category.getTitle());
+            writer.write(',');
+            writeNullable(category.getParentId());
+            writer.write(',');
+            writeText(category.getPath());
+            writer.write(',');
+            writeText(category.getLink());
+            writer.write(',');
+            writer.write(String.valueOf(category.getDisplayOrder()));
+            writer.write(',');
+            writer.write(String.valueOf(category.isActive()));
+            writer.write(',');
+            writeDateTime(category.getDeletedAt());
+            writer.write(',');
+            writeDateTime(category.getCreatedAt());
+            writer.write(',');
+            writeDateTime(category.getUpdatedAt());
+            writer.write('\n');
+        }
+
+        private void writeNullable(Long value) throws IOException {
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+
+        private void writeDateTime(LocalDateTime value) throws IOException {
+            if (value != null) {
+                writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            }
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value == null) return;
+            if (!needsQuote(value)) {
+                writer.write(value);
+                return;
+            }
+
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private boolean needsQuote(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryFlatCursor;
+import com.musinsa.shop.domain.category.dto.CategoryFlatPageResponse;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.dto.CategoryFlatResponse;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 카테고리 평면 목록 조회 서비스 (검색 색인, 데이터 추출용)
+ * - path 순 keyset 페이지네이션 : 이전 페이지 마지막 path 이후부터 조회하므로 페이지 위치와 무관하게 조회 비용 일정
+ * - path 순이므로 상위 카테고리가 항상 하위 카테고리보다 먼저 조회
+ * - 요청 1회당 페이지 크기 + 1 건만 조회 (다음 페이지 존재 여부 확인용 1건)
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryFlatService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryProperties categoryProperties;
+
+    @Transactional(readOnly = true)
+    public CategoryFlatPageResponse getFlatCategories(CategoryFlatRequest request) {
+        int size = pageSize(request.getSize());
+        CategoryFlatCursor after = request.getCursor() != null
+                ? CategoryFlatCursor.decode(request.getCursor())
+                : null;
+
+        List<CategoryFlatResponse> rows = categoryRepository.findFlatPage(request, after, size + 1);
+        if (rows.size() <= size) {
+            return new CategoryFlatPageResponse(rows, null);
+        }
+
+        List<CategoryFlatResponse> items = rows.subList(0, size);
+        String nextCursor = CategoryFlatCursor.after(items.get(size - 1)).encode();
+        return new CategoryFlatPageResponse(items, nextCursor);
+    }
+
+    // 페이지 크기 : 미지정 시 기본 크기, 최대 크기 초과 시 최대 크기
+    private int pageSize(Integer requested) {
+        CategoryProperties.Flat flat = categoryProperties.getFlat();
+        if (requested == null) {
+            return flat.getDefaultPageSize();
+        }
+        return Math.min(requested, flat.getMaxPageSize());
+    }
+}
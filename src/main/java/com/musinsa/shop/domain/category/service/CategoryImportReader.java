@@ -0,0 +1,202 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.domain.category.dto.CategoryImportFormat;
+import com.musinsa.shop.domain.category.dto.CategoryImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 가져오기 파일 행 단위 읽기
+ * - 파일 전체를 메모리에 올리지 않고 1행씩 읽음
+ * - 파일 형식 오류(헤더 누락, 따옴표 미종료, 타입 불일치 등)는 InvalidRequestException
+ */
+public interface CategoryImportReader extends Closeable {
+
+    // 다음 행, 파일 끝이면 null
+    CategoryImportRow next() throws IOException;
+
+    static CategoryImportReader of(CategoryImportFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvReader(in);
+            case JSON -> new JsonReader(in, objectMapper);
+        };
+    }
+
+    /**
+     * CSV : 첫 줄 헤더로 컬럼 위치 결정 (대소문자 무관, 알 수 없는 컬럼 무시), 빈 값은 null
+     */
+    class CsvReader implements CategoryImportReader {
+
+        private static final List<String> REQUIRED_COLUMNS = List.of("ref", "title");
+
+        private final Reader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private int row;
+
+        CsvReader(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new InvalidRequestException("CSV 헤더가 없습니다.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(stripBom(header.get(i)).trim().toLowerCase(), i);
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(column.toLowerCase())) {
+                    throw new InvalidRequestException("CSV 헤더에 필수 컬럼이 없습니다: " + column);
+                }
+            }
+        }
+
+        private String stripBom(String value) {
+            return !value.isEmpty() && value.charAt(0) == '\uFEFF' ? value.substring(1) : value;
+        }
+
+        @Override
+        public CategoryImportRow next() throws IOException {
+            List<String> record = readRecord();
+            if (record == null) return null;
+            row++;
+
+            return new CategoryImportRow(
+                    value(record, "ref"),
+                    value(record, "parentRef"),
+                    value(record, "title"),
+                    toInteger(value(record, "displayOrder"), "displayOrder"),
+                    value(record, "link"),
+                    toBoolean(value(record, "active"), "active")
+            );
+        }
+
+        private String value(List<String> record, String column) {
+            Integer index = columns.get(column.toLowerCase());
+            if (index == null || index >= record.size()) return null;
+
+            String value = record.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private Integer toInteger(String value, String column) {
+            if (value == null) return null;
+            try {
+                return Integer.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException(row + "행 " + column + " 값은 숫자여야 합니다: " + value);
+            }
+        }
+
+        private Boolean toBoolean(String value, String column) {
+            if (value == null) return null;
+            if (value.trim().equalsIgnoreCase("true")) return true;
+            if (value.trim().equalsIgnoreCase("false")) return false;
+            throw new InvalidRequestException(row + "행 " + column + " 값은 true/false 여야 합니다: " + value);
+        }
+
+        // 레코드 1개 읽기 (따옴표 안의 쉼표/줄바꿈 포함, "" 는 따옴표 1개), 파일 끝이면 null, 빈 줄은 건너뜀
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean empty = true;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (quoted) {
+                    if (c != '"') {
+                        field.append((char) c);
+                        continue;
+                    }
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                    continue;
+                }
+
+                if (c == '"') {
+                    quoted = true;
+                    empty = false;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    empty = false;
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') reader.reset();
+                    }
+                    if (empty && field.isEmpty()) continue;
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                    empty = false;
+                }
+            }
+
+            if (quoted) {
+                throw new InvalidRequestException((row + 1) + "행 따옴표가 닫히지 않았습니다.");
+            }
+            if (empty && field.isEmpty()) return null;
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * JSON : 최상위 배열의 객체 또는 NDJSON 의 각 줄 객체를 1개씩 읽음 (알 수 없는 필드 무시)
+     */
+    class JsonReader implements CategoryImportReader {
+
+        private final MappingIterator<CategoryImportRow> iterator;
+        private int row;
+
+        JsonReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.iterator = objectMapper.readerFor(CategoryImportRow.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValues(in);
+        }
+
+        @Override
+        public CategoryImportRow next() throws IOException {
+            try {
+                if (!iterator.hasNextValue()) return null;
+                CategoryImportRow next = iterator.nextValue();
+                row++;
+                return next;
+            } catch (JsonProcessingException e) {
+                throw new InvalidRequestException((row + 1) + "행 JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.DuplicateResourceException;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryImportFormat;
+import com.musinsa.shop.domain.category.dto.CategoryImportResponse;
+import com.musinsa.shop.domain.category.dto.CategoryImportRow;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryBatchRepository;
+import com.musinsa.shop.domain.category.repository.CategoryBatchRepository.NewCategory;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 트리 일괄 가져오기 서비스 (신규 마켓 카테고리 체계 등록)
+ * - 파일을 1행씩 읽어 노드 구성 → ref 로 상위 카테고리 연결 → 깊이별 정렬 → 동일 상위 내 이름 중복 검사 → 링크 중복 검사
+ * - 검증 오류가 하나라도 있으면 등록하지 않음 (dryRun 은 검증 결과만 반환)
+ * - 깊이 순으로 JDBC 배치 INSERT (상위 카테고리 ID 확정 후 하위 등록), 생성된 ID 로 path 를 메모리에서 계산하여 배치 UPDATE
+ * - 카테고리 수만큼 createCategory 를 반복하지 않고 배치 크기 단위 SQL 2회로 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryImportService {
+
+    private static final int TITLE_MAX_LENGTH = 50;
+    private static final int LINK_MAX_LENGTH = 512;
+    private static final int DEFAULT_DISPLAY_ORDER = 9999;
+    private static final int ERROR_MESSAGE_PREVIEW = 3;
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryBatchRepository categoryBatchRepository;
+    private final CategoryTitleIndex titleIndex;
+    private final CategoryProperties categoryProperties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 카테고리 가져오기
+     * - parentId null : 파일의 최상위 카테고리를 루트로 등록, parentId O : 해당 카테고리 하위로 등록
+     * - dryRun true : 검증만 수행, 오류 포함 결과 반환
+     * - dryRun false : 검증 오류가 있으면 400 예외, 없으면 등록 후 결과 반환
+     */
+    @Transactional
+    public CategoryImportResponse importCategories(InputStream in, CategoryImportFormat format, Long parentId,
+                                                   boolean dryRun) throws IOException {
+        long start = System.nanoTime();
+        CategoryDto parent = findParentOrNull(parentId);
+
+        ImportErrors errors = new ImportErrors(categoryProperties.getBulkImport().getMaxReportedErrors());
+        List<Node> nodes = readNodes(in, format, errors);
+        List<Node> roots = linkParents(nodes, errors);
+        List<List<Node>> levels = toLevels(nodes, roots, errors);
+        validateDuplicateTitles(parentId, roots, levels, errors);
+        validateDuplicateLinks(nodes, errors);
+        errors.sortByRow();
+
+        if (errors.count > 0 && !dryRun) {
+            throw new InvalidRequestException(errors.summary());
+        }
+
+        int createdCount = 0;
+        if (!dryRun) {
+            insertLevels(parent, levels);
+            createdCount = nodes.size();
+            afterImport(parentId, roots, levels);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new CategoryImportResponse(dryRun, nodes.size(), roots.size(), levels.size(), createdCount,
+                errors.count, errors.reported, elapsedMillis);
+    }
+
+    private CategoryDto findParentOrNull(Long parentId) {
+        if (parentId == null) return null;
+        return categoryRepository.findAllByIds(Set.of(parentId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("부모 카테고리를 찾을 수 없습니다."));
+    }
+
+    // 파일을 1행씩 읽어 노드 구성 : 행 단위 필드 검사, ref 중복 검사
+    private List<Node> readNodes(InputStream in, CategoryImportFormat format, ImportErrors errors) throws IOException {
+        List<Node> nodes = new ArrayList<>();
+        Set<String> refs = new HashSet<>();
+
+        try (CategoryImportReader reader = CategoryImportReader.of(format, in, objectMapper)) {
+            CategoryImportRow row;
+            while ((row = reader.next()) != null) {
+                Node node = new Node(nodes.size() + 1, row);
+                nodes.add(node);
+
+                validateRow(node, errors);
+                if (node.ref != null && !refs.add(node.ref)) {
+                    errors.add(node, "중복된 ref 입니다.");
+                    node.invalid = true;
+                }
+            }
+        }
+        return nodes;
+    }
+
+    private void validateRow(Node node, ImportErrors errors) {
+        String message = null;
+        if (node.ref == null || node.ref.isBlank()) {
+            message = "ref 는 필수입니다.";
+        } else if (node.title == null || node.title.isBlank()) {
+            message = "카테고리 이름은 필수입니다.";
+        } else if (node.title.length() > TITLE_MAX_LENGTH) {
+            message = "카테고리 이름은 " + TITLE_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        } else if (node.link != null && node.link.length() > LINK_MAX_LENGTH) {
+            message = "link 는 " + LINK_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        } else if (node.displayOrder < 0) {
+            message = "정렬 순서는 0보다 작을 수 없습니다.";
+        } else if (node.ref.equals(node.parentRef)) {
+            message = "자기 자신을 부모로 지정할 수 없습니다.";
+        }
+
+        if (message != null) {
+            errors.add(node, message);
+            node.invalid = true;
+        }
+    }
+
+    // parentRef 로 상위 노드 연결 : parentRef 가 없는 노드가 가져오기 최상위 (중복 ref 는 첫 번째 행 기준)
+    // 오류 행은 트리에 연결하지 않으므로 그 하위 행은 최상위까지 이어지지 않음
+    private List<Node> linkParents(List<Node> nodes, ImportErrors errors) {
+        Map<String, Node> byRef = new HashMap<>();
+        for (Node node : nodes) {
+            if (node.ref != null) byRef.putIfAbsent(node.ref, node);
+        }
+
+        List<Node> roots = new ArrayList<>();
+        for (Node node : nodes) {
+            if (node.invalid) continue;
+            if (node.parentRef == null) {
+                roots.add(node);
+                continue;
+            }
+
+            Node parentNode = byRef.get(node.parentRef);
+            if (parentNode == null) {
+                errors.add(node, "상위 카테고리 ref 를 찾을 수 없습니다: " + node.parentRef);
+                node.invalid = true;
+                continue;
+            }
+            node.parent = parentNode;
+            parentNode.children.add(node);
+        }
+        return roots;
+    }
+
+    // 최상위부터 깊이별 노드 목록 구성 : 최상위까지 이어지지 않는 노드(순환 참조, 오류 행의 하위) 는 오류
+    private List<List<Node>> toLevels(List<Node> nodes, List<Node> roots, ImportErrors errors) {
+        List<List<Node>> levels = new ArrayList<>();
+        List<Node> level = roots;
+        while (!level.isEmpty()) {
+            levels.add(level);
+            level.forEach(node -> node.reached = true);
+            level = level.stream()
+                    .flatMap(node -> node.children.stream())
+                    .toList();
+        }
+
+        for (Node node : nodes) {
+            if (!node.invalid && !node.reached) {
+                errors.add(node, hasInvalidAncestor(node) ? "상위 카테고리 행에 오류가 있습니다." : "순환 참조입니다.");
+            }
+        }
+        return levels;
+    }
+
+    // 상위로 올라가며 오류 행을 만나면 true, 같은 노드를 다시 만나면(순환) false
+    private boolean hasInvalidAncestor(Node node) {
+        Set<Node> visited = new HashSet<>();
+        for (Node current = node.parent; current != null && visited.add(current); current = current.parent) {
+            if (current.invalid) return true;
+        }
+        return false;
+    }
+
+    // 동일 상위 카테고리 내 이름 중복 검사 : 최상위는 가져오기 대상 상위 카테고리의 기존 하위 카테고리 포함
+    private void validateDuplicateTitles(Long parentId, List<Node> roots, List<List<Node>> levels, ImportErrors errors) {
+        Set<String> rootTitles = categoryRepository.findChildrenOfParents(
+                        parentId != null ? Set.of(parentId) : Set.of(), parentId == null).stream()
+                .map(CategoryDto::getTitle)
+                .collect(Collectors.toCollection(HashSet::new));
+        validateSiblingTitles(roots, rootTitles, errors);
+
+        for (List<Node> level : levels) {
+            for (Node node : level) {
+                validateSiblingTitles(node.children, new HashSet<>(), errors);
+            }
+        }
+    }
+
+    private void validateSiblingTitles(List<Node> siblings, Set<String> titles, ImportErrors errors) {
+        for (Node sibling : siblings) {
+            if (!titles.add(sibling.title)) {
+                errors.add(sibling, "동일 상위 카테고리 내 이미 존재하는 카테고리명입니다: " + sibling.title);
+            }
+        }
+    }
+
+    // 링크 중복 검사 : 파일 내 중복 + 삭제되지 않은 기존 카테고리 링크와 중복 (빈 링크 제외, 배치 크기 단위 IN 조회)
+    private void validateDuplicateLinks(List<Node> nodes, ImportErrors errors) {
+        Map<String, Node> byLink = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            String link = Category.linkKeyOf(node.link);
+            if (node.invalid || link == null) continue;
+            if (byLink.putIfAbsent(link, node) != null) {
+                errors.add(node, "파일 내 중복된 링크입니다: " + link);
+            }
+        }
+
+        List<String> links = new ArrayList<>(byLink.keySet());
+        int batchSize = categoryProperties.getBulkImport().getBatchSize();
+        for (int from = 0; from < links.size(); from += batchSize) {
+            categoryRepository.findAllByLinkKeys(links.subList(from, Math.min(from + batchSize, links.size())))
+                    .forEach(existing -> errors.add(byLink.get(existing.getLink()), "이미 사용 중인 링크입니다: " + existing.getLink()));
+        }
+    }
+
+    // 깊이 순 배치 INSERT → 생성된 ID 로 path 계산 후 배치 UPDATE (동시 등록과 이름/링크가 겹치면 유니크 제약 위반)
+    private void insertLevels(CategoryDto parent, List<List<Node>> levels) {
+        int batchSize = categoryProperties.getBulkImport().getBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+        Long parentId = parent != null ? parent.getId() : null;
+        String parentPath = parent != null ? parent.getPath() : "/";
+        boolean parentActive = parent == null || categoryRepository.findById(parentId)
+                .map(Category::getEffectiveActive)
+                .orElse(true);
+
+        try {
+            for (List<Node> level : levels) {
+                for (int from = 0; from < level.size(); from += batchSize) {
+                    List<Node> batch = level.subList(from, Math.min(from + batchSize, level.size()));
+                    insertBatch(batch, parentId, parentPath, parentActive, now);
+                }
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("이미 존재하는 카테고리명 또는 링크입니다.");
+        }
+    }
+
+    // 깊이 순으로 등록하므로 상위 노드의 유효 활성 여부가 먼저 계산됨
+    private void insertBatch(List<Node> batch, Long parentId, String parentPath, boolean parentActive, LocalDateTime now) {
+        List<NewCategory> categories = batch.stream()
+                .map(node -> {
+                    node.effectiveActive = node.active && (node.parent != null ? node.parent.effectiveActive : parentActive);
+                    return new NewCategory(node.title, node.parent != null ? node.parent.id : parentId,
+                            node.displayOrder, node.link, node.active, node.effectiveActive);
+                })
+                .toList();
+        List<Long> ids = categoryBatchRepository.insertAll(categories, now);
+
+        List<String> paths = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Node node = batch.get(i);
+            node.id = ids.get(i);
+            node.path = (node.parent != null ? node.parent.path : parentPath) + node.id + "/";
+            paths.add(node.path);
+        }
+        categoryBatchRepository.updatePaths(ids, paths);
+    }
+
+    // 이름 색인 커밋 후 반영, 변경 이벤트 발행 (영향 path : 가져온 최상위 카테고리 path)
+    private void afterImport(Long parentId, List<Node> roots, List<List<Node>> levels) {
+        List<CategoryDto> titles = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        for (List<Node> level : levels) {
+            for (Node node : level) {
+                titles.add(new CategoryDto(node.id, node.title, node.parent != null ? node.parent.id : parentId,
+                        node.path, node.link, node.displayOrder, node.active, null, null, null));
+                ids.add(node.id);
+            }
+        }
+        titleIndex.addAllAfterCommit(titles);
+
+        List<String> rootPaths = roots.stream().map(node -> node.path).toList();
+        eventPublisher.publishEvent(CategoryChangedEvent.of(ids, rootPaths));
+    }
+
+    private static class Node {
+        private final int row;
+        private final String ref;
+        private final String parentRef;
+        private final String title;
+        private final int displayOrder;
+        private final String link;
+        private final boolean active;
+
+        private final List<Node> children = new ArrayList<>();
+        private Node parent;
+        private boolean invalid;
+        private boolean reached;
+
+        private Long id;
+        private String path;
+        private boolean effectiveActive;
+
+        private Node(int row, CategoryImportRow importRow) {
+            this.row = row;
+            this.ref = importRow.getRef();
+            this.parentRef = importRow.getParentRef();
+            this.title = importRow.getTitle();
+            this.displayOrder = importRow.getDisplayOrder() != null ? importRow.getDisplayOrder() : DEFAULT_DISPLAY_ORDER;
+            this.link = importRow.getLink();
+            this.active = importRow.getActive() != null ? importRow.getActive() : true;
+        }
+    }
+
+    // 행 단위 오류 : 전체 수 집계, 최대 maxReported 건까지 보관
+    private static class ImportErrors {
+        private final int maxReported;
+        private final List<CategoryImportResponse.Error> reported = new ArrayList<>();
+        private int count;
+
+        private ImportErrors(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        private void add(Node node, String message) {
+            count++;
+            if (reported.size() < maxReported) {
+                reported.add(new CategoryImportResponse.Error(node.row, node.ref, message));
+            }
+        }
+
+        // 검증 단계별로 수집되므로 행 번호 순으로 정렬
+        private void sortByRow() {
+            reported.sort(Comparator.comparingInt(CategoryImportResponse.Error::getRow));
+        }
+
+        private String summary() {
+            String preview = reported.stream()
+                    .limit(ERROR_MESSAGE_PREVIEW)
+                    .map(error -> error.getRow() + "행(ref=" + error.getRef() + "): " + error.getMessage())
+                    .collect(Collectors.joining(", "));
+            return "가져오기 검증 실패 (오류 " + count + "건) " + preview;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryResolveResponse;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 링크로 카테고리 조회 서비스 (스토어프론트 URL → 카테고리)
+ * - 정확히 일치하는 링크가 없으면 마지막 '/' 구간부터 줄여가며 가장 긴 링크와 일치 (/category/top/shirt/sale → /category/top/shirt)
+ * - 메모리 색인(CategoryLinkIndex)에 정확히 일치하는 링크가 있으면 DB 조회 없이 반환
+ * - 정확히 일치하지 않으면 DB 유니크 인덱스(link_key)로 후보 링크 한 번에 조회 후 가장 긴 링크와 일치
+ *   (색인의 상위 경로 일치만으로 반환하면 다른 인스턴스가 등록한 더 긴 링크를 놓침)
+ * - 비활성 카테고리도 링크를 점유하므로 일치 대상 (상위 링크로 넘기지 않음, 노출 여부는 호출 측에서 판단), 삭제된 카테고리는 제외
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryLinkService {
+
+    private final CategoryLinkIndex linkIndex;
+    private final CategoryRepository categoryRepository;
+    private final CategoryProperties categoryProperties;
+
+    public CategoryResolveResponse resolve(String link) {
+        if (link == null || link.isBlank()) {
+            throw new InvalidRequestException("링크를 입력해주세요.");
+        }
+
+        List<String> candidates = candidates(link);
+        if (linkIndex.isEnabled()) {
+            Long id = linkIndex.get(link);
+            if (id != null) return toResponse(id, link, link);
+            if (!categoryProperties.getLinkIndex().isDbFallback()) {
+                return resolveFromIndex(link, candidates);
+            }
+        }
+        return resolveFromDb(link, candidates);
+    }
+
+    // 색인만 조회 (DB 재조회 미사용) : 상위 경로 중 가장 긴 링크, 다른 인스턴스 변경은 색인 반영 전까지 누락
+    private CategoryResolveResponse resolveFromIndex(String link, List<String> candidates) {
+        for (String candidate : candidates.subList(1, candidates.size())) {
+            Long id = linkIndex.get(candidate);
+            if (id != null) return toResponse(id, candidate, link);
+        }
+        throw notFound();
+    }
+
+    // DB 조회 : 후보 링크 중 가장 긴 링크 (색인 사용 시 조회 결과 색인에 추가)
+    private CategoryResolveResponse resolveFromDb(String link, List<String> candidates) {
+        List<CategoryDto> categories = categoryRepository.findAllByLinkKeys(candidates);
+        if (linkIndex.isEnabled()) {
+            linkIndex.putAll(categories);
+        }
+
+        Map<String, Long> idsByLink = new HashMap<>();
+        categories.forEach(category -> idsByLink.put(category.getLink(), category.getId()));
+        for (String candidate : candidates) {
+            Long id = idsByLink.get(candidate);
+            if (id != null) return toResponse(id, candidate, link);
+        }
+        throw notFound();
+    }
+
+    // 요청 링크 + '/' 앞까지 자른 상위 경로 (긴 순서)
+    private static List<String> candidates(String link) {
+        List<String> candidates = new ArrayList<>();
+        candidates.add(link);
+        for (int slash = link.lastIndexOf('/'); slash > 0; slash = link.lastIndexOf('/', slash - 1)) {
+            candidates.add(link.substring(0, slash));
+        }
+        return candidates;
+    }
+
+    private static CategoryResolveResponse toResponse(Long id, String matched, String link) {
+        String remainingPath = matched.length() < link.length() ? link.substring(matched.length()) : null;
+        return new CategoryResolveResponse(id, matched, remainingPath);
+    }
+
+    private static ResourceNotFoundException notFound() {
+        return new ResourceNotFoundException("링크에 해당하는 카테고리를 찾을 수 없습니다.");
+    }
+}
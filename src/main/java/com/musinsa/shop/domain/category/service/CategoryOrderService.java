@@ -0,0 +1,251 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 카테고리 정렬 순서 이동 서비스
+ * - displayOrder 를 간격(Category.DISPLAY_ORDER_GAP)을 둔 정렬 순위로 사용, 트리 정렬 기준(displayOrder, 같은 순위는 path 순)은 그대로
+ * - 같은 상위 카테고리의 기준 카테고리 앞/뒤 이동은 이웃 순위의 중간값으로 본인 행만 변경
+ * - 사이에 들어갈 값이 없으면 하위 카테고리 전체 순위를 재지정한 뒤 이동, 간격이 줄어들면 커밋 후 백그라운드에서 재지정
+ * - 같은 상위 카테고리의 이동/재지정은 상위 카테고리 행 잠금 후 순위를 읽어 직렬화 (읽은 순위로 다른 트랜잭션의 이동을 덮어쓰지 않음)
+ */
+@Slf4j
+@Service
+public class CategoryOrderService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryProperties categoryProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 백그라운드 순위 재지정 : 같은 상위 카테고리는 대기 중이면 다시 요청하지 않음
+    private final ExecutorService rebalanceExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("category-order-rebalance-", 0).daemon(true).factory());
+    private final Set<Long> pendingRebalances = ConcurrentHashMap.newKeySet();
+
+    private final Counter inlineRebalances;
+    private final Counter backgroundRebalances;
+
+    public CategoryOrderService(CategoryRepository categoryRepository,
+                                CategoryProperties categoryProperties,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.categoryRepository = categoryRepository;
+        this.categoryProperties = categoryProperties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inlineRebalances = meterRegistry.counter("category.order.rebalances", "mode", "inline");
+        this.backgroundRebalances = meterRegistry.counter("category.order.rebalances", "mode", "background");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebalanceExecutor.shutdownNow();
+    }
+
+    /**
+     * 카테고리 정렬 순서 이동 : 같은 상위 카테고리의 기준 카테고리 바로 앞(beforeId) / 바로 뒤(afterId)
+     * - 기준 카테고리와 반대쪽 이웃 순위 사이 중간값으로 본인 displayOrder 만 변경 (1행 UPDATE)
+     * - 이웃은 parent_key + display_order 인덱스로 MAX/MIN 1회 조회 (첫 번째 앞은 0, 마지막 뒤는 기준 순위 + 간격까지)
+     * - 같은 순위/연속 순위라 사이에 값이 없으면 하위 카테고리 전체 순위 재지정 (CASE UPDATE + 본인 1행)
+     * - 이동 후 이웃과 남은 간격이 category.order.rebalance-min-gap 미만이면 커밋 후 백그라운드에서 순위 재지정
+     */
+    @Transactional
+    public void moveCategory(Long categoryId, Long beforeId, Long afterId) {
+        if ((beforeId == null) == (afterId == null)) {
+            throw new InvalidRequestException("beforeId, afterId 중 하나만 지정해야 합니다.");
+        }
+        boolean before = beforeId != null;
+        Long anchorId = before ? beforeId : afterId;
+        if (anchorId.equals(categoryId)) {
+            throw new InvalidRequestException("자기 자신을 기준 카테고리로 지정할 수 없습니다.");
+        }
+
+        // 잠금 후 카테고리/기준 카테고리 적재 (잠금 대기 중 커밋된 순위 반영)
+        long parentKey = categoryRepository.findParentKeyById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
+        lockSiblingOrder(parentKey);
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
+        Category anchor = categoryRepository.findById(anchorId)
+                .orElseThrow(() -> new ResourceNotFoundException("기준 카테고리를 찾을 수 없습니다."));
+
+        // parent_key 는 삭제 시 -id 이므로 일치하면 삭제되지 않은 같은 상위 카테고리의 하위 카테고리
+        // (잠금 전 다른 상위 카테고리로 이동한 경우도 불일치)
+        if (category.getParentKey() != parentKey || anchor.getParentKey() != parentKey) {
+            throw new InvalidRequestException("같은 상위 카테고리의 하위 카테고리만 기준으로 지정할 수 있습니다.");
+        }
+
+        int anchorOrder = anchor.getDisplayOrder();
+        List<Long> excludeIds = List.of(categoryId, anchorId);
+
+        long lower;
+        long upper;
+        if (before) {
+            Integer preceding = categoryRepository.findPrecedingDisplayOrder(parentKey, anchorOrder, excludeIds);
+            lower = preceding != null ? preceding : 0;
+            upper = anchorOrder;
+        } else {
+            Integer following = categoryRepository.findFollowingDisplayOrder(parentKey, anchorOrder, excludeIds);
+            lower = anchorOrder;
+            upper = following != null ? following : Category.displayOrderAfter(anchorOrder);
+        }
+
+        if (upper - lower >= 2) {
+            int displayOrder = (int) (lower + (upper - lower) / 2);
+            category.changeDisplayOrder(displayOrder);
+            if (Math.min(displayOrder - lower, upper - displayOrder) < categoryProperties.getOrder().getRebalanceMinGap()) {
+                rebalanceAfterCommit(parentKey);
+            }
+            eventPublisher.publishEvent(CategoryChangedEvent.of(categoryId, category.getPath()));
+        } else {
+            rebalanceAndMove(category, anchorId, before);
+        }
+    }
+
+    // 하위 카테고리 전체 순위 재지정 + 이동 : 이동 카테고리는 본인 행, 나머지는 값이 바뀌는 카테고리만 CASE UPDATE (moveCategory 의 잠금 안에서 실행)
+    private void rebalanceAndMove(Category category, Long anchorId, boolean before) {
+        List<CategoryDto> children = new ArrayList<>(categoryRepository.findChildrenInDisplayOrder(category.getParentKey()));
+        CategoryDto self = children.stream()
+                .filter(child -> child.getId().equals(category.getId()))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
+        children.remove(self);
+
+        int anchorIndex = indexOf(children, anchorId);
+        children.add(before ? anchorIndex : anchorIndex + 1, self);
+
+        Map<Long, Integer> displayOrders = changedDisplayOrders(children);
+        Integer displayOrder = displayOrders.remove(category.getId());
+        if (displayOrder != null) {
+            category.changeDisplayOrder(displayOrder);
+        }
+        if (!displayOrders.isEmpty()) {
+            categoryRepository.bulkUpdateDisplayOrder(toParentId(category.getParentKey()), displayOrders);
+        }
+        inlineRebalances.increment();
+
+        eventPublisher.publishEvent(changedEvent(children));
+    }
+
+    private static int indexOf(List<CategoryDto> children, Long id) {
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i).getId().equals(id)) return i;
+        }
+        throw new ResourceNotFoundException("기준 카테고리를 찾을 수 없습니다.");
+    }
+
+    // 커밋 후 백그라운드 순위 재지정 요청 (롤백 시 요청하지 않음, 트랜잭션 밖에서는 즉시 요청)
+    private void rebalanceAfterCommit(long parentKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebalanceInBackground(parentKey);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebalanceInBackground(parentKey);
+            }
+        });
+    }
+
+    private void rebalanceInBackground(long parentKey) {
+        if (!pendingRebalances.add(parentKey)) return;
+
+        try {
+            rebalanceExecutor.execute(() -> {
+                pendingRebalances.remove(parentKey);
+                try {
+                    rebalance(toParentId(parentKey));
+                    backgroundRebalances.increment();
+                } catch (RuntimeException e) {
+                    log.warn("카테고리 정렬 순위 백그라운드 재지정 실패 (parentKey={}): {}", parentKey, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingRebalances.remove(parentKey);
+        }
+    }
+
+    /**
+     * 하위 카테고리 정렬 순위 재지정 (parentId null : 최상위 카테고리)
+     * - 현재 순서(displayOrder, 같은 순위는 path 순) 그대로 간격 순위 부여, 값이 바뀌는 카테고리만 CASE UPDATE
+     * - 상위 카테고리 행 잠금 후 하위 카테고리 조회 (진행 중인 순서 이동 커밋 후 순위로 재지정)
+     * - 변경한 카테고리 수 반환
+     */
+    public int rebalance(Long parentId) {
+        Long parentKey = parentId != null ? parentId : Category.ROOT_PARENT_KEY;
+        Integer changed = transactionTemplate.execute(status -> {
+            lockSiblingOrder(parentKey);
+            List<CategoryDto> children = categoryRepository.findChildrenInDisplayOrder(parentKey);
+            Map<Long, Integer> displayOrders = changedDisplayOrders(children);
+            if (displayOrders.isEmpty()) return 0;
+
+            categoryRepository.bulkUpdateDisplayOrder(parentId, displayOrders);
+            eventPublisher.publishEvent(changedEvent(children));
+            return displayOrders.size();
+        });
+        return changed != null ? changed : 0;
+    }
+
+    // 하위 카테고리 정렬 순위 변경 잠금 : 상위 카테고리 행 (최상위는 최상위 카테고리 행 전체, 상위 카테고리가 삭제된 경우 잠금 없음)
+    private void lockSiblingOrder(long parentKey) {
+        if (parentKey == Category.ROOT_PARENT_KEY) {
+            categoryRepository.findRootsForUpdate();
+        } else if (parentKey > 0) {
+            categoryRepository.findByIdForUpdate(parentKey);
+        }
+    }
+
+    // 순서대로 나열한 하위 카테고리의 간격 순위 중 현재 값과 다른 항목
+    private static Map<Long, Integer> changedDisplayOrders(List<CategoryDto> children) {
+        Map<Long, Integer> displayOrders = new LinkedHashMap<>();
+        for (int i = 0; i < children.size(); i++) {
+            int displayOrder = Category.displayOrderAt(i);
+            if (children.get(i).getDisplayOrder() != displayOrder) {
+                displayOrders.put(children.get(i).getId(), displayOrder);
+            }
+        }
+        return displayOrders;
+    }
+
+    // 순위가 바뀐 하위 카테고리 path : 상위 카테고리 하위 트리와 각 하위 카테고리 하위 트리 캐시 무효화
+    private static CategoryChangedEvent changedEvent(List<CategoryDto> children) {
+        return CategoryChangedEvent.of(
+                children.stream().map(CategoryDto::getId).toList(),
+                children.stream().map(CategoryDto::getPath).toList());
+    }
+
+    private static Long toParentId(long parentKey) {
+        return parentKey != Category.ROOT_PARENT_KEY ? parentKey : null;
+    }
+}
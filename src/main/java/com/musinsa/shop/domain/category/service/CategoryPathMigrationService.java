@@ -0,0 +1,97 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryPathMigrationResponse;
+import com.musinsa.shop.domain.category.entity.CategoryPathMigration;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 하위 카테고리 path 비동기 변경 서비스
+ * - 등록된 작업을 주기적으로 조회하여 chunk 단위 트랜잭션으로 하위 카테고리 path 변경
+ * - chunk 마다 작업 행을 잠금 조회하므로 여러 인스턴스가 동시에 실행해도 같은 chunk 를 중복 처리하지 않음
+ * - 처리 중 오류 발생 시 다음 주기에 남은 하위 카테고리부터 재시도
+ * - path 를 변경한 chunk 는 트리 버전 증가 (다른 인스턴스의 보관 트리 재검증)
+ */
+@Slf4j
+@Service
+public class CategoryPathMigrationService {
+
+    private final CategoryPathMigrationRepository pathMigrationRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryTreeVersionService treeVersionService;
+    private final CategoryProperties categoryProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public CategoryPathMigrationService(CategoryPathMigrationRepository pathMigrationRepository,
+                                        CategoryRepository categoryRepository,
+                                        CategoryTreeVersionService treeVersionService,
+                                        CategoryProperties categoryProperties,
+                                        PlatformTransactionManager transactionManager) {
+        this.pathMigrationRepository = pathMigrationRepository;
+        this.categoryRepository = categoryRepository;
+        this.treeVersionService = treeVersionService;
+        this.categoryProperties = categoryProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 카테고리의 최근 경로 변경 작업 조회
+     */
+    @Transactional(readOnly = true)
+    public CategoryPathMigrationResponse getLatestMigration(Long categoryId) {
+        return pathMigrationRepository.findTopByCategoryIdOrderByIdDesc(categoryId)
+                .map(CategoryPathMigrationResponse::of)
+                .orElseThrow(() -> new ResourceNotFoundException("경로 변경 작업을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 진행 중인 작업 처리 (작업별로 남은 하위 카테고리가 없을 때까지 chunk 반복)
+     */
+    @Scheduled(fixedDelayString = "${category.path-migration.poll-interval:1000}")
+    public void processPendingMigrations() {
+        List<CategoryPathMigration> migrations =
+                pathMigrationRepository.findAllByStatusInOrderByIdAsc(PathMigrationStatus.ACTIVE);
+
+        for (CategoryPathMigration migration : migrations) {
+            try {
+                boolean hasNextChunk = true;
+                while (hasNextChunk) {
+                    hasNextChunk = Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(migration.getId())));
+                }
+            } catch (RuntimeException e) {
+                log.warn("하위 카테고리 경로 변경 실패 (작업 ID: {}): {}", migration.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    // chunk 1회 처리 후 남은 chunk 존재 여부 반환
+    private boolean processChunk(Long migrationId) {
+        CategoryPathMigration migration = pathMigrationRepository.findByIdForUpdate(migrationId)
+                .orElse(null);
+        if (migration == null || migration.isCompleted()) return false;
+
+        int chunkSize = categoryProperties.getPathMigration().getChunkSize();
+        List<Long> ids = categoryRepository.findDescendantIds(
+                migration.getCategoryId(), migration.getOldPath(), PageRequest.of(0, chunkSize));
+
+        // 작업 진행 상태 먼저 반영 (path 변경 UPDATE 전 flush)
+        migration.progress(ids.size(), chunkSize);
+        if (!ids.isEmpty()) {
+            categoryRepository.bulkUpdatePathByIds(ids, migration.getOldPath(), migration.getNewPath());
+            treeVersionService.increment();
+        }
+        return ids.size() == chunkSize;
+    }
+}
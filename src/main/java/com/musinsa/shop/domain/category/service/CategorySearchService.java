@@ -0,0 +1,42 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.domain.category.dto.CategorySearchResponse;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 카테고리 이름 자동완성 서비스
+ * - DB 조회(LIKE 전체 스캔) 없이 메모리 색인(CategoryTitleSearchIndex)에서 접두어 범위만 조회
+ * - 공백/대소문자 무시, 입력 중인 한글 음절 및 초성 검색 지원
+ */
+@Service
+@RequiredArgsConstructor
+public class CategorySearchService {
+
+    private final CategoryTitleSearchIndex titleSearchIndex;
+    private final CategoryProperties categoryProperties;
+
+    public List<CategorySearchResponse> search(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        return titleSearchIndex.search(prefix, searchLimit(limit));
+    }
+
+    // 조회 건수 : 미지정 시 기본 건수, 최대 건수 초과 시 최대 건수
+    private int searchLimit(Integer requested) {
+        CategoryProperties.Search search = categoryProperties.getSearch();
+        if (requested == null) {
+            return search.getDefaultLimit();
+        }
+        if (requested < 1) {
+            throw new InvalidRequestException("조회 건수는 1 이상이어야 합니다.");
+        }
+        return Math.min(requested, search.getMaxLimit());
+    }
+}
@@ -5,60 +5,112 @@ import com.musinsa.shop.common.exception.InvalidRequestException;
 import com.musinsa.shop.common.exception.ResourceNotFoundException;
 import com.musinsa.shop.domain.category.dto.*;
 import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.entity.CategoryPathMigration;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
 import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.repository.CategoryTreeJdbcRepository;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.BooleanSupplier;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeJdbcRepository treeJdbcRepository;
+    private final CategoryPathMigrationRepository pathMigrationRepository;
+    private final CategoryTitleIndex titleIndex;
+    private final CategoryTreeAssembler treeAssembler;
+    private final CategoryVisibilityUpdater visibilityUpdater;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리 등록
      */
     @Transactional
     public CategoryResponse createCategory(CategoryRequest categoryRequest) {
+        validateDuplicateLink(categoryRequest.getLink(), null);
         validateDuplicateTitle(categoryRequest.getParentId(), categoryRequest.getTitle());
 
         Category parent = getParentOrNull(categoryRequest.getParentId());
 
         Category category = Category.create(
                 categoryRequest.getTitle(),
-                resolveDisplayOrder(categoryRequest.getDisplayOrder()),
+                resolveDisplayOrder(categoryRequest.getParentId(), categoryRequest.getDisplayOrder()),
                 categoryRequest.getLink(),
                 resolveActive(categoryRequest.getActive()),
                 parent
         );
 
-        // 카테고리 저장 후 path 세팅
-        category = categoryRepository.save(category);
+        // 카테고리 저장 후 path 세팅 (다른 인스턴스와 동시 등록 시 유니크 제약 위반은 중복 처리)
+        try {
+            category = categoryRepository.save(category);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("이미 존재하는 카테고리명 또는 링크입니다.");
+        }
         category.updatePath();
 
+        eventPublisher.publishEvent(CategoryChangedEvent.of(category.getId(), category.getPath()));
         return CategoryResponse.of(category);
     }
 
     // 이름 중복 유효성 체크: 등록 (동일 상위 카테고리 내 이름 동일 시 중복)
     private void validateDuplicateTitle(Long parentId, String title) {
-        boolean exists = categoryRepository.existsByParentIdAndTitle(parentId, title);
-        if (exists) {
+        boolean claimed = claimTitle(parentId, title, () -> categoryRepository.existsByParentIdAndTitle(parentId, title));
+        if (!claimed) {
             throw new DuplicateResourceException("이미 존재하는 카테고리명입니다.");
         }
     }
 
     // 이름 중복 유효성 체크: 수정 (동일 상위 카테고리 내 본인 제외 이름 동일 시 중복)
     private void validateDuplicateTitle(Long parentId, String title, Long selfId) {
-        boolean exists = categoryRepository.existsByParentIdAndTitleAndIdNot(parentId, title, selfId);
-        if (exists) {
+        boolean claimed = claimTitle(parentId, title,
+                () -> categoryRepository.existsByParentIdAndTitleAndIdNot(parentId, title, selfId));
+        if (!claimed) {
             throw new DuplicateResourceException("동일 상위 카테고리 내 이미 존재하는 카테고리명입니다.");
         }
     }
 
+    // 링크 중복 유효성 체크 : 삭제되지 않은 카테고리 중 본인 제외 같은 링크 존재 시 중복 (빈 링크 제외, link_key 유니크 인덱스 조회)
+    private void validateDuplicateLink(String link, Long selfId) {
+        String linkKey = Category.linkKeyOf(link);
+        if (linkKey == null) return;
+
+        boolean exists = (selfId == null)
+                ? categoryRepository.existsByLinkKey(linkKey)
+                : categoryRepository.existsByLinkKeyAndIdNot(linkKey, selfId);
+        if (exists) {
+            throw new DuplicateResourceException("이미 사용 중인 링크입니다.");
+        }
+    }
+
+    // 이름 선점 : 이름 색인 사용 시 해시 조회로 선점, 미사용 시 DB 조회
+    // - 색인에 이미 있으면 다른 트랜잭션 선점 여부 / DB 존재 여부 확인 (다른 인스턴스 변경으로 남은 항목은 제거 후 재선점)
+    private boolean claimTitle(Long parentId, String title, BooleanSupplier existsInDb) {
+        if (!titleIndex.isEnabled()) {
+            return !existsInDb.getAsBoolean();
+        }
+        if (titleIndex.claim(parentId, title)) {
+            return true;
+        }
+        if (titleIndex.isClaimed(parentId, title) || existsInDb.getAsBoolean()) {
+            return false;
+        }
+
+        titleIndex.evict(parentId, title);
+        return titleIndex.claim(parentId, title);
+    }
+
     // parentId가 존재할 경우 상위 카테고리 조회, 없으면 null 반환
     private Category getParentOrNull(Long parentId) {
         return Optional.ofNullable(parentId)
@@ -68,9 +120,12 @@ public class CategoryService {
                 .orElse(null);
     }
 
-    // displayOrder 값이 null인 경우 기본값(9999) 처리
-    private int resolveDisplayOrder(Integer displayOrder) {
-        return Optional.ofNullable(displayOrder).orElse(9999);
+    // displayOrder 값이 null인 경우 같은 상위 카테고리의 마지막 순위 다음 순위 (간격 순위 유지)
+    private int resolveDisplayOrder(Long parentId, Integer displayOrder) {
+        if (displayOrder != null) return displayOrder;
+
+        Long parentKey = parentId != null ? parentId : Category.ROOT_PARENT_KEY;
+        return Category.displayOrderAfter(categoryRepository.findMaxDisplayOrder(parentKey));
     }
 
     // active 값이 null인 경우 기본값(true) 처리
@@ -83,35 +138,64 @@ public class CategoryService {
      * 카테고리 수정
      * - 필드 값 수정
      * - 부모 카테고리 변경 시 유효성 체크 및 path, 하위 path 변경
+     * - 부모/활성 여부 변경 시 하위 카테고리 유효 노출 여부 일괄 변경
      */
     @Transactional
     public CategoryResponse updateCategory(Long categoryId, @Valid CategoryUpdateRequest updateRequest) {
+        return updateCategory(categoryId, updateRequest, false);
+    }
+
+    /**
+     * 카테고리 수정
+     * - asyncPathUpdate true : 부모 카테고리 변경 시 본인 path 만 즉시 변경, 하위 path 는 백그라운드 chunk 변경 작업으로 등록
+     */
+    @Transactional
+    public CategoryResponse updateCategory(Long categoryId, @Valid CategoryUpdateRequest updateRequest,
+                                           boolean asyncPathUpdate) {
         Category category = getCategory(categoryId);
         String oldPath = category.getPath();
+        String oldTitle = category.getTitle();
+        boolean oldActive = category.getActive();
         Long oldParentId = category.getParent() != null ? category.getParent().getId() : null;
         Long parentId = updateRequest.getParentId();
+        String title = Optional.ofNullable(updateRequest.getTitle()).orElse(oldTitle);
 
         boolean parentChanged = isParentChanged(oldParentId, parentId);
 
         Category newParent = null;
         if (parentChanged) {
             newParent = getValidatedParent(parentId, categoryId);
+            validateNotMigrating(oldPath, newParent);
         }
 
-        // title 중복 검사 (부모 카테고리 기준) : 부모 카테고리 변경 or 타이틀 변경 시
-        if (parentChanged || !category.getTitle().equals(updateRequest.getTitle())) {
+        // link 중복 검사 : 링크 변경 시
+        if (updateRequest.getLink() != null && !updateRequest.getLink().equals(category.getLink())) {
+            validateDuplicateLink(updateRequest.getLink(), categoryId);
+        }
+
+        // title 중복 검사 (부모 카테고리 기준) : 부모 카테고리 변경 or 타이틀 변경 시, 이전 이름은 커밋 후 색인에서 제거
+        if (parentChanged || !oldTitle.equals(title)) {
             Long validateParentId = parentChanged ? parentId : oldParentId;
-            validateDuplicateTitle(validateParentId, updateRequest.getTitle(), categoryId);
+            validateDuplicateTitle(validateParentId, title, categoryId);
+            titleIndex.removeAfterCommit(oldParentId, oldTitle);
         }
 
         // 카테고리 데이터 변경
         category.updateFieldAndParent(updateRequest, newParent, parentChanged);
 
-        // 부모 카테고리 변경 시 하위 카테고리 path 일괄 변경
-        if (parentChanged) {
+        // 부모 카테고리 변경 시 하위 카테고리 path 일괄 변경 (비동기 모드: 변경 작업 등록)
+        if (parentChanged && asyncPathUpdate) {
+            startPathMigration(categoryId, oldPath, category.getPath());
+        } else if (parentChanged) {
             updateBulkSubPath(categoryId, oldPath, category.getPath());
         }
 
+        // 부모 또는 활성 여부 변경 시 하위 카테고리까지 유효 노출 여부 재계산
+        if (parentChanged || oldActive != category.getActive()) {
+            visibilityUpdater.refresh(category.getPath(), category.getParent());
+        }
+
+        eventPublisher.publishEvent(CategoryChangedEvent.of(categoryId, oldPath, category.getPath()));
         return CategoryResponse.of(category);
     }
 
@@ -155,6 +239,55 @@ public class CategoryService {
         categoryRepository.bulkUpdatePath(categoryId, oldPath, newPath);
     }
 
+    // 하위 카테고리 path 비동기 변경 작업 등록
+    private void startPathMigration(Long categoryId, String oldPath, String newPath) {
+        long totalCount = categoryRepository.countDescendants(categoryId, oldPath);
+        pathMigrationRepository.save(CategoryPathMigration.create(categoryId, oldPath, newPath, totalCount));
+    }
+
+    // 하위 path 변경이 진행 중인 하위 트리와 겹치는 이동 불가 (이동 대상 또는 새 부모 기준)
+    // 경로 변경 잠금 후 검사 : 겹치는 이동/작업 등록은 잠금 대기 후 먼저 커밋된 작업 기준으로 검사
+    private void validateNotMigrating(String path, Category newParent) {
+        categoryRepository.lockPathTrees(Arrays.asList(path, newParent != null ? newParent.getPath() : null));
+        PendingPathMigrations pending = new PendingPathMigrations(
+                pathMigrationRepository.findAllByStatusInForShare(PathMigrationStatus.ACTIVE));
+        if (pending.overlaps(path) || (newParent != null && pending.overlaps(newParent.getPath()))) {
+            throw new InvalidRequestException("하위 카테고리 경로 변경이 진행 중인 카테고리입니다.");
+        }
+    }
+
+    private PendingPathMigrations findPendingPathMigrations() {
+        return new PendingPathMigrations(pathMigrationRepository.findAllByStatusInOrderByIdAsc(PathMigrationStatus.ACTIVE));
+    }
+
+    /**
+     * 하위 카테고리 정렬 순서 일괄 변경
+     * - 정렬 순서대로 나열한 하위 카테고리 전체 목록으로 displayOrder 재지정 (간격 순위 : 1024, 2048, ...)
+     * - 이름/부모 검증 없이 단일 CASE UPDATE 로 처리 (하위 카테고리 수와 무관하게 1회, 하위 카테고리마다 UPDATE 하지 않음)
+     */
+    @Transactional
+    public void reorderCategories(Long parentId, List<Long> childIds) {
+        Category parent = getCategory(parentId);
+
+        Map<Long, Integer> displayOrders = new LinkedHashMap<>();
+        for (Long childId : childIds) {
+            if (displayOrders.putIfAbsent(childId, Category.displayOrderAt(displayOrders.size())) != null) {
+                throw new InvalidRequestException("중복된 하위 카테고리 ID가 포함되어 있습니다.");
+            }
+        }
+
+        if (categoryRepository.countByParentIdAndDeletedFalse(parentId) != childIds.size()) {
+            throw new InvalidRequestException("하위 카테고리 전체 목록으로 요청해야 합니다.");
+        }
+
+        long updated = categoryRepository.bulkUpdateDisplayOrder(parentId, displayOrders);
+        if (updated != childIds.size()) {
+            throw new InvalidRequestException("상위 카테고리에 속하지 않은 카테고리가 포함되어 있습니다.");
+        }
+
+        eventPublisher.publishEvent(CategoryChangedEvent.of(parentId, parent.getPath()));
+    }
+
     /**
      * 카테고리 삭제
      * - 하위 카테고리가 없는 경우 삭제 가능
@@ -169,67 +302,144 @@ public class CategoryService {
             throw new InvalidRequestException("하위 카테고리가 존재하여 삭제할 수 없습니다.");
         }
 
+        Long parentId = category.getParent() != null ? category.getParent().getId() : null;
         category.softDelete();
+        titleIndex.removeAfterCommit(parentId, category.getTitle());
+        eventPublisher.publishEvent(CategoryChangedEvent.of(id, category.getPath()));
     }
 
     /**
      * 카테고리 전체 조회(트리 구조)
      * - parentId null : 전체 조회
-     * - parentId O : 해당 카테고리 부터 하위 조회
+     * - parentId O : 해당 카테고리 부터 하위 조회 (하위 path 변경 진행 중이면 이전/신규 path 모두 조회)
      */
     @Transactional(readOnly = true)
     public List<CategoryTreeResponse> getCategories(Long parentId) {
+        return getCategories(parentId, CategoryTreeFields.ALL);
+    }
+
+    /**
+     * 카테고리 전체 조회(트리 구조) - 선택한 응답 필드 컬럼만 조회 (선택하지 않은 필드는 기본값)
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryTreeResponse> getCategories(Long parentId, CategoryTreeFields fields) {
         List<CategoryDto> categories;
 
         if (parentId == null) {
-            categories = categoryRepository.findAllTree();
+            categories = categoryRepository.findAllTree(fields);
         } else {
             String path = getCategory(parentId).getPath();
-            categories = categoryRepository.findTreeByPath(path);
+            PendingPathMigrations pending = findPendingPathMigrations();
+            categories = pending.isEmpty()
+                    ? categoryRepository.findTreeByPath(path, fields)
+                    : categoryRepository.findTreeByPaths(pending.prefixesOf(pending.resolve(path)), fields);
         }
 
-        List<CategoryTreeResponse> tree = buildCategoryTree(categories);
-        sortTree(tree);
-        return tree;
+        return toCategoryTree(categories);
     }
 
-    // 카테고리 트리구조 변환
-    private List<CategoryTreeResponse> buildCategoryTree(List<CategoryDto> categories) {
-        Map<Long, CategoryTreeResponse> map = new HashMap<>();
-        List<CategoryTreeResponse> tree = new ArrayList<>();
-
-        for (CategoryDto category : categories) {
-            Long categoryId = category.getId();
-            Long parentId = category.getParentId();
-            CategoryTreeResponse node = CategoryTreeResponse.of(category);
-            map.put(categoryId, node);
-
-            if (parentId == null || !map.containsKey(parentId)) {
-                tree.add(node);
-            } else {
-                CategoryTreeResponse parent = map.get(parentId);
-                if (parent != null) {
-                    parent.getChildren().add(node);
-                }
-            }
+    /**
+     * 카테고리 전체 조회(트리 구조) - 트랜잭션 밖 조회 전용 (JDBC 행 처리로 트리 노드 바로 생성)
+     * - 조회 조건/결과는 getCategories 와 동일, 영속성 컨텍스트를 거치지 않음
+     * - flush 전 변경이 보이지 않으므로 쓰기 트랜잭션 안에서는 getCategories 사용
+     */
+    public List<CategoryTreeResponse> readCategories(Long parentId) {
+        return readCategories(parentId, CategoryTreeFields.ALL);
+    }
 
+    /**
+     * 카테고리 전체 조회(트리 구조) - 트랜잭션 밖 조회 전용, 선택한 응답 필드 컬럼만 조회
+     */
+    public List<CategoryTreeResponse> readCategories(Long parentId, CategoryTreeFields fields) {
+        List<CategoryTreeResponse> tree;
+
+        if (parentId == null) {
+            tree = treeJdbcRepository.findAllTree(fields);
+        } else {
+            String path = treeJdbcRepository.findPath(parentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
+            PendingPathMigrations pending = findPendingPathMigrations();
+            tree = pending.isEmpty()
+                    ? treeJdbcRepository.findTreeByPath(path, fields)
+                    : treeJdbcRepository.findTreeByPaths(pending.prefixesOf(pending.resolve(path)), fields);
         }
+
+        treeAssembler.sort(tree);
         return tree;
     }
 
-    // 카테고리 정렬
-    private void sortTree(List<CategoryTreeResponse> tree) {
-        tree.sort(Comparator.comparingInt(CategoryTreeResponse::getDisplayOrder));
-        for (CategoryTreeResponse node : tree) {
-            sortChildrenByDisplayOrder(node);
+    /**
+     * 여러 카테고리 하위 트리 조회 (카테고리 ID → 해당 카테고리 부터 하위 트리)
+     * - 요청 카테고리 path 1회 조회 후 다른 요청 카테고리 하위에 포함된 path 는 제외하고 하위 트리 1회 조회, 트리 구성 1회
+     * - 다른 요청 카테고리 하위에 포함된 카테고리는 구성된 트리의 노드를 그대로 사용
+     * - 노출되지 않는 카테고리(삭제/비활성 또는 그 하위)는 빈 목록 (parentId 단건 조회와 동일)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<CategoryTreeResponse>> getSubtrees(Collection<Long> parentIds) {
+        Map<Long, String> paths = new HashMap<>();
+        categoryRepository.findAllById(parentIds).forEach(category -> paths.put(category.getId(), category.getPath()));
+
+        List<CategoryTreeResponse> tree = toCategoryTree(categoryRepository.findTreeByPaths(subtreePrefixes(parentIds, paths)));
+        return splitSubtrees(parentIds, tree);
+    }
+
+    /**
+     * 여러 카테고리 하위 트리 조회 - 트랜잭션 밖 조회 전용 (JDBC 행 처리로 트리 노드 바로 생성)
+     * - 조회 조건/결과는 getSubtrees 와 동일
+     */
+    public Map<Long, List<CategoryTreeResponse>> readSubtrees(Collection<Long> parentIds) {
+        Map<Long, String> paths = treeJdbcRepository.findPaths(parentIds);
+
+        List<CategoryTreeResponse> tree = treeJdbcRepository.findTreeByPaths(subtreePrefixes(parentIds, paths));
+        treeAssembler.sort(tree);
+        return splitSubtrees(parentIds, tree);
+    }
+
+    // 하위 트리 조회용 path prefix 목록 : 현재 path 기준으로 다른 요청 path 하위에 포함된 path 제외
+    // (하위 path 변경 진행 중이면 아직 변경되지 않은 이전 path 포함)
+    private List<String> subtreePrefixes(Collection<Long> parentIds, Map<Long, String> paths) {
+        if (!paths.keySet().containsAll(parentIds)) {
+            throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다.");
+        }
+
+        PendingPathMigrations pending = findPendingPathMigrations();
+        List<String> resolved = paths.values().stream()
+                .filter(Objects::nonNull)
+                .map(pending::resolve)
+                .sorted()
+                .toList();
+
+        List<String> prefixes = new ArrayList<>();
+        String covering = null;
+        for (String path : resolved) {
+            if (covering != null && path.startsWith(covering)) continue;
+
+            covering = path;
+            prefixes.addAll(pending.prefixesOf(path));
         }
+        return prefixes;
     }
 
-    // 하위 함수 정렬
-    private void sortChildrenByDisplayOrder(CategoryTreeResponse node) {
-        node.getChildren().sort(Comparator.comparingInt(CategoryTreeResponse::getDisplayOrder));
-        for (CategoryTreeResponse child : node.getChildren()) {
-            sortChildrenByDisplayOrder(child);
+    // 구성된 트리에서 요청 카테고리별 하위 트리 분리 (요청 순서 유지, 트리에 없는 카테고리는 빈 목록)
+    private Map<Long, List<CategoryTreeResponse>> splitSubtrees(Collection<Long> parentIds, List<CategoryTreeResponse> tree) {
+        Map<Long, CategoryTreeResponse> nodes = new HashMap<>();
+        Deque<CategoryTreeResponse> pending = new ArrayDeque<>(tree);
+        while (!pending.isEmpty()) {
+            CategoryTreeResponse node = pending.pop();
+            nodes.put(node.getId(), node);
+            pending.addAll(node.getChildren());
+        }
+
+        Map<Long, List<CategoryTreeResponse>> subtrees = new LinkedHashMap<>();
+        for (Long parentId : parentIds) {
+            CategoryTreeResponse node = nodes.get(parentId);
+            subtrees.put(parentId, node != null ? List.of(node) : List.of());
         }
+        return subtrees;
+    }
+
+    // 평면 목록 → displayOrder 순 트리 (워밍업에서 같은 코드 경로 실행)
+    List<CategoryTreeResponse> toCategoryTree(List<CategoryDto> categories) {
+        return treeAssembler.assemble(categories);
     }
 }
@@ -0,0 +1,188 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * 카테고리 트리 구성 (평면 목록 → displayOrder 순 트리)
+ * - 노드 수가 threshold 미만이거나 병렬 스레드가 1개면 순차 구성
+ * - threshold 이상이면 최상위 카테고리(path 첫 구간)별로 나눠 ForkJoinPool 에서 하위 트리 구성 후 병합, 최상위 카테고리별 정렬도 병렬 수행
+ * - 하위 path 비동기 변경 중 이전 path 로 다른 구간에 들어간 카테고리는 병합 단계에서 상위 카테고리에 연결
+ */
+@Component
+public class CategoryTreeAssembler {
+
+    private static final Comparator<CategoryTreeResponse> BY_DISPLAY_ORDER =
+            Comparator.comparingInt(CategoryTreeResponse::getDisplayOrder);
+
+    private final CategoryProperties.ParallelAssembly config;
+    private final ForkJoinPool pool;
+
+    public CategoryTreeAssembler(CategoryProperties categoryProperties) {
+        this.config = categoryProperties.getTree().getParallelAssembly();
+        int parallelism = config.getParallelism() > 0 ? config.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("category-tree-assembly-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 평면 목록(path 순) → displayOrder 순 트리
+     */
+    public List<CategoryTreeResponse> assemble(List<CategoryDto> categories) {
+        List<List<CategoryDto>> partitions = isParallel(categories.size()) ? partitionByRoot(categories) : List.of();
+        if (partitions.size() < 2) {
+            List<CategoryTreeResponse> tree = Partition.build(categories).roots();
+            sortRoots(tree, false);
+            return tree;
+        }
+
+        List<Partition> built = joinAll(partitions.stream()
+                .map(rows -> pool.submit(() -> Partition.build(rows)))
+                .toList());
+        List<CategoryTreeResponse> tree = stitch(built);
+        sortRoots(tree, true);
+        return tree;
+    }
+
+    /**
+     * 구성된 트리 displayOrder 정렬 (노드 수가 threshold 이상이면 최상위 카테고리별 병렬 정렬)
+     */
+    public void sort(List<CategoryTreeResponse> tree) {
+        sortRoots(tree, tree.size() > 1 && isParallelEnabled() && countNodes(tree) >= config.getThreshold());
+    }
+
+    private boolean isParallel(int size) {
+        return isParallelEnabled() && size >= config.getThreshold();
+    }
+
+    private boolean isParallelEnabled() {
+        return config.isEnabled() && pool.getParallelism() > 1;
+    }
+
+    // path 첫 구간(최상위 카테고리)별 분할 : path 순 목록이라 같은 구간이 연속되므로 구간 경계에서 잘라 부분 목록으로 사용
+    // (순서가 섞여 같은 구간이 여러 번 나와도 병합 단계에서 상위 카테고리에 연결되므로 결과 동일)
+    private static List<List<CategoryDto>> partitionByRoot(List<CategoryDto> categories) {
+        List<List<CategoryDto>> partitions = new ArrayList<>();
+        int from = 0;
+        String segment = null;
+        for (int i = 0; i < categories.size(); i++) {
+            String path = categories.get(i).getPath();
+            if (segment != null && path != null && path.startsWith(segment)) {
+                continue;
+            }
+            if (i > from) {
+                partitions.add(categories.subList(from, i));
+            }
+            from = i;
+            segment = rootSegment(path);
+        }
+        if (categories.size() > from) {
+            partitions.add(categories.subList(from, categories.size()));
+        }
+        return partitions;
+    }
+
+    private static String rootSegment(String path) {
+        if (path == null) return null;
+        int end = path.indexOf('/', 1);
+        return end < 0 ? path : path.substring(0, end + 1);
+    }
+
+    // 구간별 트리 병합 : 상위 카테고리가 다른 구간에 있는 최상위 노드는 해당 상위 카테고리에 연결
+    private static List<CategoryTreeResponse> stitch(List<Partition> partitions) {
+        List<CategoryTreeResponse> tree = new ArrayList<>();
+        for (Partition partition : partitions) {
+            for (CategoryTreeResponse root : partition.roots()) {
+                CategoryTreeResponse parent = root.getParentId() != null ? findNode(partitions, root.getParentId()) : null;
+                if (parent == null) {
+                    tree.add(root);
+                } else {
+                    parent.getChildren().add(root);
+                }
+            }
+        }
+        return tree;
+    }
+
+    private static CategoryTreeResponse findNode(List<Partition> partitions, Long id) {
+        for (Partition partition : partitions) {
+            CategoryTreeResponse node = partition.nodes().get(id);
+            if (node != null) return node;
+        }
+        return null;
+    }
+
+    // 최상위 카테고리별 하위 정렬 (parallel : 최상위 카테고리마다 ForkJoinPool 작업) 후 최상위 목록 정렬
+    private void sortRoots(List<CategoryTreeResponse> tree, boolean parallel) {
+        if (parallel) {
+            joinAll(tree.stream()
+                    .map(root -> pool.submit(() -> sortChildren(root)))
+                    .toList());
+        } else {
+            tree.forEach(CategoryTreeAssembler::sortChildren);
+        }
+        tree.sort(BY_DISPLAY_ORDER);
+    }
+
+    private static void sortChildren(CategoryTreeResponse node) {
+        node.getChildren().sort(BY_DISPLAY_ORDER);
+        for (CategoryTreeResponse child : node.getChildren()) {
+            sortChildren(child);
+        }
+    }
+
+    private static int countNodes(List<CategoryTreeResponse> tree) {
+        int count = tree.size();
+        for (CategoryTreeResponse node : tree) {
+            count += countNodes(node.getChildren());
+        }
+        return count;
+    }
+
+    private static <T> List<T> joinAll(List<? extends ForkJoinTask<T>> tasks) {
+        return tasks.stream().map(ForkJoinTask::join).toList();
+    }
+
+    // 구간 트리 : 최상위 노드 목록 + ID 별 노드 (병합 시 다른 구간 상위 카테고리 조회)
+    private record Partition(List<CategoryTreeResponse> roots, Map<Long, CategoryTreeResponse> nodes) {
+
+        // 노드 생성 후 연결 : path 정렬 순서와 무관하게 parentId 기준 구성
+        static Partition build(List<CategoryDto> categories) {
+            Map<Long, CategoryTreeResponse> nodes = new HashMap<>();
+            List<CategoryTreeResponse> roots = new ArrayList<>();
+
+            for (CategoryDto category : categories) {
+                nodes.put(category.getId(), CategoryTreeResponse.of(category));
+            }
+
+            for (CategoryDto category : categories) {
+                CategoryTreeResponse node = nodes.get(category.getId());
+                CategoryTreeResponse parent = category.getParentId() != null ? nodes.get(category.getParentId()) : null;
+
+                if (parent == null) {
+                    roots.add(node);
+                } else {
+                    parent.getChildren().add(node);
+                }
+            }
+            return new Partition(roots, nodes);
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.dto.CategoryTreeStamp;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import com.musinsa.shop.domain.category.store.CategoryTreeSnapshot;
+import com.musinsa.shop.domain.category.store.ColumnarCategoryTree;
+import com.musinsa.shop.domain.category.store.CompactCategoryTree;
+import com.musinsa.shop.domain.category.store.MappedCategoryTree;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리 조회 서비스
+ * - 컬럼형 저장소 사용 설정 시 메모리에 보관한 트리로 응답, 미사용 시 CategoryService 조회
+ * - 스냅샷 사용 설정 시 스냅샷 파일을 매핑하여 응답 (DB 트리 버전과 일치하면 전체 트리 조회 생략)
+ * - 둘 다 미사용 시 parentId 별 하위 트리 캐시로 응답 (캐시 사용 설정 시)
+ * - 카테고리 변경 커밋 시 버전 증가로 보관 트리 무효화, 하위 트리 캐시는 변경된 path 의 상위 항목만 무효화
+ * - 다른 인스턴스의 변경은 version-check-interval 마다 DB 트리 버전으로 확인하여 보관 트리/하위 트리 캐시 전체 무효화
+ * - 같은 버전의 같은 트리를 동시에 조회하면 DB 조회/트리 구성은 1회만 수행하고 결과 공유 (single-flight)
+ * - stale-while-revalidate 사용 시 최신이 아닌 캐시 트리를 즉시 응답하고 백그라운드에서 재조회
+ *   (max-staleness 를 넘은 트리는 응답하지 않고 재조회 완료까지 대기)
+ * - 진행 중인 트랜잭션 안에서의 조회는 커밋 전 데이터가 보관/공유되지 않도록 항상 DB 조회
+ * - 여러 하위 트리 동시 조회(parentIds)는 저장소/캐시에 없는 카테고리만 모아 1회 조회 후 한 번에 트리 구성
+ */
+@Slf4j
+@Service
+public class CategoryTreeService {
+
+    private static final int REFRESH_THREADS = 2;
+
+    private final CategoryService categoryService;
+    private final CategoryRepository categoryRepository;
+    private final CategoryPathMigrationRepository pathMigrationRepository;
+    private final CategorySubtreeCache subtreeCache;
+    private final CategoryTreeVersionService treeVersionService;
+    private final CategoryProperties categoryProperties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile VersionedTree storedTree;
+
+    // 진행 중인 조회 : 하위 트리 (parentId + 버전), 컬럼형 트리 (버전)
+    private final SingleFlight<TreeKey, List<CategoryTreeResponse>> treeFlight = new SingleFlight<>();
+    private final SingleFlight<Long, ColumnarCategoryTree> storedTreeFlight = new SingleFlight<>();
+
+    // 백그라운드 재조회 (stale-while-revalidate) : 같은 트리는 진행 중이면 다시 요청하지 않음
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(REFRESH_THREADS,
+            Thread.ofPlatform().name("category-tree-refresh-", 0).daemon(true).factory());
+    private final Set<TreeKey> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Timer servedAge;
+    private final Counter staleServed;
+    private final Counter refreshSucceeded;
+    private final Counter refreshFailed;
+
+    public CategoryTreeService(CategoryService categoryService,
+                               CategoryRepository categoryRepository,
+                               CategoryPathMigrationRepository pathMigrationRepository,
+                               CategorySubtreeCache subtreeCache,
+                               CategoryTreeVersionService treeVersionService,
+                               CategoryProperties categoryProperties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.categoryService = categoryService;
+        this.categoryRepository = categoryRepository;
+        this.pathMigrationRepository = pathMigrationRepository;
+        this.subtreeCache = subtreeCache;
+        this.treeVersionService = treeVersionService;
+        this.categoryProperties = categoryProperties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.servedAge = Timer.builder("category.subtree.cache.served.age")
+                .description("캐시에서 응답한 트리의 조회 후 경과 시간")
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("category.subtree.cache.stale.served")
+                .description("최신이 아닌 트리로 응답한 횟수")
+                .register(meterRegistry);
+        this.refreshSucceeded = meterRegistry.counter("category.subtree.cache.refreshes", "result", "success");
+        this.refreshFailed = meterRegistry.counter("category.subtree.cache.refreshes", "result", "failure");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 카테고리 트리 조회
+     * - parentId null : 전체 트리
+     * - parentId O : 해당 카테고리 부터 하위 트리 (저장소에 없는 카테고리는 DB 조회로 존재 여부 확인)
+     */
+    public List<CategoryTreeResponse> getCategories(Long parentId) {
+        return getCategories(parentId, CategoryTreeFields.ALL);
+    }
+
+    /**
+     * 카테고리 트리 조회 - 응답 필드 선택
+     * - DB 조회 시 선택한 응답 필드 컬럼만 조회 (트랜잭션 안, 캐시 미사용, 저장소에 없는 카테고리)
+     * - 캐시/저장소 트리는 전체 필드 트리 그대로 반환 (공유 트리이므로 변경하지 않고 직렬화 단계에서 선택 필드만 기록)
+     */
+    public List<CategoryTreeResponse> getCategories(Long parentId, CategoryTreeFields fields) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return categoryService.getCategories(parentId, fields);
+        }
+        revalidate();
+        if (!isStoreEnabled()) {
+            return getCachedCategories(parentId, fields);
+        }
+
+        ColumnarCategoryTree tree = getStoredTree();
+        if (parentId == null) {
+            return tree.toTree();
+        }
+        if (tree.contains(parentId)) {
+            return tree.toSubtree(parentId);
+        }
+        return loadCategories(parentId, fields);
+    }
+
+    /**
+     * 여러 카테고리 하위 트리 조회 (요청 순서대로 각 카테고리 부터 하위 트리, 중복 ID 는 1회)
+     * - 저장소 사용 시 저장소에서 구성, 저장소에 없는 카테고리만 DB 조회
+     * - 하위 트리 캐시 사용 시 캐시에 없는 카테고리만 모아 조회 후 카테고리별 보관
+     * - DB 조회는 요청 카테고리 수와 무관하게 path 조회 1회 + 하위 트리 조회 1회
+     *   (다른 요청 카테고리 하위에 포함된 카테고리는 다시 조회하지 않고 구성된 트리의 노드 사용)
+     */
+    public List<CategoryTreeResponse> getSubtrees(Long parentId, List<Long> parentIds) {
+        if (parentId != null) {
+            throw new InvalidRequestException("parentId 와 parentIds 는 함께 사용할 수 없습니다.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(parentIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            throw new InvalidRequestException("조회할 카테고리 ID 를 입력해주세요.");
+        }
+        int maxParentIds = categoryProperties.getTree().getMaxParentIds();
+        if (ids.size() > maxParentIds) {
+            throw new InvalidRequestException("한 번에 조회할 수 있는 카테고리는 최대 " + maxParentIds + "개입니다.");
+        }
+
+        Map<Long, List<CategoryTreeResponse>> subtrees;
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            subtrees = categoryService.getSubtrees(ids);
+        } else {
+            revalidate();
+            subtrees = isStoreEnabled() ? getStoredSubtrees(ids) : getCachedSubtrees(ids);
+        }
+
+        List<CategoryTreeResponse> tree = new ArrayList<>();
+        ids.forEach(id -> tree.addAll(subtrees.get(id)));
+        return tree;
+    }
+
+    private Map<Long, List<CategoryTreeResponse>> getStoredSubtrees(Set<Long> ids) {
+        ColumnarCategoryTree tree = getStoredTree();
+        Map<Long, List<CategoryTreeResponse>> subtrees = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            if (tree.contains(id)) {
+                subtrees.put(id, tree.toSubtree(id));
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            subtrees.putAll(readSubtrees(missing));
+        }
+        return subtrees;
+    }
+
+    // 카테고리별 하위 트리 캐시 조회 (stale-while-revalidate 는 getCachedCategories 와 동일), 미적중 카테고리만 모아 1회 조회 후 보관
+    private Map<Long, List<CategoryTreeResponse>> getCachedSubtrees(Set<Long> ids) {
+        if (!subtreeCache.isEnabled()) {
+            return readSubtrees(ids);
+        }
+
+        Map<Long, List<CategoryTreeResponse>> subtrees = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            CategorySubtreeCache.Entry cached = subtreeCache.getIfPresent(id);
+            if (cached != null && subtreeCache.isFresh(cached)) {
+                servedAge.record(cached.age());
+                subtrees.put(id, cached.tree());
+            } else if (cached != null && isServableStale(cached)) {
+                refreshInBackground(id);
+                staleServed.increment();
+                servedAge.record(cached.age());
+                subtrees.put(id, cached.tree());
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            subtrees.putAll(subtreeCache.loadAll(() -> readSubtrees(missing)));
+            servedAge.record(Duration.ZERO);
+        }
+        return subtrees;
+    }
+
+    // 트랜잭션 밖 여러 하위 트리 DB 조회 (jdbc-read : JDBC 행 처리, 미사용 시 QueryDSL 프로젝션)
+    private Map<Long, List<CategoryTreeResponse>> readSubtrees(Collection<Long> ids) {
+        return categoryProperties.getTree().isJdbcRead()
+                ? categoryService.readSubtrees(ids)
+                : categoryService.getSubtrees(ids);
+    }
+
+    // 하위 트리 캐시 조회, 없으면 동시 요청 중 1건만 조회하여 캐시 보관 (캐시 미사용 시 동시 요청 병합만 적용)
+    // - stale-while-revalidate : 최신이 아니어도 max-staleness 이내면 즉시 응답 후 백그라운드 재조회
+    private List<CategoryTreeResponse> getCachedCategories(Long parentId, CategoryTreeFields fields) {
+        if (!subtreeCache.isEnabled()) {
+            return loadCategories(parentId, fields);
+        }
+
+        CategorySubtreeCache.Entry cached = subtreeCache.getIfPresent(parentId);
+        if (cached != null && subtreeCache.isFresh(cached)) {
+            servedAge.record(cached.age());
+            return cached.tree();
+        }
+        if (cached != null && isServableStale(cached)) {
+            refreshInBackground(parentId);
+            staleServed.increment();
+            servedAge.record(cached.age());
+            return cached.tree();
+        }
+
+        List<CategoryTreeResponse> tree = loadAndCache(parentId, new TreeKey(parentId, CategoryTreeFields.ALL, version.get()));
+        servedAge.record(Duration.ZERO);
+        return tree;
+    }
+
+    private List<CategoryTreeResponse> loadAndCache(Long parentId, TreeKey key) {
+        return treeFlight.execute(key, () -> subtreeCache.load(parentId, () -> readCategories(parentId, CategoryTreeFields.ALL)));
+    }
+
+    private boolean isServableStale(CategorySubtreeCache.Entry cached) {
+        CategoryProperties.SubtreeCache config = categoryProperties.getSubtreeCache();
+        return config.isStaleWhileRevalidate() && cached.age().compareTo(config.getMaxStaleness()) <= 0;
+    }
+
+    // 백그라운드 재조회 (실패 시 max-staleness 까지 이전 트리로 응답, 삭제된 카테고리는 캐시 제거)
+    private void refreshInBackground(Long parentId) {
+        TreeKey key = new TreeKey(parentId, CategoryTreeFields.ALL, version.get());
+        if (!refreshing.add(key)) return;
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    loadAndCache(parentId, key);
+                    refreshSucceeded.increment();
+                } catch (RuntimeException e) {
+                    refreshFailed.increment();
+                    if (e instanceof ResourceNotFoundException) {
+                        subtreeCache.evict(parentId);
+                    }
+                    log.warn("카테고리 트리 백그라운드 재조회 실패 (parentId={}): {}", parentId, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private List<CategoryTreeResponse> loadCategories(Long parentId, CategoryTreeFields fields) {
+        return treeFlight.execute(new TreeKey(parentId, fields, version.get()), () -> readCategories(parentId, fields));
+    }
+
+    // 트랜잭션 밖 DB 트리 조회 (jdbc-read : JDBC 행 처리, 미사용 시 QueryDSL 프로젝션)
+    private List<CategoryTreeResponse> readCategories(Long parentId, CategoryTreeFields fields) {
+        return categoryProperties.getTree().isJdbcRead()
+                ? categoryService.readCategories(parentId, fields)
+                : categoryService.getCategories(parentId, fields);
+    }
+
+    private boolean isStoreEnabled() {
+        CategoryProperties.Tree tree = categoryProperties.getTree();
+        return tree.isCompactStore() || tree.getSnapshot().isEnabled();
+    }
+
+    // 현재 버전의 컬럼형 트리 조회, 없으면 새로 구성 (동시 요청 중 1건만 구성)
+    private ColumnarCategoryTree getStoredTree() {
+        long currentVersion = version.get();
+        VersionedTree cached = storedTree;
+        if (cached != null && cached.version() == currentVersion) {
+            return cached.tree();
+        }
+
+        return storedTreeFlight.execute(currentVersion, () -> {
+            VersionedTree latest = storedTree;
+            if (latest != null && latest.version() == currentVersion) {
+                return latest.tree();
+            }
+
+            ColumnarCategoryTree tree = readOnlyTransaction.execute(status -> loadTree());
+            storedTree = new VersionedTree(currentVersion, tree);
+            return tree;
+        });
+    }
+
+    // 스냅샷 사용 시: DB 트리 버전과 일치하는 스냅샷 매핑, 없으면 전체 트리 조회 후 스냅샷 재생성
+    // (버전을 트리보다 먼저 조회 : 그 사이 커밋된 변경은 다음 버전 확인에서 다시 조회)
+    private ColumnarCategoryTree loadTree() {
+        CategoryProperties.Snapshot snapshot = categoryProperties.getTree().getSnapshot();
+        if (!snapshot.isEnabled()) {
+            return CompactCategoryTree.from(categoryRepository.findAllTree());
+        }
+
+        Path path = Path.of(snapshot.getPath());
+        CategoryTreeStamp stamp = new CategoryTreeStamp(treeVersionService.currentVersion());
+        Optional<MappedCategoryTree> mapped = openSnapshot(path)
+                .filter(tree -> tree.getStamp().equals(stamp));
+        if (mapped.isPresent()) {
+            return mapped.get();
+        }
+
+        CompactCategoryTree tree = CompactCategoryTree.from(categoryRepository.findAllTree());
+        try {
+            return CategoryTreeSnapshot.write(path, tree, stamp);
+        } catch (IOException e) {
+            log.warn("카테고리 스냅샷 기록 실패: {}", e.getMessage(), e);
+            return tree;
+        }
+    }
+
+    private Optional<MappedCategoryTree> openSnapshot(Path path) {
+        try {
+            return CategoryTreeSnapshot.open(path);
+        } catch (IOException e) {
+            log.warn("카테고리 스냅샷 조회 실패: {}", e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    // 다른 인스턴스 변경 확인 : 이 인스턴스가 커밋하지 않은 DB 트리 버전 변경이면 변경 범위를 알 수 없으므로 전체 무효화
+    private void revalidate() {
+        if (treeVersionService.hasExternalChange()) {
+            version.incrementAndGet();
+            subtreeCache.invalidateAll();
+        }
+    }
+
+    // 카테고리 변경 커밋 후 버전 증가 (보관 트리 무효화), 하위 트리 캐시는 변경된 path 의 상위 항목만 무효화
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        version.incrementAndGet();
+        if (subtreeCache.isEnabled()) {
+            subtreeCache.invalidate(resolvePaths(event.getPaths()));
+        }
+    }
+
+    // 하위 path 변경 진행 중이면 저장된 이전 path 의 현재 path 도 포함 (현재 상위 카테고리 항목도 무효화)
+    private Collection<String> resolvePaths(Collection<String> paths) {
+        PendingPathMigrations pending = new PendingPathMigrations(
+                pathMigrationRepository.findAllByStatusInOrderByIdAsc(PathMigrationStatus.ACTIVE));
+        if (pending.isEmpty()) return paths;
+
+        List<String> resolved = new ArrayList<>(paths);
+        paths.forEach(path -> resolved.add(pending.resolve(path)));
+        return resolved;
+    }
+
+    private record VersionedTree(long version, ColumnarCategoryTree tree) {
+    }
+
+    private record TreeKey(Long parentId, CategoryTreeFields fields, long version) {
+    }
+}
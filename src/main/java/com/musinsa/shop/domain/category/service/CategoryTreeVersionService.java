@@ -0,0 +1,108 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.entity.CategoryTreeVersion;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryTreeVersionRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리 버전 서비스 (category_tree_version)
+ * - 카테고리 변경 트랜잭션은 커밋 직전 버전 증가 (CategoryChangedEvent 발행 트랜잭션, 하위 path 변경 chunk)
+ * - 이 인스턴스에서 커밋한 버전은 알고 있는 버전으로 기록, 알고 있는 버전과 DB 버전이 다르면 다른 인스턴스의 변경
+ * - DB 버전 확인은 category.tree.version-check-interval 마다 1회 (보관 트리/하위 트리 캐시의 최대 지연)
+ */
+@Service
+public class CategoryTreeVersionService {
+
+    private final CategoryTreeVersionRepository versionRepository;
+    private final CategoryProperties categoryProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이 인스턴스가 반영한 마지막 버전 (커밋 알림 또는 DB 확인)
+    private final AtomicLong knownVersion = new AtomicLong();
+    private final AtomicLong lastCheckedAt = new AtomicLong();
+
+    public CategoryTreeVersionService(CategoryTreeVersionRepository versionRepository,
+                                      CategoryProperties categoryProperties,
+                                      PlatformTransactionManager transactionManager) {
+        this.versionRepository = versionRepository;
+        this.categoryProperties = categoryProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 버전 행 생성 (다른 인스턴스가 먼저 생성한 경우 무시)
+    @PostConstruct
+    public void init() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!versionRepository.existsById(CategoryTreeVersion.ID)) {
+                    versionRepository.save(CategoryTreeVersion.create(0L));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 시작한 다른 인스턴스가 생성
+        }
+        knownVersion.set(currentVersion());
+        lastCheckedAt.set(System.nanoTime());
+    }
+
+    public long currentVersion() {
+        return versionRepository.findVersion(CategoryTreeVersion.ID).orElse(0L);
+    }
+
+    // 카테고리 변경 트랜잭션 커밋 직전 버전 증가
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        increment();
+    }
+
+    /**
+     * 진행 중인 트랜잭션에서 버전 1 증가
+     * - 버전 행 잠금은 커밋까지 유지되므로 동시 변경 트랜잭션의 증가 순서 = 커밋 순서
+     * - 커밋 후 직전 버전까지 알고 있으면 증가한 버전도 이 인스턴스의 변경으로 기록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment() {
+        if (versionRepository.increment(CategoryTreeVersion.ID) == 0) {
+            versionRepository.save(CategoryTreeVersion.create(1L));
+        }
+        long incremented = currentVersion();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                knownVersion.compareAndSet(incremented - 1, incremented);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스 변경 확인 (version-check-interval 이내 재확인 생략, 동시 요청 중 1건만 확인)
+     * - DB 버전이 알고 있는 버전과 다르면 true, 알고 있는 버전을 DB 버전으로 변경
+     * - 이 인스턴스 커밋 알림보다 먼저 확인한 경우에도 true (불필요한 무효화일 뿐 최신 데이터 누락 없음)
+     */
+    public boolean hasExternalChange() {
+        long now = System.nanoTime();
+        long lastChecked = lastCheckedAt.get();
+        long interval = categoryProperties.getTree().getVersionCheckInterval().toNanos();
+        if (now - lastChecked < interval || !lastCheckedAt.compareAndSet(lastChecked, now)) {
+            return false;
+        }
+
+        long current = currentVersion();
+        return knownVersion.getAndSet(current) != current;
+    }
+}
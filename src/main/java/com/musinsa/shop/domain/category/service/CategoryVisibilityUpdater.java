@@ -0,0 +1,88 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 카테고리 유효 노출 여부(effectiveActive / effectiveDeleted) 갱신
+ * - 활성 변경/이동한 카테고리 하위 트리를 path prefix 단위 UPDATE 로 재계산 (하위 카테고리 수와 무관하게 쿼리 수는 하위 트리 안의 비활성/삭제 지점 수에 비례)
+ *   1. 하위 트리 전체 : 본인 활성/삭제 여부 + 상위 카테고리 유효 여부
+ *   2. 하위 트리 안의 비활성 카테고리 / 상위가 삭제된 카테고리 아래 : 비노출 (중첩된 지점은 1회만)
+ * - 하위 path 비동기 변경 중이면 이전/신규 path 모두 변경 (하위 트리 안으로 옮겨 와 아직 이전 path 인 카테고리 포함)
+ * - 호출하는 서비스 트랜잭션에 참여
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryVisibilityUpdater {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryPathMigrationRepository pathMigrationRepository;
+
+    /**
+     * path 카테고리(본인 포함 하위 트리) 유효 노출 여부 재계산
+     * @param parent 현재 상위 카테고리 (최상위 null) : 이미 적재한 엔티티의 유효 노출 여부 사용
+     */
+    public void refresh(String path, Category parent) {
+        boolean parentActive = parent == null || parent.getEffectiveActive();
+        boolean parentDeleted = parent != null && parent.getEffectiveDeleted();
+
+        PendingPathMigrations pending = new PendingPathMigrations(
+                pathMigrationRepository.findAllByStatusInOrderByIdAsc(PathMigrationStatus.ACTIVE));
+        List<String> prefixes = pending.subtreePrefixesOf(pending.resolve(path));
+        for (String prefix : prefixes) {
+            categoryRepository.bulkUpdateEffectiveFlags(prefix, parentActive, parentDeleted);
+        }
+
+        if (parentActive) {
+            hideBelow(pending, prefixes, categoryRepository::findInactivePaths, categoryRepository::bulkDeactivateSubtree);
+        }
+        if (!parentDeleted) {
+            hideBelow(pending, prefixes, categoryRepository::findPathsUnderDeletedParent, categoryRepository::bulkHideDeletedSubtree);
+        }
+    }
+
+    /**
+     * 여러 카테고리 유효 노출 여부 재계산 (path 순으로 처리, 다른 대상 하위에 있는 카테고리는 상위 재계산에 포함되므로 건너뜀)
+     * @param parentIds path 별 현재 상위 카테고리 ID (최상위 null)
+     */
+    public void refreshAll(Map<String, Long> parentIds) {
+        String refreshed = null;
+        for (Map.Entry<String, Long> entry : new TreeMap<>(parentIds).entrySet()) {
+            if (refreshed != null && entry.getKey().startsWith(refreshed)) continue;
+            refresh(entry.getKey(), findParent(entry.getValue()));
+            refreshed = entry.getKey();
+        }
+    }
+
+    private Category findParent(Long parentId) {
+        if (parentId == null) return null;
+        return categoryRepository.findById(parentId)
+                .orElseThrow(() -> new ResourceNotFoundException("상위 카테고리를 찾을 수 없습니다."));
+    }
+
+    // 하위 트리 안의 비노출 지점 아래 일괄 변경 : path 순으로 이미 변경한 지점의 하위는 건너뜀
+    private void hideBelow(PendingPathMigrations pending, List<String> prefixes,
+                           Function<String, List<String>> finder, Consumer<String> hide) {
+        TreeSet<String> paths = new TreeSet<>();
+        prefixes.forEach(prefix -> paths.addAll(finder.apply(prefix)));
+
+        String hidden = null;
+        for (String path : paths) {
+            if (hidden != null && path.startsWith(hidden)) continue;
+            pending.subtreePrefixesOf(pending.resolve(path)).forEach(hide);
+            hidden = path;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.musinsa.shop.domain.category.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 워밍업 헬스 지표 (readiness 그룹 포함, application.yml management.endpoint.health.group.readiness)
+ * - 워밍업 완료 전 : OUT_OF_SERVICE (로드밸런서/쿠버네티스가 요청을 보내지 않음)
+ * - 완료 후 : UP (실패해도 요청은 받을 수 있으므로 UP + error 상세)
+ */
+@Component("categoryWarmUp")
+public class CategoryWarmUpHealthIndicator implements HealthIndicator {
+
+    private final CategoryWarmUpService warmUpService;
+
+    public CategoryWarmUpHealthIndicator(CategoryWarmUpService warmUpService) {
+        this.warmUpService = warmUpService;
+    }
+
+    @Override
+    public Health health() {
+        return warmUpService.getResult()
+                .map(this::toHealth)
+                .orElseGet(() -> Health.outOfService().withDetail("warmUp", "running").build());
+    }
+
+    private Health toHealth(CategoryWarmUpService.WarmUpResult result) {
+        if (!result.enabled()) {
+            return Health.up().withDetail("warmUp", "skipped").build();
+        }
+
+        Health.Builder health = Health.up()
+                .withDetail("warmUp", result.error() == null ? "completed" : "failed")
+                .withDetail("trees", result.trees())
+                .withDetail("queries", result.queries().size())
+                .withDetail("iterations", result.iterations())
+                .withDetail("elapsedMillis", result.elapsedMillis());
+        if (result.error() != null) {
+            health.withDetail("error", result.error());
+        }
+        return health.build();
+    }
+}
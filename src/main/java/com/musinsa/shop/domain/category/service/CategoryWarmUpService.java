@@ -0,0 +1,255 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.response.ResultResponse;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryFlatCursor;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션 시작 시 카테고리 조회 워밍업
+ * - ApplicationRunner 로 실행되어 완료 전까지 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않음
+ *   (categoryWarmUp 헬스 지표도 완료 전까지 OUT_OF_SERVICE)
+ * - 전체 트리 + 최상위 카테고리별 하위 트리 조회 (캐시/컬럼형 저장소 적재)
+ * - CategoryRepository / CategoryRepositoryImpl 쿼리 1회씩 실행 (JPQL/QueryDSL 쿼리 변환, 커넥션 준비)
+ *   - 롤백 트랜잭션에서 실행, 변경 쿼리는 일치하는 행이 없는 조건으로 실행
+ * - 합성 트리 구성 + JSON 직렬화 반복 (트리 구성/직렬화 코드 JIT 컴파일)
+ * - 워밍업 실패 시 경고 로그만 남기고 요청 수신 (워밍업은 응답 지연 개선용)
+ * - 결과는 category.warmup.* 지표로 노출 (헬스 상세는 인증된 요청에만 노출)
+ */
+@Slf4j
+@Service
+public class CategoryWarmUpService implements ApplicationRunner {
+
+    // 변경 쿼리용 : 존재하지 않는 카테고리 ID / path
+    private static final long NO_MATCH_ID = -1L;
+    private static final String NO_MATCH_PATH = "/-1/";
+
+    // 합성 트리 단계별 하위 카테고리 수
+    private static final int SYNTHETIC_FAN_OUT = 10;
+
+    private final CategoryTreeService categoryTreeService;
+    private final CategoryService categoryService;
+    private final CategoryRepository categoryRepository;
+    private final CategoryProperties categoryProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate rollbackTransaction;
+
+    private volatile WarmUpResult result;
+
+    public CategoryWarmUpService(CategoryTreeService categoryTreeService,
+                                 CategoryService categoryService,
+                                 CategoryRepository categoryRepository,
+                                 CategoryProperties categoryProperties,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.categoryTreeService = categoryTreeService;
+        this.categoryService = categoryService;
+        this.categoryRepository = categoryRepository;
+        this.categoryProperties = categoryProperties;
+        this.objectMapper = objectMapper;
+        this.rollbackTransaction = new TransactionTemplate(transactionManager);
+
+        // 완료 전/미실행 시 0
+        Gauge.builder("category.warmup.completed", this, service -> service.result != null ? 1 : 0)
+                .description("워밍업 완료 여부 (실패 포함)")
+                .register(meterRegistry);
+        Gauge.builder("category.warmup.failed", this, service -> service.resultValue(result -> result.error() != null ? 1 : 0))
+                .description("워밍업 실패 여부")
+                .register(meterRegistry);
+        TimeGauge.builder("category.warmup.duration", this, TimeUnit.MILLISECONDS,
+                        service -> service.resultValue(WarmUpResult::elapsedMillis))
+                .description("워밍업 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("category.warmup.trees", this, service -> service.resultValue(WarmUpResult::trees))
+                .description("워밍업에서 미리 조회한 트리 수")
+                .register(meterRegistry);
+        Gauge.builder("category.warmup.queries", this, service -> service.resultValue(result -> result.queries().size()))
+                .description("워밍업에서 실행한 Repository 쿼리 수")
+                .register(meterRegistry);
+    }
+
+    private double resultValue(ToDoubleFunction<WarmUpResult> value) {
+        WarmUpResult current = result;
+        return current != null ? value.applyAsDouble(current) : 0;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!categoryProperties.getWarmUp().isEnabled()) {
+            result = WarmUpResult.skipped();
+            return;
+        }
+        warmUp();
+    }
+
+    // 워밍업 결과, 완료 전이면 empty
+    public Optional<WarmUpResult> getResult() {
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * 워밍업 실행
+     */
+    public WarmUpResult warmUp() {
+        long startedAt = System.nanoTime();
+        CategoryProperties.WarmUp config = categoryProperties.getWarmUp();
+        try {
+            List<CategoryTreeResponse> tree = categoryTreeService.getCategories(null);
+            for (CategoryTreeResponse root : tree) {
+                categoryTreeService.getCategories(root.getId());
+            }
+
+            List<String> queries = executeQueries(tree.isEmpty() ? null : tree.get(0).getId());
+            buildSyntheticTrees(config.getIterations(), config.getSyntheticNodes());
+
+            result = new WarmUpResult(true, tree.size() + 1, queries, config.getIterations(), elapsedMillis(startedAt), null);
+            log.info("카테고리 워밍업 완료: 트리 {}건, 쿼리 {}건, 합성 트리 {}회, {}ms",
+                    result.trees(), queries.size(), result.iterations(), result.elapsedMillis());
+        } catch (RuntimeException e) {
+            log.warn("카테고리 워밍업 실패, 워밍업 없이 요청 수신", e);
+            result = new WarmUpResult(true, 0, List.of(), 0, elapsedMillis(startedAt), e.getMessage());
+        }
+        return result;
+    }
+
+    // 쿼리별 1회 실행 후 롤백, 실행한 Repository 메서드 이름 반환
+    private List<String> executeQueries(Long sampleId) {
+        Map<String, Runnable> queries = queries(sampleId);
+        rollbackTransaction.executeWithoutResult(status -> {
+            queries.values().forEach(Runnable::run);
+            status.setRollbackOnly();
+        });
+        return List.copyOf(queries.keySet());
+    }
+
+    // 조회 쿼리는 실제 카테고리(없으면 존재하지 않는 ID)로, 변경 쿼리는 일치하는 행이 없는 조건으로 실행
+    private Map<String, Runnable> queries(Long sampleId) {
+        long id = sampleId != null ? sampleId : NO_MATCH_ID;
+        String path = sampleId != null ? "/" + sampleId + "/" : NO_MATCH_PATH;
+        List<Long> noMatchIds = List.of(NO_MATCH_ID);
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("existsByParentIdAndTitle", () -> categoryRepository.existsByParentIdAndTitle(id, ""));
+        queries.put("existsByParentIdAndTitleAndIdNot", () -> categoryRepository.existsByParentIdAndTitleAndIdNot(id, "", id));
+        queries.put("existsByParentKeyAndTitle", () -> categoryRepository.existsByParentKeyAndTitle(id, ""));
+        queries.put("existsByParentKeyAndTitleAndIdNot", () -> categoryRepository.existsByParentKeyAndTitleAndIdNot(id, "", id));
+        queries.put("existsByLinkKey", () -> categoryRepository.existsByLinkKey(NO_MATCH_PATH));
+        queries.put("existsByLinkKeyAndIdNot", () -> categoryRepository.existsByLinkKeyAndIdNot(NO_MATCH_PATH, id));
+        queries.put("findAllByLinkKeys", () -> categoryRepository.findAllByLinkKeys(List.of(NO_MATCH_PATH)));
+        queries.put("bulkUpdatePath", () -> categoryRepository.bulkUpdatePath(NO_MATCH_ID, NO_MATCH_PATH, NO_MATCH_PATH));
+        queries.put("countDescendants", () -> categoryRepository.countDescendants(id, path));
+        queries.put("findDescendantIds", () -> categoryRepository.findDescendantIds(id, path,
+                PageRequest.of(0, categoryProperties.getPathMigration().getChunkSize())));
+        queries.put("bulkUpdatePathByIds", () -> categoryRepository.bulkUpdatePathByIds(noMatchIds, NO_MATCH_PATH, NO_MATCH_PATH));
+        queries.put("existsByParentIdAndDeletedFalse", () -> categoryRepository.existsByParentIdAndDeletedFalse(id));
+        queries.put("countByParentIdAndDeletedFalse", () -> categoryRepository.countByParentIdAndDeletedFalse(id));
+        queries.put("existsByParentKey", () -> categoryRepository.existsByParentKey(Category.ROOT_PARENT_KEY));
+        queries.put("countByParentKey", () -> categoryRepository.countByParentKey(Category.ROOT_PARENT_KEY));
+        queries.put("findMaxDisplayOrder", () -> categoryRepository.findMaxDisplayOrder(id));
+        queries.put("findPrecedingDisplayOrder", () -> categoryRepository.findPrecedingDisplayOrder(id, 0, noMatchIds));
+        queries.put("findFollowingDisplayOrder", () -> categoryRepository.findFollowingDisplayOrder(id, 0, noMatchIds));
+        queries.put("findParentKeyById", () -> categoryRepository.findParentKeyById(id));
+        queries.put("findByIdForUpdate", () -> categoryRepository.findByIdForUpdate(NO_MATCH_ID));
+        queries.put("findRootsForUpdate", () -> categoryRepository.findRootsForUpdate());
+        queries.put("lockPathTrees", () -> categoryRepository.lockPathTrees(List.of("/" + NO_MATCH_ID + "/")));
+        queries.put("findAllByIdInForUpdate", () -> categoryRepository.findAllByIdInForUpdate(noMatchIds));
+        queries.put("findChildrenInDisplayOrder", () -> categoryRepository.findChildrenInDisplayOrder(id));
+        queries.put("bulkUpdateSubtreePaths", () -> categoryRepository.bulkUpdateSubtreePaths("/", "/", List.of(NO_MATCH_PATH)));
+        queries.put("bulkUpdateParent", () -> categoryRepository.bulkUpdateParent(null, Category.ROOT_PARENT_KEY, noMatchIds, now));
+        queries.put("bulkUpdateActive", () -> categoryRepository.bulkUpdateActive(noMatchIds, true, now));
+        queries.put("bulkUpdateEffectiveFlags", () -> categoryRepository.bulkUpdateEffectiveFlags(NO_MATCH_PATH, true, false));
+        queries.put("bulkDeactivateSubtree", () -> categoryRepository.bulkDeactivateSubtree(NO_MATCH_PATH));
+        queries.put("bulkHideDeletedSubtree", () -> categoryRepository.bulkHideDeletedSubtree(NO_MATCH_PATH));
+        queries.put("findInactivePaths", () -> categoryRepository.findInactivePaths(path));
+        queries.put("findPathsUnderDeletedParent", () -> categoryRepository.findPathsUnderDeletedParent(path));
+        queries.put("findAllTree", () -> categoryRepository.findAllTree());
+        queries.put("findTreeByPath", () -> categoryRepository.findTreeByPath(path));
+        queries.put("findTreeByPaths", () -> categoryRepository.findTreeByPaths(List.of(path)));
+        queries.put("findAllByIds", () -> categoryRepository.findAllByIds(List.of(id)));
+        queries.put("findChildrenOfParents", () -> categoryRepository.findChildrenOfParents(List.of(id), true));
+        queries.put("findAllLiveTitles", () -> categoryRepository.findAllLiveTitles());
+        queries.put("findFlatPage", () -> {
+            int size = categoryProperties.getFlat().getDefaultPageSize();
+            categoryRepository.findFlatPage(new CategoryFlatRequest(null, size, null, false, null, null), null, size + 1);
+            categoryRepository.findFlatPage(new CategoryFlatRequest(null, size, true, null, null, 2),
+                    new CategoryFlatCursor(path), size + 1);
+        });
+        queries.put("bulkUpdateDisplayOrder", () -> categoryRepository.bulkUpdateDisplayOrder(NO_MATCH_ID, Map.of(NO_MATCH_ID, 1)));
+        queries.put("streamAllForExport", () -> {
+            try (Stream<CategoryDto> categories = categoryRepository.streamAllForExport()) {
+                categories.limit(1).forEach(category -> { });
+            }
+        });
+        return queries;
+    }
+
+    // 합성 카테고리 목록으로 트리 구성 + 응답 직렬화 반복 (요청 처리와 같은 코드 경로)
+    private void buildSyntheticTrees(int iterations, int nodes) {
+        List<CategoryDto> categories = syntheticCategories(nodes);
+        for (int i = 0; i < iterations; i++) {
+            try {
+                objectMapper.writeValueAsBytes(ResultResponse.success(categoryService.toCategoryTree(categories)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("합성 트리 직렬화 실패", e);
+            }
+        }
+    }
+
+    // 단계별 SYNTHETIC_FAN_OUT 개씩 하위 카테고리를 갖는 nodes 개 카테고리 (displayOrder 역순으로 정렬 비용 포함)
+    private List<CategoryDto> syntheticCategories(int nodes) {
+        List<CategoryDto> categories = new ArrayList<>(nodes);
+        for (long id = 1; id <= nodes; id++) {
+            Long parentId = id > SYNTHETIC_FAN_OUT ? (id - 1) / SYNTHETIC_FAN_OUT : null;
+            int displayOrder = SYNTHETIC_FAN_OUT - (int) ((id - 1) % SYNTHETIC_FAN_OUT);
+            categories.add(new CategoryDto(id, "카테고리-" + id, parentId, null, "/categories/" + id,
+                    displayOrder, true, null, null, null));
+        }
+        return categories;
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 워밍업 결과
+     * - trees : 미리 조회한 트리 수 (전체 트리 + 최상위 카테고리별 하위 트리)
+     * - queries : 실행한 Repository 메서드 이름
+     * - error : 실패 시 오류 메시지 (성공/미실행 시 null)
+     */
+    public record WarmUpResult(boolean enabled, int trees, List<String> queries, int iterations,
+                               long elapsedMillis, String error) {
+
+        static WarmUpResult skipped() {
+            return new WarmUpResult(false, 0, List.of(), 0, 0, null);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.musinsa.shop.domain.category.service;
+
+import com.musinsa.shop.domain.category.entity.CategoryPathMigration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 진행 중인 하위 카테고리 path 비동기 변경 목록
+ * - 저장된 path(이전 path 가 남아 있을 수 있음)를 현재 구조 기준 path 로 해석
+ * - 현재 path 의 하위 카테고리가 저장되어 있을 수 있는 path prefix 목록 제공
+ */
+public final class PendingPathMigrations {
+
+    private final List<CategoryPathMigration> migrations;
+
+    public PendingPathMigrations(List<CategoryPathMigration> migrations) {
+        this.migrations = List.copyOf(migrations);
+    }
+
+    public boolean isEmpty() {
+        return migrations.isEmpty();
+    }
+
+    // 저장된 path → 현재 path (이전 path 로 시작하면 신규 path 로 치환)
+    public String resolve(String path) {
+        if (path == null) return null;
+
+        String resolved = path;
+        for (CategoryPathMigration migration : migrations) {
+            if (resolved.startsWith(migration.getOldPath())) {
+                resolved = migration.getNewPath() + resolved.substring(migration.getOldPath().length());
+            }
+        }
+        return resolved;
+    }
+
+    // 현재 path 의 하위 카테고리 조회용 prefix 목록 (현재 path + 아직 변경되지 않은 이전 path)
+    public List<String> prefixesOf(String path) {
+        List<String> prefixes = new ArrayList<>();
+        prefixes.add(path);
+        for (CategoryPathMigration migration : migrations) {
+            if (path.startsWith(migration.getNewPath())) {
+                prefixes.add(migration.getOldPath() + path.substring(migration.getNewPath().length()));
+            }
+        }
+        return prefixes;
+    }
+
+    // 현재 path 하위 트리 전체 변경용 prefix 목록 : prefixesOf + 하위 트리 안으로 옮겨 온 카테고리의 이전 path
+    // (상위 카테고리 기준 일괄 변경 시 아직 이전 path 에 남아 있는 하위 카테고리 포함)
+    public List<String> subtreePrefixesOf(String path) {
+        List<String> prefixes = prefixesOf(path);
+        for (CategoryPathMigration migration : migrations) {
+            if (migration.getNewPath().startsWith(path) && !migration.getNewPath().equals(path)
+                    && !prefixes.contains(migration.getOldPath())) {
+                prefixes.add(migration.getOldPath());
+            }
+        }
+        return prefixes;
+    }
+
+    // 현재 path 가 진행 중인 변경 대상 하위 트리와 겹치는지 여부 (상위/하위 관계 모두 포함)
+    public boolean overlaps(String path) {
+        if (path == null) return false;
+
+        for (CategoryPathMigration migration : migrations) {
+            if (isPrefixRelated(path, migration.getOldPath()) || isPrefixRelated(path, migration.getNewPath())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPrefixRelated(String path, String other) {
+        return path.startsWith(other) || other.startsWith(path);
+    }
+}
@@ -0,0 +1,123 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 링크 → 카테고리 ID 메모리 색인 (스토어프론트 URL 라우팅)
+ * - 링크로 카테고리 조회를 DB 조회 대신 해시 조회로 처리
+ * - 삭제되지 않고 링크가 있는 카테고리만 보관 (링크는 DB 유니크 제약 link_key 로 카테고리당 1개)
+ * - 변경 이벤트 커밋 후 변경된 카테고리만 DB 에서 다시 읽어 반영 (등록/링크 변경/삭제/가져오기)
+ * - 인스턴스별 색인이므로 다른 인스턴스의 변경은 정확히 일치하지 않는 링크의 DB 후보 링크 조회(category.link-index.db-fallback)로 보완
+ */
+@Slf4j
+@Component
+public class CategoryLinkIndex implements SmartInitializingSingleton {
+
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryProperties categoryProperties;
+
+    private final ConcurrentHashMap<String, Long> idsByLink = new ConcurrentHashMap<>();
+    // 링크 변경/삭제 시 이전 링크 제거용
+    private final ConcurrentHashMap<Long, String> linksById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public CategoryLinkIndex(CategoryRepository categoryRepository, CategoryProperties categoryProperties) {
+        this.categoryRepository = categoryRepository;
+        this.categoryProperties = categoryProperties;
+    }
+
+    // 애플리케이션 시작 시 (요청 수신 전) 색인 구성
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (categoryProperties.getLinkIndex().isEnabled()) {
+            load();
+        }
+    }
+
+    /**
+     * 삭제되지 않은 카테고리 링크로 색인 재구성
+     */
+    public synchronized void load() {
+        idsByLink.clear();
+        linksById.clear();
+        putAll(categoryRepository.findAllLiveTitles());
+        loaded = true;
+        log.info("카테고리 링크 색인 구성 완료: {}건", idsByLink.size());
+    }
+
+    public boolean isEnabled() {
+        return loaded && categoryProperties.getLinkIndex().isEnabled();
+    }
+
+    /**
+     * 링크와 일치하는 카테고리 ID (없으면 null)
+     */
+    public Long get(String link) {
+        return idsByLink.get(link);
+    }
+
+    public int size() {
+        return idsByLink.size();
+    }
+
+    /**
+     * 카테고리 추가 또는 링크 변경 반영 (링크가 비어 있으면 제거)
+     */
+    public synchronized void putAll(Collection<CategoryDto> categories) {
+        for (CategoryDto category : categories) {
+            String link = Category.linkKeyOf(category.getLink());
+            String previous = link != null ? linksById.put(category.getId(), link) : linksById.remove(category.getId());
+            if (previous != null && !previous.equals(link)) {
+                idsByLink.remove(previous, category.getId());
+            }
+            if (link != null) {
+                idsByLink.put(link, category.getId());
+            }
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        String previous = linksById.remove(id);
+        if (previous != null) {
+            idsByLink.remove(previous, id);
+        }
+    }
+
+    /**
+     * 카테고리 변경 커밋 후 변경된 카테고리 다시 읽어 반영 (삭제된 카테고리는 제거)
+     */
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (isEnabled()) {
+            refresh(event.getCategoryIds());
+        }
+    }
+
+    public void refresh(Collection<Long> ids) {
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, pending.size()));
+            List<CategoryDto> live = categoryRepository.findAllByIds(chunk);
+            putAll(live);
+
+            Set<Long> liveIds = new HashSet<>();
+            live.forEach(category -> liveIds.add(category.getId()));
+            chunk.stream()
+                    .filter(id -> !liveIds.contains(id))
+                    .forEach(this::remove);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * parentId 별 하위 트리 캐시
+ * - 캐시한 트리의 전체 노드 수 합계가 최대 가중치를 넘으면 사용 빈도가 낮은 항목부터 제거
+ * - 카테고리 변경 시 변경된 path 에 포함된 카테고리(상위 카테고리 + 본인)와 전체 트리 항목만 무효화
+ *   (stale-while-revalidate 사용 시 제거하지 않고 최신 아님으로 표시, 재조회 전까지 이전 트리로 응답 가능)
+ * - 적중률/제거 지표는 Micrometer 로 노출 (cache.gets, cache.evictions, category.subtree.cache.hit.ratio 등)
+ * - 인스턴스별 캐시이므로 다른 인스턴스의 변경은 CategoryTreeService 가 DB 트리 버전 확인 후 전체 무효화 (컬럼형 저장소와 동일)
+ */
+@Component
+public class CategorySubtreeCache {
+
+    public static final String CACHE_NAME = "categorySubtree";
+
+    // parentId null (전체 트리) 항목 키
+    private static final long ALL_KEY = 0L;
+
+    private final CategoryProperties categoryProperties;
+    private final Cache<Long, Entry> cache;
+    private final Counter invalidations;
+
+    // 무효화 횟수 : 조회 도중 무효화가 있었으면 조회 결과를 보관하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategorySubtreeCache(CategoryProperties categoryProperties, MeterRegistry meterRegistry) {
+        this.categoryProperties = categoryProperties;
+        // 제거/통계 처리를 호출 스레드에서 수행 (제거 지표 즉시 반영)
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(categoryProperties.getSubtreeCache().getMaxWeight())
+                .weigher((Long key, Entry entry) -> Math.max(1, countNodes(entry.tree())))
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("category.subtree.cache.invalidations")
+                .description("변경으로 무효화된 하위 트리 캐시 항목 수")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("category.subtree.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("하위 트리 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return categoryProperties.getSubtreeCache().isEnabled();
+    }
+
+    /**
+     * 캐시한 하위 트리 조회, 없거나 최신이 아니면 loader 로 구성 후 보관
+     * - 반환한 트리는 여러 요청이 공유하므로 수정하지 않아야 함
+     */
+    public List<CategoryTreeResponse> get(Long parentId, Supplier<List<CategoryTreeResponse>> loader) {
+        Entry cached = getIfPresent(parentId);
+        return cached != null && isFresh(cached) ? cached.tree() : load(parentId, loader);
+    }
+
+    // 캐시 항목 조회 (적중/미적중 집계), 없으면 null
+    public Entry getIfPresent(Long parentId) {
+        return cache.getIfPresent(toKey(parentId));
+    }
+
+    /**
+     * 최신 항목 여부
+     * - stale-while-revalidate 미사용 : 변경 시 제거되므로 항상 최신
+     * - 사용 : 변경 표시가 없고 조회 후 refresh-after 가 지나지 않은 항목
+     */
+    public boolean isFresh(Entry entry) {
+        CategoryProperties.SubtreeCache config = categoryProperties.getSubtreeCache();
+        if (!config.isStaleWhileRevalidate()) return true;
+        return !entry.stale() && entry.age().compareTo(config.getRefreshAfter()) < 0;
+    }
+
+    /**
+     * loader 로 구성 후 보관 (그 사이 다른 요청이 최신 항목을 보관했으면 그 트리 반환, 적중/미적중 집계 제외)
+     * - 조회 도중 무효화된 경우 변경 전 데이터일 수 있으므로 무효화 처리
+     */
+    public List<CategoryTreeResponse> load(Long parentId, Supplier<List<CategoryTreeResponse>> loader) {
+        long key = toKey(parentId);
+        Entry cached = cache.asMap().get(key);
+        if (cached != null && isFresh(cached)) {
+            return cached.tree();
+        }
+
+        long loadedGeneration = generation.get();
+        long loadedAt = System.nanoTime();
+        List<CategoryTreeResponse> tree = loader.get();
+        cache.put(key, new Entry(tree, loadedAt, false));
+        if (generation.get() != loadedGeneration) {
+            expire(key);
+        }
+        return tree;
+    }
+
+    /**
+     * 여러 하위 트리를 loader 로 한 번에 구성 후 카테고리별 보관 (여러 하위 트리 동시 조회의 캐시 미적중 카테고리)
+     * - load 와 동일하게 조회 도중 무효화된 경우 보관한 항목 모두 무효화 처리
+     */
+    public Map<Long, List<CategoryTreeResponse>> loadAll(Supplier<Map<Long, List<CategoryTreeResponse>>> loader) {
+        long loadedGeneration = generation.get();
+        long loadedAt = System.nanoTime();
+        Map<Long, List<CategoryTreeResponse>> trees = loader.get();
+        trees.forEach((parentId, tree) -> cache.put(toKey(parentId), new Entry(tree, loadedAt, false)));
+        if (generation.get() != loadedGeneration) {
+            trees.keySet().forEach(parentId -> expire(toKey(parentId)));
+        }
+        return trees;
+    }
+
+    public void evict(Long parentId) {
+        cache.invalidate(toKey(parentId));
+    }
+
+    public boolean contains(Long parentId) {
+        return cache.asMap().containsKey(toKey(parentId));
+    }
+
+    /**
+     * 변경된 카테고리 path 의 상위 카테고리 + 본인 항목과 전체 트리 항목 무효화
+     * - path "/1/5/9/" 변경 시 1, 5, 9 하위 트리와 전체 트리만 제거 (다른 하위 트리는 유지)
+     */
+    public void invalidate(Collection<String> paths) {
+        generation.incrementAndGet();
+
+        Set<Long> keys = new LinkedHashSet<>();
+        keys.add(ALL_KEY);
+        for (String path : paths) {
+            addPathIds(path, keys);
+        }
+
+        int expired = 0;
+        for (Long key : keys) {
+            if (expire(key)) expired++;
+        }
+        invalidations.increment(expired);
+    }
+
+    // 변경 반영 : stale-while-revalidate 사용 시 최신 아님 표시, 미사용 시 제거
+    private boolean expire(long key) {
+        if (categoryProperties.getSubtreeCache().isStaleWhileRevalidate()) {
+            return cache.asMap().computeIfPresent(key, (k, entry) -> entry.markStale()) != null;
+        }
+        return cache.asMap().remove(key) != null;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private long toKey(Long parentId) {
+        return parentId != null ? parentId : ALL_KEY;
+    }
+
+    // path("/1/5/9/")에 포함된 카테고리 ID 추출
+    private void addPathIds(String path, Set<Long> ids) {
+        if (path == null) return;
+
+        for (String id : path.split("/")) {
+            if (!id.isEmpty()) {
+                ids.add(Long.parseLong(id));
+            }
+        }
+    }
+
+    private static int countNodes(List<CategoryTreeResponse> tree) {
+        int count = 0;
+        for (CategoryTreeResponse node : tree) {
+            count += 1 + countNodes(node.getChildren());
+        }
+        return count;
+    }
+
+    /**
+     * 캐시 항목
+     * - loadedAt : 조회 시작 시각 (System.nanoTime), 트리 데이터의 기준 시각
+     * - stale : 조회 이후 변경이 커밋되어 최신이 아님 (stale-while-revalidate 사용 시에만 보관)
+     */
+    public record Entry(List<CategoryTreeResponse> tree, long loadedAt, boolean stale) {
+
+        public Duration age() {
+            return Duration.ofNanos(System.nanoTime() - loadedAt);
+        }
+
+        private Entry markStale() {
+            return stale ? this : new Entry(tree, loadedAt, true);
+        }
+    }
+}
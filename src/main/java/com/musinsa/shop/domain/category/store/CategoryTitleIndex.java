@@ -0,0 +1,152 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상위 카테고리별 하위 카테고리 이름 메모리 색인
+ * - 이름 중복 검사를 DB 조회 대신 해시 조회로 처리
+ * - 이름 선점(claim)은 원자적으로 처리되어 동시에 같은 이름을 등록해도 하나만 성공
+ * - 선점한 이름은 트랜잭션 커밋 시 확정, 롤백 시 해제 / 제거·추가는 커밋 후 반영
+ * - 인스턴스별 색인이므로 다른 인스턴스의 변경은 DB 유니크 제약(parent_key, title)으로 보완
+ */
+@Slf4j
+@Component
+public class CategoryTitleIndex implements SmartInitializingSingleton {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryProperties categoryProperties;
+
+    // true: 확정된 이름, false: 커밋 전 선점한 이름
+    private final ConcurrentHashMap<TitleKey, Boolean> titles = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public CategoryTitleIndex(CategoryRepository categoryRepository, CategoryProperties categoryProperties) {
+        this.categoryRepository = categoryRepository;
+        this.categoryProperties = categoryProperties;
+    }
+
+    // 애플리케이션 시작 시 (요청 수신 전) 색인 구성
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (categoryProperties.getTitleIndex().isEnabled()) {
+            load();
+        }
+    }
+
+    /**
+     * 삭제되지 않은 카테고리 이름으로 색인 구성
+     */
+    public void load() {
+        titles.clear();
+        categoryRepository.findAllLiveTitles()
+                .forEach(category -> titles.put(new TitleKey(category.getParentId(), category.getTitle()), Boolean.TRUE));
+        loaded = true;
+        log.info("카테고리 이름 색인 구성 완료: {}건", titles.size());
+    }
+
+    public boolean isEnabled() {
+        return loaded && categoryProperties.getTitleIndex().isEnabled();
+    }
+
+    /**
+     * 이름 선점 : 색인에 없는 이름이면 선점 후 true (커밋 시 확정, 롤백 시 해제)
+     */
+    public boolean claim(Long parentId, String title) {
+        TitleKey key = new TitleKey(parentId, title);
+        if (titles.putIfAbsent(key, Boolean.FALSE) != null) {
+            return false;
+        }
+
+        afterCompletion(committed -> {
+            if (committed) titles.put(key, Boolean.TRUE);
+            else titles.remove(key, Boolean.FALSE);
+        });
+        return true;
+    }
+
+    /**
+     * 다른 트랜잭션이 선점 중(커밋 전)인 이름 여부
+     */
+    public boolean isClaimed(Long parentId, String title) {
+        return Boolean.FALSE.equals(titles.get(new TitleKey(parentId, title)));
+    }
+
+    /**
+     * DB 에 없는 것으로 확인된 확정 이름 제거 (다른 인스턴스의 변경으로 남은 항목)
+     */
+    public void evict(Long parentId, String title) {
+        titles.remove(new TitleKey(parentId, title), Boolean.TRUE);
+    }
+
+    /**
+     * 커밋 후 이름 제거 (이름 변경/이동/삭제 전 이름)
+     */
+    public void removeAfterCommit(Long parentId, String title) {
+        if (!isEnabled()) return;
+
+        TitleKey key = new TitleKey(parentId, title);
+        afterCompletion(committed -> {
+            if (committed) titles.remove(key, Boolean.TRUE);
+        });
+    }
+
+    /**
+     * 커밋 후 이름 추가 (선점 없이 DB 검증만 거친 일괄 이동)
+     */
+    public void addAfterCommit(Long parentId, String title) {
+        if (!isEnabled()) return;
+
+        TitleKey key = new TitleKey(parentId, title);
+        afterCompletion(committed -> {
+            if (committed) titles.put(key, Boolean.TRUE);
+        });
+    }
+
+    /**
+     * 커밋 후 이름 일괄 추가 (가져오기로 등록한 카테고리, 트랜잭션 동기화 1건으로 처리)
+     */
+    public void addAllAfterCommit(Collection<CategoryDto> categories) {
+        if (!isEnabled()) return;
+
+        List<TitleKey> keys = categories.stream()
+                .map(category -> new TitleKey(category.getParentId(), category.getTitle()))
+                .toList();
+        afterCompletion(committed -> {
+            if (committed) keys.forEach(key -> titles.put(key, Boolean.TRUE));
+        });
+    }
+
+    // 트랜잭션 완료 후 실행 (트랜잭션 밖에서는 즉시 커밋된 것으로 처리)
+    private void afterCompletion(CompletionCallback callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.run(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.run(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface CompletionCallback {
+        void run(boolean committed);
+    }
+
+    private record TitleKey(Long parentId, String title) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategorySearchResponse;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 카테고리 이름 접두어 자동완성 메모리 색인
+ * - 정렬된 키(정규화 이름 + ID) → 카테고리 ID : 접두어 범위(subMap)를 키 순서로 limit 건까지만 읽으므로 전체 카테고리 수와 무관
+ * - 키 2종 : 자모 분해 키("셔ㅊ" 입력 중 일치), 초성 키("ㅅㅊ" 입력 시 사용) - KoreanTitleNormalizer
+ * - 삭제되지 않은 카테고리만 보관, 경로(breadcrumb)는 조회 시 상위 카테고리 ID 를 따라 현재 이름으로 구성 (상위 이름 변경/이동 즉시 반영)
+ * - 변경 이벤트 커밋 후 변경된 카테고리만 DB 에서 다시 읽어 반영 (등록/이름 변경/이동/삭제/가져오기)
+ * - 인스턴스별 색인이므로 다른 인스턴스의 변경은 재시작 또는 load() 로 반영
+ */
+@Slf4j
+@Component
+public class CategoryTitleSearchIndex implements SmartInitializingSingleton {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+    private static final int MAX_DEPTH = 64;
+
+    private final CategoryRepository categoryRepository;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Long> titleKeys = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Long> choseongKeys = new ConcurrentSkipListMap<>();
+
+    public CategoryTitleSearchIndex(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    // 애플리케이션 시작 시 (요청 수신 전) 색인 구성
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * 삭제되지 않은 카테고리 이름으로 색인 재구성
+     */
+    public synchronized void load() {
+        entries.clear();
+        titleKeys.clear();
+        choseongKeys.clear();
+        putAll(categoryRepository.findAllLiveTitles());
+        log.info("카테고리 이름 자동완성 색인 구성 완료: {}건", entries.size());
+    }
+
+    /**
+     * 카테고리 추가 또는 이름/상위 카테고리 변경 반영
+     */
+    public synchronized void putAll(Collection<CategoryDto> categories) {
+        for (CategoryDto category : categories) {
+            Entry entry = new Entry(category.getId(), category.getTitle(), category.getParentId(),
+                    key(KoreanTitleNormalizer.normalize(category.getTitle()), category.getId()),
+                    key(KoreanTitleNormalizer.choseong(category.getTitle()), category.getId()));
+            Entry previous = entries.put(entry.id(), entry);
+            if (previous != null) {
+                removeKeys(previous);
+            }
+            titleKeys.put(entry.titleKey(), entry.id());
+            choseongKeys.put(entry.choseongKey(), entry.id());
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            removeKeys(previous);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 카테고리 변경 커밋 후 변경된 카테고리 다시 읽어 반영 (삭제된 카테고리는 제거)
+     */
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        refresh(event.getCategoryIds());
+    }
+
+    public void refresh(Collection<Long> ids) {
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, pending.size()));
+            List<CategoryDto> live = categoryRepository.findAllByIds(chunk);
+            putAll(live);
+
+            Set<Long> liveIds = new HashSet<>();
+            live.forEach(category -> liveIds.add(category.getId()));
+            chunk.stream()
+                    .filter(id -> !liveIds.contains(id))
+                    .forEach(this::remove);
+        }
+    }
+
+    /**
+     * 이름 접두어 검색 : 정규화 키 순(같은 접두어면 짧은 이름 먼저)으로 최대 limit 건
+     * - 초성(자음)만 입력하면 초성 키로 검색
+     */
+    public List<CategorySearchResponse> search(String prefix, int limit) {
+        boolean choseongOnly = KoreanTitleNormalizer.isChoseongOnly(prefix);
+        String key = choseongOnly ? KoreanTitleNormalizer.choseong(prefix) : KoreanTitleNormalizer.normalize(prefix);
+        if (key.isEmpty()) return List.of();
+
+        NavigableMap<String, Long> keys = choseongOnly ? choseongKeys : titleKeys;
+        List<CategorySearchResponse> results = new ArrayList<>(Math.min(limit, 16));
+        for (Long id : keys.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            Entry entry = entries.get(id);
+            if (entry == null) continue;
+
+            results.add(toResponse(entry));
+            if (results.size() >= limit) break;
+        }
+        return results;
+    }
+
+    // 상위 카테고리 ID 를 따라 최상위부터 본인까지 ID 경로/이름 구성 (색인에 없는 상위 카테고리에서 중단)
+    private CategorySearchResponse toResponse(Entry entry) {
+        Deque<Entry> ancestors = new ArrayDeque<>();
+        for (Entry current = entry; current != null && ancestors.size() < MAX_DEPTH;
+             current = current.parentId() != null ? entries.get(current.parentId()) : null) {
+            ancestors.addFirst(current);
+        }
+
+        StringBuilder path = new StringBuilder("/");
+        List<String> breadcrumb = new ArrayList<>(ancestors.size());
+        for (Entry ancestor : ancestors) {
+            path.append(ancestor.id()).append('/');
+            breadcrumb.add(ancestor.title());
+        }
+        return new CategorySearchResponse(entry.id(), entry.title(), entry.parentId(), path.toString(), breadcrumb);
+    }
+
+    private void removeKeys(Entry entry) {
+        titleKeys.remove(entry.titleKey(), entry.id());
+        choseongKeys.remove(entry.choseongKey(), entry.id());
+    }
+
+    // 같은 이름이 여러 개여도 키가 겹치지 않도록 ID 추가 (구분자가 가장 작은 문자라 같은 접두어 중 짧은 이름이 앞)
+    private static String key(String normalized, Long id) {
+        return normalized + KEY_SEPARATOR + id;
+    }
+
+    private record Entry(Long id, String title, Long parentId, String titleKey, String choseongKey) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryTreeStamp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * 카테고리 트리 바이너리 스냅샷 파일 기록/조회
+ *
+ * <pre>
+ * header (56 bytes)
+ *   int  magic ("CTS1")        int  format version
+ *   long treeVersion           long reserved (0)
+ *   int  size                  int  firstRoot
+ *   long idBase                int  detachedCount
+ *   int  stringsLength         long checksum (body CRC32C)
+ * body
+ *   int[size] x 7 : ids, parents, firstChildren, nextSiblings, displayOrders, titles, links
+ *   long[detachedCount] : detachedParentIds
+ *   byte[size] : flags
+ *   byte[stringsLength] : 문자열 풀
+ * </pre>
+ * - 임시 파일에 기록 후 원자적 이동으로 교체 (읽는 프로세스는 항상 완성된 파일만 매핑)
+ * - magic, format version, 길이, checksum 이 맞지 않는 파일은 사용하지 않음
+ */
+public final class CategoryTreeSnapshot {
+
+    static final int MAGIC = 0x43545331;
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = 56;
+
+    private static final int CHECKSUM_OFFSET = 48;
+    private static final int INT_COLUMNS = 7;
+
+    private CategoryTreeSnapshot() {
+    }
+
+    /**
+     * 컬럼형 트리를 스냅샷 파일로 기록 후 매핑된 트리 반환
+     */
+    public static MappedCategoryTree write(Path path, CompactCategoryTree tree, CategoryTreeStamp stamp) throws IOException {
+        int size = tree.size();
+        long[] detached = tree.detachedParentIdColumn();
+        byte[] strings = tree.strings().data();
+        long bodyLength = (long) size * Integer.BYTES * INT_COLUMNS + (long) detached.length * Long.BYTES + size + strings.length;
+        if (HEADER_SIZE + bodyLength > Integer.MAX_VALUE) {
+            throw new IOException("카테고리 스냅샷 크기가 너무 큽니다.");
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + bodyLength);
+
+                buffer.putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putLong(stamp.getVersion())
+                        .putLong(0L)
+                        .putInt(size)
+                        .putInt(tree.firstRoot())
+                        .putLong(tree.idBase())
+                        .putInt(detached.length)
+                        .putInt(strings.length)
+                        .putLong(0L);
+
+                putInts(buffer, tree.idColumn());
+                putInts(buffer, tree.parentColumn());
+                putInts(buffer, tree.firstChildColumn());
+                putInts(buffer, tree.nextSiblingColumn());
+                putInts(buffer, tree.displayOrderColumn());
+                putInts(buffer, tree.titleColumn());
+                putInts(buffer, tree.linkColumn());
+                for (long parentId : detached) {
+                    buffer.putLong(parentId);
+                }
+                buffer.put(tree.flagColumn());
+                buffer.put(strings);
+
+                buffer.putLong(CHECKSUM_OFFSET, checksum(buffer));
+                buffer.force();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        return open(path).orElseThrow(() -> new IOException("기록한 카테고리 스냅샷을 읽을 수 없습니다."));
+    }
+
+    /**
+     * 스냅샷 파일 매핑
+     * - 파일이 없거나 헤더/길이/checksum 검증 실패 시 empty
+     */
+    public static Optional<MappedCategoryTree> open(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) return Optional.empty();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) return Optional.empty();
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) return Optional.empty();
+
+            long treeVersion = buffer.getLong(8);
+            int size = buffer.getInt(24);
+            int firstRoot = buffer.getInt(28);
+            long idBase = buffer.getLong(32);
+            int detachedCount = buffer.getInt(40);
+            int stringsLength = buffer.getInt(44);
+            long checksum = buffer.getLong(CHECKSUM_OFFSET);
+
+            long expectedSize = HEADER_SIZE + (long) size * Integer.BYTES * INT_COLUMNS
+                    + (long) detachedCount * Long.BYTES + size + stringsLength;
+            if (size < 0 || detachedCount < 0 || stringsLength < 0 || expectedSize != fileSize) return Optional.empty();
+            if (checksum(buffer) != checksum) return Optional.empty();
+
+            CategoryTreeStamp stamp = new CategoryTreeStamp(treeVersion);
+            return Optional.of(new MappedCategoryTree(buffer, stamp, size, firstRoot, idBase, detachedCount, HEADER_SIZE));
+        }
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values) {
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE));
+        return crc.getValue();
+    }
+}
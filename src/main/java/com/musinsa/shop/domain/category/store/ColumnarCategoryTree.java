@@ -0,0 +1,116 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컬럼형 카테고리 트리 공통 조회 로직
+ * - slot: id 오름차순으로 배치된 노드 위치
+ * - 컬럼 보관 방식(힙 배열, 메모리 매핑 파일)은 하위 클래스에서 구현
+ */
+public abstract class ColumnarCategoryTree {
+
+    static final int NONE = -1;
+    static final byte FLAG_ACTIVE = 1;
+
+    // ===== 컬럼 접근 메서드 ===== //
+    public abstract int size();
+
+    abstract long idBase();
+
+    abstract int idOffset(int slot);       // 카테고리 ID - idBase (unsigned)
+
+    abstract int parent(int slot);         // 부모 slot (루트: -1, 트리 밖 부모: -2 - detached index)
+
+    abstract int firstChild(int slot);
+
+    abstract int nextSibling(int slot);
+
+    abstract int displayOrder(int slot);
+
+    abstract byte flags(int slot);
+
+    abstract String title(int slot);
+
+    abstract String link(int slot);
+
+    abstract long detachedParentId(int index);
+
+    abstract int firstRoot();
+
+    /**
+     * 전체 트리 응답 생성
+     */
+    public List<CategoryTreeResponse> toTree() {
+        List<CategoryTreeResponse> tree = new ArrayList<>();
+        for (int slot = firstRoot(); slot != NONE; slot = nextSibling(slot)) {
+            tree.add(toNode(slot));
+        }
+        return tree;
+    }
+
+    /**
+     * 특정 카테고리 기준 하위 트리 응답 생성 (자기 자신 포함)
+     * - 저장소에 없는 카테고리는 빈 목록 반환
+     */
+    public List<CategoryTreeResponse> toSubtree(long categoryId) {
+        int slot = findSlot(categoryId);
+        List<CategoryTreeResponse> tree = new ArrayList<>();
+        if (slot >= 0) {
+            tree.add(toNode(slot));
+        }
+        return tree;
+    }
+
+    public boolean contains(long categoryId) {
+        return findSlot(categoryId) >= 0;
+    }
+
+    // unsigned id 오프셋 이진 탐색 (없으면 -1)
+    int findSlot(long categoryId) {
+        long offset = categoryId - idBase();
+        if (offset < 0 || offset > 0xFFFF_FFFFL) return NONE;
+
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compare = Integer.compareUnsigned(idOffset(mid), (int) offset);
+            if (compare < 0) low = mid + 1;
+            else if (compare > 0) high = mid - 1;
+            else return mid;
+        }
+        return NONE;
+    }
+
+    // slot 기준 노드 및 하위 노드 응답 생성
+    private CategoryTreeResponse toNode(int slot) {
+        List<CategoryTreeResponse> children = new ArrayList<>();
+        for (int child = firstChild(slot); child != NONE; child = nextSibling(child)) {
+            children.add(toNode(child));
+        }
+
+        return new CategoryTreeResponse(
+                idOf(slot),
+                title(slot),
+                parentIdOf(slot),
+                link(slot),
+                displayOrder(slot),
+                (flags(slot) & FLAG_ACTIVE) != 0,
+                children
+        );
+    }
+
+    private long idOf(int slot) {
+        return idBase() + Integer.toUnsignedLong(idOffset(slot));
+    }
+
+    private Long parentIdOf(int slot) {
+        int parent = parent(slot);
+        if (parent >= 0) return idOf(parent);
+        if (parent == NONE) return null;
+        return detachedParentId(-2 - parent);
+    }
+}
@@ -0,0 +1,250 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 카테고리 트리 컬럼형(Columnar) 저장소
+ * - 노드별 객체 대신 병렬 primitive 배열로 계층 구조 보관 (id 오름차순 slot)
+ * - id 는 최소 id 기준 오프셋(unsigned int)으로 보관
+ * - 자식 목록은 first-child / next-sibling 연결로 displayOrder 순서 유지
+ * - title, link 는 중복 제거 문자열 풀로 보관
+ */
+public final class CompactCategoryTree extends ColumnarCategoryTree {
+
+    private final long idBase;          // 최소 카테고리 ID
+    private final int[] ids;            // 카테고리 ID - idBase (unsigned, 오름차순)
+    private final int[] parents;        // 부모 slot (루트: -1, 트리 밖 부모: -2 - detached index)
+    private final int[] firstChildren;  // 첫 번째 자식 slot
+    private final int[] nextSiblings;   // 다음 형제 slot
+    private final int[] displayOrders;
+    private final byte[] flags;
+    private final int[] titles;         // 문자열 풀 참조
+    private final int[] links;          // 문자열 풀 참조
+    private final long[] detachedParentIds; // 트리에 포함되지 않은 부모 ID (루트로 승격된 노드의 parentId 유지)
+    private final int firstRoot;
+    private final CompactStringPool strings;
+
+    private CompactCategoryTree(long idBase, int[] ids, int[] parents, int[] firstChildren, int[] nextSiblings,
+                                int[] displayOrders, byte[] flags, int[] titles, int[] links,
+                                long[] detachedParentIds, int firstRoot, CompactStringPool strings) {
+        this.idBase = idBase;
+        this.ids = ids;
+        this.parents = parents;
+        this.firstChildren = firstChildren;
+        this.nextSiblings = nextSiblings;
+        this.displayOrders = displayOrders;
+        this.flags = flags;
+        this.titles = titles;
+        this.links = links;
+        this.detachedParentIds = detachedParentIds;
+        this.firstRoot = firstRoot;
+        this.strings = strings;
+    }
+
+    /**
+     * 평면 카테고리 목록으로 컬럼형 트리 생성
+     * - 부모가 목록에 없는 카테고리는 루트로 처리 (기존 트리 구성 방식과 동일)
+     * - 형제 간 순서: displayOrder 오름차순, 동일 값은 입력 순서 유지
+     */
+    public static CompactCategoryTree from(List<CategoryDto> categories) {
+        int size = categories.size();
+
+        // slot 배치: id 오름차순
+        Integer[] bySlot = new Integer[size];
+        for (int i = 0; i < size; i++) bySlot[i] = i;
+        Arrays.sort(bySlot, Comparator.comparingLong(i -> categories.get(i).getId()));
+
+        long idBase = size > 0 ? categories.get(bySlot[0]).getId() : 0L;
+        int[] slotOf = new int[size];
+        int[] ids = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            slotOf[bySlot[slot]] = slot;
+            ids[slot] = toOffset(idBase, categories.get(bySlot[slot]).getId());
+        }
+
+        int[] parents = new int[size];
+        int[] displayOrders = new int[size];
+        byte[] flags = new byte[size];
+        int[] titles = new int[size];
+        int[] links = new int[size];
+        List<Long> detached = new ArrayList<>();
+        CompactStringPool.Builder pool = CompactStringPool.builder();
+
+        for (int slot = 0; slot < size; slot++) {
+            CategoryDto category = categories.get(bySlot[slot]);
+            parents[slot] = resolveParentSlot(idBase, ids, category.getParentId(), detached);
+            displayOrders[slot] = category.getDisplayOrder();
+            flags[slot] = category.isActive() ? FLAG_ACTIVE : 0;
+            titles[slot] = pool.add(category.getTitle());
+            links[slot] = pool.add(category.getLink());
+        }
+
+        // 자식 연결: displayOrder 역순으로 앞에 삽입하여 오름차순 연결 리스트 구성
+        Integer[] byOrder = new Integer[size];
+        for (int i = 0; i < size; i++) byOrder[i] = i;
+        Arrays.sort(byOrder, Comparator.comparingInt(i -> categories.get(i).getDisplayOrder()));
+
+        int[] firstChildren = new int[size];
+        int[] nextSiblings = new int[size];
+        Arrays.fill(firstChildren, NONE);
+        int firstRoot = NONE;
+
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = slotOf[byOrder[i]];
+            int parent = parents[slot];
+            if (parent >= 0) {
+                nextSiblings[slot] = firstChildren[parent];
+                firstChildren[parent] = slot;
+            } else {
+                nextSiblings[slot] = firstRoot;
+                firstRoot = slot;
+            }
+        }
+
+        return new CompactCategoryTree(idBase, ids, parents, firstChildren, nextSiblings, displayOrders, flags,
+                titles, links, detached.stream().mapToLong(Long::longValue).toArray(), firstRoot, pool.build());
+    }
+
+    private static int toOffset(long idBase, long id) {
+        long offset = id - idBase;
+        if (offset > 0xFFFF_FFFFL) {
+            throw new IllegalArgumentException("카테고리 ID 범위가 너무 넓어 컬럼형 저장소를 구성할 수 없습니다.");
+        }
+        return (int) offset;
+    }
+
+    // 생성 중 unsigned 오프셋 배열 이진 탐색 (없으면 -1)
+    private static int findSlot(long idBase, int[] ids, long id) {
+        long offset = id - idBase;
+        if (offset < 0 || offset > 0xFFFF_FFFFL) return NONE;
+
+        int low = 0;
+        int high = ids.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compare = Integer.compareUnsigned(ids[mid], (int) offset);
+            if (compare < 0) low = mid + 1;
+            else if (compare > 0) high = mid - 1;
+            else return mid;
+        }
+        return NONE;
+    }
+
+    // 부모 slot 조회: 부모 없음(-1), 목록에 없는 부모는 detached 목록에 보관 후 음수 참조
+    private static int resolveParentSlot(long idBase, int[] ids, Long parentId, List<Long> detached) {
+        if (parentId == null) return NONE;
+
+        int parentSlot = findSlot(idBase, ids, parentId);
+        if (parentSlot >= 0) return parentSlot;
+
+        detached.add(parentId);
+        return -1 - detached.size();
+    }
+
+    // ===== 컬럼 접근 메서드 ===== //
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    long idBase() {
+        return idBase;
+    }
+
+    @Override
+    int idOffset(int slot) {
+        return ids[slot];
+    }
+
+    @Override
+    int parent(int slot) {
+        return parents[slot];
+    }
+
+    @Override
+    int firstChild(int slot) {
+        return firstChildren[slot];
+    }
+
+    @Override
+    int nextSibling(int slot) {
+        return nextSiblings[slot];
+    }
+
+    @Override
+    int displayOrder(int slot) {
+        return displayOrders[slot];
+    }
+
+    @Override
+    byte flags(int slot) {
+        return flags[slot];
+    }
+
+    @Override
+    String title(int slot) {
+        return strings.get(titles[slot]);
+    }
+
+    @Override
+    String link(int slot) {
+        return strings.get(links[slot]);
+    }
+
+    @Override
+    long detachedParentId(int index) {
+        return detachedParentIds[index];
+    }
+
+    @Override
+    int firstRoot() {
+        return firstRoot;
+    }
+
+    // ===== 스냅샷 기록용 컬럼 원본 ===== //
+    int[] idColumn() {
+        return ids;
+    }
+
+    int[] parentColumn() {
+        return parents;
+    }
+
+    int[] firstChildColumn() {
+        return firstChildren;
+    }
+
+    int[] nextSiblingColumn() {
+        return nextSiblings;
+    }
+
+    int[] displayOrderColumn() {
+        return displayOrders;
+    }
+
+    byte[] flagColumn() {
+        return flags;
+    }
+
+    int[] titleColumn() {
+        return titles;
+    }
+
+    int[] linkColumn() {
+        return links;
+    }
+
+    long[] detachedParentIdColumn() {
+        return detachedParentIds;
+    }
+
+    CompactStringPool strings() {
+        return strings;
+    }
+}
@@ -0,0 +1,87 @@
+package com.musinsa.shop.domain.category.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 중복 제거 문자열 풀
+ * - 동일 문자열은 한 번만 저장하고 참조 번호(ref)로 공유
+ * - 문자열 객체 대신 하나의 byte 배열에 [길이(varint)][UTF-8 bytes] 형태로 연속 저장
+ * - 참조 번호는 byte 배열 내 시작 위치
+ */
+public final class CompactStringPool {
+
+    public static final int NULL_REF = -1;
+
+    private final byte[] data;
+
+    CompactStringPool(byte[] data) {
+        this.data = data;
+    }
+
+    public String get(int ref) {
+        if (ref == NULL_REF) return null;
+
+        int length = 0;
+        int shift = 0;
+        int position = ref;
+        byte b;
+        do {
+            b = data[position++];
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return new String(data, position, length, StandardCharsets.UTF_8);
+    }
+
+    byte[] data() {
+        return data;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private final Map<String, Integer> refs = new HashMap<>();
+        private byte[] data = new byte[1024];
+        private int length;
+
+        // 문자열 등록 후 참조 번호 반환 (이미 등록된 문자열은 기존 참조 재사용)
+        public int add(String value) {
+            if (value == null) return NULL_REF;
+
+            Integer ref = refs.get(value);
+            if (ref != null) return ref;
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(bytes.length + 5);
+
+            int start = length;
+            int remaining = bytes.length;
+            while ((remaining & ~0x7F) != 0) {
+                data[length++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            data[length++] = (byte) remaining;
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+
+            refs.put(value, start);
+            return start;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + additional));
+            }
+        }
+
+        public CompactStringPool build() {
+            return new CompactStringPool(Arrays.copyOf(data, length));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.musinsa.shop.domain.category.store;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 카테고리 이름 검색용 정규화
+ * - 공백 제거, 소문자 변환, NFC 정규화 (자모 분리 입력 결합)
+ * - 한글 음절은 호환 자모로 분해 (겹모음/겹받침도 분해) : 입력 중인 음절("셔ㅊ", "셫")도 접두어로 일치
+ * - 초성 키 : 한글 음절은 초성, 나머지 문자는 그대로 ("셔츠" → "ㅅㅊ")
+ */
+public final class KoreanTitleNormalizer {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPAT_CONSONANT_END = 'ㅎ';
+    private static final char COMPAT_JAMO_END = 'ㅣ';
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 (ㄱ ~ ㅣ) 중 겹받침/겹모음 분해 (그 외 null)
+    private static final String[] COMPAT_COMPOUNDS = new String[COMPAT_JAMO_END - COMPAT_JAMO_BEGIN + 1];
+
+    static {
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"},
+                {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) {
+            COMPAT_COMPOUNDS[compound[0].charAt(0) - COMPAT_JAMO_BEGIN] = compound[1];
+        }
+    }
+
+    private KoreanTitleNormalizer() {
+    }
+
+    /**
+     * 검색 키 : 공백 제거 + 소문자 + 한글 자모 분해
+     */
+    public static String normalize(String text) {
+        String source = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(source.length() * 3);
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                key.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else if (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END && COMPAT_COMPOUNDS[c - COMPAT_JAMO_BEGIN] != null) {
+                key.append(COMPAT_COMPOUNDS[c - COMPAT_JAMO_BEGIN]);
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 초성 키 : 공백 제거 + 소문자 + 한글 음절은 초성만
+     */
+    public static String choseong(String text) {
+        String source = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(source.length());
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+
+            key.append(isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)] : String.valueOf(c));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 초성(자음)만으로 된 검색어 여부 ("ㅅㅊ")
+     */
+    public static boolean isChoseongOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c < COMPAT_JAMO_BEGIN || c > COMPAT_CONSONANT_END) return false;
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
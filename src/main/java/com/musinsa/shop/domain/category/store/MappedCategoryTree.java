@@ -0,0 +1,136 @@
+package com.musinsa.shop.domain.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryTreeStamp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메모리 매핑 스냅샷 파일 기반 컬럼형 카테고리 트리
+ * - 컬럼을 힙에 복사하지 않고 매핑된 버퍼에서 직접 조회 (동일 호스트 프로세스 간 page cache 공유)
+ * - 버퍼 레이아웃은 CategoryTreeSnapshot 참고
+ */
+public final class MappedCategoryTree extends ColumnarCategoryTree {
+
+    private final ByteBuffer buffer;
+    private final CategoryTreeStamp stamp;
+    private final int size;
+    private final int firstRoot;
+    private final long idBase;
+
+    private final int idsOffset;
+    private final int parentsOffset;
+    private final int firstChildrenOffset;
+    private final int nextSiblingsOffset;
+    private final int displayOrdersOffset;
+    private final int titlesOffset;
+    private final int linksOffset;
+    private final int detachedOffset;
+    private final int flagsOffset;
+    private final int stringsOffset;
+
+    MappedCategoryTree(ByteBuffer buffer, CategoryTreeStamp stamp, int size, int firstRoot, long idBase,
+                       int detachedCount, int bodyOffset) {
+        this.buffer = buffer;
+        this.stamp = stamp;
+        this.size = size;
+        this.firstRoot = firstRoot;
+        this.idBase = idBase;
+
+        int columnBytes = size * Integer.BYTES;
+        this.idsOffset = bodyOffset;
+        this.parentsOffset = idsOffset + columnBytes;
+        this.firstChildrenOffset = parentsOffset + columnBytes;
+        this.nextSiblingsOffset = firstChildrenOffset + columnBytes;
+        this.displayOrdersOffset = nextSiblingsOffset + columnBytes;
+        this.titlesOffset = displayOrdersOffset + columnBytes;
+        this.linksOffset = titlesOffset + columnBytes;
+        this.detachedOffset = linksOffset + columnBytes;
+        this.flagsOffset = detachedOffset + detachedCount * Long.BYTES;
+        this.stringsOffset = flagsOffset + size;
+    }
+
+    public CategoryTreeStamp getStamp() {
+        return stamp;
+    }
+
+    // ===== 컬럼 접근 메서드 ===== //
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    long idBase() {
+        return idBase;
+    }
+
+    @Override
+    int idOffset(int slot) {
+        return buffer.getInt(idsOffset + slot * Integer.BYTES);
+    }
+
+    @Override
+    int parent(int slot) {
+        return buffer.getInt(parentsOffset + slot * Integer.BYTES);
+    }
+
+    @Override
+    int firstChild(int slot) {
+        return buffer.getInt(firstChildrenOffset + slot * Integer.BYTES);
+    }
+
+    @Override
+    int nextSibling(int slot) {
+        return buffer.getInt(nextSiblingsOffset + slot * Integer.BYTES);
+    }
+
+    @Override
+    int displayOrder(int slot) {
+        return buffer.getInt(displayOrdersOffset + slot * Integer.BYTES);
+    }
+
+    @Override
+    byte flags(int slot) {
+        return buffer.get(flagsOffset + slot);
+    }
+
+    @Override
+    String title(int slot) {
+        return string(buffer.getInt(titlesOffset + slot * Integer.BYTES));
+    }
+
+    @Override
+    String link(int slot) {
+        return string(buffer.getInt(linksOffset + slot * Integer.BYTES));
+    }
+
+    @Override
+    long detachedParentId(int index) {
+        return buffer.getLong(detachedOffset + index * Long.BYTES);
+    }
+
+    @Override
+    int firstRoot() {
+        return firstRoot;
+    }
+
+    // 문자열 풀 참조 디코딩: [길이(varint)][UTF-8 bytes]
+    private String string(int ref) {
+        if (ref == CompactStringPool.NULL_REF) return null;
+
+        int position = stringsOffset + ref;
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(position++);
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
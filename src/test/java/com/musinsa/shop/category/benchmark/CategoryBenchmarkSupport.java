@@ -0,0 +1,131 @@
+package com.musinsa.shop.category.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 성능 측정 테스트 공통 메서드 (테스트 데이터 등록, 실행 시간/할당량 측정)
+ */
+final class CategoryBenchmarkSupport {
+
+    private static final int SEED_CHUNK = 100_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private CategoryBenchmarkSupport() {
+    }
+
+    @FunctionalInterface
+    interface Action {
+        void run() throws Exception;
+    }
+
+    static void run(Action action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 최상위 roots 개(ID 1 ~ roots) - 각 하위 childrenPerRoot 개(ID roots + 1 ~) 등록 후 통계 갱신 (100,000건 단위 INSERT ... SELECT)
+     * - 최상위 : 대분류-{ID}, path /{ID}/, 정렬 순서 ID
+     * - 하위 : 상품-{n}, path /{상위 ID}/{ID}/, 정렬 순서 n % 7 (트리 구성 시 정렬 비용 포함)
+     * - 모든 카테고리 링크 /category/{ID} 보유 (link_key 포함)
+     */
+    static void seedTree(JdbcTemplate jdbcTemplate, int roots, int childrenPerRoot) {
+        for (int from = 1; from <= roots; from += SEED_CHUNK) {
+            jdbcTemplate.update("INSERT INTO category (id, title, parent_key, path, link, link_key, display_order, active, deleted, " +
+                            "created_at, updated_at) SELECT x, CONCAT('대분류-', x), 0, CONCAT('/', x, '/'), CONCAT('/category/', x), " +
+                            "CONCAT('/category/', x), x, TRUE, FALSE, NOW(), NOW() FROM SYSTEM_RANGE(?, ?)",
+                    from, Math.min(from + SEED_CHUNK - 1, roots));
+        }
+
+        int children = roots * childrenPerRoot;
+        for (int from = 1; from <= children; from += SEED_CHUNK) {
+            jdbcTemplate.update("INSERT INTO category (id, title, parent_id, parent_key, path, link, link_key, display_order, active, deleted, " +
+                            "created_at, updated_at) SELECT ? + x, CONCAT('상품-', x), (x - 1) / ? + 1, (x - 1) / ? + 1, " +
+                            "CONCAT('/', (x - 1) / ? + 1, '/', ? + x, '/'), CONCAT('/category/', ? + x), CONCAT('/category/', ? + x), " +
+                            "MOD(x, 7), TRUE, FALSE, NOW(), NOW() FROM SYSTEM_RANGE(?, ?)",
+                    roots, childrenPerRoot, childrenPerRoot, childrenPerRoot, roots, roots, roots,
+                    from, Math.min(from + SEED_CHUNK - 1, children));
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // 카테고리 전체 삭제 (1,000,000건 DELETE 의 변경 기록으로 인메모리 H2 메모리가 부족하지 않도록 TRUNCATE, 자기 참조 FK 검사 일시 해제)
+    static void clear(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            jdbcTemplate.execute("TRUNCATE TABLE category");
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    // 1회 실행 시간 (ns)
+    static long elapsed(Action action) {
+        long start = System.nanoTime();
+        run(action);
+        return System.nanoTime() - start;
+    }
+
+    // warmUp 회 실행 후 runs 회 실행 시간 (ns) 오름차순
+    static long[] sample(int warmUp, int runs, Action action) {
+        for (int i = 0; i < warmUp; i++) {
+            run(action);
+        }
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            nanos[i] = elapsed(action);
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    // 0 ~ count - 1 번째 작업 실행 시간 (ns) 오름차순 (작업마다 입력이 다른 경우)
+    static long[] sampleEach(int count, IntConsumer action) {
+        long[] nanos = new long[count];
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            nanos[i] = elapsed(() -> action.accept(index));
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    static long median(long[] sorted) {
+        return percentile(sorted, 0.5);
+    }
+
+    static long percentile(long[] sorted, double p) {
+        return sorted[Math.max((int) Math.ceil(sorted.length * p) - 1, 0)];
+    }
+
+    // warmUp 회 실행 후 1회 실행 시간 (ns) 중앙값
+    static long median(int warmUp, int runs, Action action) {
+        return median(sample(warmUp, runs, action));
+    }
+
+    // 1회 실행 중 현재 스레드가 할당한 힙 바이트 (GC 와 무관한 누적 할당량)
+    static long allocatedBytes(Action action) {
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        run(action);
+        return THREADS.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    static double perSecond(long count, long nanos) {
+        return count / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,28 @@
+package com.musinsa.shop.category.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션 컨텍스트를 사용하는 성능 측정 테스트 공통 설정 (./gradlew benchmark)
+ * - SQL 로그 미출력, 테스트 프로필
+ * - SqlTrace 로 테스트 스레드의 JDBC 왕복/변경 행 수 기록 (같은 설정이므로 성능 측정 테스트 간 컨텍스트 재사용)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=warn"
+})
+@ActiveProfiles("test")
+@Import(SqlTrace.DataSourceConfig.class)
+@interface CategoryBenchmarkTest {
+}
@@ -0,0 +1,152 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.dto.CategoryBulkActiveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryBulkMoveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryBulkService;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 일괄 변경 성능 측정 (./gradlew benchmark)
+ * - 1,000개 카테고리(각 하위 2개)를 단건 수정 반복 vs 일괄 API 로 이동/비활성 처리
+ * - 일괄 API 의 path/부모/활성 여부 변경은 집합 단위 UPDATE : 대상 수와 무관하게 실행 수 동일 (50개 / 1,000개), 변경 행 수 = 대상 (하위 포함)
+ * - 단건 수정 반복은 카테고리마다 path 변경 UPDATE 실행
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 일괄 변경")
+class CategoryBulkBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SMALL_BATCH_SIZE = 50;
+    private static final String PATH_UPDATE = "set path=";
+    private static final String PARENT_UPDATE = "set parent_id=";
+    private static final String ACTIVE_UPDATE = "set active=";
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryBulkService categoryBulkService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+    }
+
+    // 시즌 카테고리 하위에 batchSize 개 카테고리(각 하위 2개) 생성 후 이동 대상 ID 반환
+    private List<Long> seed(Category season, int batchSize) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            Category category = save("상품-" + i, season);
+            save("상품-" + i + "-a", category);
+            save("상품-" + i + "-b", category);
+            ids.add(category.getId());
+        }
+        return ids;
+    }
+
+    private Category save(String title, Category parent) {
+        Category category = categoryRepository.save(Category.create(title, 1, null, true, parent));
+        category.updatePath();
+        categoryRepository.save(category);
+        return category;
+    }
+
+    private SqlTrace.Result moveIndividually(List<Long> ids, Long parentId) {
+        return SqlTrace.record(() -> {
+            for (int i = 0; i < ids.size(); i++) {
+                categoryService.updateCategory(ids.get(i), new CategoryUpdateRequest("상품-" + i, parentId, null, null, null));
+            }
+        });
+    }
+
+    private SqlTrace.Result moveInBulk(List<Long> ids, Long parentId) {
+        List<CategoryBulkMoveRequest.Move> moves = ids.stream()
+                .map(id -> new CategoryBulkMoveRequest.Move(id, parentId))
+                .toList();
+        return SqlTrace.record(() -> categoryBulkService.moveCategories(moves));
+    }
+
+    private SqlTrace.Result activateInBulk(List<Long> ids, boolean active) {
+        List<CategoryBulkActiveRequest.Item> items = ids.stream()
+                .map(id -> new CategoryBulkActiveRequest.Item(id, active))
+                .toList();
+        return SqlTrace.record(() -> categoryBulkService.updateActiveCategories(items));
+    }
+
+    @Test
+    @DisplayName("1,000개 카테고리 이동: 일괄 이동 path/부모 UPDATE 실행 수는 대상 수와 무관, 하위 포함 3,000개 path 변경")
+    void benchmark_bulk_move() {
+        // 워밍업 (50개 일괄 이동 실행 기록)
+        Category warmUpSeason = save("워밍업", null);
+        moveIndividually(seed(warmUpSeason, SMALL_BATCH_SIZE), save("워밍업 아카이브", null).getId());
+        SqlTrace.Result smallBulk = moveInBulk(seed(warmUpSeason, SMALL_BATCH_SIZE), save("워밍업 아울렛", null).getId());
+        categoryRepository.deleteAllInBatch();
+
+        Category season = save("시즌", null);
+        Category archive = save("아카이브", null);
+        Category outlet = save("아울렛", null);
+
+        SqlTrace.Result individual = moveIndividually(seed(season, BATCH_SIZE), archive.getId());
+        SqlTrace.Result bulk = moveInBulk(categoryIdsUnder(archive), outlet.getId());
+
+        System.out.printf("move %d categories - individual: %.0f ms (%,d path updates), bulk: %.0f ms (%d path updates, %,d rows)%n",
+                BATCH_SIZE, millis(individual.nanos()), individual.count(PATH_UPDATE),
+                millis(bulk.nanos()), bulk.count(PATH_UPDATE), bulk.updatedRows(PATH_UPDATE));
+
+        Category moved = categoryRepository.findById(categoryIdsUnder(outlet).get(0)).orElseThrow();
+        assertTrue(moved.getPath().startsWith(outlet.getPath()));
+        assertTrue(individual.count(PATH_UPDATE) >= BATCH_SIZE);
+        assertEquals(smallBulk.count(PATH_UPDATE), bulk.count(PATH_UPDATE));
+        assertEquals(smallBulk.count(PARENT_UPDATE), bulk.count(PARENT_UPDATE));
+        assertEquals(BATCH_SIZE * 3L, bulk.updatedRows(PATH_UPDATE));
+        assertEquals(BATCH_SIZE, bulk.updatedRows(PARENT_UPDATE));
+    }
+
+    @Test
+    @DisplayName("1,000개 카테고리 비활성: 일괄 변경 활성 여부 UPDATE 실행 수는 대상 수와 무관")
+    void benchmark_bulk_active() {
+        SqlTrace.Result smallBulk = activateInBulk(seed(save("워밍업", null), SMALL_BATCH_SIZE), false);
+        Category season = save("시즌", null);
+        List<Long> ids = seed(season, BATCH_SIZE);
+
+        SqlTrace.Result individual = SqlTrace.record(() -> {
+            for (int i = 0; i < ids.size(); i++) {
+                categoryService.updateCategory(ids.get(i), new CategoryUpdateRequest("상품-" + i, season.getId(), null, null, false));
+            }
+        });
+        SqlTrace.Result bulk = activateInBulk(ids, true);
+
+        System.out.printf("toggle active of %d categories - individual: %.0f ms (%,d round trips), bulk: %.0f ms (%d active updates, %,d rows)%n",
+                BATCH_SIZE, millis(individual.nanos()), individual.roundTrips(),
+                millis(bulk.nanos()), bulk.count(ACTIVE_UPDATE), bulk.updatedRows(ACTIVE_UPDATE));
+
+        assertEquals(BATCH_SIZE, categoryRepository.findAllById(ids).stream().filter(Category::getActive).count());
+        assertTrue(individual.roundTrips() >= BATCH_SIZE);
+        assertEquals(smallBulk.count(ACTIVE_UPDATE), bulk.count(ACTIVE_UPDATE));
+        assertEquals(BATCH_SIZE, bulk.updatedRows(ACTIVE_UPDATE));
+    }
+
+    private List<Long> categoryIdsUnder(Category parent) {
+        return categoryRepository.findAll().stream()
+                .filter(category -> category.getParent() != null && parent.getId().equals(category.getParent().getId()))
+                .map(Category::getId)
+                .toList();
+    }
+}
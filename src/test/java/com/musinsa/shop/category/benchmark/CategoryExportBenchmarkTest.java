@@ -0,0 +1,122 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.dto.CategoryExportFormat;
+import com.musinsa.shop.domain.category.service.CategoryExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.zip.GZIPOutputStream;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.clear;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.perSecond;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.seedTree;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 전체 내보내기 성능 측정 (./gradlew benchmark)
+ * - 1,000,000개 카테고리를 NDJSON/CSV + gzip 으로 내보낸 처리량
+ * - 내보내기 도중 힙 사용 증가량이 고정 상한(HEAP_CAP_BYTES) 이하인지 검증 (전체 결과를 메모리에 모으지 않음)
+ * - 전체 건수와 무관하게 SELECT 1회 스트리밍 (페이지 반복 조회 없음)
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 전체 내보내기")
+class CategoryExportBenchmarkTest {
+
+    private static final int ROOTS = 1_000;
+    private static final int CHILDREN_PER_ROOT = 999;
+    private static final int ROWS = ROOTS * (CHILDREN_PER_ROOT + 1);
+    private static final long HEAP_CAP_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private CategoryExportService categoryExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @AfterEach
+    void tearDown() {
+        clear(jdbcTemplate);
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private Result export(CategoryExportFormat format) {
+        long baseline = usedHeapAfterGc();
+        HeapSamplingOutputStream counter = new HeapSamplingOutputStream();
+
+        long[] rows = new long[1];
+        SqlTrace.Result trace = SqlTrace.record(() ->
+                rows[0] = categoryExportService.exportCategories(format, new GZIPOutputStream(counter, 64 * 1024)));
+
+        return new Result(rows[0], counter.bytes, trace, counter.peakUsedHeap - baseline);
+    }
+
+    private void print(CategoryExportFormat format, Result result) {
+        System.out.printf("export %s+gzip %d rows - %.0f ms, %.0f rows/s, %.1f MB gzip, heap growth %.1f MB, %d round trips%n",
+                format, result.rows(), millis(result.trace().nanos()), perSecond(result.rows(), result.trace().nanos()),
+                result.bytes() / 1024.0 / 1024.0, result.heapGrowth() / 1024.0 / 1024.0, result.trace().roundTrips());
+    }
+
+    @Test
+    @DisplayName("1,000,000개 카테고리 NDJSON/CSV gzip 내보내기 : 힙 사용 상한, SELECT 1회")
+    void benchmark_export() {
+        seedTree(jdbcTemplate, ROOTS, CHILDREN_PER_ROOT);
+
+        // 워밍업
+        export(CategoryExportFormat.NDJSON);
+
+        for (CategoryExportFormat format : CategoryExportFormat.values()) {
+            Result result = export(format);
+            print(format, result);
+
+            assertEquals(ROWS, result.rows());
+            assertEquals(1, result.trace().roundTrips(), String.join("\n", result.trace().statements()));
+            assertTrue(result.heapGrowth() < HEAP_CAP_BYTES,
+                    String.format("%s heap growth %d bytes", format, result.heapGrowth()));
+        }
+    }
+
+    private record Result(long rows, long bytes, SqlTrace.Result trace, long heapGrowth) {
+    }
+
+    // 기록된 바이트 수를 세고, 약 1MB 기록마다 GC 후 힙 사용량을 측정하여 최대값 보관 (출력 내용은 버림)
+    private class HeapSamplingOutputStream extends OutputStream {
+
+        private static final long SAMPLE_INTERVAL_BYTES = 1024L * 1024;
+
+        private long bytes;
+        private long nextSample = SAMPLE_INTERVAL_BYTES;
+        private long peakUsedHeap;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            bytes += len;
+            if (bytes >= nextSample) {
+                nextSample += SAMPLE_INTERVAL_BYTES;
+                peakUsedHeap = Math.max(peakUsedHeap, usedHeapAfterGc());
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.dto.CategoryFlatPageResponse;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.service.CategoryFlatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.allocatedBytes;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.clear;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.elapsed;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.perSecond;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.seedTree;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 평면 목록 전체 순회 성능 측정 (./gradlew benchmark)
+ * - 1,000,000개 카테고리를 keyset 페이지(1,000건)로 끝까지 순회한 처리량
+ * - 페이지 1개당 DB 왕복 1회, 요청 1회 할당량은 페이지 크기에 비례하고 페이지 위치와 무관 (첫 페이지 vs 900,000번째 이후 페이지)
+ * - 같은 위치 페이지를 OFFSET 으로 조회한 시간과 비교
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 평면 목록")
+class CategoryFlatBenchmarkTest {
+
+    private static final int ROOTS = 1_000;
+    private static final int CHILDREN_PER_ROOT = 999;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int DEEP_PAGE = 900;
+
+    @Autowired
+    private CategoryFlatService categoryFlatService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 순회 중 기록한 DEEP_PAGE 번째 페이지 커서
+    private String deepCursor;
+
+    @AfterEach
+    void tearDown() {
+        clear(jdbcTemplate);
+    }
+
+    private CategoryFlatPageResponse page(String cursor) {
+        return categoryFlatService.getFlatCategories(new CategoryFlatRequest(cursor, PAGE_SIZE, null, false, null, null));
+    }
+
+    // 처음부터 마지막 페이지까지 순회한 건수
+    private long sweep() {
+        long rows = 0;
+        int pages = 0;
+        String cursor = null;
+        do {
+            if (pages++ == DEEP_PAGE) deepCursor = cursor;
+            CategoryFlatPageResponse page = page(cursor);
+            assertTrue(page.getItems().size() <= PAGE_SIZE);
+            rows += page.getItems().size();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("1,000,000개 카테고리 keyset 전체 순회 : 페이지당 DB 왕복 1회, 페이지 위치와 무관한 할당량")
+    void benchmark_flat_sweep() {
+        seedTree(jdbcTemplate, ROOTS, CHILDREN_PER_ROOT);
+        long total = (long) ROOTS * (CHILDREN_PER_ROOT + 1);
+        long pages = (total + PAGE_SIZE - 1) / PAGE_SIZE;
+
+        // 워밍업
+        sweep();
+
+        long[] rows = new long[1];
+        SqlTrace.Result sweep = SqlTrace.record(() -> rows[0] = sweep());
+
+        // 페이지 1회 할당량 : 첫 페이지 vs 900,000번째 이후 페이지 (반복 측정 최소값)
+        long firstPageBytes = Long.MAX_VALUE;
+        long deepPageBytes = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            firstPageBytes = Math.min(firstPageBytes, allocatedBytes(() -> page(null)));
+            deepPageBytes = Math.min(deepPageBytes, allocatedBytes(() -> page(deepCursor)));
+        }
+
+        // 900,000번째 이후 페이지 : keyset (직전 path 이후) vs OFFSET
+        String lastPath = jdbcTemplate.queryForObject(
+                "SELECT path FROM category WHERE deleted = FALSE ORDER BY path LIMIT 1 OFFSET ?", String.class, DEEP_PAGE * PAGE_SIZE - 1);
+        long keysetPageNanos = elapsed(() -> jdbcTemplate.queryForList(
+                "SELECT id FROM category WHERE deleted = FALSE AND path > ? ORDER BY path LIMIT ?", Long.class, lastPath, PAGE_SIZE));
+        long offsetPageNanos = elapsed(() -> jdbcTemplate.queryForList(
+                "SELECT id FROM category WHERE deleted = FALSE ORDER BY path LIMIT ? OFFSET ?", Long.class, PAGE_SIZE, DEEP_PAGE * PAGE_SIZE));
+
+        System.out.printf("flat sweep %d rows (page %d) - %.0f ms, %.0f rows/s, %d round trips / %d pages%n",
+                rows[0], PAGE_SIZE, millis(sweep.nanos()), perSecond(rows[0], sweep.nanos()), sweep.roundTrips(), pages);
+        System.out.printf("page allocation - first: %.1f KB, at 900,000: %.1f KB%n", firstPageBytes / 1024.0, deepPageBytes / 1024.0);
+        System.out.printf("page at 900,000 - keyset: %.2f ms, offset: %.2f ms%n", millis(keysetPageNanos), millis(offsetPageNanos));
+
+        assertEquals(total, rows[0]);
+        assertEquals(pages, sweep.roundTrips());
+        assertTrue(deepPageBytes < firstPageBytes * 3 / 2,
+                String.format("first %d bytes, deep %d bytes", firstPageBytes, deepPageBytes));
+        assertTrue(keysetPageNanos < offsetPageNanos);
+    }
+}
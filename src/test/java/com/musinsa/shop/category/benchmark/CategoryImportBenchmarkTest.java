@@ -0,0 +1,127 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryImportFormat;
+import com.musinsa.shop.domain.category.dto.CategoryImportResponse;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryImportService;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.perSecond;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 일괄 가져오기 성능 측정 (./gradlew benchmark)
+ * - 100,000개 트리(최상위 100 × 하위 10 × 하위 100) CSV 가져오기 처리량
+ * - 기존 단건 등록 API(createCategory) 반복 대비 MIN_SPEEDUP 배 이상 빠른지 검증
+ * - INSERT / path UPDATE 는 깊이별 배치 크기 단위 배치 실행 (깊이별 ceil(건수 / 배치 크기)회), 검증만(dryRun) 은 INSERT 없음
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 일괄 가져오기")
+class CategoryImportBenchmarkTest {
+
+    private static final int ROOTS = 100;
+    private static final int CHILDREN = 10;
+    private static final int GRANDCHILDREN = 100;
+    private static final int SINGLE_ROWS = 2_000;
+    private static final double MIN_SPEEDUP = 10.0;
+    private static final String INSERT = "insert into category";
+    private static final String PATH_UPDATE = "update category set path";
+
+    @Autowired
+    private CategoryImportService categoryImportService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+    }
+
+    // 하위 행이 상위 행보다 먼저 나오도록 역순 기록
+    private byte[] csv() {
+        List<String> lines = new ArrayList<>();
+        for (int r = 0; r < ROOTS; r++) {
+            for (int c = 0; c < CHILDREN; c++) {
+                for (int g = 0; g < GRANDCHILDREN; g++) {
+                    lines.add("g" + r + "-" + c + "-" + g + ",c" + r + "-" + c + ",카테고리-" + g + "," + (g + 1));
+                }
+                lines.add("c" + r + "-" + c + ",r" + r + ",카테고리-" + c + "," + (c + 1));
+            }
+            lines.add("r" + r + ",,카테고리-" + r + "," + (r + 1));
+        }
+        return ("ref,parentRef,title,displayOrder\n" + String.join("\n", lines)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private SqlTrace.Result importCategories(byte[] file, boolean dryRun, CategoryImportResponse[] response) {
+        return SqlTrace.record(() -> response[0] = categoryImportService.importCategories(
+                new ByteArrayInputStream(file), CategoryImportFormat.CSV, null, dryRun));
+    }
+
+    private long batches(int rows, int batchSize) {
+        return (rows + batchSize - 1) / batchSize;
+    }
+
+    @Test
+    @DisplayName("100,000개 트리 가져오기 : 단건 등록 반복 대비 처리량, 깊이별 배치 INSERT / path UPDATE")
+    void benchmark_import() {
+        byte[] file = csv();
+        int total = ROOTS * CHILDREN * GRANDCHILDREN + ROOTS * CHILDREN + ROOTS;
+        int batchSize = categoryProperties.getBulkImport().getBatchSize();
+        long expectedBatches = batches(ROOTS, batchSize) + batches(ROOTS * CHILDREN, batchSize)
+                + batches(ROOTS * CHILDREN * GRANDCHILDREN, batchSize);
+
+        // 단건 등록 반복 (최상위 1개 하위에 SINGLE_ROWS 개)
+        Long parentId = categoryService.createCategory(new CategoryRequest("단건", null, 1, null, true)).getId();
+        SqlTrace.Result single = SqlTrace.record(() -> {
+            for (int i = 0; i < SINGLE_ROWS; i++) {
+                categoryService.createCategory(new CategoryRequest("카테고리-" + i, parentId, i + 1, null, true));
+            }
+        });
+        categoryRepository.deleteAllInBatch();
+
+        CategoryImportResponse[] dryRun = new CategoryImportResponse[1];
+        SqlTrace.Result validate = importCategories(file, true, dryRun);
+
+        CategoryImportResponse[] result = new CategoryImportResponse[1];
+        SqlTrace.Result bulk = importCategories(file, false, result);
+
+        double speedup = perSecond(total, bulk.nanos()) / perSecond(SINGLE_ROWS, single.nanos());
+        System.out.printf("single create %d rows - %.0f rows/s, %,d round trips%n",
+                SINGLE_ROWS, perSecond(SINGLE_ROWS, single.nanos()), single.roundTrips());
+        System.out.printf("import dryRun %d rows - %.0f rows/s, %d round trips%n",
+                total, perSecond(total, validate.nanos()), validate.roundTrips());
+        System.out.printf("import %d rows (depth %d) - %.0f ms, %.0f rows/s (x%.1f), %d insert batches, %d path update batches, %d round trips%n",
+                total, result[0].getMaxDepth(), millis(bulk.nanos()), perSecond(total, bulk.nanos()), speedup,
+                bulk.count(INSERT), bulk.count(PATH_UPDATE), bulk.roundTrips());
+
+        assertEquals(0, dryRun[0].getErrorCount());
+        assertEquals(0, validate.count(INSERT));
+        assertEquals(total, result[0].getCreatedCount());
+        assertEquals(total, categoryRepository.count());
+        assertTrue(single.count(INSERT) >= SINGLE_ROWS);
+        assertEquals(expectedBatches, bulk.count(INSERT));
+        assertEquals(expectedBatches, bulk.count(PATH_UPDATE));
+        assertEquals(total, bulk.updatedRows(PATH_UPDATE));
+        assertTrue(speedup >= MIN_SPEEDUP, String.format("speedup x%.1f", speedup));
+    }
+}
@@ -0,0 +1,156 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryResolveResponse;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryLinkService;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Random;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.elapsed;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.percentile;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.sampleEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 100,000개 링크 조회 시간 측정 (./gradlew benchmark)
+ * - 최상위 100개 - 중분류 1,000개 - 소분류 98,900개, 링크 /category/{상위 ID}/{ID} 형태 (상위 링크 + 구간)
+ * - 요청 : 정확히 일치하는 링크 (메모리 색인) / 등록되지 않은 하위 경로 1 ~ 2구간 추가 (DB 후보 링크 조회 후 가장 긴 링크와 일치)
+ * - 비교 : 메모리 색인 해시 조회 vs DB 조회 (link_key 유니크 인덱스 IN 조회, category.link-index.enabled=false)
+ * - DB 왕복 : 정확히 일치하는 링크 0회, 하위 경로 / 색인 미사용 요청 1건당 1회 (후보 링크 IN 조회)
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 링크로 카테고리 조회")
+class CategoryLinkResolveBenchmarkTest {
+
+    private static final int ROOTS = 100;
+    private static final int MIDDLES = 1_000;
+    private static final int CATEGORIES = 100_000;
+    private static final int REQUESTS = 20_000;
+    private static final int DB_REQUESTS = 2_000;
+
+    @Autowired
+    private CategoryLinkService categoryLinkService;
+
+    @Autowired
+    private CategoryLinkIndex linkIndex;
+
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        categoryProperties.getLinkIndex().setEnabled(true);
+        categoryRepository.deleteAllInBatch();
+        linkIndex.load();
+    }
+
+    // ID 1 ~ ROOTS 최상위, ~ ROOTS + MIDDLES 중분류, 나머지 소분류 (ID/링크 지정하여 등록)
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO category (id, title, parent_key, path, link, link_key, display_order, active, deleted, " +
+                "created_at, updated_at) SELECT x, CONCAT('대분류-', x), 0, CONCAT('/', x, '/'), CONCAT('/category/', x), " +
+                "CONCAT('/category/', x), x, TRUE, FALSE, NOW(), NOW() FROM SYSTEM_RANGE(1, ?)", ROOTS);
+        insertChildren(ROOTS + 1, ROOTS + MIDDLES, 1, ROOTS);
+        insertChildren(ROOTS + MIDDLES + 1, CATEGORIES, ROOTS + 1, MIDDLES);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // ID from ~ to 카테고리를 parentFrom 부터 parentCount 개 상위 카테고리에 나눠 등록 (링크 = 상위 링크 + '/' + ID)
+    private void insertChildren(long from, long to, long parentFrom, long parentCount) {
+        jdbcTemplate.update("INSERT INTO category (id, title, parent_id, parent_key, path, link, link_key, display_order, active, deleted, " +
+                        "created_at, updated_at) SELECT x, CONCAT('카테고리-', x), p.id, p.id, CONCAT(p.path, x, '/'), " +
+                        "CONCAT(p.link, '/', x), CONCAT(p.link, '/', x), 1, TRUE, FALSE, NOW(), NOW() " +
+                        "FROM SYSTEM_RANGE(?, ?) JOIN category p ON p.id = ? + MOD(x, ?)",
+                from, to, parentFrom, parentCount);
+    }
+
+    private String[] requests(int count, Random random, boolean exact) {
+        String[] requests = new String[count];
+        for (int i = 0; i < count; i++) {
+            long id = 1 + random.nextInt(CATEGORIES);
+            String link = jdbcLink(id);
+            if (exact) {
+                requests[i] = link;
+            } else {
+                requests[i] = i % 2 == 0 ? link + "/sale" : link + "/page/" + random.nextInt(10);
+            }
+        }
+        return requests;
+    }
+
+    // seed 와 같은 규칙으로 링크 계산 : 최상위 /category/{id}, 하위는 상위 링크 + /{id}
+    private static String jdbcLink(long id) {
+        if (id <= ROOTS) return "/category/" + id;
+        long parentId = id <= ROOTS + MIDDLES ? 1 + (id % ROOTS) : ROOTS + 1 + (id % MIDDLES);
+        return jdbcLink(parentId) + "/" + id;
+    }
+
+    // 요청 1건당 조회 시간 (ns) 오름차순 및 전체 JDBC 실행 기록
+    private Measurement measure(String[] requests) {
+        CategoryResolveResponse[] results = new CategoryResolveResponse[requests.length];
+        long[][] nanos = new long[1][];
+        SqlTrace.Result trace = SqlTrace.record(() ->
+                nanos[0] = sampleEach(requests.length, i -> results[i] = categoryLinkService.resolve(requests[i])));
+        for (int i = 0; i < requests.length; i++) {
+            assertTrue(requests[i].startsWith(results[i].getLink()));
+        }
+        return new Measurement(nanos[0], trace);
+    }
+
+    @Test
+    @DisplayName("카테고리 100,000개 링크 조회 p50/p99 : 메모리 색인(DB 왕복 없음) vs 하위 경로(DB 후보 링크 1회) vs DB")
+    void benchmark_resolve_100k() {
+        seed();
+        long loadNanos = elapsed(linkIndex::load);
+        assertEquals(CATEGORIES, linkIndex.size());
+
+        Random random = new Random(42);
+        String[] requests = requests(REQUESTS, random, true);
+        for (int i = 0; i < 5; i++) {
+            measure(requests);
+        }
+        Measurement indexed = measure(requests);
+
+        String[] subPathRequests = requests(DB_REQUESTS, random, false);
+        measure(subPathRequests);
+        Measurement subPath = measure(subPathRequests);
+
+        categoryProperties.getLinkIndex().setEnabled(false);
+        String[] dbRequests = requests(DB_REQUESTS, random, true);
+        measure(dbRequests);
+        Measurement db = measure(dbRequests);
+
+        System.out.printf("resolve link over %,d categories - index load: %.1f ms, index p50: %.1f us, p99: %.1f us (%d round trips) / " +
+                        "sub path p50: %.1f us, p99: %.1f us (%,d round trips) / db p50: %.1f us, p99: %.1f us (%,d round trips)%n",
+                CATEGORIES, millis(loadNanos), indexed.micros(0.5), indexed.micros(0.99), indexed.trace().roundTrips(),
+                subPath.micros(0.5), subPath.micros(0.99), subPath.trace().roundTrips(),
+                db.micros(0.5), db.micros(0.99), db.trace().roundTrips());
+        assertEquals(0, indexed.trace().roundTrips());
+        assertEquals(DB_REQUESTS, subPath.trace().roundTrips());
+        assertEquals(DB_REQUESTS, db.trace().roundTrips());
+        assertTrue(indexed.micros(0.99) < 50, "p99 " + indexed.micros(0.99) + " us");
+        assertTrue(median(indexed.nanos()) < median(db.nanos()));
+    }
+
+    private record Measurement(long[] nanos, SqlTrace.Result trace) {
+
+        double micros(double p) {
+            return percentile(nanos, p) / 1_000.0;
+        }
+    }
+}
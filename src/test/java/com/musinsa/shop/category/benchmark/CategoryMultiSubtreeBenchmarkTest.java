@@ -0,0 +1,99 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.clear;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.seedTree;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 하위 트리 동시 조회 시간 측정 (./gradlew benchmark)
+ * - 100,000개 카테고리 (최상위 100개 - 각 하위 999개) 중 메인 화면 메뉴 5개(최상위) 하위 트리 조회
+ * - 카테고리별 readCategories 5회 (path 조회 + 하위 트리 조회 각 5회) vs readSubtrees 1회 (path 조회 1회 + 하위 트리 조회 1회)
+ * - 겹치는 요청 : 최상위 1개 + 그 하위 카테고리 4개 (readSubtrees 는 최상위 하위 트리만 조회)
+ * - DB 왕복 : readSubtrees 는 요청 카테고리 수와 무관 (1개 요청과 동일), 카테고리별 조회는 요청 수에 비례
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 여러 하위 트리 동시 조회")
+class CategoryMultiSubtreeBenchmarkTest {
+
+    private static final int ROOTS = 100;
+    private static final int CHILDREN_PER_ROOT = 999;
+    private static final int WARM_UP = 20;
+    private static final int RUNS = 50;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        clear(jdbcTemplate);
+    }
+
+    private List<CategoryTreeResponse> readEach(List<Long> parentIds) {
+        List<CategoryTreeResponse> tree = new ArrayList<>();
+        parentIds.forEach(parentId -> tree.addAll(categoryService.readCategories(parentId)));
+        return tree;
+    }
+
+    private static int countNodes(List<CategoryTreeResponse> tree) {
+        int count = tree.size();
+        for (CategoryTreeResponse node : tree) {
+            count += countNodes(node.getChildren());
+        }
+        return count;
+    }
+
+    @Test
+    @DisplayName("메뉴 5개 하위 트리 : readSubtrees 1회가 카테고리별 조회 5회보다 DB 왕복 적고 빠름 (겹치는 요청은 1회만 조회)")
+    void benchmark_multi_subtree_read() {
+        seedTree(jdbcTemplate, ROOTS, CHILDREN_PER_ROOT);
+        List<Long> departments = List.of(3L, 17L, 42L, 58L, 91L);
+        long firstChild = ROOTS + 1;
+        List<Long> nested = List.of(1L, firstChild, firstChild + 1, firstChild + 2, firstChild + 3);
+
+        Map<Long, List<CategoryTreeResponse>> subtrees = categoryService.readSubtrees(departments);
+        int nodes = countNodes(subtrees.values().stream().flatMap(List::stream).toList());
+        assertEquals(countNodes(readEach(departments)), nodes);
+        assertEquals(departments.size() * (1 + CHILDREN_PER_ROOT), nodes);
+
+        long eachDepartments = median(WARM_UP, RUNS, () -> readEach(departments));
+        long multiDepartments = median(WARM_UP, RUNS, () -> categoryService.readSubtrees(departments));
+        long eachNested = median(WARM_UP, RUNS, () -> readEach(nested));
+        long multiNested = median(WARM_UP, RUNS, () -> categoryService.readSubtrees(nested));
+
+        SqlTrace.Result single = SqlTrace.record(() -> categoryService.readCategories(departments.get(0)));
+        SqlTrace.Result each = SqlTrace.record(() -> readEach(departments));
+        SqlTrace.Result multiSingle = SqlTrace.record(() -> categoryService.readSubtrees(departments.subList(0, 1)));
+        SqlTrace.Result multi = SqlTrace.record(() -> categoryService.readSubtrees(departments));
+        SqlTrace.Result multiNestedTrace = SqlTrace.record(() -> categoryService.readSubtrees(nested));
+
+        System.out.printf("5 departments (%,d nodes) - readCategories x5: %.2f ms (%d round trips), readSubtrees: %.2f ms (%d round trips)%n",
+                nodes, millis(eachDepartments), each.roundTrips(), millis(multiDepartments), multi.roundTrips());
+        System.out.printf("root + 4 nested children - readCategories x5: %.2f ms, readSubtrees: %.2f ms%n",
+                millis(eachNested), millis(multiNested));
+
+        assertEquals(departments.size() * single.roundTrips(), each.roundTrips());
+        assertEquals(multiSingle.roundTrips(), multi.roundTrips());
+        assertEquals(multiSingle.roundTrips(), multiNestedTrace.roundTrips());
+        assertTrue(multi.roundTrips() < each.roundTrips());
+        assertTrue(multiDepartments < eachDepartments);
+        assertTrue(multiNested < eachNested);
+    }
+}
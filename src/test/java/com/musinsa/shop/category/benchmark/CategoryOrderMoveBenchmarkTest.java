@@ -0,0 +1,114 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryOrderService;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 정렬 순서 이동 시간 및 변경 행 수 측정 (./gradlew benchmark)
+ * - 상위 카테고리 1개 - 하위 1,000개 (간격 순위)
+ * - 기준 카테고리 앞 이동 (본인 1행) vs 하위 카테고리 전체 목록으로 순서 일괄 변경 (CASE UPDATE, 200개 단위)
+ * - 변경 행 수 : 이동은 JDBC 변경 행 1, 전체 목록 순서 변경은 하위 카테고리 전체
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 정렬 순서 이동")
+class CategoryOrderMoveBenchmarkTest {
+
+    private static final long PARENT_ID = 1L;
+    private static final int CHILDREN = 1_000;
+    private static final int WARM_UP = 20;
+    private static final int RUNS = 200;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryOrderService categoryOrderService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(42);
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+    }
+
+    // 상위 카테고리(ID 1) 하위 CHILDREN 개 (ID 2 ~, 순위 1024, 2048, ...) 등록 후 하위 카테고리 ID 반환
+    private List<Long> seed() {
+        jdbcTemplate.update("INSERT INTO category (id, title, parent_key, path, display_order, active, deleted, created_at, updated_at) " +
+                "VALUES (?, '상의', 0, '/1/', 1, TRUE, FALSE, NOW(), NOW())", PARENT_ID);
+        jdbcTemplate.update("INSERT INTO category (id, title, parent_id, parent_key, path, display_order, active, deleted, created_at, updated_at) " +
+                        "SELECT 1 + x, CONCAT('상품-', x), ?, ?, CONCAT('/1/', 1 + x, '/'), x * 1024, TRUE, FALSE, NOW(), NOW() " +
+                        "FROM SYSTEM_RANGE(1, ?)",
+                PARENT_ID, PARENT_ID, CHILDREN);
+        jdbcTemplate.execute("ANALYZE");
+        return jdbcTemplate.queryForList("SELECT id FROM category WHERE parent_key = ? ORDER BY id", Long.class, PARENT_ID);
+    }
+
+    private Map<Long, Integer> displayOrders() {
+        Map<Long, Integer> displayOrders = new HashMap<>();
+        jdbcTemplate.query("SELECT id, display_order FROM category WHERE parent_key = ?",
+                rs -> {
+                    displayOrders.put(rs.getLong(1), rs.getInt(2));
+                }, PARENT_ID);
+        return displayOrders;
+    }
+
+    @Test
+    @DisplayName("하위 1,000개 : 기준 카테고리 앞 이동은 1행 변경, 전체 목록 순서 변경보다 빠름")
+    void benchmark_move_before_sibling() {
+        List<Long> childIds = seed();
+
+        // 변경 행 수 : 간격 순위 상태에서 이동 1회
+        Map<Long, Integer> before = displayOrders();
+        SqlTrace.Result moved = SqlTrace.record(() -> categoryOrderService.moveCategory(childIds.get(CHILDREN - 1), childIds.get(0), null));
+        Map<Long, Integer> after = displayOrders();
+        long changedRows = before.keySet().stream().filter(id -> !before.get(id).equals(after.get(id))).count();
+
+        long move = median(WARM_UP, RUNS, () -> {
+            Long id = childIds.get(random.nextInt(CHILDREN));
+            Long anchorId = childIds.get(random.nextInt(CHILDREN));
+            if (!id.equals(anchorId)) {
+                categoryOrderService.moveCategory(id, anchorId, null);
+            }
+        });
+
+        List<Long> shuffled = new ArrayList<>(childIds);
+        long reorder = median(WARM_UP, RUNS, () -> {
+            Collections.shuffle(shuffled, random);
+            categoryService.reorderCategories(PARENT_ID, shuffled);
+        });
+        Collections.shuffle(shuffled, random);
+        SqlTrace.Result reordered = SqlTrace.record(() -> categoryService.reorderCategories(PARENT_ID, shuffled));
+
+        System.out.printf("move before sibling: %.2f ms (%d row), reorder all %,d children: %.2f ms (%,d rows)%n",
+                millis(move), moved.updatedRows(), CHILDREN, millis(reorder), reordered.updatedRows());
+
+        assertEquals(1, changedRows);
+        assertEquals(1, moved.updatedRows(), String.join("\n", moved.statements()));
+        assertEquals(CHILDREN, reordered.updatedRows());
+        assertTrue(move < reorder);
+    }
+}
@@ -0,0 +1,117 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.perSecond;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 카테고리 등록 처리량 측정 (./gradlew benchmark)
+ * - 20,000개 카테고리가 있는 상태에서 이름 중복 검사를 DB 조회 vs 이름 색인으로 처리한 등록 처리량 비교
+ * - 이름 색인 사용 시 중복 검사는 해시 조회 : 등록마다 실행하던 이름 중복 조회 SQL 이 없어 등록 1건당 DB 왕복 1회 감소
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 이름 색인")
+class CategoryTitleIndexBenchmarkTest {
+
+    private static final int PARENTS = 200;
+    private static final int CHILDREN_PER_PARENT = 100;
+    private static final int CREATES = 2_000;
+    private static final String TITLE_CHECK = "where c1_0.parent_key=? and c1_0.title=?";
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        categoryProperties.getTitleIndex().setEnabled(true);
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+    }
+
+    // 상위 카테고리 PARENTS 개, 각 하위 CHILDREN_PER_PARENT 개 일괄 등록 후 상위 카테고리 ID 반환
+    private List<Long> seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> parents = new ArrayList<>();
+        for (int i = 0; i < PARENTS; i++) {
+            parents.add(new Object[]{"부모-" + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO category (title, parent_key, display_order, active, deleted, created_at, updated_at) " +
+                "VALUES (?, 0, 1, true, false, ?, ?)", parents);
+        jdbcTemplate.update("UPDATE category SET path = CONCAT('/', id, '/')");
+
+        List<Long> parentIds = jdbcTemplate.queryForList("SELECT id FROM category ORDER BY id", Long.class);
+        List<Object[]> children = new ArrayList<>();
+        for (Long parentId : parentIds) {
+            for (int i = 0; i < CHILDREN_PER_PARENT; i++) {
+                children.add(new Object[]{"상품-" + i, parentId, parentId, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO category (title, parent_id, parent_key, display_order, active, deleted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 1, true, false, ?, ?)", children);
+        jdbcTemplate.update("UPDATE category SET path = CONCAT('/', parent_id, '/', id, '/') WHERE parent_id IS NOT NULL");
+
+        titleIndex.load();
+        return parentIds;
+    }
+
+    // 상위 카테고리별로 돌아가며 신규 이름 등록
+    private SqlTrace.Result createAll(List<Long> parentIds, String prefix) {
+        return SqlTrace.record(() -> {
+            for (int i = 0; i < CREATES; i++) {
+                Long parentId = parentIds.get(i % parentIds.size());
+                categoryService.createCategory(new CategoryRequest(prefix + i, parentId, 1, null, true));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("20,000개 카테고리 기준 등록 처리량: 이름 색인 사용 시 이름 중복 조회 없이 등록")
+    void benchmark_create_throughput() {
+        List<Long> parentIds = seed();
+
+        // 워밍업
+        createAll(parentIds, "워밍업-");
+
+        categoryProperties.getTitleIndex().setEnabled(false);
+        SqlTrace.Result withoutIndex = createAll(parentIds, "DB-");
+
+        categoryProperties.getTitleIndex().setEnabled(true);
+        titleIndex.load();
+        SqlTrace.Result withIndex = createAll(parentIds, "색인-");
+
+        System.out.printf("create throughput (%d rows) - db check: %.0f ops/s (%,d round trips), title index: %.0f ops/s (%,d round trips)%n",
+                PARENTS * (CHILDREN_PER_PARENT + 1), perSecond(CREATES, withoutIndex.nanos()), withoutIndex.roundTrips(),
+                perSecond(CREATES, withIndex.nanos()), withIndex.roundTrips());
+
+        assertEquals(CREATES, withoutIndex.count(TITLE_CHECK));
+        assertEquals(0, withIndex.count(TITLE_CHECK), withIndex.statements()::toString);
+        assertEquals(withoutIndex.roundTrips() - CREATES, withIndex.roundTrips());
+    }
+}
@@ -0,0 +1,143 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategorySearchResponse;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import com.musinsa.shop.domain.category.store.KoreanTitleNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.allocatedBytes;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.elapsed;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.percentile;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.sampleEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 100,000개 이름 자동완성 검색 시간 측정 (./gradlew benchmark)
+ * - 최상위 100개 - 중분류 1,000개 - 소분류 98,900개, 한글 음절 조합 이름 (난수 고정)
+ * - 검색어 : 완성 음절 접두어, 입력 중인 음절(자모) 접두어, 초성 (각 검색어 limit 10건, 이름 경로 구성 포함)
+ * - 비교 : 전체 이름 순회 후 정규화 키 startsWith 비교 (색인 없이 검색할 때)
+ * - 검색 할당량은 카테고리 수와 무관 (10,000개 색인 vs 100,000개 색인, 같은 검색어)
+ */
+@Tag("benchmark")
+@DisplayName("성능 측정: 카테고리 이름 자동완성")
+class CategoryTitleSearchBenchmarkTest {
+
+    private static final int ROOTS = 100;
+    private static final int MIDDLES = 1_000;
+    private static final int CATEGORIES = 100_000;
+    private static final int SMALL_CATEGORIES = 10_000;
+    private static final int LIMIT = 10;
+    private static final int QUERIES = 2_000;
+    private static final int SCAN_QUERIES = 50;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하셔츠팬바지원피스코트니트후드블라우스스커트운동화샌들가방모자";
+
+    private static CategoryTitleSearchIndex index(List<CategoryDto> categories) {
+        CategoryTitleSearchIndex searchIndex = new CategoryTitleSearchIndex(null);
+        searchIndex.putAll(categories);
+        return searchIndex;
+    }
+
+    // 전체 검색어 1회씩 검색한 할당량 (반복 측정 최소값)
+    private static long searchAllocatedBytes(CategoryTitleSearchIndex searchIndex, String[] queries) {
+        long bytes = Long.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            bytes = Math.min(bytes, allocatedBytes(() -> {
+                for (String query : queries) {
+                    searchIndex.search(query, LIMIT);
+                }
+            }));
+        }
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("카테고리 100,000개 접두어/자모/초성 검색 p50/p99, 카테고리 수와 무관한 검색 할당량")
+    void benchmark_search_100k() {
+        Random random = new Random(42);
+        List<CategoryDto> categories = new ArrayList<>(CATEGORIES);
+        for (long id = 1; id <= CATEGORIES; id++) {
+            Long parentId = id <= ROOTS ? null : id <= ROOTS + MIDDLES ? 1 + (id % ROOTS) : ROOTS + 1 + (id % MIDDLES);
+            categories.add(new CategoryDto(id, title(random), parentId, null, null, 0, true, null, null, null));
+        }
+
+        CategoryTitleSearchIndex[] built = new CategoryTitleSearchIndex[1];
+        long buildNanos = elapsed(() -> built[0] = index(categories));
+        CategoryTitleSearchIndex searchIndex = built[0];
+        CategoryTitleSearchIndex smallIndex = index(categories.subList(0, SMALL_CATEGORIES));
+        assertEquals(CATEGORIES, searchIndex.size());
+
+        // 검색어 : 두 색인 모두에 있는 이름에서 추출 (1 ~ 2음절, 마지막 음절은 초성+중성만, 초성만)
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String title = categories.get(random.nextInt(SMALL_CATEGORIES)).getTitle();
+            String prefix = title.substring(0, 1 + random.nextInt(2));
+            queries[i] = switch (i % 3) {
+                case 0 -> prefix;
+                case 1 -> prefix.substring(0, prefix.length() - 1) + partial(prefix.charAt(prefix.length() - 1));
+                default -> KoreanTitleNormalizer.choseong(prefix);
+            };
+        }
+
+        for (int i = 0; i < 3; i++) {
+            for (String query : queries) {
+                searchIndex.search(query, LIMIT);
+                smallIndex.search(query, LIMIT);
+            }
+        }
+
+        List<List<CategorySearchResponse>> results = new ArrayList<>(QUERIES);
+        long[] elapsed = sampleEach(QUERIES, i -> results.add(searchIndex.search(queries[i], LIMIT)));
+        for (List<CategorySearchResponse> result : results) {
+            assertFalse(result.isEmpty());
+            assertTrue(result.size() <= LIMIT);
+        }
+
+        long[] scanElapsed = sampleEach(SCAN_QUERIES, i -> {
+            String key = KoreanTitleNormalizer.normalize(queries[i * 3]);
+            int matched = 0;
+            for (CategoryDto category : categories) {
+                if (KoreanTitleNormalizer.normalize(category.getTitle()).startsWith(key)) matched++;
+            }
+            assertTrue(matched > 0);
+        });
+
+        long smallBytes = searchAllocatedBytes(smallIndex, queries);
+        long largeBytes = searchAllocatedBytes(searchIndex, queries);
+
+        double p50 = millis(median(elapsed));
+        double p99 = millis(percentile(elapsed, 0.99));
+        System.out.printf("title search over %,d categories - build: %.1f ms, p50: %.3f ms, p99: %.3f ms, linear scan p50: %.1f ms%n",
+                CATEGORIES, millis(buildNanos), p50, p99, millis(median(scanElapsed)));
+        System.out.printf("search allocation per query - %,d categories: %,d bytes, %,d categories: %,d bytes%n",
+                SMALL_CATEGORIES, smallBytes / QUERIES, CATEGORIES, largeBytes / QUERIES);
+        assertTrue(p99 < 1.0, "p99 " + p99 + " ms");
+        assertTrue(largeBytes < smallBytes * 3 / 2, String.format("10k %d bytes, 100k %d bytes", smallBytes, largeBytes));
+    }
+
+    // 2 ~ 4음절 이름 (일부는 공백 포함)
+    private static String title(Random random) {
+        int length = 2 + random.nextInt(3);
+        StringBuilder title = new StringBuilder(length + 1);
+        for (int i = 0; i < length; i++) {
+            if (i == 2 && random.nextInt(4) == 0) title.append(' ');
+            title.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return title.toString();
+    }
+
+    // 입력 중인 음절 : 받침 제거 ("팬" → "패")
+    private static char partial(char syllable) {
+        return (char) (syllable - (syllable - '가') % 28);
+    }
+}
@@ -0,0 +1,110 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.service.CategoryTreeAssembler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 트리 구성 병렬 처리 확장성 측정 (./gradlew benchmark)
+ * - 약 500,000개(최상위 200 x 중분류 50 x 소분류 49) 평면 목록 → 트리 구성/정렬 1회당 시간 (중앙값)
+ * - 순차 구성 vs ForkJoinPool 스레드 수 2/4/8 병렬 구성 (CPU 코어 4개 이상이면 4 스레드가 순차보다 빠른지 검증)
+ */
+@Tag("benchmark")
+@DisplayName("성능 측정: 카테고리 트리 병렬 구성")
+class CategoryTreeAssemblyBenchmarkTest {
+
+    private static final int ROOTS = 200;
+    private static final int MIDDLES = 50;
+    private static final int LEAVES = 49;
+    private static final int WARM_UP = 5;
+    private static final int RUNS = 11;
+    private static final int[] PARALLELISMS = {2, 4, 8};
+
+    // path 순 평면 목록 (displayOrder 는 역순으로 지정하여 정렬 비용 포함)
+    private static List<CategoryDto> catalog() {
+        List<CategoryDto> rows = new ArrayList<>(ROOTS * (1 + MIDDLES * (1 + LEAVES)));
+        long id = 1;
+        for (int r = 0; r < ROOTS; r++) {
+            long rootId = id++;
+            rows.add(row(rootId, null, "/" + rootId + "/", ROOTS - r));
+            for (int m = 0; m < MIDDLES; m++) {
+                long middleId = id++;
+                String middlePath = "/" + rootId + "/" + middleId + "/";
+                rows.add(row(middleId, rootId, middlePath, MIDDLES - m));
+                for (int l = 0; l < LEAVES; l++) {
+                    long leafId = id++;
+                    rows.add(row(leafId, middleId, middlePath + leafId + "/", LEAVES - l));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static CategoryDto row(long id, Long parentId, String path, int displayOrder) {
+        return new CategoryDto(id, "카테고리-" + id, parentId, path, "/category/" + id, displayOrder, true, null, null, null);
+    }
+
+    private static CategoryTreeAssembler assembler(boolean enabled, int parallelism) {
+        CategoryProperties properties = new CategoryProperties();
+        CategoryProperties.ParallelAssembly config = properties.getTree().getParallelAssembly();
+        config.setEnabled(enabled);
+        config.setThreshold(1);
+        config.setParallelism(parallelism);
+        return new CategoryTreeAssembler(properties);
+    }
+
+    // 구성 1회당 시간 (ms) 중앙값
+    private static double medianMillis(CategoryTreeAssembler assembler, List<CategoryDto> rows) {
+        return millis(median(WARM_UP, RUNS, () -> assembler.assemble(rows)));
+    }
+
+    private static long checksum(List<CategoryTreeResponse> tree) {
+        long sum = 0;
+        for (int i = 0; i < tree.size(); i++) {
+            sum = sum * 31 + tree.get(i).getId() * (i + 1) + checksum(tree.get(i).getChildren());
+        }
+        return sum;
+    }
+
+    @Test
+    @DisplayName("약 500,000개 트리 구성 : 스레드 수별 병렬 구성 시간")
+    void benchmark_parallel_assembly() {
+        List<CategoryDto> rows = catalog();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        CategoryTreeAssembler sequential = assembler(false, 1);
+        long expected = checksum(sequential.assemble(rows));
+        double sequentialMillis = medianMillis(sequential, rows);
+        sequential.shutdown();
+
+        Map<Integer, Double> parallelMillis = new LinkedHashMap<>();
+        for (int parallelism : PARALLELISMS) {
+            CategoryTreeAssembler parallel = assembler(true, parallelism);
+            assertEquals(expected, checksum(parallel.assemble(rows)));
+            parallelMillis.put(parallelism, medianMillis(parallel, rows));
+            parallel.shutdown();
+        }
+
+        System.out.printf("assemble %,d rows (%d cores) - sequential: %.1f ms%n", rows.size(), cores, sequentialMillis);
+        parallelMillis.forEach((parallelism, elapsed) -> System.out.printf(
+                "  parallelism %d: %.1f ms (x%.2f)%n", parallelism, elapsed, sequentialMillis / elapsed));
+
+        if (cores >= 4) {
+            assertTrue(parallelMillis.get(4) < sequentialMillis);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.musinsa.shop.common.response.ResultResponse;
+import com.musinsa.shop.domain.category.controller.CategoryTreeProtobufHttpMessageConverter;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 트리 응답 형식별 크기/인코딩/디코딩 시간 측정 (./gradlew benchmark)
+ * - 100,000개 카테고리 (최상위 100개 - 각 하위 999개, 모든 카테고리 링크 보유) 전체 트리 응답 (ResultResponse)
+ * - JSON vs CBOR / Smile / Protobuf (Jackson 모듈, 응답 변환기와 같은 스키마), 디코딩은 응답 DTO 로 읽기
+ * - 바이너리 형식은 JSON 보다 작고, 디코딩한 응답을 다시 인코딩하면 같은 크기 (필드 누락 없음)
+ */
+@Tag("benchmark")
+@DisplayName("성능 측정: 카테고리 트리 응답 형식")
+class CategoryTreeEncodingBenchmarkTest {
+
+    private static final int ROOTS = 100;
+    private static final int CHILDREN_PER_ROOT = 999;
+    private static final int WARM_UP = 10;
+    private static final int RUNS = 30;
+
+    // 응답 디코딩용 (클라이언트가 응답 DTO 로 읽는 경우)
+    static class TreeResult {
+        public String code;
+        public String message;
+        public List<CategoryTreeResponse> data;
+    }
+
+    private static List<CategoryTreeResponse> tree() {
+        List<CategoryTreeResponse> roots = new ArrayList<>(ROOTS);
+        long id = ROOTS;
+        for (long rootId = 1; rootId <= ROOTS; rootId++) {
+            List<CategoryTreeResponse> children = new ArrayList<>(CHILDREN_PER_ROOT);
+            for (int i = 1; i <= CHILDREN_PER_ROOT; i++) {
+                id++;
+                children.add(new CategoryTreeResponse(id, "상품-" + id, rootId, "/category/item-" + id, i % 7, true, new ArrayList<>()));
+            }
+            roots.add(new CategoryTreeResponse(rootId, "대분류-" + rootId, null, "/category/root-" + rootId, (int) rootId, true, children));
+        }
+        return roots;
+    }
+
+    @Test
+    @DisplayName("전체 트리 100,000개 : 형식별 응답 크기, 인코딩/디코딩 시간")
+    void benchmark_tree_encoding() throws IOException {
+        ResultResponse<List<CategoryTreeResponse>> response = ResultResponse.success(tree());
+        ProtobufSchema schema = CategoryTreeProtobufHttpMessageConverter.loadSchema();
+        ProtobufMapper protobufMapper = new ProtobufMapper();
+
+        Map<String, ObjectWriter> writers = new LinkedHashMap<>();
+        Map<String, ObjectReader> readers = new LinkedHashMap<>();
+        for (ObjectMapper mapper : List.of(new ObjectMapper(), new CBORMapper(), new SmileMapper())) {
+            String name = mapper.getFactory().getFormatName();
+            writers.put(name, mapper.writer());
+            readers.put(name, mapper.readerFor(TreeResult.class));
+        }
+        writers.put("Protobuf", protobufMapper.writer(schema));
+        readers.put("Protobuf", protobufMapper.readerFor(TreeResult.class).with(schema));
+
+        int jsonBytes = writers.get("JSON").writeValueAsBytes(response).length;
+        for (String format : writers.keySet()) {
+            ObjectWriter writer = writers.get(format);
+            ObjectReader reader = readers.get(format);
+            byte[] encoded = writer.writeValueAsBytes(response);
+            TreeResult decoded = reader.readValue(encoded);
+            assertEquals(ROOTS, decoded.data.size());
+            assertEquals(CHILDREN_PER_ROOT, decoded.data.get(ROOTS - 1).getChildren().size());
+
+            long encode = median(WARM_UP, RUNS, () -> writer.writeValueAsBytes(response));
+            long decode = median(WARM_UP, RUNS, () -> reader.readValue(encoded));
+            System.out.printf("%-8s - %,d bytes (%.0f%% of JSON), encode: %.2f ms (%.0f MB/s), decode: %.2f ms (%.0f MB/s)%n",
+                    format, encoded.length, encoded.length * 100.0 / jsonBytes,
+                    millis(encode), encoded.length * 1_000.0 / encode,
+                    millis(decode), encoded.length * 1_000.0 / decode);
+            assertEquals(writer.writeValueAsBytes(decoded).length, encoded.length);
+            if (!"JSON".equals(format)) {
+                assertTrue(encoded.length < jsonBytes, format + " " + encoded.length + " bytes");
+            }
+        }
+    }
+}
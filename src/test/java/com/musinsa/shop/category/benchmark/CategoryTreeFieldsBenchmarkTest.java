@@ -0,0 +1,110 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.domain.category.dto.CategorySparseTreeResponse;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.allocatedBytes;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.clear;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.seedTree;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답 필드 선택 조회/직렬화 시간 및 응답 크기 측정 (./gradlew benchmark)
+ * - 100,000개 카테고리 (최상위 100개 - 각 하위 999개, 모든 카테고리 링크 보유) 전체 트리
+ * - 전체 필드 vs fields=id,title,children : DB 조회 + 트리 구성 (QueryDSL / JDBC), JSON 직렬화 크기/시간
+ * - 선택 필드 JDBC 조회는 선택하지 않은 컬럼(link)을 읽지 않으므로 조회 1회 할당량이 전체 필드보다 적음
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 트리 응답 필드 선택")
+class CategoryTreeFieldsBenchmarkTest {
+
+    private static final int ROOTS = 100;
+    private static final int CHILDREN_PER_ROOT = 999;
+    private static final int WARM_UP = 10;
+    private static final int RUNS = 30;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        clear(jdbcTemplate);
+    }
+
+    // 조회 1회 할당량 (반복 측정 최소값 : JIT 컴파일 등 일회성 할당 제외)
+    private long minAllocatedBytes(CategoryBenchmarkSupport.Action read) {
+        long bytes = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            bytes = Math.min(bytes, allocatedBytes(read));
+        }
+        return bytes;
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("전체 트리 100,000개 : id,title,children 선택 시 조회 컬럼/할당량, 직렬화 시간, 응답 크기 감소")
+    void benchmark_selected_fields() {
+        seedTree(jdbcTemplate, ROOTS, CHILDREN_PER_ROOT);
+        CategoryTreeFields fields = CategoryTreeFields.from("id,title,children");
+
+        List<CategoryTreeResponse> full = categoryService.readCategories(null);
+        List<CategoryTreeResponse> sparse = categoryService.readCategories(null, fields);
+        assertEquals(ROOTS, sparse.size());
+        int fullBytes = toJson(full).length;
+        int sparseBytes = toJson(new CategorySparseTreeResponse(sparse, fields)).length;
+
+        long queryDslFull = median(WARM_UP, RUNS, () -> categoryService.getCategories(null));
+        long queryDslSparse = median(WARM_UP, RUNS, () -> categoryService.getCategories(null, fields));
+        long jdbcFull = median(WARM_UP, RUNS, () -> categoryService.readCategories(null));
+        long jdbcSparse = median(WARM_UP, RUNS, () -> categoryService.readCategories(null, fields));
+        long jsonFull = median(WARM_UP, RUNS, () -> toJson(full));
+        long jsonSparse = median(WARM_UP, RUNS, () -> toJson(new CategorySparseTreeResponse(full, fields)));
+
+        long fullReadBytes = minAllocatedBytes(() -> categoryService.readCategories(null));
+        long sparseReadBytes = minAllocatedBytes(() -> categoryService.readCategories(null, fields));
+        SqlTrace.Result fullTrace = SqlTrace.record(() -> categoryService.readCategories(null));
+        SqlTrace.Result sparseTrace = SqlTrace.record(() -> categoryService.readCategories(null, fields));
+
+        System.out.printf("QueryDSL read - all fields: %.2f ms, id,title,children: %.2f ms%n",
+                millis(queryDslFull), millis(queryDslSparse));
+        System.out.printf("JDBC read - all fields: %.2f ms / %.1f MB, id,title,children: %.2f ms / %.1f MB%n",
+                millis(jdbcFull), fullReadBytes / 1024.0 / 1024.0, millis(jdbcSparse), sparseReadBytes / 1024.0 / 1024.0);
+        System.out.printf("JSON - all fields: %,d bytes / %.2f ms, id,title,children: %,d bytes / %.2f ms%n",
+                fullBytes, millis(jsonFull), sparseBytes, millis(jsonSparse));
+
+        assertEquals(1, fullTrace.roundTrips());
+        assertEquals(1, sparseTrace.roundTrips());
+        assertEquals(1, fullTrace.count("link"));
+        assertEquals(0, sparseTrace.count("link"), sparseTrace.statements().get(0));
+        assertTrue(sparseReadBytes < fullReadBytes,
+                String.format("sparse %d bytes, full %d bytes", sparseReadBytes, fullReadBytes));
+        assertTrue(sparseBytes < fullBytes / 2);
+        assertTrue(jsonSparse < jsonFull);
+    }
+}
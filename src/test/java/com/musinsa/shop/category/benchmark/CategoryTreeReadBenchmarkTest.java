@@ -0,0 +1,93 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.repository.CategoryTreeJdbcRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.allocatedBytes;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.clear;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.perSecond;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.seedTree;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 트리 조회 처리량 측정 (./gradlew benchmark)
+ * - 100,000개 카테고리 전체 트리를 QueryDSL 프로젝션(treeBaseQuery) vs JDBC 행 처리로 조회한 초당 행 수
+ * - 조회만 (DTO 목록 / 트리 노드) 과 트리 응답 구성까지 (getCategories / readCategories) 각각 비교
+ * - 두 경로 모두 SELECT 1회, JDBC 행 처리는 중간 DTO 목록을 만들지 않으므로 조회 1회 할당량이 더 적음
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 트리 조회 경로")
+class CategoryTreeReadBenchmarkTest {
+
+    private static final int ROOTS = 100;
+    private static final int CHILDREN_PER_ROOT = 999;
+    private static final int WARM_UP = 5;
+    private static final int RUNS = 15;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTreeJdbcRepository treeJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        clear(jdbcTemplate);
+    }
+
+    // 조회 1회 할당량 (반복 측정 최소값 : JIT 컴파일 등 일회성 할당 제외)
+    private long minAllocatedBytes(CategoryBenchmarkSupport.Action read) {
+        long bytes = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            bytes = Math.min(bytes, allocatedBytes(read));
+        }
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("100,000개 전체 트리 조회 : 모두 SELECT 1회, JDBC 행 처리가 QueryDSL 프로젝션보다 할당량 적고 처리량 높음")
+    void benchmark_tree_read_paths() {
+        seedTree(jdbcTemplate, ROOTS, CHILDREN_PER_ROOT);
+        long rows = (long) ROOTS * (CHILDREN_PER_ROOT + 1);
+        assertEquals(rows, categoryRepository.findAllTree().size());
+        assertEquals(ROOTS, treeJdbcRepository.findAllTree().size());
+
+        long queryDslFetch = median(WARM_UP, RUNS, categoryRepository::findAllTree);
+        long jdbcFetch = median(WARM_UP, RUNS, treeJdbcRepository::findAllTree);
+        long queryDslTree = median(WARM_UP, RUNS, () -> categoryService.getCategories(null));
+        long jdbcTree = median(WARM_UP, RUNS, () -> categoryService.readCategories(null));
+
+        long queryDslBytes = minAllocatedBytes(categoryRepository::findAllTree);
+        long jdbcBytes = minAllocatedBytes(treeJdbcRepository::findAllTree);
+        SqlTrace.Result queryDslTrace = SqlTrace.record(categoryRepository::findAllTree);
+        SqlTrace.Result jdbcTrace = SqlTrace.record(treeJdbcRepository::findAllTree);
+
+        System.out.printf("fetch %,d rows - treeBaseQuery: %.1f ms (%,.0f rows/s, %.1f MB), jdbc row callback: %.1f ms (%,.0f rows/s, %.1f MB)%n",
+                rows, millis(queryDslFetch), perSecond(rows, queryDslFetch), queryDslBytes / 1024.0 / 1024.0,
+                millis(jdbcFetch), perSecond(rows, jdbcFetch), jdbcBytes / 1024.0 / 1024.0);
+        System.out.printf("tree %,d rows - getCategories: %.1f ms (%,.0f rows/s), readCategories: %.1f ms (%,.0f rows/s)%n",
+                rows, millis(queryDslTree), perSecond(rows, queryDslTree),
+                millis(jdbcTree), perSecond(rows, jdbcTree));
+
+        assertEquals(1, queryDslTrace.roundTrips());
+        assertEquals(1, jdbcTrace.roundTrips());
+        assertTrue(jdbcBytes < queryDslBytes, String.format("jdbc %d bytes, querydsl %d bytes", jdbcBytes, queryDslBytes));
+        assertTrue(jdbcFetch < queryDslFetch);
+        assertTrue(jdbcTree < queryDslTree);
+    }
+}
@@ -0,0 +1,131 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.elapsed;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.millis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 하위 카테고리 10,000개 브랜치 활성 여부 변경 시간 측정 (./gradlew benchmark)
+ * - 최상위 1개 - 중분류 100개 - 소분류 100개씩 (중분류 10개마다 1개 비활성)
+ * - 비활성 → 활성 변경 1회당 시간 (중앙값) : 하위 트리 유효 노출 여부 path prefix 일괄 UPDATE 포함
+ * - 변경 후 트리 조회 결과 (비활성 시 하위 카테고리 미노출, 활성 시 비활성 중분류 하위만 제외)
+ * - 유효 노출 여부 UPDATE 는 하위 카테고리 수와 무관하게 하위 트리 1회 + 비활성 지점마다 1회 (중첩된 비활성 지점은 건너뜀)
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 카테고리 유효 노출 여부 변경")
+class CategoryVisibilityBenchmarkTest {
+
+    private static final long ROOT_ID = 1;
+    private static final int MIDDLES = 100;
+    private static final int LEAVES = 100;
+    private static final int INACTIVE_EVERY = 10;
+    private static final int WARM_UP = 3;
+    private static final int RUNS = 9;
+    private static final String FLAGS_UPDATE = "set effective_active=case";
+    private static final String HIDE_UPDATE = "set effective_active=false";
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+    }
+
+    // 최상위(ID 1) - 중분류(ID 2 ~ MIDDLES + 1) - 소분류 ID/path 지정하여 등록 (유효 노출 여부는 등록 시점 기준으로 계산)
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO category (id, title, parent_key, path, link, display_order, active, deleted, created_at, updated_at) " +
+                "VALUES (?, '브랜드', 0, ?, '/category/brand', 1, TRUE, FALSE, NOW(), NOW())", ROOT_ID, "/" + ROOT_ID + "/");
+        jdbcTemplate.update("INSERT INTO category (id, title, parent_id, parent_key, path, link, display_order, active, deleted, " +
+                        "effective_active, created_at, updated_at) " +
+                        "SELECT ? + x, CONCAT('중분류-', x), ?, ?, CONCAT('/', ?, '/', ? + x, '/'), CONCAT('/category/', ? + x), x, " +
+                        "MOD(x, ?) <> 0, FALSE, MOD(x, ?) <> 0, NOW(), NOW() FROM SYSTEM_RANGE(1, ?)",
+                ROOT_ID, ROOT_ID, ROOT_ID, ROOT_ID, ROOT_ID, ROOT_ID, INACTIVE_EVERY, INACTIVE_EVERY, MIDDLES);
+        jdbcTemplate.update("INSERT INTO category (id, title, parent_id, parent_key, path, link, display_order, active, deleted, " +
+                        "effective_active, created_at, updated_at) " +
+                        "SELECT ? + x, CONCAT('소분류-', x), m.id, m.id, CONCAT(m.path, ? + x, '/'), CONCAT('/category/', ? + x), x, " +
+                        "TRUE, FALSE, m.effective_active, NOW(), NOW() " +
+                        "FROM category m JOIN SYSTEM_RANGE(1, ?) ON (x - 1) / ? = m.id - ? - 1 WHERE m.parent_id = ?",
+                ROOT_ID + MIDDLES, ROOT_ID + MIDDLES, ROOT_ID + MIDDLES, MIDDLES * LEAVES, LEAVES, ROOT_ID, ROOT_ID);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private void updateActive(boolean active) {
+        categoryService.updateCategory(ROOT_ID, new CategoryUpdateRequest(null, null, null, null, active));
+    }
+
+    private int visibleCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category WHERE effective_deleted = FALSE AND effective_active = TRUE",
+                Integer.class);
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 10,100개 브랜치 비활성/활성 변경 : 유효 노출 여부 UPDATE 수는 하위 카테고리 수와 무관, 비활성 지점 수에 비례")
+    void benchmark_toggle_branch() {
+        seed();
+        int descendants = MIDDLES * (1 + LEAVES);
+        int inactiveMiddles = MIDDLES / INACTIVE_EVERY;
+        int hiddenByMiddles = inactiveMiddles * (1 + LEAVES);
+        int visible = 1 + descendants - hiddenByMiddles;
+        assertEquals(descendants, categoryRepository.countDescendants(ROOT_ID, "/" + ROOT_ID + "/"));
+        assertEquals(visible, visibleCount());
+
+        for (int i = 0; i < WARM_UP; i++) {
+            updateActive(false);
+            updateActive(true);
+        }
+
+        long[] deactivate = new long[RUNS];
+        long[] activate = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            deactivate[i] = elapsed(() -> updateActive(false));
+            assertEquals(0, visibleCount());
+            assertTrue(categoryService.readCategories(null).isEmpty());
+
+            activate[i] = elapsed(() -> updateActive(true));
+            assertEquals(visible, visibleCount());
+        }
+        Arrays.sort(deactivate);
+        Arrays.sort(activate);
+
+        SqlTrace.Result deactivated = SqlTrace.record(() -> updateActive(false));
+        SqlTrace.Result activated = SqlTrace.record(() -> updateActive(true));
+
+        System.out.printf("toggle branch with %,d descendants (%d inactive middles) - deactivate: %.1f ms (%d round trips, %,d rows), " +
+                        "activate: %.1f ms (%d round trips, %,d rows)%n",
+                descendants, inactiveMiddles, millis(median(deactivate)), deactivated.roundTrips(), deactivated.updatedRows(),
+                millis(median(activate)), activated.roundTrips(), activated.updatedRows());
+        assertEquals(MIDDLES - inactiveMiddles, categoryService.readCategories(ROOT_ID).get(0).getChildren().size());
+
+        // 비활성 : 하위 트리 1회(본인 활성 여부 기준 재계산 : 최상위 + 비활성 중분류 하위 소분류) + 비활성 지점은 최상위 1개 (중첩된 비활성 중분류는 건너뜀)
+        assertEquals(1, deactivated.count(FLAGS_UPDATE));
+        assertEquals(1 + (long) inactiveMiddles * LEAVES, deactivated.updatedRows(FLAGS_UPDATE));
+        assertEquals(1, deactivated.count(HIDE_UPDATE));
+        assertEquals(descendants - inactiveMiddles, deactivated.updatedRows(HIDE_UPDATE));
+
+        // 활성 : 하위 트리 1회(비활성 중분류 외 전체 노출) + 비활성 중분류마다 1회(하위 소분류만 다시 비노출)
+        assertEquals(1, activated.count(FLAGS_UPDATE));
+        assertEquals(1 + descendants - inactiveMiddles, activated.updatedRows(FLAGS_UPDATE));
+        assertEquals(inactiveMiddles, activated.count(HIDE_UPDATE));
+        assertEquals((long) inactiveMiddles * LEAVES, activated.updatedRows(HIDE_UPDATE));
+    }
+}
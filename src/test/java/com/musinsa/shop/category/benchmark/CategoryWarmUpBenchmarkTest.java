@@ -0,0 +1,223 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.ShopApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.percentile;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.seedTree;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 시작 직후 응답 지연 측정 (./gradlew benchmark)
+ * - 워밍업 사용/미사용으로 애플리케이션을 새 JVM 에서 기동 (JIT/쿼리 변환/캐시 모두 초기 상태)
+ * - 기동 완료(readiness) 직후부터 동시 요청 묶음(wave)을 연속으로 보내 묶음별 p99 측정
+ * - time-to-first-good-p99 : JVM 시작부터 p99 가 안정 구간(마지막 10개 묶음 p99 중앙값)의 2배 이하가 된 첫 묶음 종료까지
+ */
+@Tag("benchmark")
+@DisplayName("성능 측정: 시작 워밍업")
+class CategoryWarmUpBenchmarkTest {
+
+    private static final int RUNS = 3;
+    private static final int ROOTS = 100;
+    private static final int CHILDREN_PER_ROOT = 99;
+    private static final int WAVES = 40;
+    private static final int WAVE_SIZE = 64;
+    private static final int CONCURRENCY = 16;
+    private static final int STEADY_WAVES = 10;
+
+    // 새 JVM 에서 Probe 실행 후 결과 [readyMillis, firstWaveP99Micros, timeToGoodP99Millis]
+    private long[] fork(boolean warmUp) throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process process = new ProcessBuilder(java, "-Xmx1g", "-cp", System.getProperty("java.class.path"),
+                Probe.class.getName(), String.valueOf(warmUp))
+                .redirectErrorStream(true)
+                .start();
+
+        long[] result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(Probe.RESULT)) {
+                    result = Arrays.stream(line.substring(Probe.RESULT.length()).trim().split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                }
+            }
+        }
+        assertTrue(process.waitFor(5, TimeUnit.MINUTES));
+        assertEquals(0, process.exitValue());
+        assertTrue(result != null, "probe result");
+        return result;
+    }
+
+    // 실행별 결과 중앙값
+    private static long medianOf(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return median(sorted);
+    }
+
+    @Test
+    @DisplayName("워밍업 사용 시 첫 묶음 p99 와 안정 p99 도달 시간 단축")
+    void test_success_warm_up_reduces_first_p99() throws Exception {
+        // given
+        long[][] cold = new long[3][RUNS];
+        long[][] warm = new long[3][RUNS];
+
+        // when
+        for (int run = 0; run < RUNS; run++) {
+            long[] coldRun = fork(false);
+            long[] warmRun = fork(true);
+            for (int i = 0; i < 3; i++) {
+                cold[i][run] = coldRun[i];
+                warm[i][run] = warmRun[i];
+            }
+        }
+
+        // then
+        System.out.printf("[시작 워밍업] 카테고리 %,d개, 묶음 %d건(동시 %d), %d회 중앙값%n",
+                ROOTS * (CHILDREN_PER_ROOT + 1), WAVE_SIZE, CONCURRENCY, RUNS);
+        System.out.printf("  미사용: readiness %,dms, 첫 묶음 p99 %,dµs, time-to-first-good-p99 %,dms%n",
+                medianOf(cold[0]), medianOf(cold[1]), medianOf(cold[2]));
+        System.out.printf("  사용  : readiness %,dms, 첫 묶음 p99 %,dµs, time-to-first-good-p99 %,dms%n",
+                medianOf(warm[0]), medianOf(warm[1]), medianOf(warm[2]));
+        assertTrue(medianOf(warm[1]) * 2 < medianOf(cold[1]),
+                "first wave p99 warm " + medianOf(warm[1]) + "µs, cold " + medianOf(cold[1]) + "µs");
+    }
+
+    /**
+     * 측정용 애플리케이션 프로세스
+     * - 워밍업보다 먼저 실행되는 ApplicationRunner 로 카테고리 등록 (운영 재배포 시 DB 에 데이터가 있는 상태)
+     * - 전체 트리 / 임의 최상위 카테고리 하위 트리 / 평면 목록 첫 페이지 요청을 섞어 전송
+     */
+    static final class Probe {
+
+        static final String RESULT = "WARM_UP_PROBE";
+
+        public static void main(String[] args) throws Exception {
+            boolean warmUp = Boolean.parseBoolean(args[0]);
+            SpringApplication application = new SpringApplication(ShopApplication.class);
+            application.setAdditionalProfiles("test");
+            application.addInitializers(context ->
+                    ((GenericApplicationContext) context).registerBean(SeedRunner.class));
+
+            ConfigurableApplicationContext context;
+            try {
+                context = application.run(
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--category.warm-up.enabled=" + warmUp);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                System.exit(1);
+                return;
+            }
+
+            Instant jvmStart = ProcessHandle.current().info().startInstant().orElseThrow();
+            long readyMillis = Duration.between(jvmStart, Instant.now()).toMillis();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long[] waveP99 = new long[WAVES];
+            long[] waveEndMillis = new long[WAVES];
+            HttpClient client = HttpClient.newHttpClient();
+            ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+            Random random = new Random(42);
+            for (int wave = 0; wave < WAVES; wave++) {
+                List<Future<Long>> latencies = new ArrayList<>(WAVE_SIZE);
+                for (int i = 0; i < WAVE_SIZE; i++) {
+                    URI uri = URI.create("http://localhost:" + port + "/api/categories" + path(random));
+                    latencies.add(executor.submit(() -> request(client, uri)));
+                }
+                long[] micros = new long[WAVE_SIZE];
+                for (int i = 0; i < WAVE_SIZE; i++) {
+                    micros[i] = latencies.get(i).get();
+                }
+                Arrays.sort(micros);
+                waveP99[wave] = percentile(micros, 0.99);
+                waveEndMillis[wave] = Duration.between(jvmStart, Instant.now()).toMillis();
+            }
+            executor.shutdown();
+
+            long[] steadyWaves = Arrays.copyOfRange(waveP99, WAVES - STEADY_WAVES, WAVES);
+            Arrays.sort(steadyWaves);
+            long steady = median(steadyWaves);
+            long timeToGood = waveEndMillis[WAVES - 1];
+            for (int wave = 0; wave < WAVES; wave++) {
+                if (waveP99[wave] <= steady * 2) {
+                    timeToGood = waveEndMillis[wave];
+                    break;
+                }
+            }
+
+            System.out.println(RESULT + " " + readyMillis + " " + waveP99[0] + " " + timeToGood);
+            context.close();
+            System.exit(0);
+        }
+
+        private static String path(Random random) {
+            return switch (random.nextInt(3)) {
+                case 0 -> "";
+                case 1 -> "?parentId=" + (random.nextInt(ROOTS) + 1);
+                default -> "/flat?size=100";
+            };
+        }
+
+        // 응답 시간 (µs), 200 이 아니면 실패
+        private static long request(HttpClient client, URI uri) throws Exception {
+            long startedAt = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(uri + " " + response.statusCode());
+            }
+            return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+        }
+    }
+
+    // 최상위 ROOTS 개, 각 하위 CHILDREN_PER_ROOT 개 등록 (워밍업 전 실행)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static final class SeedRunner implements ApplicationRunner {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        SeedRunner(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        public void run(ApplicationArguments args) {
+            seedTree(jdbcTemplate, ROOTS, CHILDREN_PER_ROOT);
+        }
+    }
+}
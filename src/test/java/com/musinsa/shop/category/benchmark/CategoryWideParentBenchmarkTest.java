@@ -0,0 +1,122 @@
+package com.musinsa.shop.category.benchmark;
+
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.median;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.percentile;
+import static com.musinsa.shop.category.benchmark.CategoryBenchmarkSupport.sampleEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 하위 카테고리가 많은 상위 카테고리 아래 변경 지연 측정 (./gradlew benchmark)
+ * - 하위 2,000개 상위 카테고리 vs 하위 없는 상위 카테고리 아래 등록/이동(다른 상위로)/삭제 1건당 지연 (중앙값 / p99)
+ * - 작업별 DB 왕복 수 / 변경 행 수가 형제 카테고리 수와 무관 (하위 없는 상위 카테고리와 동일)
+ */
+@CategoryBenchmarkTest
+@DisplayName("성능 측정: 넓은 상위 카테고리 하위 변경")
+class CategoryWideParentBenchmarkTest {
+
+    private static final int WIDE_CHILDREN = 2_000;
+    private static final int CREATES = 500;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+    }
+
+    // 하위 WIDE_CHILDREN 개 상위 카테고리 등록 후 ID 반환
+    private Long seedWideParent() {
+        Long parentId = create("넓은-대분류", null);
+        jdbcTemplate.update("INSERT INTO category (title, parent_id, parent_key, display_order, active, deleted, created_at, updated_at) " +
+                "SELECT CONCAT('상품-', x), ?, ?, 1, TRUE, FALSE, NOW(), NOW() FROM SYSTEM_RANGE(1, ?)", parentId, parentId, WIDE_CHILDREN);
+        jdbcTemplate.update("UPDATE category SET path = CONCAT('/', parent_id, '/', id, '/') WHERE parent_id = ?", parentId);
+        titleIndex.load();
+        return parentId;
+    }
+
+    private Long create(String title, Long parentId) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, 1, null, true)).getId();
+    }
+
+    // 작업별 1건당 실행 시간 (ns) 오름차순 및 전체 JDBC 실행 기록
+    private Writes measure(int count, IntConsumer operation) {
+        long[][] nanos = new long[1][];
+        SqlTrace.Result trace = SqlTrace.record(() -> nanos[0] = sampleEach(count, operation));
+        return new Writes(nanos[0], trace);
+    }
+
+    // 상위 카테고리 아래 등록 → 절반은 다른 상위 카테고리로 이동 → 나머지 절반 삭제, 작업별 기록 [등록, 이동, 삭제]
+    private Writes[] measureWrites(Long parentId, Long targetId, String prefix) {
+        List<Long> ids = new ArrayList<>();
+        Writes creates = measure(CREATES, i -> ids.add(create(prefix + i, parentId)));
+        Writes moves = measure(CREATES / 2, i -> categoryService.updateCategory(ids.get(i),
+                new CategoryUpdateRequest(null, targetId, null, null, null)));
+        Writes deletes = measure(CREATES / 2, i -> categoryService.deleteCategory(ids.get(CREATES / 2 + i)));
+        return new Writes[]{creates, moves, deletes};
+    }
+
+    @Test
+    @DisplayName("하위 2,000개 상위 카테고리 아래 등록/이동/삭제 : DB 왕복 수 / 변경 행 수가 하위 없는 상위 카테고리와 동일, 지연 비슷")
+    void benchmark_writes_under_wide_parent() {
+        Long wide = seedWideParent();
+        Long narrow = create("좁은-대분류", null);
+        Long target = create("이동-대분류", null);
+
+        // 워밍업
+        measureWrites(create("워밍업-대분류", null), target, "워밍업-");
+
+        Writes[] narrowWrites = measureWrites(narrow, target, "좁은-");
+        Writes[] wideWrites = measureWrites(wide, target, "넓은-");
+
+        String[] operations = {"create", "move", "delete"};
+        for (int op = 0; op < operations.length; op++) {
+            Writes narrowOp = narrowWrites[op];
+            Writes wideOp = wideWrites[op];
+            System.out.printf("%s latency - empty parent: median %,dµs / p99 %,dµs (%,d round trips), %,d-child parent: median %,dµs / p99 %,dµs (%,d round trips)%n",
+                    operations[op], narrowOp.micros(0.5), narrowOp.micros(0.99), narrowOp.trace().roundTrips(), WIDE_CHILDREN,
+                    wideOp.micros(0.5), wideOp.micros(0.99), wideOp.trace().roundTrips());
+        }
+
+        for (int op = 0; op < operations.length; op++) {
+            Writes narrowOp = narrowWrites[op];
+            Writes wideOp = wideWrites[op];
+            assertEquals(narrowOp.trace().roundTrips(), wideOp.trace().roundTrips(), operations[op]);
+            assertEquals(narrowOp.trace().updatedRows(), wideOp.trace().updatedRows(), operations[op]);
+            assertTrue(median(wideOp.nanos()) < median(narrowOp.nanos()) * 1.5, operations[op]);
+        }
+    }
+
+    private record Writes(long[] nanos, SqlTrace.Result trace) {
+
+        long micros(double p) {
+            return percentile(nanos, p) / 1_000;
+        }
+    }
+}
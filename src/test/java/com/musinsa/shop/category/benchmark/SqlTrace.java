@@ -0,0 +1,175 @@
+package com.musinsa.shop.category.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 테스트 스레드의 JDBC 실행 기록 (DB 왕복 수, 변경 행 수)
+ * - DataSource 를 감싸 Statement 실행(execute*, executeBatch 1회 = 왕복 1회)마다 SQL 과 변경 행 수 기록
+ * - JPA / QueryDSL / JdbcTemplate 모두 같은 DataSource 를 사용하므로 조회 경로와 무관하게 기록
+ * - 기록 중인 스레드의 실행만 기록 (하위 path 변경 작업 조회 스케줄러 등 다른 스레드의 SQL 제외)
+ */
+final class SqlTrace {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final ThreadLocal<List<Execution>> recording = new ThreadLocal<>();
+
+    private SqlTrace() {
+    }
+
+    // action 실행 중 현재 스레드에서 실행한 SQL 및 실행 시간 기록
+    static Result record(CategoryBenchmarkSupport.Action action) {
+        List<Execution> previous = recording.get();
+        List<Execution> current = new ArrayList<>();
+        recording.set(current);
+        long nanos;
+        try {
+            nanos = CategoryBenchmarkSupport.elapsed(action);
+        } finally {
+            recording.set(previous);
+        }
+        return new Result(List.copyOf(current), nanos);
+    }
+
+    /**
+     * @param sql         실행한 SQL (PreparedStatement 는 준비한 SQL)
+     * @param updatedRows INSERT/UPDATE/DELETE 변경 행 수 (배치 실행은 합계)
+     */
+    record Execution(String sql, long updatedRows) {
+
+        boolean contains(String fragment) {
+            return sql.toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * @param executions 실행 순서대로 DB 왕복 1회당 1건
+     * @param nanos      실행 시간 (ns)
+     */
+    record Result(List<Execution> executions, long nanos) {
+
+        int roundTrips() {
+            return executions.size();
+        }
+
+        long updatedRows() {
+            return executions.stream().mapToLong(Execution::updatedRows).sum();
+        }
+
+        // fragment(대소문자 무시)를 포함한 SQL 실행 수 ("set path", "from category" 등)
+        long count(String fragment) {
+            return executions.stream().filter(execution -> execution.contains(fragment)).count();
+        }
+
+        // fragment 를 포함한 SQL 변경 행 수 합계
+        long updatedRows(String fragment) {
+            return executions.stream().filter(execution -> execution.contains(fragment)).mapToLong(Execution::updatedRows).sum();
+        }
+
+        List<String> statements() {
+            return executions.stream().map(Execution::sql).toList();
+        }
+    }
+
+    private static void onExecute(Statement statement, String sql, Object result) throws SQLException {
+        List<Execution> current = recording.get();
+        if (current == null) return;
+
+        long updatedRows = 0;
+        if (result instanceof Integer count) {
+            updatedRows = Math.max(count, 0);
+        } else if (result instanceof Long count) {
+            updatedRows = Math.max(count, 0);
+        } else if (result instanceof int[] counts) {
+            for (int count : counts) updatedRows += Math.max(count, 0);
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) updatedRows += Math.max(count, 0);
+        } else if (Boolean.FALSE.equals(result)) {
+            updatedRows = Math.max(statement.getUpdateCount(), 0);
+        }
+        current.add(new Execution(sql, updatedRows));
+    }
+
+    private static Connection trace(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> switch (method.getName()) {
+            case "prepareStatement", "prepareCall" -> trace(method, (Statement) result, (String) args[0]);
+            case "createStatement" -> trace(method, (Statement) result, null);
+            default -> result;
+        });
+    }
+
+    // PreparedStatement 는 준비한 SQL, Statement 는 실행 인자 SQL 기록
+    private static Object trace(Method factory, Statement statement, String preparedSql) {
+        @SuppressWarnings("unchecked")
+        Class<Statement> type = (Class<Statement>) factory.getReturnType();
+        return proxy(type, statement, (method, args, result) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 ? (String) args[0] : "batch";
+                onExecute(statement, sql, result);
+            }
+            return result;
+        });
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws SQLException;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall after) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return after.apply(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    // 애플리케이션 DataSource 를 기록용 DataSource 로 감쌈 (@CategoryBenchmarkTest 에서 등록)
+    static class DataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor sqlTraceDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof TracingDataSource) return bean;
+                    return new TracingDataSource(dataSource);
+                }
+            };
+        }
+    }
+
+    private static final class TracingDataSource extends DelegatingDataSource {
+
+        private TracingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return trace(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return trace(super.getConnection(username, password));
+        }
+    }
+}
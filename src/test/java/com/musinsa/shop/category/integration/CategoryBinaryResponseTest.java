@@ -0,0 +1,168 @@
+package com.musinsa.shop.category.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.musinsa.shop.domain.category.controller.CategoryTreeProtobufHttpMessageConverter;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Accept 헤더별 카테고리 트리 응답 형식 (미지정 시 JSON, CBOR / Smile / Protobuf)
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("통합 테스트: 카테고리 트리 바이너리 응답")
+class CategoryBinaryResponseTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long womenId;
+
+    // 여성(상의 > 셔츠) / 남성 (링크 없음)
+    @BeforeEach
+    void setUp() {
+        womenId = categoryService.createCategory(new CategoryRequest("여성", null, 1, "/category/women", true)).getId();
+        Long topId = categoryService.createCategory(new CategoryRequest("상의", womenId, 1, "/category/top", true)).getId();
+        categoryService.createCategory(new CategoryRequest("셔츠", topId, 1, "/category/shirt", true));
+        categoryService.createCategory(new CategoryRequest("남성", null, 2, null, true));
+    }
+
+    private JsonNode getJson(String fields) throws Exception {
+        byte[] body = mockMvc.perform(get("/categories").param("fields", fields))
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readTree(body);
+    }
+
+    private byte[] getBinary(MediaType accept, String fields) throws Exception {
+        return mockMvc.perform(get("/categories").param("fields", fields).accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private JsonNode readProtobuf(byte[] body) throws Exception {
+        return new ProtobufMapper().readerFor(JsonNode.class)
+                .with(CategoryTreeProtobufHttpMessageConverter.loadSchema())
+                .readValue(body);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("Accept 미지정/와일드카드 : JSON 응답")
+        void test_success_json_by_default() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories"))
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+            mockMvc.perform(get("/categories").accept(MediaType.ALL))
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        }
+
+        @Test
+        @DisplayName("CBOR / Smile : JSON 응답과 같은 내용 (fields 선택 포함), JSON 보다 작은 응답")
+        void test_success_cbor_and_smile() throws Exception {
+            for (String fields : new String[]{"", "id,title,children"}) {
+                // given
+                JsonNode json = getJson(fields);
+                int jsonSize = objectMapper.writeValueAsBytes(json).length;
+
+                // when
+                byte[] cbor = getBinary(MediaType.APPLICATION_CBOR, fields);
+                byte[] smile = getBinary(APPLICATION_SMILE, fields);
+
+                // then
+                assertEquals(json, new CBORMapper().readTree(cbor));
+                assertEquals(json, new SmileMapper().readTree(smile));
+                assertTrue(cbor.length < jsonSize);
+                assertTrue(smile.length < jsonSize);
+            }
+        }
+
+        @Test
+        @DisplayName("Protobuf : 스키마로 읽은 트리가 JSON 응답과 같은 내용 (값이 없는 필드 미포함)")
+        void test_success_protobuf() throws Exception {
+            // when
+            JsonNode result = readProtobuf(getBinary(CategoryTreeProtobufHttpMessageConverter.APPLICATION_PROTOBUF, ""));
+
+            // then
+            assertEquals("SUCCESS", result.get("code").asText());
+            JsonNode women = result.get("data").get(0);
+            assertEquals(womenId.longValue(), women.get("id").asLong());
+            assertEquals("/category/women", women.get("link").asText());
+            assertEquals("셔츠", women.get("children").get(0).get("children").get(0).get("title").asText());
+            assertEquals(womenId.longValue(), women.get("children").get(0).get("parentId").asLong());
+            assertFalse(women.has("parentId"));
+
+            JsonNode men = result.get("data").get(1);
+            assertEquals("남성", men.get("title").asText());
+            assertFalse(men.has("link"));
+
+            // when : 이름만 선택
+            JsonNode titles = readProtobuf(getBinary(CategoryTreeProtobufHttpMessageConverter.APPLICATION_PROTOBUF, "title"));
+
+            // then
+            assertEquals("여성", titles.get("data").get(0).get("title").asText());
+            assertFalse(titles.get("data").get(0).has("id"));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("Protobuf 오류 응답 : 상태 코드 유지, 공통 응답 형식 code/message 기록")
+        void test_fail_protobuf_error_response() throws Exception {
+            // when
+            byte[] body = mockMvc.perform(get("/categories").param("parentId", "999999")
+                            .accept(CategoryTreeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                    .andExpect(status().isNotFound())
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            // then
+            assertEquals("카테고리를 찾을 수 없습니다.", readProtobuf(body).get("message").asText());
+        }
+
+        @Test
+        @DisplayName("트리 응답이 아닌 API 의 Protobuf 요청 : 406 Not Acceptable")
+        void test_fail_protobuf_other_api() throws Exception {
+            // when & then : 오류 응답은 공통 응답 형식이므로 Protobuf 로 기록
+            byte[] body = mockMvc.perform(get("/categories/flat").accept(CategoryTreeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                    .andExpect(status().isNotAcceptable())
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertEquals("NOT_ACCEPTABLE", readProtobuf(body).get("code").asText());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.common.exception.ResponseAbortedException;
+import com.musinsa.shop.domain.category.dto.CategoryExportFormat;
+import com.musinsa.shop.domain.category.service.CategoryExportService;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카테고리 내보내기 도중 실패 처리 (내보내기 서비스를 실패하는 Mock 으로 대체)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("통합 테스트: 카테고리 내보내기 실패")
+class CategoryExportAbortTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CategoryExportService categoryExportService;
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("응답 기록 시작 후 실패 시 에러 응답을 덧붙이지 않고 컨테이너로 전파 (연결 종료)")
+        void test_fail_abort_after_commit() throws Exception {
+            // given : 첫 행 기록/flush(응답 커밋) 후 실패
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(1);
+                out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                throw new IllegalStateException("커서 조회 실패");
+            }).when(categoryExportService).exportCategories(any(CategoryExportFormat.class), any(OutputStream.class));
+
+            // when
+            ServletException exception = assertThrows(ServletException.class, () -> mockMvc.perform(get("/categories/export")));
+
+            // then
+            assertInstanceOf(ResponseAbortedException.class, exception.getCause());
+            assertInstanceOf(IllegalStateException.class, exception.getCause().getCause());
+        }
+
+        @Test
+        @DisplayName("응답 기록 전 실패 시 내보내기 헤더 없이 공통 에러 응답 (500)")
+        void test_fail_error_response_before_commit() throws Exception {
+            // given
+            doAnswer(invocation -> {
+                throw new IllegalStateException("커서 열기 실패");
+            }).when(categoryExportService).exportCategories(any(CategoryExportFormat.class), any(OutputStream.class));
+
+            // when & then
+            mockMvc.perform(get("/categories/export")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(jsonPath("$.code").exists());
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.musinsa.shop.category.integration;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musinsa.shop.common.response.ResultResponse;
+import com.musinsa.shop.domain.category.dto.CategoryBulkActiveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryBulkMoveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryOrderRequest;
 import com.musinsa.shop.domain.category.dto.CategoryRequest;
 import com.musinsa.shop.domain.category.dto.CategoryResponse;
 import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
 import com.musinsa.shop.domain.category.entity.Category;
 import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryPathMigrationService;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,8 +22,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -41,13 +60,23 @@ class CategoryIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CategoryPathMigrationService categoryPathMigrationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     // 공통 메서드
     private String toJson(Object obj) throws Exception {
         return objectMapper.writeValueAsString(obj);
     }
 
+    // 링크는 카테고리마다 고유 (상위 카테고리 내 이름 고유)
     private CategoryResponse createCategory(String title, Long parentId) throws Exception {
-        CategoryRequest request = new CategoryRequest(title, parentId, 1, "/dummy", true);
+        CategoryRequest request = new CategoryRequest(title, parentId, 1, "/dummy/" + parentId + "/" + title, true);
         String response = mockMvc.perform(post("/categories")
                         .contentType(APPLICATION_JSON)
                         .content(toJson(request)))
@@ -275,6 +304,545 @@ class CategoryIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("하위 카테고리 정렬 순서 변경")
+    class ReorderCategoryTest {
+        private Long rootId;
+        private Long firstId;
+        private Long secondId;
+        private Long thirdId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            rootId = createCategory("상의", null).getId();
+            firstId = createCategory("반팔티", rootId).getId();
+            secondId = createCategory("셔츠", rootId).getId();
+            thirdId = createCategory("니트", rootId).getId();
+        }
+
+        @Test
+        @DisplayName("성공: 요청 순서대로 displayOrder 변경 및 조회 순서 반영")
+        void test_success_reorder_children() throws Exception {
+            // given
+            CategoryOrderRequest request = new CategoryOrderRequest(List.of(thirdId, firstId, secondId));
+
+            // when
+            mockMvc.perform(put("/categories/{parentId}/order", rootId)
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isOk());
+
+            // then
+            mockMvc.perform(get("/categories")
+                            .param("parentId", rootId.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].children[0].id").value(thirdId))
+                    .andExpect(jsonPath("$.data[0].children[0].displayOrder").value(1024))
+                    .andExpect(jsonPath("$.data[0].children[1].id").value(firstId))
+                    .andExpect(jsonPath("$.data[0].children[2].id").value(secondId));
+        }
+
+        @Test
+        @DisplayName("실패: 하위 카테고리 일부만 요청 시 400 예외")
+        void test_fail_reorder_partial_children() throws Exception {
+            CategoryOrderRequest request = new CategoryOrderRequest(List.of(thirdId, firstId));
+
+            mockMvc.perform(put("/categories/{parentId}/order", rootId)
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("실패: 다른 상위 카테고리의 하위 카테고리 포함 시 400 예외")
+        void test_fail_reorder_with_other_parent_child() throws Exception {
+            Long otherRootId = createCategory("하의", null).getId();
+            Long otherChildId = createCategory("청바지", otherRootId).getId();
+            CategoryOrderRequest request = new CategoryOrderRequest(List.of(thirdId, firstId, otherChildId));
+
+            mockMvc.perform(put("/categories/{parentId}/order", rootId)
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 일괄 변경")
+    class BulkCategoryTest {
+        private Long rootId;
+        private Long otherRootId;
+        private Long childId;
+        private Long grandChildId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            rootId = createCategory("상의", null).getId();
+            otherRootId = createCategory("아우터", null).getId();
+            childId = createCategory("셔츠", rootId).getId();
+            grandChildId = createCategory("옥스포드", childId).getId();
+        }
+
+        @Test
+        @DisplayName("성공: 일괄 이동 시 부모 및 하위 카테고리 path 변경")
+        void test_success_bulk_move() throws Exception {
+            // given
+            CategoryBulkMoveRequest request = new CategoryBulkMoveRequest(List.of(
+                    new CategoryBulkMoveRequest.Move(childId, otherRootId),
+                    new CategoryBulkMoveRequest.Move(rootId, otherRootId)
+            ));
+
+            // when
+            mockMvc.perform(patch("/categories/bulk/parent")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isOk());
+
+            // then
+            Category child = categoryRepository.findById(childId).orElseThrow();
+            Category grandChild = categoryRepository.findById(grandChildId).orElseThrow();
+            Category root = categoryRepository.findById(rootId).orElseThrow();
+            assertEquals(otherRootId, child.getParent().getId());
+            assertEquals("/" + otherRootId + "/" + childId + "/", child.getPath());
+            assertEquals("/" + otherRootId + "/" + childId + "/" + grandChildId + "/", grandChild.getPath());
+            assertEquals("/" + otherRootId + "/" + rootId + "/", root.getPath());
+        }
+
+        @Test
+        @DisplayName("성공: 같은 상위 카테고리의 여러 카테고리 이동 시 사이에 있는 이동하지 않은 카테고리 path 유지")
+        void test_success_bulk_move_siblings_keep_others() throws Exception {
+            // given : 상의 ─ 셔츠(─ 옥스포드), 니트, 후드
+            Long knitId = createCategory("니트", rootId).getId();
+            Long hoodId = createCategory("후드", rootId).getId();
+            CategoryBulkMoveRequest request = new CategoryBulkMoveRequest(List.of(
+                    new CategoryBulkMoveRequest.Move(childId, otherRootId),
+                    new CategoryBulkMoveRequest.Move(hoodId, otherRootId)
+            ));
+
+            // when
+            mockMvc.perform(patch("/categories/bulk/parent")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isOk());
+
+            // then
+            assertEquals("/" + otherRootId + "/" + childId + "/" + grandChildId + "/",
+                    categoryRepository.findById(grandChildId).orElseThrow().getPath());
+            assertEquals("/" + otherRootId + "/" + hoodId + "/", categoryRepository.findById(hoodId).orElseThrow().getPath());
+            assertEquals("/" + rootId + "/" + knitId + "/", categoryRepository.findById(knitId).orElseThrow().getPath());
+        }
+
+        @Test
+        @DisplayName("실패: 하위 카테고리 아래로 이동 시 400 예외 및 변경 없음")
+        void test_fail_bulk_move_with_circular_reference() throws Exception {
+            // given
+            CategoryBulkMoveRequest request = new CategoryBulkMoveRequest(List.of(
+                    new CategoryBulkMoveRequest.Move(otherRootId, rootId),
+                    new CategoryBulkMoveRequest.Move(rootId, grandChildId)
+            ));
+
+            // when & then
+            mockMvc.perform(patch("/categories/bulk/parent")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isBadRequest());
+
+            assertNull(categoryRepository.findById(otherRootId).orElseThrow().getParent());
+        }
+
+        @Test
+        @DisplayName("성공: 활성 여부 일괄 변경")
+        void test_success_bulk_active() throws Exception {
+            // given
+            CategoryBulkActiveRequest request = new CategoryBulkActiveRequest(List.of(
+                    new CategoryBulkActiveRequest.Item(childId, false),
+                    new CategoryBulkActiveRequest.Item(otherRootId, false)
+            ));
+
+            // when
+            mockMvc.perform(patch("/categories/bulk/active")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isOk());
+
+            // then
+            assertFalse(categoryRepository.findById(childId).orElseThrow().getActive());
+            assertFalse(categoryRepository.findById(otherRootId).orElseThrow().getActive());
+            assertTrue(categoryRepository.findById(rootId).orElseThrow().getActive());
+        }
+
+        @Test
+        @DisplayName("실패: 없는 카테고리 포함 시 404 예외")
+        void test_fail_bulk_active_not_found() throws Exception {
+            CategoryBulkActiveRequest request = new CategoryBulkActiveRequest(List.of(
+                    new CategoryBulkActiveRequest.Item(childId, false),
+                    new CategoryBulkActiveRequest.Item(Long.MAX_VALUE, false)
+            ));
+
+            mockMvc.perform(patch("/categories/bulk/active")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("하위 카테고리 경로 비동기 변경")
+    class AsyncPathUpdateTest {
+        private Long rootId;
+        private Long otherRootId;
+        private Long childId;
+        private Long grandChildId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            rootId = createCategory("상의", null).getId();
+            otherRootId = createCategory("아우터", null).getId();
+            childId = createCategory("셔츠", rootId).getId();
+            grandChildId = createCategory("옥스포드", childId).getId();
+        }
+
+        @Test
+        @DisplayName("성공: 이동한 카테고리만 즉시 변경, 작업 완료 전에도 하위 트리 조회 일관성 유지")
+        void test_success_async_path_update() throws Exception {
+            // given
+            CategoryUpdateRequest request = new CategoryUpdateRequest("셔츠", otherRootId, null, null, null);
+            String oldGrandChildPath = "/" + rootId + "/" + childId + "/" + grandChildId + "/";
+            String newGrandChildPath = "/" + otherRootId + "/" + childId + "/" + grandChildId + "/";
+
+            // when
+            mockMvc.perform(patch("/categories/{id}", childId)
+                            .param("asyncPathUpdate", "true")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isOk());
+
+            // then : 하위 카테고리 path 는 아직 이전 path, 조회는 이전/신규 path 모두 포함
+            assertEquals("/" + otherRootId + "/" + childId + "/", categoryRepository.findById(childId).orElseThrow().getPath());
+            assertEquals(oldGrandChildPath, categoryRepository.findById(grandChildId).orElseThrow().getPath());
+
+            mockMvc.perform(get("/categories").param("parentId", childId.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].children[0].id").value(grandChildId));
+
+            mockMvc.perform(get("/categories/{id}/path-migration", childId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.status").value("PENDING"))
+                    .andExpect(jsonPath("$.data.totalCount").value(1));
+
+            // 작업 처리 후 하위 카테고리 path 변경 및 완료 상태
+            categoryPathMigrationService.processPendingMigrations();
+
+            assertEquals(newGrandChildPath, categoryRepository.findById(grandChildId).orElseThrow().getPath());
+            mockMvc.perform(get("/categories/{id}/path-migration", childId))
+                    .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.data.processedCount").value(1));
+        }
+
+        @Test
+        @DisplayName("실패: 경로 변경 진행 중인 하위 트리의 카테고리 이동 시 400 예외")
+        void test_fail_move_while_migrating() throws Exception {
+            // given
+            mockMvc.perform(patch("/categories/{id}", childId)
+                            .param("asyncPathUpdate", "true")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(new CategoryUpdateRequest("셔츠", otherRootId, null, null, null))))
+                    .andExpect(status().isOk());
+
+            // when & then
+            mockMvc.perform(patch("/categories/{id}", grandChildId)
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(new CategoryUpdateRequest("옥스포드", rootId, null, null, null))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 평면 목록 조회")
+    class FlatCategoryTest {
+
+        private Long rootId;
+        private Long childId;
+        private Long grandChildId;
+        private Long otherRootId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            rootId = createCategory("여성의류", null).getId();
+            childId = createCategory("상의", rootId).getId();
+            grandChildId = createCategory("반팔티", childId).getId();
+            otherRootId = createCategory("남성의류", null).getId();
+        }
+
+        // cursor 를 따라 마지막 페이지까지 조회한 ID 목록
+        private List<Long> fetchAllPages(int size, String... params) throws Exception {
+            List<Long> ids = new ArrayList<>();
+            String cursor = null;
+            do {
+                MockHttpServletRequestBuilder request = get("/categories/flat")
+                        .param("size", String.valueOf(size));
+                for (int i = 0; i < params.length; i += 2) {
+                    request.param(params[i], params[i + 1]);
+                }
+                if (cursor != null) {
+                    request.param("cursor", cursor);
+                }
+
+                String response = mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+                JsonNode page = objectMapper.readTree(response).get("data");
+                assertTrue(page.get("items").size() <= size);
+                page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+                cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            } while (cursor != null);
+            return ids;
+        }
+
+        @Test
+        @DisplayName("성공: path 순 페이지 순회 시 상위 → 하위 순서로 중복/누락 없이 조회")
+        void test_success_flat_pages_by_path() throws Exception {
+            List<Long> ids = fetchAllPages(1);
+
+            List<Long> expected = categoryRepository.findAll().stream()
+                    .sorted(Comparator.comparing(Category::getPath))
+                    .map(Category::getId)
+                    .toList();
+            assertEquals(expected, ids);
+            assertTrue(ids.indexOf(rootId) < ids.indexOf(childId));
+            assertTrue(ids.indexOf(childId) < ids.indexOf(grandChildId));
+        }
+
+        @Test
+        @DisplayName("성공: 깊이/삭제 여부 필터 적용 후 페이지 순회")
+        void test_success_flat_pages_with_filters() throws Exception {
+            mockMvc.perform(delete("/categories/" + otherRootId)).andExpect(status().isOk());
+
+            assertEquals(List.of(rootId, childId, grandChildId), fetchAllPages(2));
+            assertEquals(List.of(rootId, childId), fetchAllPages(2, "maxDepth", "2"));
+            assertEquals(List.of(otherRootId), fetchAllPages(2, "deleted", "true"));
+        }
+
+        @Test
+        @DisplayName("성공: 하위 트리 이동 시 path 가 바뀐 하위 카테고리도 수정 일시 조건으로 조회")
+        void test_success_flat_updated_since_after_subtree_move() throws Exception {
+            // given : 기존 카테고리 수정 일시를 과거로 변경
+            entityManager.flush();
+            jdbcTemplate.update("UPDATE category SET updated_at = ?", LocalDateTime.of(2000, 1, 1, 0, 0));
+            entityManager.clear();
+
+            // when : 상의(하위 반팔티)를 남성의류 아래로 이동
+            mockMvc.perform(patch("/categories/{id}", childId)
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(new CategoryUpdateRequest("상의", otherRootId, null, null, null))))
+                    .andExpect(status().isOk());
+
+            // then : 이동한 카테고리와 일괄 UPDATE 로 path 가 바뀐 하위 카테고리
+            assertEquals(List.of(childId, grandChildId), fetchAllPages(10, "updatedSince", "2001-01-01T00:00:00"));
+        }
+
+        @Test
+        @DisplayName("실패: 잘못된 cursor 또는 페이지 크기 지정 시 400 예외")
+        void test_fail_flat_invalid_cursor_or_size() throws Exception {
+            mockMvc.perform(get("/categories/flat")
+                            .param("cursor", "not-a-cursor"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/categories/flat")
+                            .param("size", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 전체 내보내기")
+    class ExportCategoryTest {
+
+        private Long rootId;
+        private Long childId;
+        private Long deletedId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            rootId = createCategory("여성의류", null).getId();
+            childId = createCategory("상의, \"기본\"", rootId).getId();
+            deletedId = createCategory("단종", rootId).getId();
+            mockMvc.perform(delete("/categories/" + deletedId)).andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("성공: NDJSON 으로 삭제 포함 전체 카테고리를 ID 순 한 줄씩 내보내기")
+        void test_success_export_ndjson() throws Exception {
+            // when
+            MockHttpServletResponse response = mockMvc.perform(get("/categories/export"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+
+            // then
+            assertTrue(response.getContentType().startsWith("application/x-ndjson"));
+            String body = response.getContentAsString(StandardCharsets.UTF_8);
+            assertTrue(body.endsWith("\n"));
+
+            List<JsonNode> lines = new ArrayList<>();
+            for (String line : body.split("\n")) {
+                lines.add(objectMapper.readTree(line));
+            }
+            assertEquals(List.of(rootId, childId, deletedId), lines.stream().map(line -> line.get("id").asLong()).toList());
+            assertEquals(rootId, lines.get(1).get("parentId").asLong());
+            assertEquals("상의, \"기본\"", lines.get(1).get("title").asText());
+            assertFalse(lines.get(2).get("deletedAt").isNull());
+        }
+
+        @Test
+        @DisplayName("성공: CSV 헤더 + 한 줄씩 내보내기, 쉼표/따옴표 포함 값은 따옴표로 감싸기")
+        void test_success_export_csv() throws Exception {
+            // when
+            MockHttpServletResponse response = mockMvc.perform(get("/categories/export")
+                            .param("format", "csv"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+
+            // then
+            assertTrue(response.getContentType().startsWith("text/csv"));
+            String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+            assertEquals(4, lines.length);
+            assertEquals("id,title,parentId,path,link,displayOrder,active,deletedAt,createdAt,updatedAt", lines[0]);
+            assertTrue(lines[1].startsWith(rootId + ",여성의류,,/" + rootId + "/,"));
+            assertTrue(lines[2].startsWith(childId + ",\"상의, \"\"기본\"\"\"," + rootId + ","));
+        }
+
+        @Test
+        @DisplayName("성공: Accept-Encoding gzip 요청 시 gzip 압축하여 내보내기")
+        void test_success_export_gzip() throws Exception {
+            // when
+            MockHttpServletResponse response = mockMvc.perform(get("/categories/export")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+
+            // then
+            assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+                String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertEquals(3, body.split("\n").length);
+            }
+        }
+
+        @Test
+        @DisplayName("성공: Accept-Encoding 에 gzip 을 q=0 으로 지정하면 압축하지 않음, * 허용 시 압축")
+        void test_success_export_gzip_quality() throws Exception {
+            // when
+            MockHttpServletResponse refused = mockMvc.perform(get("/categories/export")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            MockHttpServletResponse wildcard = mockMvc.perform(get("/categories/export")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, *;q=0.5"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+
+            // then
+            assertNull(refused.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(3, refused.getContentAsString(StandardCharsets.UTF_8).split("\n").length);
+            assertEquals("gzip", wildcard.getHeader(HttpHeaders.CONTENT_ENCODING));
+        }
+
+        @Test
+        @DisplayName("실패: 지원하지 않는 형식 지정 시 400 예외")
+        void test_fail_export_unknown_format() throws Exception {
+            mockMvc.perform(get("/categories/export")
+                            .param("format", "xml"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 일괄 가져오기")
+    class ImportCategoryTest {
+
+        private Long rootId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            rootId = createCategory("여성의류", null).getId();
+        }
+
+        private MockMultipartFile csv(String... lines) {
+            return new MockMultipartFile("file", "categories.csv", "text/csv",
+                    String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("성공: CSV 트리를 지정한 상위 카테고리 하위로 등록, path/부모/이름 색인 반영")
+        void test_success_import_csv_under_parent() throws Exception {
+            // when
+            mockMvc.perform(multipart("/categories/import")
+                            .file(csv("ref,parentRef,title,displayOrder",
+                                    "shirt,top,셔츠,2",
+                                    "top,,상의,1",
+                                    "oxford,shirt,옥스포드,1"))
+                            .param("parentId", String.valueOf(rootId)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.createdCount").value(3))
+                    .andExpect(jsonPath("$.data.maxDepth").value(3));
+
+            // then
+            Category top = categoryRepository.findAll().stream()
+                    .filter(category -> category.getTitle().equals("상의"))
+                    .findFirst().orElseThrow();
+            Category oxford = categoryRepository.findAll().stream()
+                    .filter(category -> category.getTitle().equals("옥스포드"))
+                    .findFirst().orElseThrow();
+            assertEquals(rootId, top.getParent().getId());
+            assertEquals("/" + rootId + "/" + top.getId() + "/", top.getPath());
+            assertTrue(oxford.getPath().startsWith(top.getPath()));
+
+            mockMvc.perform(get("/categories").param("parentId", String.valueOf(rootId)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].children[0].title").value("상의"))
+                    .andExpect(jsonPath("$.data[0].children[0].children[0].children[0].title").value("옥스포드"));
+
+            // 가져온 카테고리와 같은 이름은 등록 불가
+            CategoryRequest duplicate = new CategoryRequest("상의", rootId, 1, null, true);
+            mockMvc.perform(post("/categories")
+                            .contentType(APPLICATION_JSON)
+                            .content(toJson(duplicate)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("성공: dryRun 시 오류 목록만 반환하고 등록하지 않음")
+        void test_success_import_dry_run() throws Exception {
+            // given
+            long before = categoryRepository.count();
+
+            // when & then
+            mockMvc.perform(multipart("/categories/import")
+                            .file(csv("ref,parentRef,title", "a,,여성의류", "b,a,상의", "c,x,셔츠"))
+                            .param("dryRun", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.dryRun").value(true))
+                    .andExpect(jsonPath("$.data.errorCount").value(2))
+                    .andExpect(jsonPath("$.data.errors[0].row").value(1))
+                    .andExpect(jsonPath("$.data.errors[1].ref").value("c"));
+            assertEquals(before, categoryRepository.count());
+        }
+
+        @Test
+        @DisplayName("실패: 검증 오류가 있는 파일은 400 예외, 등록하지 않음")
+        void test_fail_import_invalid_file() throws Exception {
+            // given
+            long before = categoryRepository.count();
+
+            // when & then
+            mockMvc.perform(multipart("/categories/import")
+                            .file(csv("ref,parentRef,title", "a,,상의", "b,a,셔츠", "c,a,셔츠")))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(multipart("/categories/import"))
+                    .andExpect(status().isBadRequest());
+            assertEquals(before, categoryRepository.count());
+        }
+    }
+
     @Nested
     @DisplayName("카테고리 삭제")
     class DeleteCategoryTest {
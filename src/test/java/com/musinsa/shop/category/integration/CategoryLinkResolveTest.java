@@ -0,0 +1,200 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 링크로 카테고리 조회 (변경 커밋 후 색인 반영이 필요하여 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("통합 테스트: 링크로 카테고리 조회")
+class CategoryLinkResolveTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryLinkIndex linkIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long topId;
+    private Long shirtId;
+
+    // 상의(/category/top) - 셔츠(/category/top/shirt)
+    @BeforeEach
+    void setUp() {
+        topId = create("상의", null, "/category/top");
+        shirtId = create("셔츠", topId, "/category/top/shirt");
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        linkIndex.load();
+    }
+
+    private Long create(String title, Long parentId, String link) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, 1, link, true)).getId();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("등록 커밋 후 링크 정확히 일치 / 하위 경로는 가장 긴 상위 링크와 일치")
+        void test_success_resolve_after_create() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/shirt"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.id").value(shirtId))
+                    .andExpect(jsonPath("$.data.remainingPath").doesNotExist());
+
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/shirt/sale/2"))
+                    .andExpect(jsonPath("$.data.id").value(shirtId))
+                    .andExpect(jsonPath("$.data.link").value("/category/top/shirt"))
+                    .andExpect(jsonPath("$.data.remainingPath").value("/sale/2"));
+
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/knit"))
+                    .andExpect(jsonPath("$.data.id").value(topId))
+                    .andExpect(jsonPath("$.data.remainingPath").value("/knit"));
+        }
+
+        @Test
+        @DisplayName("링크 변경/삭제 커밋 후 색인 반영, 삭제된 카테고리 링크 재사용 가능")
+        void test_success_resolve_after_update_and_delete() throws Exception {
+            // when : 셔츠 링크 변경
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, null, null, "/category/shirt", null));
+
+            // then
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/shirt"))
+                    .andExpect(jsonPath("$.data.id").value(shirtId));
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/shirt"))
+                    .andExpect(jsonPath("$.data.id").value(topId))
+                    .andExpect(jsonPath("$.data.remainingPath").value("/shirt"));
+
+            // when : 셔츠 삭제 후 같은 링크로 등록
+            categoryService.deleteCategory(shirtId);
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/shirt"))
+                    .andExpect(status().isNotFound());
+            Long newShirtId = create("새 셔츠", topId, "/category/shirt");
+
+            // then
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/shirt"))
+                    .andExpect(jsonPath("$.data.id").value(newShirtId));
+        }
+
+        @Test
+        @DisplayName("색인에 없는 링크(다른 인스턴스 등록)는 DB 조회 후 색인에 추가")
+        void test_success_resolve_db_fallback() throws Exception {
+            // given : 이벤트 없이 DB 에만 등록
+            jdbcTemplate.update("INSERT INTO category (title, parent_key, path, link, link_key, display_order, active, deleted, " +
+                    "created_at, updated_at) VALUES ('하의', 0, '/0/', '/category/bottom', '/category/bottom', 1, TRUE, FALSE, NOW(), NOW())");
+            Long bottomId = jdbcTemplate.queryForObject("SELECT id FROM category WHERE link_key = '/category/bottom'", Long.class);
+
+            // when & then
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/bottom/jeans"))
+                    .andExpect(jsonPath("$.data.id").value(bottomId))
+                    .andExpect(jsonPath("$.data.remainingPath").value("/jeans"));
+            assertEquals(bottomId, linkIndex.get("/category/bottom"));
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 등록한 하위 링크는 색인의 상위 링크보다 우선 (DB 후보 링크 조회)")
+        void test_success_resolve_db_link_over_index_prefix() throws Exception {
+            // given : 이벤트 없이 DB 에만 상의 하위 니트 등록 (색인에는 상의만 존재)
+            jdbcTemplate.update("INSERT INTO category (title, parent_id, parent_key, path, link, link_key, display_order, active, deleted, " +
+                    "created_at, updated_at) VALUES ('니트', ?, ?, '/0/', '/category/top/knit', '/category/top/knit', 2, TRUE, FALSE, NOW(), NOW())",
+                    topId, topId);
+            Long knitId = jdbcTemplate.queryForObject("SELECT id FROM category WHERE link_key = '/category/top/knit'", Long.class);
+
+            // when & then
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/knit/sale"))
+                    .andExpect(jsonPath("$.data.id").value(knitId))
+                    .andExpect(jsonPath("$.data.link").value("/category/top/knit"))
+                    .andExpect(jsonPath("$.data.remainingPath").value("/sale"));
+            assertEquals(knitId, linkIndex.get("/category/top/knit"));
+        }
+
+        @Test
+        @DisplayName("비활성 카테고리도 링크와 일치 (상위 링크로 넘기지 않음)")
+        void test_success_resolve_inactive() throws Exception {
+            // given
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, null, null, null, false));
+
+            // when & then
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/shirt"))
+                    .andExpect(jsonPath("$.data.id").value(shirtId))
+                    .andExpect(jsonPath("$.data.remainingPath").doesNotExist());
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/shirt/sale"))
+                    .andExpect(jsonPath("$.data.id").value(shirtId))
+                    .andExpect(jsonPath("$.data.remainingPath").value("/sale"));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("다른 카테고리가 사용 중인 링크로 등록/수정 : 409 Conflict")
+        void test_fail_duplicate_link() throws Exception {
+            // when & then
+            mockMvc.perform(post("/categories")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"하의\",\"link\":\"/category/top\"}"))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message").value("이미 사용 중인 링크입니다."));
+
+            mockMvc.perform(patch("/categories/{id}", shirtId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"link\":\"/category/top\"}"))
+                    .andExpect(status().isConflict());
+
+            mockMvc.perform(get("/categories/resolve").param("link", "/category/top/shirt"))
+                    .andExpect(jsonPath("$.data.id").value(shirtId));
+        }
+
+        @Test
+        @DisplayName("일치하는 링크 없음 : 404, 링크 누락/공백 : 400")
+        void test_fail_not_found_and_invalid() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories/resolve").param("link", "/brand/nike"))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(get("/categories/resolve"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/categories/resolve").param("link", " "))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
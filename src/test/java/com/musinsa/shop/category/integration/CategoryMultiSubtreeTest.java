@@ -0,0 +1,150 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 여러 하위 트리 동시 조회 (하위 트리 캐시 보관/무효화 확인을 위해 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("통합 테스트: 여러 하위 트리 동시 조회")
+class CategoryMultiSubtreeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategorySubtreeCache subtreeCache;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private CategoryTitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    private CategoryLinkIndex linkIndex;
+
+    private Long womenId;
+    private Long topId;
+    private Long menId;
+
+    // 여성(상의 > 셔츠, 원피스) / 남성(하의)
+    @BeforeEach
+    void setUp() {
+        womenId = create("여성", null, 1);
+        topId = create("상의", womenId, 1);
+        create("셔츠", topId, 1);
+        create("원피스", womenId, 2);
+        menId = create("남성", null, 2);
+        create("하의", menId, 1);
+        subtreeCache.invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+        titleSearchIndex.load();
+        linkIndex.load();
+        subtreeCache.invalidateAll();
+    }
+
+    private Long create(String title, Long parentId, int displayOrder) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, displayOrder, null, true)).getId();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("요청 순서대로 각 카테고리 하위 트리 응답, 카테고리별 캐시 보관 후 변경된 하위 트리만 무효화")
+        void test_success_get_subtrees() throws Exception {
+            // when & then : 상의는 여성 하위에 포함 (여성 트리와 같은 노드로 응답)
+            mockMvc.perform(get("/categories").param("parentIds", menId + "," + topId + "," + womenId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[*].title", contains("남성", "상의", "여성")))
+                    .andExpect(jsonPath("$.data[0].children[*].title", contains("하의")))
+                    .andExpect(jsonPath("$.data[1].children[*].title", contains("셔츠")))
+                    .andExpect(jsonPath("$.data[2].children[*].title", contains("상의", "원피스")));
+
+            assertTrue(subtreeCache.contains(womenId));
+            assertTrue(subtreeCache.contains(topId));
+            assertTrue(subtreeCache.contains(menId));
+
+            // when : 상의 하위에 니트 등록 (여성/상의 항목만 무효화)
+            create("니트", topId, 2);
+
+            // then
+            assertFalse(subtreeCache.contains(topId));
+            assertTrue(subtreeCache.contains(menId));
+            mockMvc.perform(get("/categories").param("parentIds", topId + "," + menId))
+                    .andExpect(jsonPath("$.data[0].children[*].title", contains("셔츠", "니트")))
+                    .andExpect(jsonPath("$.data[1].title").value("남성"));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("parentId 와 함께 사용, 빈 목록, 최대 카테고리 수 초과 : 400 Bad Request")
+        void test_fail_invalid_request() throws Exception {
+            // given
+            String tooMany = LongStream.rangeClosed(1, 51).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+            // when & then
+            mockMvc.perform(get("/categories").param("parentId", String.valueOf(womenId)).param("parentIds", String.valueOf(menId)))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/categories").param("parentIds", ""))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/categories").param("parentIds", tooMany))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 카테고리 포함 : 404 Not Found")
+        void test_fail_unknown_category() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories").param("parentIds", womenId + ",999999"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.data").doesNotExist());
+            mockMvc.perform(get("/categories").param("parentIds", String.valueOf(womenId)))
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.musinsa.shop.category.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.domain.category.dto.CategoryOrderMoveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryOrderService;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카테고리 정렬 순서 이동 (백그라운드 순위 재지정 확인을 위해 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("통합 테스트: 카테고리 정렬 순서 이동")
+class CategoryOrderMoveTest {
+
+    private static final long REBALANCE_TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryOrderService categoryOrderService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategorySubtreeCache subtreeCache;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private CategoryTitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    private CategoryLinkIndex linkIndex;
+
+    private Long topId;
+    private Long tshirtId;
+    private Long shirtId;
+    private Long knitId;
+
+    // 상의 > 반팔티, 셔츠, 니트 (정렬 순서 미지정 : 마지막 순위 다음 순위)
+    @BeforeEach
+    void setUp() {
+        topId = create("상의", null, null);
+        tshirtId = create("반팔티", topId, null);
+        shirtId = create("셔츠", topId, null);
+        knitId = create("니트", topId, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+        titleSearchIndex.load();
+        linkIndex.load();
+        subtreeCache.invalidateAll();
+    }
+
+    private Long create(String title, Long parentId, Integer displayOrder) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, displayOrder, null, true)).getId();
+    }
+
+    private ResultActions move(Long id, Long beforeId, Long afterId) throws Exception {
+        return mockMvc.perform(patch("/categories/{id}/position", id)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CategoryOrderMoveRequest(beforeId, afterId))));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int displayOrderOf(Long id) {
+        return categoryRepository.findById(id).orElseThrow().getDisplayOrder();
+    }
+
+    private List<Integer> displayOrdersOf(Long... ids) {
+        return List.of(ids).stream().map(this::displayOrderOf).toList();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("기준 카테고리 앞/뒤 이동 : 본인 순위만 변경, 트리 조회 순서 반영")
+        void test_success_move_changes_one_row() throws Exception {
+            // given : 간격 순위로 등록
+            assertEquals(List.of(1024, 2048, 3072), displayOrdersOf(tshirtId, shirtId, knitId));
+            mockMvc.perform(get("/categories").param("parentId", topId.toString()));
+
+            // when : 니트를 반팔티 앞으로
+            move(knitId, tshirtId, null).andExpect(status().isOk());
+
+            // then
+            assertEquals(List.of(1024, 2048, 512), displayOrdersOf(tshirtId, shirtId, knitId));
+            mockMvc.perform(get("/categories").param("parentId", topId.toString()))
+                    .andExpect(jsonPath("$.data[0].children[*].title", contains("니트", "반팔티", "셔츠")));
+
+            // when : 니트를 반팔티 뒤로
+            move(knitId, null, tshirtId).andExpect(status().isOk());
+
+            // then
+            assertEquals(List.of(1024, 2048, 1536), displayOrdersOf(tshirtId, shirtId, knitId));
+            mockMvc.perform(get("/categories").param("parentId", topId.toString()))
+                    .andExpect(jsonPath("$.data[0].children[*].title", contains("반팔티", "니트", "셔츠")));
+        }
+
+        @Test
+        @DisplayName("같은 순위 카테고리 사이 이동 : 하위 카테고리 전체 순위 재지정 후 이동 (기존 순서 유지)")
+        void test_success_move_between_same_display_order() throws Exception {
+            // given : 모두 순위 1 (path 순 정렬)
+            Long bottomId = create("하의", null, null);
+            Long jeansId = create("청바지", bottomId, 1);
+            Long slacksId = create("슬랙스", bottomId, 1);
+            Long shortsId = create("반바지", bottomId, 1);
+
+            // when : 반바지를 슬랙스 앞으로
+            move(shortsId, slacksId, null).andExpect(status().isOk());
+
+            // then
+            assertEquals(List.of(1024, 2048, 3072), displayOrdersOf(jeansId, shortsId, slacksId));
+            mockMvc.perform(get("/categories").param("parentId", bottomId.toString()))
+                    .andExpect(jsonPath("$.data[0].children[*].title", contains("청바지", "반바지", "슬랙스")));
+        }
+
+        @Test
+        @DisplayName("같은 위치에 반복 이동해 간격이 줄어들면 커밋 후 백그라운드에서 순위 재지정")
+        void test_success_background_rebalance() throws Exception {
+            // given : 셔츠(2048) 앞으로 니트/후드를 번갈아 이동 → 셔츠와의 간격 절반씩 감소 (512 → 4, 마지막 이동 후 최소 간격 미만)
+            Long hoodId = create("후드", topId, null);
+            for (int i = 0; i < 4; i++) {
+                move(knitId, shirtId, null).andExpect(status().isOk());
+                move(hoodId, shirtId, null).andExpect(status().isOk());
+            }
+
+            // when : 백그라운드 재지정 완료 대기
+            List<Integer> expected = List.of(1024, 2048, 3072, 4096);
+            long deadline = System.currentTimeMillis() + REBALANCE_TIMEOUT_MILLIS;
+            List<Integer> displayOrders = displayOrdersOf(tshirtId, knitId, hoodId, shirtId);
+            while (!displayOrders.equals(expected) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+                displayOrders = displayOrdersOf(tshirtId, knitId, hoodId, shirtId);
+            }
+
+            // then : 순서는 유지, 순위는 간격 순위
+            assertEquals(expected, displayOrders);
+            mockMvc.perform(get("/categories").param("parentId", topId.toString()))
+                    .andExpect(jsonPath("$.data[0].children[*].title", contains("반팔티", "니트", "후드", "셔츠")))
+                    .andExpect(jsonPath("$.data[0].children[3].displayOrder").value(4096));
+        }
+
+        @Test
+        @DisplayName("순서 이동 트랜잭션 진행 중 순위 재지정은 이동 커밋까지 대기 후 이동 결과 기준으로 재지정 (이동 유실 없음)")
+        void test_success_rebalance_waits_for_move() throws Exception {
+            // given : 사이 값이 없는 순위 1, 2, 3 → 맨 앞 이동 시 전체 순위 재지정
+            Long firstId = create("후드", topId, 1);
+            Long secondId = create("맨투맨", topId, 2);
+            Long thirdId = create("가디건", topId, 3);
+            categoryRepository.deleteAllById(List.of(tshirtId, shirtId, knitId));
+            CountDownLatch moved = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // when : 이동 트랜잭션 커밋 전 순위 재지정 시작
+                Future<?> move = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    categoryOrderService.moveCategory(thirdId, firstId, null);
+                    moved.countDown();
+                    awaitQuietly(release);
+                }));
+                assertTrue(moved.await(5, TimeUnit.SECONDS));
+                Future<Integer> rebalance = executor.submit(() -> categoryOrderService.rebalance(topId));
+                Thread.sleep(300);
+                boolean rebalancedBeforeCommit = rebalance.isDone();
+                release.countDown();
+                move.get(5, TimeUnit.SECONDS);
+
+                // then : 재지정은 이동 커밋 후 순위(이미 간격 순위)를 읽어 변경 없음
+                assertFalse(rebalancedBeforeCommit);
+                assertEquals(0, rebalance.get(5, TimeUnit.SECONDS));
+                assertEquals(List.of(1024, 2048, 3072), displayOrdersOf(thirdId, firstId, secondId));
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("최상위 카테고리 이동 : 마지막 카테고리 뒤로 이동")
+        void test_success_move_root_category() throws Exception {
+            // given
+            Long bottomId = create("하의", null, null);
+            assertEquals(Category.DISPLAY_ORDER_GAP * 2, displayOrderOf(bottomId));
+
+            // when
+            move(topId, null, bottomId).andExpect(status().isOk());
+
+            // then
+            mockMvc.perform(get("/categories"))
+                    .andExpect(jsonPath("$.data[*].title", contains("하의", "상의")));
+            assertTrue(displayOrderOf(topId) > displayOrderOf(bottomId));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("다른 상위 카테고리의 하위 카테고리 기준 / 기준 카테고리 중복 지정 : 400 Bad Request")
+        void test_fail_invalid_anchor() throws Exception {
+            // given
+            Long bottomId = create("하의", null, null);
+            Long jeansId = create("청바지", bottomId, null);
+
+            // when & then
+            move(knitId, jeansId, null).andExpect(status().isBadRequest());
+            move(knitId, tshirtId, shirtId).andExpect(status().isBadRequest());
+            move(knitId, null, null).andExpect(status().isBadRequest());
+            move(knitId, knitId, null).andExpect(status().isBadRequest());
+            assertEquals(3072, displayOrderOf(knitId));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 카테고리 / 기준 카테고리 : 404 Not Found")
+        void test_fail_not_found() throws Exception {
+            // when & then
+            move(999999L, tshirtId, null).andExpect(status().isNotFound());
+            move(knitId, 999999L, null).andExpect(status().isNotFound());
+        }
+    }
+}
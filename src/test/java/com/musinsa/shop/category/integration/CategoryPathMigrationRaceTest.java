@@ -0,0 +1,135 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryPathMigrationService;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 하위 path 비동기 변경 작업 등록과 겹치는 이동 경쟁 테스트 (트랜잭션 커밋이 필요하여 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("통합 테스트: 경로 변경 작업 등록 중 카테고리 이동")
+class CategoryPathMigrationRaceTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryPathMigrationService pathMigrationService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryPathMigrationRepository pathMigrationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private CategoryTitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    private CategoryLinkIndex linkIndex;
+
+    @Autowired
+    private CategorySubtreeCache subtreeCache;
+
+    @AfterEach
+    void tearDown() {
+        pathMigrationRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+        titleSearchIndex.load();
+        linkIndex.load();
+        subtreeCache.invalidateAll();
+    }
+
+    private Long create(String title, Long parentId) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, null, null, true)).getId();
+    }
+
+    private String pathOf(Long id) {
+        return categoryRepository.findById(id).orElseThrow().getPath();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("작업 등록 트랜잭션 진행 중 상위 카테고리 이동은 등록 커밋까지 대기 후 작업 기준으로 검사 (하위 path 유실 없음)")
+    void test_success_move_waits_for_migration_registration() throws Exception {
+        // given : 상의 ─ 셔츠 ─ 옥스포드, 아우터, 시즌
+        Long rootId = create("상의", null);
+        Long otherRootId = create("아우터", null);
+        Long seasonId = create("시즌", null);
+        Long childId = create("셔츠", rootId);
+        Long grandChildId = create("옥스포드", childId);
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when : 셔츠 비동기 이동(작업 등록) 커밋 전 상의를 시즌 아래로 이동
+            Future<?> asyncMove = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                categoryService.updateCategory(childId, new CategoryUpdateRequest("셔츠", otherRootId, null, null, null), true);
+                registered.countDown();
+                awaitQuietly(release);
+            }));
+            assertTrue(registered.await(5, TimeUnit.SECONDS));
+            Future<Boolean> rootMove = executor.submit(() -> {
+                try {
+                    categoryService.updateCategory(rootId, new CategoryUpdateRequest("상의", seasonId, null, null, null));
+                    return true;
+                } catch (InvalidRequestException e) {
+                    return false;
+                }
+            });
+            Thread.sleep(300);
+            boolean movedBeforeCommit = rootMove.isDone();
+            release.countDown();
+            asyncMove.get(5, TimeUnit.SECONDS);
+            rootMove.get(5, TimeUnit.SECONDS);
+            pathMigrationService.processPendingMigrations();
+
+            // then : 상위 이동은 작업 등록 커밋 후 검사, 옥스포드 path 는 셔츠의 새 path 하위
+            assertFalse(movedBeforeCommit);
+            assertEquals("/" + otherRootId + "/" + childId + "/", pathOf(childId));
+            assertEquals(pathOf(childId) + grandChildId + "/", pathOf(grandChildId));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
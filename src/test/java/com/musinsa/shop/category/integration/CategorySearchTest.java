@@ -0,0 +1,131 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카테고리 이름 자동완성 (변경 커밋 후 색인 반영이 필요하여 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("통합 테스트: 카테고리 이름 자동완성")
+class CategorySearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTitleSearchIndex titleSearchIndex;
+
+    private Long topId;
+    private Long shirtId;
+
+    // 상의(셔츠, 셔링 블라우스) / 하의
+    @BeforeEach
+    void setUp() {
+        topId = create("상의", null);
+        shirtId = create("셔츠", topId);
+        create("셔링 블라우스", topId);
+        create("하의", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        titleSearchIndex.load();
+    }
+
+    private Long create(String title, Long parentId) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, 1, null, true)).getId();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("접두어/초성 검색 : 등록 커밋 후 색인 반영, 최상위부터 이름 경로 포함")
+        void test_success_search_after_create() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories/search").param("prefix", "셔"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[*].title", contains("셔링 블라우스", "셔츠")))
+                    .andExpect(jsonPath("$.data[1].path").value("/" + topId + "/" + shirtId + "/"))
+                    .andExpect(jsonPath("$.data[1].breadcrumb", contains("상의", "셔츠")));
+
+            mockMvc.perform(get("/categories/search").param("prefix", "ㅅㅊ"))
+                    .andExpect(jsonPath("$.data[*].id", contains(shirtId.intValue())));
+
+            mockMvc.perform(get("/categories/search").param("prefix", "ㅅ").param("limit", "1"))
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("이름 변경/이동/삭제 커밋 후 색인 반영")
+        void test_success_search_after_update_and_delete() throws Exception {
+            // given
+            Long bottomId = categoryRepository.findAll().stream()
+                    .filter(category -> category.getTitle().equals("하의"))
+                    .findFirst().orElseThrow().getId();
+
+            // when : 셔츠 → 청셔츠 (하의 아래로 이동), 상의 → 아우터
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest("청셔츠", bottomId, null, null, null));
+            categoryService.updateCategory(topId, new CategoryUpdateRequest("아우터", null, null, null, null));
+
+            // then
+            mockMvc.perform(get("/categories/search").param("prefix", "셔"))
+                    .andExpect(jsonPath("$.data[*].title", contains("셔링 블라우스")))
+                    .andExpect(jsonPath("$.data[0].breadcrumb", contains("아우터", "셔링 블라우스")));
+            mockMvc.perform(get("/categories/search").param("prefix", "청"))
+                    .andExpect(jsonPath("$.data[0].breadcrumb", contains("하의", "청셔츠")));
+
+            // when : 청셔츠 삭제
+            categoryService.deleteCategory(shirtId);
+
+            // then
+            mockMvc.perform(get("/categories/search").param("prefix", "청"))
+                    .andExpect(jsonPath("$.data", hasSize(0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("검색어 누락/공백, 조회 건수 0 이하 : 400 Bad Request")
+        void test_fail_invalid_request() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories/search"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/categories/search").param("prefix", " "))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/categories/search").param("prefix", "셔").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.service.CategoryTreeService;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 하위 트리 캐시 무효화 테스트 (커밋 후 이벤트 처리가 필요하여 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("통합 테스트: 하위 트리 캐시 무효화")
+class CategorySubtreeCacheInvalidationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+
+    @Autowired
+    private CategorySubtreeCache subtreeCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        categoryProperties.getTree().setVersionCheckInterval(Duration.ofSeconds(1));
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+        subtreeCache.invalidateAll();
+    }
+
+    private Long create(String title, Long parentId) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, 1, null, true)).getId();
+    }
+
+    private List<String> childTitles(Long parentId) {
+        return categoryTreeService.getCategories(parentId).get(0).getChildren().stream()
+                .map(CategoryTreeResponse::getTitle)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("성공: 변경된 카테고리의 상위 하위 트리만 무효화, 다른 하위 트리는 캐시 유지")
+    void test_success_invalidate_changed_subtree_only() {
+        // given
+        // 여성 ─ 상의 / 남성 ─ 하의
+        Long women = create("여성", null);
+        Long top = create("상의", women);
+        Long men = create("남성", null);
+        Long bottom = create("하의", men);
+        categoryTreeService.getCategories(null);
+        assertEquals(List.of("상의"), childTitles(women));
+        assertEquals(List.of("하의"), childTitles(men));
+        categoryTreeService.getCategories(top);
+
+        // when
+        create("셔츠", top);
+
+        // then
+        assertFalse(subtreeCache.contains(null));
+        assertFalse(subtreeCache.contains(women));
+        assertFalse(subtreeCache.contains(top));
+        assertTrue(subtreeCache.contains(men));
+        assertEquals("셔츠", categoryTreeService.getCategories(top).get(0).getChildren().get(0).getTitle());
+
+        // when : 하의를 여성 하위로 이동 (이전/신규 상위 모두 무효화)
+        categoryService.updateCategory(bottom, new CategoryUpdateRequest(null, women, null, null, null));
+
+        // then
+        assertEquals(List.of("상의", "하의"), childTitles(women).stream().sorted().toList());
+        assertTrue(childTitles(men).isEmpty());
+    }
+
+    @Test
+    @DisplayName("성공: 이 인스턴스 변경은 DB 트리 버전을 확인해도 다른 하위 트리 캐시 유지")
+    void test_success_keep_cache_after_local_change() {
+        // given
+        categoryProperties.getTree().setVersionCheckInterval(Duration.ZERO);
+        Long women = create("여성", null);
+        Long top = create("상의", women);
+        Long men = create("남성", null);
+        create("하의", men);
+        categoryTreeService.getCategories(men);
+
+        // when
+        create("셔츠", top);
+        categoryTreeService.getCategories(top);
+
+        // then
+        assertTrue(subtreeCache.contains(men));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 인스턴스 변경(DB 트리 버전 증가)은 확인 주기가 지나면 캐시 전체 무효화 후 다시 조회")
+    void test_success_reload_after_external_change() throws InterruptedException {
+        // given
+        categoryProperties.getTree().setVersionCheckInterval(Duration.ofMillis(100));
+        Long men = create("남성", null);
+        Long bottom = create("하의", men);
+        assertEquals(List.of("하의"), childTitles(men));
+
+        // when : 다른 인스턴스가 이름 변경 후 커밋
+        jdbcTemplate.update("UPDATE category SET title = '바지' WHERE id = ?", bottom);
+        jdbcTemplate.update("UPDATE category_tree_version SET version = version + 1");
+        Thread.sleep(150);
+
+        // then
+        assertEquals(List.of("바지"), childTitles(men));
+    }
+}
@@ -0,0 +1,105 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.DuplicateResourceException;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 동일 이름 동시 등록 경쟁 테스트 (트랜잭션 커밋이 필요하여 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("통합 테스트: 카테고리 이름 동시 등록")
+class CategoryTitleRaceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    @AfterEach
+    void tearDown() {
+        categoryProperties.getTitleIndex().setEnabled(true);
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+    }
+
+    // 동일 이름 동시 등록 후 성공 건수 반환 (나머지는 중복 예외여야 함)
+    private int createConcurrently(String title) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        categoryService.createCategory(new CategoryRequest(title, null, 1, null, true));
+                        return true;
+                    } catch (DuplicateResourceException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) succeeded++;
+            }
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이름 색인 사용 시 동일 이름 동시 등록은 하나만 성공")
+    void test_success_only_one_create_with_title_index() throws Exception {
+        // when
+        int succeeded = createConcurrently("상의");
+
+        // then
+        assertEquals(1, succeeded);
+        assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    @DisplayName("이름 색인 미사용 시에도 유니크 제약으로 동일 이름 동시 등록은 하나만 성공")
+    void test_success_only_one_create_with_unique_constraint() throws Exception {
+        // given
+        categoryProperties.getTitleIndex().setEnabled(false);
+
+        // when
+        int succeeded = createConcurrently("하의");
+
+        // then
+        assertEquals(1, succeeded);
+        assertEquals(1, categoryRepository.count());
+    }
+}
@@ -0,0 +1,129 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카테고리 트리 응답 필드 선택 (캐시된 트리가 변경되지 않는지 확인을 위해 테스트 트랜잭션 미사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("통합 테스트: 카테고리 트리 응답 필드 선택")
+class CategoryTreeFieldsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategorySubtreeCache subtreeCache;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @Autowired
+    private CategoryTitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    private CategoryLinkIndex linkIndex;
+
+    private Long womenId;
+    private Long menId;
+
+    // 여성(상의 > 셔츠) / 남성
+    @BeforeEach
+    void setUp() {
+        womenId = create("여성", null, 1);
+        Long topId = create("상의", womenId, 1);
+        create("셔츠", topId, 1);
+        menId = create("남성", null, 2);
+        subtreeCache.invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+        titleSearchIndex.load();
+        linkIndex.load();
+        subtreeCache.invalidateAll();
+    }
+
+    private Long create(String title, Long parentId, int displayOrder) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, displayOrder, "/category/" + title, true)).getId();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("선택 필드만 응답 (하위 카테고리 포함), 이후 전체 필드 조회 시 캐시된 트리 그대로 응답")
+        void test_success_get_selected_fields() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories").param("fields", "id,title,children"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0]", aMapWithSize(3)))
+                    .andExpect(jsonPath("$.data[*].title", contains("여성", "남성")))
+                    .andExpect(jsonPath("$.data[0].children[0].children[0].title").value("셔츠"))
+                    .andExpect(jsonPath("$.data[0].children[0].children[0]", aMapWithSize(3)))
+                    .andExpect(jsonPath("$.data[0].link").doesNotExist());
+
+            mockMvc.perform(get("/categories"))
+                    .andExpect(jsonPath("$.data[0]", aMapWithSize(7)))
+                    .andExpect(jsonPath("$.data[0].link").value("/category/여성"))
+                    .andExpect(jsonPath("$.data[0].children[0].children[0].active").value(true));
+        }
+
+        @Test
+        @DisplayName("children 미선택 시 하위 카테고리 없이 응답, 여러 하위 트리 조회에도 적용")
+        void test_success_get_selected_fields_without_children() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories").param("parentId", String.valueOf(womenId)).param("fields", "title, link"))
+                    .andExpect(jsonPath("$.data[0]", aMapWithSize(2)))
+                    .andExpect(jsonPath("$.data[0].link").value("/category/여성"));
+
+            mockMvc.perform(get("/categories").param("parentIds", menId + "," + womenId).param("fields", "id"))
+                    .andExpect(jsonPath("$.data[*].id", contains(menId.intValue(), womenId.intValue())))
+                    .andExpect(jsonPath("$.data[1]", aMapWithSize(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("지원하지 않는 필드 : 400 Bad Request")
+        void test_fail_unknown_field() throws Exception {
+            // when & then
+            mockMvc.perform(get("/categories").param("fields", "id,path"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.musinsa.shop.category.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JDBC 트리 조회(readCategories / readSubtrees) 결과가 QueryDSL 트리 조회(getCategories / getSubtrees) 와 동일한지 검증
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("통합 테스트: JDBC 트리 조회")
+class CategoryTreeJdbcReadTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long topId;
+    private Long bottomId;
+    private Long shirtId;
+    private Long vestId;
+
+    // 상의(셔츠 > 옥스포드, 니트, 비활성 조끼, 삭제된 맨투맨) / 하의(청바지)
+    @BeforeEach
+    void setUp() {
+        topId = create("상의", null, 2, true);
+        bottomId = create("하의", null, 1, true);
+        shirtId = create("셔츠", topId, 2, true);
+        create("옥스포드", shirtId, 1, true);
+        create("니트", topId, 1, true);
+        vestId = create("조끼", topId, 3, false);
+        categoryService.deleteCategory(create("맨투맨", topId, 4, true));
+        create("청바지", bottomId, 1, true);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Long create(String title, Long parentId, int displayOrder, boolean active) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, displayOrder, "/category/" + title, active)).getId();
+    }
+
+    private void assertSameAsQueryDsl(Long parentId) throws Exception {
+        List<CategoryTreeResponse> expected = categoryService.getCategories(parentId);
+        List<CategoryTreeResponse> actual = categoryService.readCategories(parentId);
+        assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(actual));
+    }
+
+    private void assertSubtreesSameAsQueryDsl(List<Long> parentIds) throws Exception {
+        Map<Long, List<CategoryTreeResponse>> expected = categoryService.getSubtrees(parentIds);
+        Map<Long, List<CategoryTreeResponse>> actual = categoryService.readSubtrees(parentIds);
+        assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(actual));
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("전체 트리 : 비활성/삭제 제외, displayOrder 정렬 결과 동일")
+        void test_success_read_all_tree() throws Exception {
+            // when
+            List<CategoryTreeResponse> tree = categoryService.readCategories(null);
+
+            // then
+            assertEquals(List.of("하의", "상의"), tree.stream().map(CategoryTreeResponse::getTitle).toList());
+            assertEquals(List.of("니트", "셔츠"), tree.get(1).getChildren().stream().map(CategoryTreeResponse::getTitle).toList());
+            assertNull(tree.get(0).getParentId());
+            assertEquals(topId, tree.get(1).getChildren().get(0).getParentId());
+            assertSameAsQueryDsl(null);
+        }
+
+        @Test
+        @DisplayName("하위 트리 : 기준 카테고리부터 조회 결과 동일")
+        void test_success_read_subtree() throws Exception {
+            // when
+            List<CategoryTreeResponse> tree = categoryService.readCategories(shirtId);
+
+            // then
+            assertEquals(1, tree.size());
+            assertEquals("셔츠", tree.get(0).getTitle());
+            assertEquals("옥스포드", tree.get(0).getChildren().get(0).getTitle());
+            assertSameAsQueryDsl(topId);
+            assertSameAsQueryDsl(shirtId);
+        }
+
+        @Test
+        @DisplayName("하위 path 비동기 변경 진행 중 : 이전/신규 path 혼재 하위 트리 결과 동일")
+        void test_success_read_subtree_during_path_migration() throws Exception {
+            // given : 셔츠를 하의 아래로 이동 (옥스포드 path 는 아직 이전 path)
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, bottomId, null, null, null), true);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<CategoryTreeResponse> tree = categoryService.readCategories(shirtId);
+
+            // then
+            assertEquals(bottomId, tree.get(0).getParentId());
+            assertEquals("옥스포드", tree.get(0).getChildren().get(0).getTitle());
+            assertSameAsQueryDsl(bottomId);
+            assertSameAsQueryDsl(shirtId);
+        }
+
+        @Test
+        @DisplayName("여러 하위 트리 : 요청 순서, 다른 요청 카테고리 하위 카테고리는 같은 노드, 비노출 카테고리는 빈 목록, 결과 동일")
+        void test_success_read_subtrees() throws Exception {
+            // when
+            Map<Long, List<CategoryTreeResponse>> subtrees = categoryService.readSubtrees(List.of(bottomId, shirtId, topId, vestId));
+
+            // then
+            assertEquals(List.of(bottomId, shirtId, topId, vestId), List.copyOf(subtrees.keySet()));
+            assertEquals("청바지", subtrees.get(bottomId).get(0).getChildren().get(0).getTitle());
+            assertEquals(List.of("니트", "셔츠"), subtrees.get(topId).get(0).getChildren().stream().map(CategoryTreeResponse::getTitle).toList());
+            assertSame(subtrees.get(topId).get(0).getChildren().get(1), subtrees.get(shirtId).get(0));
+            assertTrue(subtrees.get(vestId).isEmpty());
+            assertSubtreesSameAsQueryDsl(List.of(bottomId, shirtId, topId, vestId));
+        }
+
+        @Test
+        @DisplayName("여러 하위 트리 : 하위 path 비동기 변경 진행 중 이전/신규 path 혼재 결과 동일")
+        void test_success_read_subtrees_during_path_migration() throws Exception {
+            // given : 셔츠를 하의 아래로 이동 (옥스포드 path 는 아직 이전 path)
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, bottomId, null, null, null), true);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            Map<Long, List<CategoryTreeResponse>> subtrees = categoryService.readSubtrees(List.of(topId, bottomId));
+
+            // then
+            assertEquals(List.of("니트"), subtrees.get(topId).get(0).getChildren().stream().map(CategoryTreeResponse::getTitle).toList());
+            CategoryTreeResponse shirt = subtrees.get(bottomId).get(0).getChildren().get(1);
+            assertEquals("셔츠", shirt.getTitle());
+            assertEquals("옥스포드", shirt.getChildren().get(0).getTitle());
+            assertSubtreesSameAsQueryDsl(List.of(topId, bottomId, shirtId));
+        }
+
+        @Test
+        @DisplayName("응답 필드 선택 : 선택하지 않은 이름/링크/활성 여부 미조회, 트리 구조/정렬 동일, 결과 동일")
+        void test_success_read_selected_fields() throws Exception {
+            // given
+            CategoryTreeFields fields = CategoryTreeFields.from("id,parentId,children");
+
+            // when
+            List<CategoryTreeResponse> tree = categoryService.readCategories(null, fields);
+
+            // then
+            assertEquals(List.of(bottomId, topId), tree.stream().map(CategoryTreeResponse::getId).toList());
+            CategoryTreeResponse knit = tree.get(1).getChildren().get(0);
+            assertEquals(topId, knit.getParentId());
+            assertNull(knit.getTitle());
+            assertNull(knit.getLink());
+            assertFalse(knit.isActive());
+            assertEquals(objectMapper.writeValueAsString(categoryService.getCategories(null, fields)), objectMapper.writeValueAsString(tree));
+
+            // when : 셔츠를 하의 아래로 이동 (옥스포드 path 는 아직 이전 path), 이름만 선택
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, bottomId, null, null, null), true);
+            entityManager.flush();
+            entityManager.clear();
+            CategoryTreeFields titles = CategoryTreeFields.from("title,children");
+            List<CategoryTreeResponse> subtree = categoryService.readCategories(shirtId, titles);
+
+            // then
+            assertEquals("옥스포드", subtree.get(0).getChildren().get(0).getTitle());
+            assertNull(subtree.get(0).getLink());
+            assertEquals(objectMapper.writeValueAsString(categoryService.getCategories(shirtId, titles)), objectMapper.writeValueAsString(subtree));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("여러 하위 트리 중 존재하지 않는 카테고리 포함")
+        void test_fail_read_subtrees_with_unknown_category() {
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () -> categoryService.readSubtrees(List.of(topId, 9999L)));
+            assertThrows(ResourceNotFoundException.class, () -> categoryService.getSubtrees(List.of(topId, 9999L)));
+        }
+
+
+        @Test
+        @DisplayName("존재하지 않는 카테고리 하위 트리 조회")
+        void test_fail_read_unknown_category() {
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () -> categoryService.readCategories(9999L));
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.domain.category.dto.CategoryBulkActiveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryBulkMoveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryImportFormat;
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryBulkService;
+import com.musinsa.shop.domain.category.service.CategoryImportService;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 유효 노출 여부(effectiveActive / effectiveDeleted) 쓰기 시점 갱신 검증
+ * - 비활성/삭제된 상위 카테고리 아래 카테고리는 트리 조회에서 제외 (최상위로 올라오지 않음)
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("통합 테스트: 카테고리 유효 노출 여부")
+class CategoryVisibilityTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryBulkService categoryBulkService;
+
+    @Autowired
+    private CategoryImportService categoryImportService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long topId;
+    private Long bottomId;
+    private Long shirtId;
+    private Long oxfordId;
+    private Long vestId;
+    private Long paddingId;
+
+    // 상의(셔츠 > 옥스포드, 니트, 비활성 조끼 > 패딩 조끼) / 하의(청바지)
+    @BeforeEach
+    void setUp() {
+        topId = create("상의", null, 2, true);
+        bottomId = create("하의", null, 1, true);
+        shirtId = create("셔츠", topId, 2, true);
+        oxfordId = create("옥스포드", shirtId, 1, true);
+        create("니트", topId, 1, true);
+        vestId = create("조끼", topId, 3, false);
+        paddingId = create("패딩 조끼", vestId, 1, true);
+        create("청바지", bottomId, 1, true);
+        flushAndClear();
+    }
+
+    private Long create(String title, Long parentId, int displayOrder, boolean active) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, displayOrder, "/category/" + title, active)).getId();
+    }
+
+    private void updateActive(Long id, boolean active) {
+        categoryService.updateCategory(id, new CategoryUpdateRequest(null, null, null, null, active));
+        flushAndClear();
+    }
+
+    private void importCsv(String csv, Long parentId) throws Exception {
+        categoryImportService.importCategories(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                CategoryImportFormat.CSV, parentId, false);
+        flushAndClear();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // 트리 전체 제목 (깊이 우선, displayOrder 순)
+    private static List<String> titles(List<CategoryTreeResponse> tree) {
+        List<String> titles = new ArrayList<>();
+        for (CategoryTreeResponse node : tree) {
+            titles.add(node.getTitle());
+            titles.addAll(titles(node.getChildren()));
+        }
+        return titles;
+    }
+
+    // QueryDSL / JDBC 트리 조회 결과 동일 여부 확인 후 전체 제목 반환
+    private List<String> visibleTitles(Long parentId) {
+        List<String> titles = titles(categoryService.getCategories(parentId));
+        assertEquals(titles, titles(categoryService.readCategories(parentId)));
+        return titles;
+    }
+
+    private Category find(Long id) {
+        return categoryRepository.findById(id).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("등록 : 비활성 상위 카테고리 하위는 등록 시점부터 비노출")
+        void test_success_create_under_inactive_parent() {
+            // then
+            assertEquals(List.of("하의", "청바지", "상의", "니트", "셔츠", "옥스포드"), visibleTitles(null));
+            assertTrue(find(paddingId).getActive());
+            assertFalse(find(paddingId).getEffectiveActive());
+            assertTrue(visibleTitles(vestId).isEmpty());
+        }
+
+        @Test
+        @DisplayName("비활성 변경 : 하위 카테고리 전체 비노출 (최상위로 올라오지 않음)")
+        void test_success_deactivate_hides_descendants() {
+            // when
+            updateActive(topId, false);
+
+            // then
+            assertEquals(List.of("하의", "청바지"), visibleTitles(null));
+            assertTrue(visibleTitles(topId).isEmpty());
+            assertTrue(visibleTitles(shirtId).isEmpty());
+            assertFalse(find(oxfordId).getEffectiveActive());
+            assertTrue(find(oxfordId).getActive());
+        }
+
+        @Test
+        @DisplayName("재활성 변경 : 하위 카테고리 복원, 하위 트리 안의 비활성 카테고리 아래는 비노출 유지")
+        void test_success_reactivate_restores_descendants() {
+            // given
+            updateActive(topId, false);
+
+            // when
+            updateActive(topId, true);
+
+            // then
+            assertEquals(List.of("하의", "청바지", "상의", "니트", "셔츠", "옥스포드"), visibleTitles(null));
+            assertEquals(List.of("셔츠", "옥스포드"), visibleTitles(shirtId));
+            assertTrue(visibleTitles(vestId).isEmpty());
+        }
+
+        @Test
+        @DisplayName("이동 : 비활성/삭제된 상위 카테고리 아래로 이동 시 하위 트리 비노출, 활성 상위로 이동 시 복원")
+        void test_success_move_under_hidden_parent() {
+            // when : 비활성 조끼 아래로 이동
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, vestId, null, null, null));
+            flushAndClear();
+
+            // then
+            assertEquals(List.of("하의", "청바지", "상의", "니트"), visibleTitles(null));
+
+            // when : 하의 아래로 이동
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, bottomId, null, null, null));
+            flushAndClear();
+
+            // then
+            assertEquals(List.of("하의", "청바지", "셔츠", "옥스포드", "상의", "니트"), visibleTitles(null));
+        }
+
+        @Test
+        @DisplayName("삭제 : 삭제한 카테고리만 유효 삭제, 옮겨간 하위 카테고리는 새 상위 카테고리 기준")
+        void test_success_delete_and_moved_child() {
+            // given : 셔츠 하위 옥스포드를 조끼(비활성) 아래로 옮긴 뒤 셔츠 삭제
+            categoryService.updateCategory(oxfordId, new CategoryUpdateRequest(null, vestId, 2, null, null));
+            categoryService.deleteCategory(shirtId);
+            flushAndClear();
+
+            // when : 조끼 활성화
+            updateActive(vestId, true);
+
+            // then
+            assertTrue(find(shirtId).getEffectiveDeleted());
+            assertFalse(find(oxfordId).getEffectiveDeleted());
+            assertEquals(List.of("하의", "청바지", "상의", "니트", "조끼", "패딩 조끼", "옥스포드"), visibleTitles(null));
+        }
+
+        @Test
+        @DisplayName("일괄 변경 : 일괄 활성 변경/이동도 하위 트리 유효 노출 여부 반영")
+        void test_success_bulk_updates_propagate() {
+            // when : 하의 비활성, 셔츠는 하의 아래로 이동
+            categoryBulkService.updateActiveCategories(List.of(new CategoryBulkActiveRequest.Item(bottomId, false)));
+            categoryBulkService.moveCategories(List.of(new CategoryBulkMoveRequest.Move(shirtId, bottomId)));
+            flushAndClear();
+
+            // then
+            assertEquals(List.of("상의", "니트"), visibleTitles(null));
+            assertFalse(find(oxfordId).getEffectiveActive());
+
+            // when : 하의, 조끼 활성
+            categoryBulkService.updateActiveCategories(List.of(
+                    new CategoryBulkActiveRequest.Item(bottomId, true),
+                    new CategoryBulkActiveRequest.Item(vestId, true)));
+            flushAndClear();
+
+            // then
+            assertEquals(List.of("하의", "청바지", "셔츠", "옥스포드", "상의", "니트", "조끼", "패딩 조끼"), visibleTitles(null));
+        }
+
+        @Test
+        @DisplayName("가져오기 : 비활성 상위 카테고리 / 비활성 행 아래 등록한 카테고리는 비노출")
+        void test_success_import_under_inactive_parent() throws Exception {
+            // given
+            String underVest = "ref,parentRef,title,displayOrder,link,active\n" +
+                    "a,,니트 조끼,2,,true\n" +
+                    "b,a,꽈배기,1,,true\n";
+            String underTop = "ref,parentRef,title,displayOrder,link,active\n" +
+                    "c,,가디건,4,,false\n" +
+                    "d,c,크롭 가디건,1,,true\n";
+
+            // when
+            importCsv(underVest, vestId);
+            importCsv(underTop, topId);
+
+            // then
+            assertEquals(List.of("하의", "청바지", "상의", "니트", "셔츠", "옥스포드"), visibleTitles(null));
+
+            // when
+            updateActive(vestId, true);
+
+            // then
+            assertEquals(List.of("조끼", "패딩 조끼", "니트 조끼", "꽈배기"), visibleTitles(vestId));
+        }
+
+        @Test
+        @DisplayName("하위 path 비동기 변경 진행 중 : 이전 path 하위 카테고리도 함께 비노출")
+        void test_success_hide_during_path_migration() {
+            // given : 셔츠를 하의 아래로 이동 (옥스포드 path 는 아직 이전 path)
+            categoryService.updateCategory(shirtId, new CategoryUpdateRequest(null, bottomId, null, null, null), true);
+            flushAndClear();
+
+            // when
+            updateActive(bottomId, false);
+
+            // then : 옥스포드가 최상위로 올라오지 않음
+            assertEquals(List.of("상의", "니트"), visibleTitles(null));
+            assertFalse(find(oxfordId).getEffectiveActive());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepositoryCustom;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.service.CategoryWarmUpHealthIndicator;
+import com.musinsa.shop.domain.category.service.CategoryWarmUpService;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 시작 워밍업 테스트 (test 프로필은 워밍업 비활성화, 테스트에서 직접 실행)
+ * - 변경 쿼리 실행 후 롤백 확인을 위해 테스트 트랜잭션 미사용
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("통합 테스트: 시작 워밍업")
+class CategoryWarmUpTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryWarmUpService warmUpService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategorySubtreeCache subtreeCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTitleIndex titleIndex;
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+        titleIndex.load();
+        subtreeCache.invalidateAll();
+    }
+
+    private Long create(String title, Long parentId) {
+        return categoryService.createCategory(new CategoryRequest(title, parentId, 1, null, true)).getId();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("전체 트리와 최상위 카테고리 하위 트리를 캐시에 적재")
+        void test_success_preload_trees() {
+            // given
+            Long women = create("여성", null);
+            create("상의", women);
+            Long men = create("남성", null);
+
+            // when
+            CategoryWarmUpService.WarmUpResult result = warmUpService.warmUp();
+
+            // then
+            assertNull(result.error());
+            assertEquals(3, result.trees());
+            assertTrue(subtreeCache.contains(null));
+            assertTrue(subtreeCache.contains(women));
+            assertTrue(subtreeCache.contains(men));
+        }
+
+        @Test
+        @DisplayName("모든 Repository 쿼리 실행, 변경 쿼리 결과는 롤백")
+        void test_success_execute_all_repository_queries() {
+            // given
+            Long women = create("여성", null);
+            Long top = create("상의", women);
+            Set<String> declared = Stream.of(CategoryRepository.class, CategoryRepositoryCustom.class)
+                    .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                    .filter(method -> !method.isSynthetic() && !Modifier.isPrivate(method.getModifiers()))
+                    .map(Method::getName)
+                    .collect(Collectors.toCollection(TreeSet::new));
+
+            // when
+            CategoryWarmUpService.WarmUpResult result = warmUpService.warmUp();
+
+            // then
+            assertNull(result.error());
+            assertEquals(declared, new TreeSet<>(result.queries()));
+            assertEquals(2, categoryRepository.count());
+            assertEquals("/" + women + "/" + top + "/", categoryRepository.findById(top).orElseThrow().getPath());
+        }
+
+        @Test
+        @DisplayName("워밍업 완료 후 readiness UP, 비인증 요청에는 헬스 상세 미노출")
+        void test_success_readiness_after_warm_up() throws Exception {
+            // given
+            warmUpService.warmUp();
+
+            // when & then
+            mockMvc.perform(get("/actuator/health/readiness"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("UP"))
+                    .andExpect(jsonPath("$.components").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("워밍업 결과를 category.warmup.* 지표로 노출")
+        void test_success_warm_up_metrics() throws Exception {
+            // given
+            Long women = create("여성", null);
+            create("상의", women);
+
+            // when
+            CategoryWarmUpService.WarmUpResult result = warmUpService.warmUp();
+
+            // then
+            mockMvc.perform(get("/actuator/metrics/category.warmup.completed"))
+                    .andExpect(jsonPath("$.measurements[0].value").value(1.0));
+            mockMvc.perform(get("/actuator/metrics/category.warmup.failed"))
+                    .andExpect(jsonPath("$.measurements[0].value").value(0.0));
+            mockMvc.perform(get("/actuator/metrics/category.warmup.trees"))
+                    .andExpect(jsonPath("$.measurements[0].value").value(2.0));
+            mockMvc.perform(get("/actuator/metrics/category.warmup.queries"))
+                    .andExpect(jsonPath("$.measurements[0].value").value((double) result.queries().size()));
+            mockMvc.perform(get("/actuator/metrics/category.warmup.duration"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.baseUnit").value("seconds"));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("워밍업 완료 전에는 OUT_OF_SERVICE")
+        void test_fail_out_of_service_before_warm_up() {
+            // given
+            CategoryWarmUpService running = mock(CategoryWarmUpService.class);
+            when(running.getResult()).thenReturn(Optional.empty());
+
+            // when & then
+            assertEquals(Status.OUT_OF_SERVICE, new CategoryWarmUpHealthIndicator(running).health().getStatus());
+        }
+    }
+}
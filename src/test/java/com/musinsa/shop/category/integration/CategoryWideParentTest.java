@@ -0,0 +1,160 @@
+package com.musinsa.shop.category.integration;
+
+import com.musinsa.shop.domain.category.dto.CategoryRequest;
+import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 하위 카테고리가 많은 상위 카테고리 아래 등록/이동/삭제 시 DB 에서 적재하는 엔티티 수 검증 (Hibernate 통계)
+ * - 형제 카테고리를 적재하지 않아야 함 (상위 카테고리와 변경 대상만 적재)
+ * - 하위 카테고리 전체 정렬 순서 변경은 하위 카테고리 수와 무관하게 고정 횟수 쿼리
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.musinsa.shop.category.integration.CategoryWideParentTest$SqlCapture"
+})
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("통합 테스트: 넓은 상위 카테고리 하위 변경")
+class CategoryWideParentTest {
+
+    private static final int SIBLINGS = 1000;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long parentId;
+    private Long targetId;
+    private Long siblingId;
+
+    // 상위 카테고리 (하위 SIBLINGS 개) + 이동 대상 최상위 카테고리
+    @BeforeEach
+    void setUp() {
+        parentId = categoryService.createCategory(new CategoryRequest("넓은-대분류", null, 1, null, true)).getId();
+        targetId = categoryService.createCategory(new CategoryRequest("이동-대분류", null, 2, null, true)).getId();
+        entityManager.flush();
+        jdbcTemplate.update("INSERT INTO category (title, parent_id, parent_key, display_order, active, deleted, created_at, updated_at) " +
+                "SELECT CONCAT('상품-', x), ?, ?, 1, TRUE, FALSE, NOW(), NOW() FROM SYSTEM_RANGE(1, ?)", parentId, parentId, SIBLINGS);
+        jdbcTemplate.update("UPDATE category SET path = CONCAT('/', parent_id, '/', id, '/') WHERE parent_id = ?", parentId);
+        siblingId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM category WHERE parent_id = ?", Long.class, parentId);
+        entityManager.clear();
+        statistics().clear();
+        SqlCapture.drain();
+    }
+
+    // 테스트 스레드에서 실행한 SQL 수집 (Hibernate 통계는 하위 path 변경 작업 조회 스케줄러 쿼리도 포함)
+    public static class SqlCapture implements StatementInspector {
+        private static final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            statements.get().add(sql);
+            return sql;
+        }
+
+        static List<String> drain() {
+            List<String> drained = new ArrayList<>(statements.get());
+            statements.get().clear();
+            return drained;
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // DB 에서 적재한 엔티티 수 (하위 컬렉션 적재 없음 확인)
+    private long loadedEntities() {
+        entityManager.flush();
+        assertEquals(0, statistics().getCollectionLoadCount());
+        return statistics().getEntityLoadCount();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("등록 시 상위 카테고리만 적재")
+        void test_success_create_without_loading_siblings() {
+            // when
+            categoryService.createCategory(new CategoryRequest("신규", parentId, 1, null, true));
+
+            // then
+            assertEquals(1, loadedEntities());
+        }
+
+        @Test
+        @DisplayName("다른 상위 카테고리로 이동 시 이동 카테고리와 신규 상위 카테고리만 적재")
+        void test_success_move_without_loading_siblings() {
+            // when
+            categoryService.updateCategory(siblingId, new CategoryUpdateRequest(null, targetId, null, null, null));
+
+            // then
+            assertEquals(2, loadedEntities());
+            assertEquals("/" + targetId + "/" + siblingId + "/",
+                    jdbcTemplate.queryForObject("SELECT path FROM category WHERE id = ?", String.class, siblingId));
+        }
+
+        @Test
+        @DisplayName("삭제 시 삭제 카테고리만 적재")
+        void test_success_delete_without_loading_siblings() {
+            // when
+            categoryService.deleteCategory(siblingId);
+
+            // then
+            assertEquals(1, loadedEntities());
+            assertEquals(SIBLINGS - 1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM category WHERE parent_id = ? AND deleted = FALSE", Integer.class, parentId));
+        }
+
+        @Test
+        @DisplayName("하위 카테고리 전체 정렬 순서 변경 시 상위 카테고리 조회, 하위 카테고리 수 조회, UPDATE 1회만 실행")
+        void test_success_reorder_in_single_update() {
+            // given : 역순 요청
+            List<Long> childIds = new ArrayList<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM category WHERE parent_id = ? ORDER BY id", Long.class, parentId));
+            Collections.reverse(childIds);
+
+            // when
+            categoryService.reorderCategories(parentId, childIds);
+
+            // then
+            List<String> statements = SqlCapture.drain();
+            assertEquals(3, statements.size(), statements::toString);
+            assertEquals(1, statements.stream().filter(sql -> sql.startsWith("UPDATE category")).count());
+            assertEquals(List.of(Category.DISPLAY_ORDER_GAP, SIBLINGS * Category.DISPLAY_ORDER_GAP), jdbcTemplate.queryForList(
+                    "SELECT display_order FROM category WHERE id IN (?, ?) ORDER BY id DESC", Integer.class, childIds.get(0), siblingId));
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.musinsa.shop.category.repository;
+
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryFlatCursor;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepositoryCustom;
+import com.musinsa.shop.domain.category.repository.CategoryTreeJdbcRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 쿼리 실행 계획 검증
+ * - 약 100,000개 카테고리를 적재한 H2 에서 CategoryRepository / CategoryRepositoryImpl / CategoryTreeJdbcRepository 의
+ *   메서드별 실제 SQL 을 EXPLAIN
+ * - 전체 테이블 스캔 또는 선두 컬럼 조건 없는 인덱스 스캔이면 실패 (COUNT/MAX 직접 조회는 허용)
+ * - 선언한 인덱스(idx_*)는 하나 이상의 쿼리 실행 계획에서 선택되어야 함 (쓰기 비용만 드는 중복 인덱스 방지)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.musinsa.shop.category.repository.CategoryQueryPlanTest$SqlCapture"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("쿼리 실행 계획 테스트: 카테고리 Repository")
+class CategoryQueryPlanTest {
+
+    private static final int ROOTS = 100;
+    private static final int CHILDREN_PER_ROOT = 10;
+    private static final int GRANDCHILDREN_PER_CHILD = 99;
+
+    private static final Pattern INDEX_HINT = Pattern.compile("/\\* PUBLIC\\.([A-Z0-9_.]+)(?::(.*?))?\\s*\\*/", Pattern.DOTALL);
+    private static final Pattern WHERE_CLAUSE = Pattern.compile("^WHERE (.*?)(?=^ORDER BY|^FETCH|\\z)", Pattern.DOTALL | Pattern.MULTILINE);
+
+    // 선택도가 낮아 인덱스 조건으로만 쓰이면 사실상 전체 스캔인 컬럼
+    private static final Pattern ORDER_BY_LIMIT = Pattern.compile("^ORDER BY .*^FETCH FIRST", Pattern.DOTALL | Pattern.MULTILINE);
+    // 전체 행을 읽는 것이 목적인 쿼리 (내보내기) : 인덱스 순서로 읽어 전체 정렬 없이 스트리밍하는지만 검사
+    private static final Set<String> FULL_READ_QUERIES = Set.of("streamAllForExport");
+    // 검사 대상 인덱스 : 엔티티에 선언한 조회용 인덱스 (기본 키/유니크 제약/외래 키 인덱스 제외)
+    private static final String DECLARED_INDEX_PREFIX = "IDX_";
+    private static final Set<String> FLAG_COLUMNS = Set.of("DELETED", "ACTIVE", "EFFECTIVE_DELETED", "EFFECTIVE_ACTIVE");
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Map<String, Runnable> queries;
+    private Map<String, Runnable> jdbcQueries;
+    private final List<String> jdbcStatements = new ArrayList<>();
+    private Map<String, List<String>> plans;
+    private Map<String, List<String>> indexColumns;
+    private List<String> columns;
+
+    // Hibernate 가 실행하는 SQL 수집 (스케줄러 등 다른 스레드의 SQL 제외)
+    public static class SqlCapture implements StatementInspector {
+        private static final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            statements.get().add(sql);
+            return sql;
+        }
+
+        static List<String> drain() {
+            List<String> drained = new ArrayList<>(statements.get());
+            statements.get().clear();
+            return drained;
+        }
+    }
+
+    // JdbcTemplate 이 실행하는 SQL 수집 (Connection.prepareStatement / Statement.executeQuery 호출 기록)
+    private DataSource capturingDataSource() {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws java.sql.SQLException {
+                Connection connection = super.getConnection();
+                return proxy(Connection.class, connection, (method, args) -> {
+                    if (method.getName().equals("prepareStatement")) jdbcStatements.add((String) args[0]);
+                }, (method, result) -> result instanceof Statement statement && !method.getName().equals("prepareStatement")
+                        ? proxy(Statement.class, statement, (statementMethod, args) -> {
+                            if (statementMethod.getName().startsWith("execute")) jdbcStatements.add((String) args[0]);
+                        }, (statementMethod, statementResult) -> statementResult)
+                        : result);
+            }
+        };
+    }
+
+    private interface BeforeCall {
+        void accept(Method method, Object[] args);
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, BeforeCall before, AfterCall after) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            before.accept(method, args);
+            try {
+                return after.apply(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    @BeforeAll
+    void setUp() {
+        seed();
+        indexColumns = findIndexColumns();
+        columns = jdbcTemplate.queryForList("SELECT column_name FROM information_schema.columns WHERE table_name = 'CATEGORY'", String.class);
+
+        Long rootId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM category WHERE parent_id IS NULL", Long.class);
+        Long childId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM category WHERE parent_id = ?", Long.class, rootId);
+        String childPath = jdbcTemplate.queryForObject("SELECT path FROM category WHERE id = ?", String.class, childId);
+        List<Long> grandChildIds = jdbcTemplate.queryForList(
+                "SELECT id FROM category WHERE parent_id = ? ORDER BY id LIMIT 3", Long.class, childId);
+        String targetPath = "/" + rootId + "/";
+
+        queries = new LinkedHashMap<>();
+        queries.put("existsByParentIdAndTitle", () -> {
+            categoryRepository.existsByParentIdAndTitle(childId, "소분류-1");
+            categoryRepository.existsByParentIdAndTitle(null, "대분류-1");
+        });
+        queries.put("existsByParentIdAndTitleAndIdNot", () -> {
+            categoryRepository.existsByParentIdAndTitleAndIdNot(childId, "소분류-1", grandChildIds.get(0));
+            categoryRepository.existsByParentIdAndTitleAndIdNot(null, "대분류-1", rootId);
+        });
+        queries.put("existsByParentKeyAndTitle", () -> categoryRepository.existsByParentKeyAndTitle(childId, "소분류-1"));
+        queries.put("existsByParentKeyAndTitleAndIdNot", () ->
+                categoryRepository.existsByParentKeyAndTitleAndIdNot(childId, "소분류-1", grandChildIds.get(0)));
+        queries.put("existsByLinkKey", () -> categoryRepository.existsByLinkKey("/category/" + childId));
+        queries.put("existsByLinkKeyAndIdNot", () -> categoryRepository.existsByLinkKeyAndIdNot("/category/" + childId, rootId));
+        queries.put("findAllByLinkKeys", () -> categoryRepository.findAllByLinkKeys(
+                List.of("/category/" + childId + "/sale", "/category/" + childId, "/category")));
+        queries.put("bulkUpdatePath", () -> categoryRepository.bulkUpdatePath(childId, childPath, targetPath));
+        queries.put("countDescendants", () -> categoryRepository.countDescendants(childId, childPath));
+        queries.put("findDescendantIds", () -> categoryRepository.findDescendantIds(childId, childPath, PageRequest.of(0, 500)));
+        queries.put("bulkUpdatePathByIds", () -> categoryRepository.bulkUpdatePathByIds(grandChildIds, childPath, targetPath));
+        queries.put("existsByParentIdAndDeletedFalse", () -> categoryRepository.existsByParentIdAndDeletedFalse(childId));
+        queries.put("countByParentIdAndDeletedFalse", () -> categoryRepository.countByParentIdAndDeletedFalse(childId));
+        queries.put("existsByParentKey", () -> categoryRepository.existsByParentKey(Category.ROOT_PARENT_KEY));
+        queries.put("countByParentKey", () -> categoryRepository.countByParentKey(Category.ROOT_PARENT_KEY));
+        queries.put("findMaxDisplayOrder", () -> categoryRepository.findMaxDisplayOrder(childId));
+        queries.put("findPrecedingDisplayOrder", () ->
+                categoryRepository.findPrecedingDisplayOrder(childId, 50, List.of(grandChildIds.get(0), grandChildIds.get(1))));
+        queries.put("findFollowingDisplayOrder", () ->
+                categoryRepository.findFollowingDisplayOrder(childId, 50, List.of(grandChildIds.get(0), grandChildIds.get(1))));
+        queries.put("findParentKeyById", () -> categoryRepository.findParentKeyById(childId));
+        queries.put("findByIdForUpdate", () -> categoryRepository.findByIdForUpdate(childId));
+        queries.put("findRootsForUpdate", () -> categoryRepository.findRootsForUpdate());
+        queries.put("lockPathTrees", () -> categoryRepository.lockPathTrees(List.of(childPath, targetPath)));
+        queries.put("findAllByIdInForUpdate", () -> categoryRepository.findAllByIdInForUpdate(List.of(rootId, childId)));
+        queries.put("findChildrenInDisplayOrder", () -> categoryRepository.findChildrenInDisplayOrder(childId));
+        queries.put("bulkUpdateSubtreePaths", () -> categoryRepository.bulkUpdateSubtreePaths(childPath, targetPath,
+                grandChildIds.stream().limit(2).map(id -> childPath + id + "/").toList()));
+        queries.put("bulkUpdateParent", () -> categoryRepository.bulkUpdateParent(
+                categoryRepository.getReferenceById(rootId), rootId, grandChildIds, LocalDateTime.now()));
+        queries.put("bulkUpdateActive", () -> categoryRepository.bulkUpdateActive(grandChildIds, false, LocalDateTime.now()));
+        queries.put("bulkUpdateEffectiveFlags", () -> categoryRepository.bulkUpdateEffectiveFlags(childPath, true, false));
+        queries.put("bulkDeactivateSubtree", () -> categoryRepository.bulkDeactivateSubtree(childPath));
+        queries.put("bulkHideDeletedSubtree", () -> categoryRepository.bulkHideDeletedSubtree(childPath));
+        queries.put("findInactivePaths", () -> categoryRepository.findInactivePaths(childPath));
+        queries.put("findPathsUnderDeletedParent", () -> categoryRepository.findPathsUnderDeletedParent(childPath));
+        queries.put("findAllTree", () -> categoryRepository.findAllTree());
+        queries.put("findTreeByPath", () -> categoryRepository.findTreeByPath(childPath));
+        queries.put("findTreeByPaths", () -> categoryRepository.findTreeByPaths(List.of(childPath, targetPath)));
+        queries.put("findAllByIds", () -> categoryRepository.findAllByIds(grandChildIds));
+        queries.put("findChildrenOfParents", () -> categoryRepository.findChildrenOfParents(List.of(rootId, childId), true));
+        queries.put("findAllLiveTitles", () -> categoryRepository.findAllLiveTitles());
+        queries.put("findFlatPage", () -> {
+            categoryRepository.findFlatPage(new CategoryFlatRequest(null, 100, null, false, null, null),
+                    new CategoryFlatCursor(childPath), 101);
+            categoryRepository.findFlatPage(new CategoryFlatRequest(null, 100, true, null, null, 2),
+                    new CategoryFlatCursor(childPath), 101);
+        });
+        queries.put("bulkUpdateDisplayOrder", () -> categoryRepository.bulkUpdateDisplayOrder(childId,
+                Map.of(grandChildIds.get(0), 2, grandChildIds.get(1), 1)));
+        queries.put("streamAllForExport", () -> {
+            try (Stream<CategoryDto> categories = categoryRepository.streamAllForExport()) {
+                categories.limit(10).forEach(category -> { });
+            }
+        });
+
+        CategoryTreeJdbcRepository treeJdbcRepository = new CategoryTreeJdbcRepository(new JdbcTemplate(capturingDataSource()));
+        jdbcQueries = new LinkedHashMap<>();
+        jdbcQueries.put("findAllTree", treeJdbcRepository::findAllTree);
+        jdbcQueries.put("findTreeByPath", () -> treeJdbcRepository.findTreeByPath(childPath));
+        jdbcQueries.put("findTreeByPaths", () -> treeJdbcRepository.findTreeByPaths(List.of(childPath, targetPath)));
+        jdbcQueries.put("findPath", () -> treeJdbcRepository.findPath(childId));
+        jdbcQueries.put("findPaths", () -> treeJdbcRepository.findPaths(List.of(rootId, childId)));
+
+        plans = new LinkedHashMap<>();
+        queries.forEach((name, query) -> plans.put(name, captureStatements(query).stream().map(this::explain).toList()));
+        jdbcQueries.forEach((name, query) -> {
+            jdbcStatements.clear();
+            query.run();
+            plans.put("jdbc." + name, jdbcStatements.stream().map(this::explain).toList());
+        });
+    }
+
+    @AfterAll
+    void tearDown() {
+        categoryRepository.deleteAllInBatch();
+    }
+
+    // 대분류 100개 - 중분류 1,000개 - 소분류 99,000개 적재 (일부 삭제/비활성, 유효 노출 여부/링크 반영) 후 통계 갱신
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO category (title, parent_key, display_order, active, deleted, created_at, updated_at) " +
+                "SELECT CONCAT('대분류-', x), 0, x, TRUE, FALSE, NOW(), NOW() FROM SYSTEM_RANGE(1, ?)", ROOTS);
+        jdbcTemplate.update("UPDATE category SET path = CONCAT('/', id, '/')");
+
+        insertChildren("중분류-", CHILDREN_PER_ROOT);
+        insertChildren("소분류-", GRANDCHILDREN_PER_CHILD);
+
+        jdbcTemplate.update("UPDATE category SET active = FALSE WHERE MOD(id, 20) = 0");
+        jdbcTemplate.update("UPDATE category SET deleted = TRUE, deleted_at = NOW(), parent_key = -id " +
+                "WHERE MOD(id, 50) = 0 AND parent_id IS NOT NULL");
+        jdbcTemplate.update("UPDATE category SET link = CONCAT('/category/', id), link_key = CASE WHEN deleted THEN NULL ELSE CONCAT('/category/', id) END");
+        jdbcTemplate.update("UPDATE category SET effective_active = active, effective_deleted = deleted");
+        for (int depth = 0; depth < 2; depth++) {
+            jdbcTemplate.update("UPDATE category c SET effective_active = FALSE WHERE c.effective_active = TRUE AND EXISTS " +
+                    "(SELECT 1 FROM category p WHERE p.id = c.parent_id AND p.effective_active = FALSE)");
+            jdbcTemplate.update("UPDATE category c SET effective_deleted = TRUE WHERE c.effective_deleted = FALSE AND EXISTS " +
+                    "(SELECT 1 FROM category p WHERE p.id = c.parent_id AND p.effective_deleted = TRUE)");
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // 가장 최근 단계(path 가 가장 긴) 카테고리마다 하위 카테고리 count 개 추가
+    private void insertChildren(String titlePrefix, int count) {
+        jdbcTemplate.update("INSERT INTO category (title, parent_id, parent_key, display_order, active, deleted, created_at, updated_at) " +
+                "SELECT CONCAT(?, x), p.id, p.id, x, TRUE, FALSE, NOW(), NOW() FROM category p, SYSTEM_RANGE(1, ?) " +
+                "WHERE LENGTH(p.path) - LENGTH(REPLACE(p.path, '/', '')) = (SELECT MAX(LENGTH(path) - LENGTH(REPLACE(path, '/', ''))) FROM category)",
+                titlePrefix, count);
+        jdbcTemplate.update("UPDATE category c SET path = CONCAT((SELECT p.path FROM category p WHERE p.id = c.parent_id), c.id, '/') " +
+                "WHERE c.path IS NULL");
+    }
+
+    // 인덱스별 컬럼 (순서대로)
+    private Map<String, List<String>> findIndexColumns() {
+        Map<String, List<String>> columnsByIndex = new HashMap<>();
+        jdbcTemplate.query("SELECT index_name, column_name FROM information_schema.index_columns " +
+                        "WHERE table_name = 'CATEGORY' ORDER BY index_name, ordinal_position",
+                rs -> {
+                    columnsByIndex.computeIfAbsent(rs.getString("index_name"), key -> new ArrayList<>())
+                            .add(rs.getString("column_name"));
+                });
+        return columnsByIndex;
+    }
+
+    // 메서드 실행 중 수집한 SQL (변경 쿼리는 롤백)
+    private List<String> captureStatements(Runnable query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        SqlCapture.drain();
+        transaction.executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        });
+        return SqlCapture.drain();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                rs -> rs.next() ? rs.getString(1) : "");
+    }
+
+    // 실행 계획의 인덱스 사용 검사 : 위반 사유 반환 (없으면 empty)
+    // - 인덱스 조건은 인덱스 컬럼 순서대로 끊김 없이 이어지는 앞부분만 탐색에 사용
+    // - 테이블 스캔, 탐색에 쓰이는 조건이 없는 인덱스 스캔
+    // - WHERE 에 선택적인 조건(플래그 외 컬럼)이 있는데 탐색 조건은 플래그 컬럼뿐인 경우
+    // - ORDER BY + LIMIT 인데 인덱스 순서로 읽지 않는 경우 (조건에 맞는 행 전체 정렬 후 LIMIT)
+    private Optional<String> findFullScan(String plan) {
+        if (plan.contains("/* direct lookup */")) {
+            return Optional.empty();
+        }
+        if (ORDER_BY_LIMIT.matcher(plan).find() && !plan.contains("/* index sorted */")) {
+            return Optional.of("ORDER BY + LIMIT 에 인덱스 정렬 미사용");
+        }
+
+        Matcher where = WHERE_CLAUSE.matcher(plan);
+        boolean selectiveWhere = where.find() && !selectiveColumns(where.group(1)).isEmpty();
+
+        Matcher matcher = INDEX_HINT.matcher(plan);
+        while (matcher.find()) {
+            String index = matcher.group(1);
+            String conditions = Optional.ofNullable(matcher.group(2)).orElse("");
+            if (index.endsWith(".tableScan")) {
+                return Optional.of("테이블 전체 스캔");
+            }
+
+            List<String> seekColumns = new ArrayList<>();
+            for (String column : indexColumns.getOrDefault(index, List.of())) {
+                if (!containsColumn(conditions, column)) break;
+                seekColumns.add(column);
+            }
+            if (seekColumns.isEmpty()) {
+                return Optional.of(index + " 인덱스 전체 스캔 (탐색 조건 없음)");
+            }
+            if (selectiveWhere && seekColumns.stream().allMatch(FLAG_COLUMNS::contains)) {
+                return Optional.of(index + " 인덱스 탐색 조건이 " + seekColumns + " 뿐 (선택적인 조건 미사용)");
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 전체 조회 검사 : 정렬 기준 인덱스 순서로 읽지 않으면 첫 행 반환 전에 전체 결과를 모아 정렬
+    private Optional<String> findUnsortedRead(String plan) {
+        if (plan.contains("/* index sorted */")) {
+            return Optional.empty();
+        }
+        return Optional.of("전체 조회에 인덱스 정렬 미사용 (전체 결과 정렬 후 반환)");
+    }
+
+    private Set<String> selectiveColumns(String text) {
+        return columns.stream()
+                .filter(column -> !FLAG_COLUMNS.contains(column))
+                .filter(column -> containsColumn(text, column))
+                .collect(Collectors.toSet());
+    }
+
+    private boolean containsColumn(String text, String column) {
+        return Pattern.compile("\\b" + column + "\\b").matcher(text).find();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+
+        @Test
+        @DisplayName("Repository 에 선언된 모든 쿼리 메서드가 실행 계획 검사 대상에 포함")
+        void test_success_all_repository_methods_covered() {
+            // given
+            Set<String> declared = Stream.of(CategoryRepository.class, CategoryRepositoryCustom.class)
+                    .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                    .filter(method -> !method.isSynthetic() && !Modifier.isPrivate(method.getModifiers()))
+                    .map(Method::getName)
+                    .collect(Collectors.toCollection(TreeSet::new));
+
+            // when & then
+            assertEquals(declared, new TreeSet<>(queries.keySet()));
+        }
+
+        @Test
+        @DisplayName("JDBC 트리 Repository 의 모든 조회 메서드가 실행 계획 검사 대상에 포함")
+        void test_success_all_jdbc_repository_methods_covered() {
+            // given
+            Set<String> declared = Arrays.stream(CategoryTreeJdbcRepository.class.getDeclaredMethods())
+                    .filter(method -> !method.isSynthetic() && Modifier.isPublic(method.getModifiers()))
+                    .map(Method::getName)
+                    .collect(Collectors.toCollection(TreeSet::new));
+
+            // when & then
+            assertEquals(declared, new TreeSet<>(jdbcQueries.keySet()));
+        }
+
+        @Test
+        @DisplayName("100,000개 카테고리 기준 모든 쿼리가 인덱스 조건으로 실행")
+        void test_success_all_queries_use_index() {
+            // given
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class);
+            assertTrue(rows >= 100_000);
+
+            // when
+            List<String> violations = new ArrayList<>();
+            plans.forEach((name, queryPlans) -> {
+                if (queryPlans.isEmpty()) {
+                    violations.add(name + " : 실행된 SQL 없음");
+                }
+                for (String plan : queryPlans) {
+                    Optional<String> violation = FULL_READ_QUERIES.contains(name) ? findUnsortedRead(plan) : findFullScan(plan);
+                    violation.ifPresent(reason -> violations.add(name + " : " + reason + "\n" + plan));
+                }
+            });
+
+            // then
+            assertTrue(violations.isEmpty(), String.join("\n\n", violations));
+        }
+
+        @Test
+        @DisplayName("선언한 인덱스는 모두 하나 이상의 쿼리 실행 계획에서 선택")
+        void test_success_all_declared_indexes_chosen() {
+            // given
+            Set<String> declared = indexColumns.keySet().stream()
+                    .filter(index -> index.startsWith(DECLARED_INDEX_PREFIX))
+                    .collect(Collectors.toCollection(TreeSet::new));
+
+            // when
+            Set<String> chosen = new TreeSet<>();
+            plans.values().stream().flatMap(List::stream).forEach(plan -> {
+                Matcher matcher = INDEX_HINT.matcher(plan);
+                while (matcher.find()) {
+                    chosen.add(matcher.group(1));
+                }
+            });
+
+            // then
+            declared.removeAll(chosen);
+            assertTrue(declared.isEmpty(), "실행 계획에서 선택되지 않은 인덱스 : " + declared);
+        }
+    }
+}
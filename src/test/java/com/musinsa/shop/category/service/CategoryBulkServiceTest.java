@@ -0,0 +1,241 @@
+package com.musinsa.shop.category.service;
+
+import com.musinsa.shop.common.exception.DuplicateResourceException;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryBulkActiveRequest;
+import com.musinsa.shop.domain.category.dto.CategoryBulkMoveRequest.Move;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryBulkService;
+import com.musinsa.shop.domain.category.service.CategoryVisibilityUpdater;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 일괄 변경")
+class CategoryBulkServiceTest {
+
+    @InjectMocks
+    private CategoryBulkService categoryBulkService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryPathMigrationRepository pathMigrationRepository;
+
+    @Mock
+    private CategoryTitleIndex titleIndex;
+
+    @Mock
+    private CategoryVisibilityUpdater visibilityUpdater;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CategoryDto createCategory(Long id, String title, Long parentId, String path) {
+        return new CategoryDto(id, title, parentId, path, null, 1, true, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("일괄 이동 시 (이전 상위, 새 상위) 별 path 치환 (하위에 있는 이동 카테고리부터) 후 상위 카테고리별로 부모 변경")
+        void test_success_move_categories() {
+            // given
+            // 1 ─ 2 ─ 3, 4 (루트)
+            when(categoryRepository.findAllByIds(Set.of(2L, 3L, 4L))).thenReturn(List.of(
+                    createCategory(2L, "상의", 1L, "/1/2/"),
+                    createCategory(3L, "셔츠", 2L, "/1/2/3/"),
+                    createCategory(4L, "아우터", null, "/4/")
+            ));
+            when(categoryRepository.findChildrenOfParents(Set.of(4L), false)).thenReturn(List.of());
+
+            // when : 2 → 4 하위, 3 → 4 하위
+            categoryBulkService.moveCategories(List.of(new Move(2L, 4L), new Move(3L, 4L)));
+
+            // then
+            InOrder inOrder = inOrder(categoryRepository);
+            inOrder.verify(categoryRepository).bulkUpdateSubtreePaths("/1/2/", "/4/", List.of("/1/2/3/"));
+            inOrder.verify(categoryRepository).bulkUpdateSubtreePaths("/1/", "/4/", List.of("/1/2/"));
+            verify(categoryRepository, times(1)).bulkUpdateParent(any(), eq(4L), eq(List.of(2L, 3L)), any());
+            verify(eventPublisher).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("배치 안에서 서로 자리를 바꾸는 이동은 순환 참조 아님")
+        void test_success_move_swap_parent_child() {
+            // given
+            // 1 ─ 2 를 2 ─ 1 로 변경
+            when(categoryRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(List.of(
+                    createCategory(1L, "상의", null, "/1/"),
+                    createCategory(2L, "셔츠", 1L, "/1/2/")
+            ));
+            when(categoryRepository.findChildrenOfParents(Set.of(2L), true)).thenReturn(List.of(
+                    createCategory(1L, "상의", null, "/1/")
+            ));
+
+            // when
+            categoryBulkService.moveCategories(List.of(new Move(2L, null), new Move(1L, 2L)));
+
+            // then
+            InOrder inOrder = inOrder(categoryRepository);
+            inOrder.verify(categoryRepository).bulkUpdateSubtreePaths("/1/", "/", List.of("/1/2/"));
+            inOrder.verify(categoryRepository).bulkUpdateSubtreePaths("/", "/2/", List.of("/1/"));
+        }
+
+        @Test
+        @DisplayName("같은 상위 카테고리에서 같은 상위 카테고리로 옮기는 여러 카테고리는 path UPDATE 1회")
+        void test_success_move_siblings_in_single_path_update() {
+            // given
+            // 1 ─ 2, 3, 5 / 4 (루트)
+            when(categoryRepository.findAllByIds(Set.of(2L, 3L, 5L, 4L))).thenReturn(List.of(
+                    createCategory(2L, "상의", 1L, "/1/2/"),
+                    createCategory(3L, "하의", 1L, "/1/3/"),
+                    createCategory(5L, "신발", 1L, "/1/5/"),
+                    createCategory(4L, "아우터", null, "/4/")
+            ));
+            when(categoryRepository.findChildrenOfParents(Set.of(4L), false)).thenReturn(List.of());
+
+            // when
+            categoryBulkService.moveCategories(List.of(new Move(2L, 4L), new Move(3L, 4L), new Move(5L, 4L)));
+
+            // then
+            verify(categoryRepository, times(1)).bulkUpdateSubtreePaths(any(), any(), any());
+            verify(categoryRepository).bulkUpdateSubtreePaths("/1/", "/4/", List.of("/1/2/", "/1/3/", "/1/5/"));
+        }
+
+        @Test
+        @DisplayName("상위 카테고리가 그대로인 항목은 변경하지 않음")
+        void test_success_move_skip_same_parent() {
+            // given
+            when(categoryRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(List.of(
+                    createCategory(1L, "상의", null, "/1/"),
+                    createCategory(2L, "셔츠", 1L, "/1/2/")
+            ));
+
+            // when
+            categoryBulkService.moveCategories(List.of(new Move(2L, 1L)));
+
+            // then
+            verify(categoryRepository, never()).bulkUpdateSubtreePaths(any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("활성 여부 일괄 변경 시 활성/비활성 각각 UPDATE 1회")
+        void test_success_update_active_categories() {
+            // given
+            when(categoryRepository.findAllByIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(
+                    createCategory(1L, "상의", null, "/1/"),
+                    createCategory(2L, "셔츠", 1L, "/1/2/"),
+                    createCategory(3L, "아우터", null, "/3/")
+            ));
+
+            // when
+            categoryBulkService.updateActiveCategories(List.of(
+                    new CategoryBulkActiveRequest.Item(1L, false),
+                    new CategoryBulkActiveRequest.Item(2L, false),
+                    new CategoryBulkActiveRequest.Item(3L, true)
+            ));
+
+            // then
+            verify(categoryRepository).bulkUpdateActive(eq(List.of(1L, 2L)), eq(false), any());
+            verify(categoryRepository).bulkUpdateActive(eq(List.of(3L)), eq(true), any());
+            verify(eventPublisher).publishEvent(any(Object.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("배치 안의 이동끼리 순환을 만들면 예외 발생")
+        void test_fail_move_cycle_within_batch() {
+            // given
+            when(categoryRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(List.of(
+                    createCategory(1L, "상의", null, "/1/"),
+                    createCategory(2L, "아우터", null, "/2/")
+            ));
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryBulkService.moveCategories(List.of(new Move(1L, 2L), new Move(2L, 1L))));
+            verify(categoryRepository, never()).bulkUpdateSubtreePaths(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("하위 카테고리 아래로 이동하면 예외 발생")
+        void test_fail_move_under_descendant() {
+            // given
+            when(categoryRepository.findAllByIds(Set.of(1L, 3L))).thenReturn(List.of(
+                    createCategory(1L, "상의", null, "/1/"),
+                    createCategory(3L, "옥스포드", 2L, "/1/2/3/")
+            ));
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryBulkService.moveCategories(List.of(new Move(1L, 3L))));
+        }
+
+        @Test
+        @DisplayName("함께 이동하는 카테고리끼리 이름이 같으면 예외 발생")
+        void test_fail_move_duplicate_title_within_batch() {
+            // given
+            when(categoryRepository.findAllByIds(Set.of(2L, 3L, 4L))).thenReturn(List.of(
+                    createCategory(2L, "셔츠", 1L, "/1/2/"),
+                    createCategory(3L, "셔츠", 5L, "/5/3/"),
+                    createCategory(4L, "아우터", null, "/4/")
+            ));
+            when(categoryRepository.findChildrenOfParents(Set.of(4L), false)).thenReturn(List.of());
+
+            // when & then
+            assertThrows(DuplicateResourceException.class, () ->
+                    categoryBulkService.moveCategories(List.of(new Move(2L, 4L), new Move(3L, 4L))));
+            verify(categoryRepository, never()).bulkUpdateParent(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("없는 카테고리가 포함되면 예외 발생")
+        void test_fail_move_not_found() {
+            // given
+            when(categoryRepository.findAllByIds(Set.of(1L, 99L))).thenReturn(List.of(
+                    createCategory(1L, "상의", null, "/1/")
+            ));
+
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () ->
+                    categoryBulkService.moveCategories(List.of(new Move(1L, 99L))));
+        }
+
+        @Test
+        @DisplayName("중복 ID 가 포함되면 예외 발생")
+        void test_fail_update_active_duplicate_id() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryBulkService.updateActiveCategories(List.of(
+                            new CategoryBulkActiveRequest.Item(1L, false),
+                            new CategoryBulkActiveRequest.Item(1L, true)
+                    )));
+            verify(categoryRepository, never()).bulkUpdateActive(any(), anyBoolean(), any());
+        }
+    }
+}
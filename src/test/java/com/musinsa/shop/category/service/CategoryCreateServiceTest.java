@@ -8,6 +8,7 @@ import com.musinsa.shop.domain.category.dto.CategoryResponse;
 import com.musinsa.shop.domain.category.entity.Category;
 import com.musinsa.shop.domain.category.repository.CategoryRepository;
 import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -33,6 +35,12 @@ class CategoryCreateServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryTitleIndex titleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("성공 케이스")
     class SuccessCases {
@@ -57,6 +65,22 @@ class CategoryCreateServiceTest {
             assertNull(saved.getParent());
         }
 
+        @Test
+        @DisplayName("이름 색인 사용 시 DB 조회 없이 이름 선점으로 중복 검사")
+        void test_success_create_with_title_index() {
+            // given
+            CategoryRequest categoryRequest = new CategoryRequest("상의", null, 1, "/category/top", true);
+            when(titleIndex.isEnabled()).thenReturn(true);
+            when(titleIndex.claim(null, "상의")).thenReturn(true);
+            when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0, Category.class));
+
+            // when
+            categoryService.createCategory(categoryRequest);
+
+            // then
+            verify(categoryRepository, never()).existsByParentIdAndTitle(any(), any());
+        }
+
         @DisplayName("상위 카테고리 있는 카테고리 등록")
         @Test
         void test_success_create_category_with_parent() {
@@ -88,6 +112,20 @@ class CategoryCreateServiceTest {
     @Nested
     @DisplayName("실패 케이스")
     class FailCases {
+        @Test
+        @DisplayName("다른 트랜잭션이 선점 중인 이름이면 예외 발생")
+        void test_fail_create_when_title_claimed() {
+            // given
+            CategoryRequest categoryRequest = new CategoryRequest("상의", null, 1, "/category/top", true);
+            when(titleIndex.isEnabled()).thenReturn(true);
+            when(titleIndex.claim(null, "상의")).thenReturn(false);
+            when(titleIndex.isClaimed(null, "상의")).thenReturn(true);
+
+            // when & then
+            assertThrows(DuplicateResourceException.class, () -> categoryService.createCategory(categoryRequest));
+            verify(categoryRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("부모 카테고리가 존재하지 않는 경우 예외 발생")
         void test_fail_create_category_when_parent_not_found() {
@@ -138,5 +176,20 @@ class CategoryCreateServiceTest {
 
             verify(categoryRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("다른 카테고리가 사용 중인 링크면 예외 발생")
+        void test_fail_create_category_when_link_duplicate() {
+            // given
+            CategoryRequest categoryRequest = new CategoryRequest("상의", null, 1, "/category/top", true);
+            when(categoryRepository.existsByLinkKey("/category/top")).thenReturn(true);
+
+            // when & then
+            DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
+                    () -> categoryService.createCategory(categoryRequest));
+            assertEquals("이미 사용 중인 링크입니다.", exception.getMessage());
+            verify(titleIndex, never()).claim(any(), any());
+            verify(categoryRepository, never()).save(any());
+        }
     }
 }
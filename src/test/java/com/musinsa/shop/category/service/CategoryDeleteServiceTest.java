@@ -5,12 +5,14 @@ import com.musinsa.shop.common.exception.ResourceNotFoundException;
 import com.musinsa.shop.domain.category.entity.Category;
 import com.musinsa.shop.domain.category.repository.CategoryRepository;
 import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -29,6 +31,12 @@ public class CategoryDeleteServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryTitleIndex titleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("성공 케이스")
     class SuccessCases {
@@ -52,7 +60,7 @@ public class CategoryDeleteServiceTest {
             // then
             assertTrue(category.getDeleted());
             assertNotNull(category.getDeletedAt());
-            assertFalse(parent.getChildren().contains(category));
+            assertNull(category.getParent());
         }
 
     }
@@ -0,0 +1,99 @@
+package com.musinsa.shop.category.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryExportFormat;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 전체 내보내기")
+class CategoryExportServiceTest {
+
+    private CategoryExportService categoryExportService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        categoryExportService = new CategoryExportService(categoryRepository, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    private CategoryDto createCategory(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CategoryDto(id, "카테고리-" + id, null, "/" + id + "/", null, 1, true, null, now, now);
+    }
+
+    // 첫 행 이후 조회 실패하는 커서
+    private Stream<CategoryDto> failingAfterFirst() {
+        return Stream.concat(Stream.of(createCategory(1L)), Stream.generate(() -> {
+            throw new IllegalStateException("커서 조회 실패");
+        }));
+    }
+
+    private String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("전체 기록 후 출력 스트림 close (gzip 마무리 블록 기록)")
+        void test_success_close_after_all_rows() throws Exception {
+            // given
+            when(categoryRepository.streamAllForExport()).thenReturn(Stream.of(createCategory(1L), createCategory(2L)));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            // when
+            long count = categoryExportService.exportCategories(CategoryExportFormat.NDJSON, new GZIPOutputStream(bytes));
+
+            // then
+            assertEquals(2, count);
+            assertEquals(2, gunzip(bytes.toByteArray()).split("\n").length);
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("기록 도중 조회 실패 시 예외 전파, gzip 마무리 블록을 기록하지 않아 완전한 파일로 읽히지 않음")
+        void test_fail_not_finish_gzip_on_failure() {
+            // given
+            when(categoryRepository.streamAllForExport()).thenReturn(failingAfterFirst());
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            // when
+            assertThrows(IllegalStateException.class, () ->
+                    categoryExportService.exportCategories(CategoryExportFormat.NDJSON, new GZIPOutputStream(bytes)));
+
+            // then
+            assertThrows(EOFException.class, () -> gunzip(bytes.toByteArray()));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.musinsa.shop.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.domain.category.dto.CategoryFlatCursor;
+import com.musinsa.shop.domain.category.dto.CategoryFlatPageResponse;
+import com.musinsa.shop.domain.category.dto.CategoryFlatRequest;
+import com.musinsa.shop.domain.category.dto.CategoryFlatResponse;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryFlatService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 평면 목록 조회")
+class CategoryFlatServiceTest {
+
+    @InjectMocks
+    private CategoryFlatService categoryFlatService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Spy
+    private CategoryProperties categoryProperties = new CategoryProperties();
+
+    private CategoryFlatResponse createCategory(Long id, String path) {
+        return new CategoryFlatResponse(id, "카테고리-" + id, null, path, null, 1, true, false, null, null, null);
+    }
+
+    private CategoryFlatRequest createRequest(String cursor, Integer size) {
+        return new CategoryFlatRequest(cursor, size, null, false, null, null);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("페이지 크기 + 1 건 조회 시 페이지 크기만 응답하고 마지막 항목 path 로 다음 cursor 생성")
+        void test_success_first_page_with_next_cursor() {
+            // given
+            CategoryFlatRequest request = createRequest(null, 2);
+            when(categoryRepository.findFlatPage(request, null, 3)).thenReturn(List.of(
+                    createCategory(1L, "/1/"),
+                    createCategory(2L, "/1/2/"),
+                    createCategory(3L, "/1/2/3/")
+            ));
+
+            // when
+            CategoryFlatPageResponse result = categoryFlatService.getFlatCategories(request);
+
+            // then
+            assertEquals(2, result.getItems().size());
+            assertEquals(2, result.getItems().get(1).getDepth());
+            assertEquals(new CategoryFlatCursor("/1/2/"), CategoryFlatCursor.decode(result.getNextCursor()));
+        }
+
+        @Test
+        @DisplayName("cursor 지정 시 cursor 이후부터 조회, 마지막 페이지는 다음 cursor 없음")
+        void test_success_last_page_without_next_cursor() {
+            // given
+            String cursor = new CategoryFlatCursor("/10/").encode();
+            CategoryFlatRequest request = createRequest(cursor, 2);
+            when(categoryRepository.findFlatPage(eq(request), any(), eq(3))).thenReturn(List.of(
+                    createCategory(11L, "/11/")
+            ));
+
+            // when
+            CategoryFlatPageResponse result = categoryFlatService.getFlatCategories(request);
+
+            // then
+            verify(categoryRepository).findFlatPage(request, new CategoryFlatCursor("/10/"), 3);
+            assertEquals(1, result.getItems().size());
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("페이지 크기 미지정 시 기본 크기, 최대 크기 초과 시 최대 크기로 조회")
+        void test_success_page_size_default_and_cap() {
+            // given
+            categoryProperties.getFlat().setDefaultPageSize(50);
+            categoryProperties.getFlat().setMaxPageSize(200);
+            when(categoryRepository.findFlatPage(any(), any(), anyInt())).thenReturn(List.of());
+
+            // when
+            categoryFlatService.getFlatCategories(createRequest(null, null));
+            categoryFlatService.getFlatCategories(createRequest(null, 100_000));
+
+            // then
+            verify(categoryRepository).findFlatPage(any(), isNull(), eq(51));
+            verify(categoryRepository).findFlatPage(any(), isNull(), eq(201));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("잘못된 형식의 cursor 사용 시 예외 발생")
+        void test_fail_malformed_cursor() {
+            // given
+            String notPath = Base64.getUrlEncoder().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryFlatService.getFlatCategories(createRequest("@@@", 10)));
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryFlatService.getFlatCategories(createRequest(notPath, 10)));
+            verify(categoryRepository, never()).findFlatPage(any(), any(), anyInt());
+        }
+    }
+}
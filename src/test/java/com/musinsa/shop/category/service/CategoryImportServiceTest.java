@@ -0,0 +1,270 @@
+package com.musinsa.shop.category.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.DuplicateResourceException;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryImportFormat;
+import com.musinsa.shop.domain.category.dto.CategoryImportResponse;
+import com.musinsa.shop.domain.category.repository.CategoryBatchRepository;
+import com.musinsa.shop.domain.category.repository.CategoryBatchRepository.NewCategory;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryImportService;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 일괄 가져오기")
+class CategoryImportServiceTest {
+
+    @InjectMocks
+    private CategoryImportService categoryImportService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryBatchRepository categoryBatchRepository;
+
+    @Mock
+    private CategoryTitleIndex titleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CategoryProperties categoryProperties = new CategoryProperties();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private InputStream file(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> messages(CategoryImportResponse response) {
+        return response.getErrors().stream()
+                .map(error -> error.getRow() + ":" + error.getMessage())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("상위 카테고리가 뒤에 나와도 깊이 순으로 배치 등록 후 생성된 ID 로 path 계산")
+        void test_success_import_csv_by_level() throws Exception {
+            // given
+            // 10 ─ 상의 ─ 셔츠, 니트 (하위 행이 먼저 나옴)
+            when(categoryRepository.findAllByIds(Set.of(10L))).thenReturn(List.of(
+                    new CategoryDto(10L, "여성", null, "/10/", null, 1, true, null, null, null)));
+            when(categoryBatchRepository.insertAll(anyList(), any()))
+                    .thenReturn(List.of(100L))
+                    .thenReturn(List.of(101L, 102L));
+
+            InputStream in = file(
+                    "ref,parentRef,title,displayOrder,link,active",
+                    "shirt,top,셔츠,1,/category/shirt,",
+                    "knit,top,\"니트, 가디건\",2,,false",
+                    "top,,상의,1,,"
+            );
+
+            // when
+            CategoryImportResponse result = categoryImportService.importCategories(in, CategoryImportFormat.CSV, 10L, false);
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<NewCategory>> inserted = ArgumentCaptor.forClass(List.class);
+            InOrder inOrder = inOrder(categoryBatchRepository);
+            inOrder.verify(categoryBatchRepository).insertAll(inserted.capture(), any());
+            inOrder.verify(categoryBatchRepository).updatePaths(List.of(100L), List.of("/10/100/"));
+            inOrder.verify(categoryBatchRepository).insertAll(inserted.capture(), any());
+            inOrder.verify(categoryBatchRepository).updatePaths(List.of(101L, 102L), List.of("/10/100/101/", "/10/100/102/"));
+
+            assertEquals(List.of(new NewCategory("상의", 10L, 1, null, true, true)), inserted.getAllValues().get(0));
+            assertEquals(List.of(
+                    new NewCategory("셔츠", 100L, 1, "/category/shirt", true, true),
+                    new NewCategory("니트, 가디건", 100L, 2, null, false, false)
+            ), inserted.getAllValues().get(1));
+
+            assertEquals(3, result.getTotalRows());
+            assertEquals(1, result.getRootCount());
+            assertEquals(2, result.getMaxDepth());
+            assertEquals(3, result.getCreatedCount());
+            assertEquals(0, result.getErrorCount());
+            verify(titleIndex).addAllAfterCommit(argThat(titles -> titles.size() == 3));
+            verify(eventPublisher).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("JSON 배열/NDJSON 모두 읽고, 배치 크기 단위로 나누어 등록")
+        void test_success_import_json_in_batches() throws Exception {
+            // given
+            categoryProperties.getBulkImport().setBatchSize(2);
+            when(categoryRepository.findChildrenOfParents(Set.of(), true)).thenReturn(List.of());
+            when(categoryBatchRepository.insertAll(anyList(), any()))
+                    .thenReturn(List.of(1L, 2L))
+                    .thenReturn(List.of(3L));
+
+            InputStream array = file("[{\"ref\":\"a\",\"title\":\"A\"},{\"ref\":\"b\",\"title\":\"B\"},{\"ref\":\"c\",\"title\":\"C\",\"extra\":1}]");
+            InputStream ndjson = file("{\"ref\":\"a\",\"title\":\"A\"}", "{\"ref\":\"b\",\"title\":\"B\"}");
+
+            // when
+            CategoryImportResponse result = categoryImportService.importCategories(array, CategoryImportFormat.JSON, null, false);
+            CategoryImportResponse dryRun = categoryImportService.importCategories(ndjson, CategoryImportFormat.JSON, null, true);
+
+            // then
+            verify(categoryBatchRepository, times(2)).insertAll(anyList(), any());
+            verify(categoryBatchRepository).updatePaths(List.of(1L, 2L), List.of("/1/", "/2/"));
+            verify(categoryBatchRepository).updatePaths(List.of(3L), List.of("/3/"));
+            assertEquals(3, result.getCreatedCount());
+            assertEquals(2, dryRun.getTotalRows());
+            assertEquals(0, dryRun.getCreatedCount());
+        }
+
+        @Test
+        @DisplayName("dryRun 시 행 단위 오류를 모두 집계하여 반환하고 등록하지 않음")
+        void test_success_dry_run_reports_errors() throws Exception {
+            // given
+            when(categoryRepository.findChildrenOfParents(Set.of(), true)).thenReturn(List.of(
+                    new CategoryDto(1L, "기존", null, "/1/", null, 1, true, null, null, null)));
+
+            InputStream in = file(
+                    "ref,parentRef,title",
+                    "a,,기존",        // 1: 기존 최상위 카테고리와 이름 중복
+                    "b,,상의",
+                    "c,b,셔츠",
+                    "d,b,셔츠",       // 4: 형제 이름 중복
+                    "e,zz,니트",      // 5: 없는 상위 ref
+                    "f,e,반팔",       // 6: 오류 행의 하위
+                    "g,h,순환1",      // 7, 8: 순환 참조
+                    "h,g,순환2",
+                    "b,,중복 ref",    // 9: ref 중복
+                    "i,,"            // 10: 이름 누락
+            );
+
+            // when
+            CategoryImportResponse result = categoryImportService.importCategories(in, CategoryImportFormat.CSV, null, true);
+
+            // then
+            assertTrue(result.isDryRun());
+            assertEquals(10, result.getTotalRows());
+            assertEquals(8, result.getErrorCount());
+            assertEquals(Set.of(
+                    "1:동일 상위 카테고리 내 이미 존재하는 카테고리명입니다: 기존",
+                    "4:동일 상위 카테고리 내 이미 존재하는 카테고리명입니다: 셔츠",
+                    "5:상위 카테고리 ref 를 찾을 수 없습니다: zz",
+                    "6:상위 카테고리 행에 오류가 있습니다.",
+                    "7:순환 참조입니다.",
+                    "8:순환 참조입니다.",
+                    "9:중복된 ref 입니다.",
+                    "10:카테고리 이름은 필수입니다."
+            ), Set.copyOf(messages(result)));
+            verify(categoryBatchRepository, never()).insertAll(anyList(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("dryRun 이 아닐 때 검증 오류가 있으면 예외 발생, 등록하지 않음")
+        void test_fail_import_with_errors() {
+            // given
+            InputStream in = file("ref,parentRef,title", "a,,상의", "b,missing,셔츠");
+
+            // when & then
+            InvalidRequestException e = assertThrows(InvalidRequestException.class, () ->
+                    categoryImportService.importCategories(in, CategoryImportFormat.CSV, null, false));
+            assertTrue(e.getMessage().contains("2행(ref=b)"));
+            verify(categoryBatchRepository, never()).insertAll(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("파일 내 링크 중복, 기존 카테고리 링크와 중복 시 행 단위 오류 (빈 링크 제외)")
+        void test_fail_duplicate_links() throws Exception {
+            // given
+            when(categoryRepository.findChildrenOfParents(Set.of(), true)).thenReturn(List.of());
+            when(categoryRepository.findAllByLinkKeys(List.of("/category/top", "/category/shirt"))).thenReturn(List.of(
+                    new CategoryDto(1L, "셔츠", null, "/1/", "/category/shirt", 1, true, null, null, null)));
+
+            InputStream in = file(
+                    "ref,parentRef,title,link",
+                    "a,,상의,/category/top",
+                    "b,a,셔츠,/category/shirt",     // 2: 기존 카테고리 링크와 중복
+                    "c,a,니트,/category/top",       // 3: 파일 내 링크 중복
+                    "d,a,반팔,",
+                    "e,a,긴팔,"
+            );
+
+            // when
+            CategoryImportResponse result = categoryImportService.importCategories(in, CategoryImportFormat.CSV, null, true);
+
+            // then
+            assertEquals(List.of(
+                    "2:이미 사용 중인 링크입니다: /category/shirt",
+                    "3:파일 내 중복된 링크입니다: /category/top"
+            ), messages(result));
+        }
+
+        @Test
+        @DisplayName("필수 컬럼 누락, 닫히지 않은 따옴표, 숫자 형식 오류 시 예외 발생")
+        void test_fail_malformed_file() {
+            assertThrows(InvalidRequestException.class, () -> categoryImportService.importCategories(
+                    file("ref,parentRef", "a,"), CategoryImportFormat.CSV, null, true));
+            assertThrows(InvalidRequestException.class, () -> categoryImportService.importCategories(
+                    file("ref,title", "a,\"상의"), CategoryImportFormat.CSV, null, true));
+            assertThrows(InvalidRequestException.class, () -> categoryImportService.importCategories(
+                    file("ref,title,displayOrder", "a,상의,first"), CategoryImportFormat.CSV, null, true));
+            assertThrows(InvalidRequestException.class, () -> categoryImportService.importCategories(
+                    file("[{\"ref\":\"a\",\"title\":"), CategoryImportFormat.JSON, null, true));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상위 카테고리 지정 시 예외 발생")
+        void test_fail_parent_not_found() {
+            // given
+            when(categoryRepository.findAllByIds(Set.of(99L))).thenReturn(List.of());
+
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () -> categoryImportService.importCategories(
+                    file("ref,title", "a,상의"), CategoryImportFormat.CSV, 99L, false));
+        }
+
+        @Test
+        @DisplayName("등록 중 유니크 제약 위반(동시 등록과 이름 중복) 시 중복 예외 발생")
+        void test_fail_unique_violation_on_insert() {
+            // given
+            when(categoryRepository.findChildrenOfParents(Set.of(), true)).thenReturn(List.of());
+            when(categoryBatchRepository.insertAll(anyList(), any())).thenThrow(new DuplicateKeyException("uk_category_parent_title"));
+
+            // when & then
+            assertThrows(DuplicateResourceException.class, () -> categoryImportService.importCategories(
+                    file("ref,title", "a,상의"), CategoryImportFormat.CSV, null, false));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+}
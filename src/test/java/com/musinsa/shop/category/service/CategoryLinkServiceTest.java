@@ -0,0 +1,182 @@
+package com.musinsa.shop.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryResolveResponse;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryLinkService;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 링크로 카테고리 조회")
+class CategoryLinkServiceTest {
+
+    @InjectMocks
+    private CategoryLinkService categoryLinkService;
+
+    @Mock
+    private CategoryLinkIndex linkIndex;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Spy
+    private CategoryProperties categoryProperties = new CategoryProperties();
+
+    private static final List<String> SALE_CANDIDATES = List.of("/category/top/sale", "/category/top", "/category");
+
+    // 색인에 없는 링크 (Long 반환 mock 기본값 0 대신 null)
+    private void givenIndexMiss() {
+        when(linkIndex.isEnabled()).thenReturn(true);
+        when(linkIndex.get(anyString())).thenReturn(null);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("색인에서 링크와 정확히 일치하는 카테고리 조회 (DB 조회 없음)")
+        void test_success_resolve_exact() {
+            // given
+            when(linkIndex.isEnabled()).thenReturn(true);
+            when(linkIndex.get("/category/top")).thenReturn(1L);
+
+            // when
+            CategoryResolveResponse result = categoryLinkService.resolve("/category/top");
+
+            // then
+            assertEquals(1L, result.getId());
+            assertEquals("/category/top", result.getLink());
+            assertNull(result.getRemainingPath());
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("색인에 상위 경로 링크만 있어도 DB 후보 링크 조회, 다른 인스턴스가 등록한 더 긴 링크와 일치")
+        void test_success_resolve_prefer_db_over_index_prefix() {
+            // given : 색인에는 /category/top 만, DB 에는 다른 인스턴스가 등록한 /category/top/sale 도 존재
+            List<CategoryDto> found = List.of(
+                    new CategoryDto(2L, "세일", 1L, "/1/2/", "/category/top/sale", 1, true, null, null, null),
+                    new CategoryDto(1L, "상의", null, "/1/", "/category/top", 1, true, null, null, null));
+            givenIndexMiss();
+            lenient().when(linkIndex.get("/category/top")).thenReturn(1L);
+            when(categoryRepository.findAllByLinkKeys(SALE_CANDIDATES)).thenReturn(found);
+
+            // when
+            CategoryResolveResponse result = categoryLinkService.resolve("/category/top/sale");
+
+            // then
+            assertEquals(2L, result.getId());
+            assertEquals("/category/top/sale", result.getLink());
+            assertNull(result.getRemainingPath());
+            verify(linkIndex).putAll(found);
+        }
+
+        @Test
+        @DisplayName("DB 재조회 미사용 설정이면 색인에서 가장 긴 상위 경로 링크와 일치, 나머지 경로 반환")
+        void test_success_resolve_longest_prefix_index_only() {
+            // given
+            categoryProperties.getLinkIndex().setDbFallback(false);
+            givenIndexMiss();
+            when(linkIndex.get("/category/top")).thenReturn(1L);
+
+            // when
+            CategoryResolveResponse result = categoryLinkService.resolve("/category/top/sale");
+
+            // then
+            assertEquals(1L, result.getId());
+            assertEquals("/category/top", result.getLink());
+            assertEquals("/sale", result.getRemainingPath());
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("색인에 없으면 후보 링크를 DB 에서 한 번에 조회하여 가장 긴 링크와 일치, 조회 결과 색인에 추가")
+        void test_success_resolve_db_fallback() {
+            // given
+            List<CategoryDto> found = List.of(
+                    new CategoryDto(1L, "상의", null, "/1/", "/category/top", 1, true, null, null, null),
+                    new CategoryDto(9L, "전체", null, "/9/", "/category", 1, true, null, null, null));
+            givenIndexMiss();
+            when(categoryRepository.findAllByLinkKeys(SALE_CANDIDATES)).thenReturn(found);
+
+            // when
+            CategoryResolveResponse result = categoryLinkService.resolve("/category/top/sale");
+
+            // then
+            assertEquals(1L, result.getId());
+            assertEquals("/sale", result.getRemainingPath());
+            verify(linkIndex).putAll(found);
+        }
+
+        @Test
+        @DisplayName("색인 미사용 시 DB 조회")
+        void test_success_resolve_without_index() {
+            // given
+            when(linkIndex.isEnabled()).thenReturn(false);
+            when(categoryRepository.findAllByLinkKeys(SALE_CANDIDATES)).thenReturn(List.of(
+                    new CategoryDto(2L, "세일", null, "/2/", "/category/top/sale", 1, true, null, null, null)));
+
+            // when
+            CategoryResolveResponse result = categoryLinkService.resolve("/category/top/sale");
+
+            // then
+            assertEquals(2L, result.getId());
+            assertNull(result.getRemainingPath());
+            verify(linkIndex, never()).get(any());
+            verify(linkIndex, never()).putAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("일치하는 링크가 없으면 예외 발생")
+        void test_fail_not_found() {
+            // given
+            givenIndexMiss();
+            when(categoryRepository.findAllByLinkKeys(SALE_CANDIDATES)).thenReturn(List.of());
+
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () -> categoryLinkService.resolve("/category/top/sale"));
+        }
+
+        @Test
+        @DisplayName("DB 재조회 미사용 설정이면 색인에 없는 링크는 DB 조회 없이 예외 발생")
+        void test_fail_not_found_without_db_fallback() {
+            // given
+            categoryProperties.getLinkIndex().setDbFallback(false);
+            givenIndexMiss();
+
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () -> categoryLinkService.resolve("/category/top/sale"));
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("링크가 비어 있으면 예외 발생")
+        void test_fail_blank_link() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> categoryLinkService.resolve(" "));
+            verifyNoInteractions(linkIndex, categoryRepository);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.musinsa.shop.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryOrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 정렬 순서 이동")
+class CategoryOrderServiceTest {
+
+    private static final Long PARENT_ID = 1L;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryOrderService categoryOrderService;
+    private Category parent;
+
+    @BeforeEach
+    void setUp() {
+        categoryOrderService = new CategoryOrderService(categoryRepository, new CategoryProperties(), eventPublisher,
+                transactionManager, new SimpleMeterRegistry());
+        parent = category(PARENT_ID, "상의", 1, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryOrderService.shutdown();
+    }
+
+    private Category category(Long id, String title, int displayOrder, Category parent) {
+        Category category = Category.create(title, displayOrder, null, true, parent);
+        ReflectionTestUtils.setField(category, "id", id);
+        category.updatePath();
+        return category;
+    }
+
+    // 카테고리 생성 + ID 조회 결과 지정
+    private Category createCategory(Long id, String title, int displayOrder, Category parent) {
+        Category category = category(id, title, displayOrder, parent);
+        when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
+        return category;
+    }
+
+    // 이동 카테고리 : 생성 + 상위 카테고리 키 조회 결과 지정
+    private Category createMovingCategory(Long id, String title, int displayOrder, Category parent) {
+        Category category = createCategory(id, title, displayOrder, parent);
+        when(categoryRepository.findParentKeyById(id)).thenReturn(Optional.of(category.getParentKey()));
+        return category;
+    }
+
+    private CategoryDto child(Long id, int displayOrder) {
+        return new CategoryDto(id, "카테고리-" + id, PARENT_ID, "/" + PARENT_ID + "/" + id + "/", null,
+                displayOrder, true, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("기준 카테고리 앞 : 앞 이웃 순위와 기준 순위의 중간값으로 본인만 변경")
+        void test_success_move_before() {
+            // given
+            Category category = createMovingCategory(4L, "니트", 3072, parent);
+            createCategory(3L, "셔츠", 2048, parent);
+            when(categoryRepository.findPrecedingDisplayOrder(PARENT_ID, 2048, List.of(4L, 3L))).thenReturn(1024);
+
+            // when
+            categoryOrderService.moveCategory(4L, 3L, null);
+
+            // then
+            assertEquals(1536, category.getDisplayOrder());
+            InOrder inOrder = inOrder(categoryRepository);
+            inOrder.verify(categoryRepository).findByIdForUpdate(PARENT_ID);
+            inOrder.verify(categoryRepository).findById(4L);
+            verify(categoryRepository, never()).bulkUpdateDisplayOrder(any(), any());
+            verify(categoryRepository, never()).findChildrenInDisplayOrder(any());
+            verify(eventPublisher).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("첫 번째 앞 / 마지막 뒤 : 0 또는 기준 순위 + 간격을 이웃 순위로 계산")
+        void test_success_move_to_edges() {
+            // given
+            Category category = createMovingCategory(4L, "니트", 2048, parent);
+            createCategory(2L, "반팔티", 1024, parent);
+            createCategory(3L, "셔츠", 3072, parent);
+            when(categoryRepository.findPrecedingDisplayOrder(PARENT_ID, 1024, List.of(4L, 2L))).thenReturn(null);
+            when(categoryRepository.findFollowingDisplayOrder(PARENT_ID, 3072, List.of(4L, 3L))).thenReturn(null);
+
+            // when & then : 첫 번째(1024) 앞
+            categoryOrderService.moveCategory(4L, 2L, null);
+            assertEquals(512, category.getDisplayOrder());
+
+            // when & then : 마지막(3072) 뒤
+            categoryOrderService.moveCategory(4L, null, 3L);
+            assertEquals(3072 + Category.DISPLAY_ORDER_GAP / 2, category.getDisplayOrder());
+            verify(categoryRepository, never()).bulkUpdateDisplayOrder(any(), any());
+        }
+
+        @Test
+        @DisplayName("같은 순위로 사이에 값이 없으면 하위 카테고리 전체 순위 재지정 후 이동 (본인 제외 CASE UPDATE)")
+        void test_success_move_with_inline_rebalance() {
+            // given : 모두 기본 순위 1
+            createCategory(3L, "셔츠", 1, parent);
+            Category third = createMovingCategory(4L, "니트", 1, parent);
+            when(categoryRepository.findPrecedingDisplayOrder(PARENT_ID, 1, List.of(4L, 3L))).thenReturn(1);
+            when(categoryRepository.findChildrenInDisplayOrder(PARENT_ID))
+                    .thenReturn(List.of(child(2L, 1), child(3L, 1), child(4L, 1)));
+
+            // when
+            categoryOrderService.moveCategory(4L, 3L, null);
+
+            // then : 반팔티, 니트, 셔츠
+            assertEquals(2048, third.getDisplayOrder());
+            verify(categoryRepository).bulkUpdateDisplayOrder(PARENT_ID, Map.of(2L, 1024, 3L, 3072));
+        }
+
+        @Test
+        @DisplayName("이동 후 남은 간격이 최소 간격 미만이면 백그라운드에서 현재 순서대로 순위 재지정")
+        void test_success_move_with_background_rebalance() {
+            // given
+            Category category = createMovingCategory(4L, "니트", 3072, parent);
+            createCategory(3L, "셔츠", 1030, parent);
+            when(categoryRepository.findPrecedingDisplayOrder(PARENT_ID, 1030, List.of(4L, 3L))).thenReturn(1024);
+            when(categoryRepository.findChildrenInDisplayOrder(PARENT_ID))
+                    .thenReturn(List.of(child(2L, 1024), child(4L, 1027), child(3L, 1030)));
+
+            // when
+            categoryOrderService.moveCategory(4L, 3L, null);
+
+            // then
+            assertEquals(1027, category.getDisplayOrder());
+            verify(categoryRepository, timeout(2000)).bulkUpdateDisplayOrder(PARENT_ID, Map.of(4L, 2048, 3L, 3072));
+        }
+
+        @Test
+        @DisplayName("순위 재지정 : 상위 카테고리 행 잠금 후 하위 카테고리 조회 (최상위는 최상위 카테고리 행 전체 잠금)")
+        void test_success_rebalance_after_lock() {
+            // given
+            when(categoryRepository.findChildrenInDisplayOrder(PARENT_ID)).thenReturn(List.of(child(2L, 1), child(3L, 1)));
+
+            // when
+            int changed = categoryOrderService.rebalance(PARENT_ID);
+            categoryOrderService.rebalance(null);
+
+            // then
+            assertEquals(2, changed);
+            InOrder inOrder = inOrder(categoryRepository);
+            inOrder.verify(categoryRepository).findByIdForUpdate(PARENT_ID);
+            inOrder.verify(categoryRepository).findChildrenInDisplayOrder(PARENT_ID);
+            inOrder.verify(categoryRepository).bulkUpdateDisplayOrder(PARENT_ID, Map.of(2L, 1024, 3L, 2048));
+            inOrder.verify(categoryRepository).findRootsForUpdate();
+            inOrder.verify(categoryRepository).findChildrenInDisplayOrder(Category.ROOT_PARENT_KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("beforeId, afterId 를 모두 지정하거나 모두 비우면 예외 발생")
+        void test_fail_move_without_single_anchor() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> categoryOrderService.moveCategory(4L, 2L, 3L));
+            assertThrows(InvalidRequestException.class, () -> categoryOrderService.moveCategory(4L, null, null));
+            verify(categoryRepository, never()).findById(4L);
+        }
+
+        @Test
+        @DisplayName("자기 자신을 기준 카테고리로 지정하면 예외 발생")
+        void test_fail_move_relative_to_self() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> categoryOrderService.moveCategory(4L, 4L, null));
+        }
+
+        @Test
+        @DisplayName("다른 상위 카테고리의 하위 카테고리를 기준으로 지정하면 예외 발생")
+        void test_fail_move_relative_to_other_parent_child() {
+            // given
+            Category other = category(10L, "하의", 2, null);
+            Category category = createMovingCategory(4L, "니트", 3072, parent);
+            createCategory(11L, "청바지", 1024, other);
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> categoryOrderService.moveCategory(4L, 11L, null));
+            assertEquals(3072, category.getDisplayOrder());
+            verify(categoryRepository, never()).findPrecedingDisplayOrder(any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("카테고리 또는 기준 카테고리가 없으면 예외 발생")
+        void test_fail_move_when_not_found() {
+            // given
+            createMovingCategory(4L, "니트", 3072, parent);
+            when(categoryRepository.findParentKeyById(99L)).thenReturn(Optional.empty());
+            when(categoryRepository.findById(99L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () -> categoryOrderService.moveCategory(99L, 4L, null));
+            assertThrows(ResourceNotFoundException.class, () -> categoryOrderService.moveCategory(4L, null, 99L));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.musinsa.shop.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.entity.CategoryPathMigration;
+import com.musinsa.shop.domain.category.entity.PathMigrationStatus;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryPathMigrationService;
+import com.musinsa.shop.domain.category.service.CategoryTreeVersionService;
+import com.musinsa.shop.domain.category.service.PendingPathMigrations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 하위 카테고리 경로 비동기 변경")
+class CategoryPathMigrationServiceTest {
+
+    private CategoryPathMigrationService pathMigrationService;
+
+    @Mock
+    private CategoryPathMigrationRepository pathMigrationRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryTreeVersionService treeVersionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        CategoryProperties properties = new CategoryProperties();
+        properties.getPathMigration().setChunkSize(2);
+        pathMigrationService = new CategoryPathMigrationService(
+                pathMigrationRepository, categoryRepository, treeVersionService, properties, transactionManager);
+    }
+
+    private CategoryPathMigration createMigration(Long id, Long categoryId, String oldPath, String newPath) {
+        CategoryPathMigration migration = CategoryPathMigration.create(categoryId, oldPath, newPath, 3);
+        ReflectionTestUtils.setField(migration, "id", id);
+        return migration;
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("남은 하위 카테고리가 없을 때까지 chunk 단위로 path 변경 후 완료 처리")
+        void test_success_process_in_chunks() {
+            // given
+            CategoryPathMigration migration = createMigration(1L, 3L, "/1/3/", "/2/3/");
+            when(pathMigrationRepository.findAllByStatusInOrderByIdAsc(PathMigrationStatus.ACTIVE))
+                    .thenReturn(List.of(migration));
+            when(pathMigrationRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(migration));
+            when(categoryRepository.findDescendantIds(eq(3L), eq("/1/3/"), any()))
+                    .thenReturn(List.of(4L, 5L))
+                    .thenReturn(List.of(6L));
+
+            // when
+            pathMigrationService.processPendingMigrations();
+
+            // then
+            verify(categoryRepository).bulkUpdatePathByIds(List.of(4L, 5L), "/1/3/", "/2/3/");
+            verify(categoryRepository).bulkUpdatePathByIds(List.of(6L), "/1/3/", "/2/3/");
+            verify(treeVersionService, times(2)).increment();
+            assertEquals(PathMigrationStatus.COMPLETED, migration.getStatus());
+            assertEquals(3, migration.getProcessedCount());
+            assertNotNull(migration.getCompletedAt());
+        }
+
+        @Test
+        @DisplayName("진행 중인 작업 기준으로 이전 path 를 현재 path 로 해석")
+        void test_success_resolve_pending_paths() {
+            // given
+            PendingPathMigrations pending = new PendingPathMigrations(List.of(
+                    createMigration(1L, 3L, "/1/3/", "/2/3/")
+            ));
+
+            // when & then
+            assertEquals("/2/3/4/", pending.resolve("/1/3/4/"));
+            assertEquals("/1/5/", pending.resolve("/1/5/"));
+            assertEquals(List.of("/2/3/4/", "/1/3/4/"), pending.prefixesOf("/2/3/4/"));
+            assertEquals(List.of("/2/", "/1/3/"), pending.subtreePrefixesOf("/2/"));
+            assertEquals(List.of("/2/3/", "/1/3/"), pending.subtreePrefixesOf("/2/3/"));
+            assertTrue(pending.overlaps("/1/"));
+            assertTrue(pending.overlaps("/2/3/4/"));
+            assertFalse(pending.overlaps("/1/5/"));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("경로 변경 작업이 없는 카테고리 상태 조회 시 예외 발생")
+        void test_fail_get_latest_migration_not_found() {
+            // given
+            when(pathMigrationRepository.findTopByCategoryIdOrderByIdDesc(99L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () -> pathMigrationService.getLatestMigration(99L));
+        }
+    }
+}
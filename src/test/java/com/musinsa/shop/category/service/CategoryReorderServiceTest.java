@@ -0,0 +1,123 @@
+package com.musinsa.shop.category.service;
+
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 하위 카테고리 정렬 순서 변경")
+class CategoryReorderServiceTest {
+
+    @InjectMocks
+    private CategoryService categoryService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Category createParent(Long parentId) {
+        Category parent = Category.create("상의", 1, "/category/top", true, null);
+        ReflectionTestUtils.setField(parent, "id", parentId);
+        parent.updatePath();
+        return parent;
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("요청 순서대로 displayOrder 를 간격 순위로 한 번의 UPDATE 로 변경")
+        void test_success_reorder_categories() {
+            // given
+            Long parentId = 1L;
+            when(categoryRepository.findById(parentId)).thenReturn(Optional.of(createParent(parentId)));
+            when(categoryRepository.countByParentIdAndDeletedFalse(parentId)).thenReturn(3L);
+            when(categoryRepository.bulkUpdateDisplayOrder(eq(parentId), any())).thenReturn(3L);
+
+            // when
+            categoryService.reorderCategories(parentId, List.of(4L, 2L, 3L));
+
+            // then
+            verify(categoryRepository).bulkUpdateDisplayOrder(parentId, Map.of(4L, 1024, 2L, 2048, 3L, 3072));
+            verify(categoryRepository, never()).existsByParentIdAndTitleAndIdNot(any(), any(), anyLong());
+            verify(eventPublisher).publishEvent(any(Object.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("상위 카테고리가 없으면 예외 발생")
+        void test_fail_reorder_when_parent_not_found() {
+            // given
+            when(categoryRepository.findById(99L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThrows(ResourceNotFoundException.class, () ->
+                    categoryService.reorderCategories(99L, List.of(1L, 2L)));
+            verify(categoryRepository, never()).bulkUpdateDisplayOrder(any(), any());
+        }
+
+        @Test
+        @DisplayName("중복 ID 가 포함되면 예외 발생")
+        void test_fail_reorder_when_duplicate_id() {
+            // given
+            when(categoryRepository.findById(1L)).thenReturn(Optional.of(createParent(1L)));
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryService.reorderCategories(1L, List.of(2L, 2L)));
+            verify(categoryRepository, never()).bulkUpdateDisplayOrder(any(), any());
+        }
+
+        @Test
+        @DisplayName("하위 카테고리 전체 목록이 아니면 예외 발생")
+        void test_fail_reorder_when_partial_list() {
+            // given
+            when(categoryRepository.findById(1L)).thenReturn(Optional.of(createParent(1L)));
+            when(categoryRepository.countByParentIdAndDeletedFalse(1L)).thenReturn(3L);
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryService.reorderCategories(1L, List.of(2L, 3L)));
+            verify(categoryRepository, never()).bulkUpdateDisplayOrder(any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 상위 카테고리의 하위 카테고리가 포함되면 예외 발생")
+        void test_fail_reorder_when_not_child() {
+            // given
+            when(categoryRepository.findById(1L)).thenReturn(Optional.of(createParent(1L)));
+            when(categoryRepository.countByParentIdAndDeletedFalse(1L)).thenReturn(2L);
+            when(categoryRepository.bulkUpdateDisplayOrder(eq(1L), any())).thenReturn(1L);
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () ->
+                    categoryService.reorderCategories(1L, List.of(2L, 30L)));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.musinsa.shop.category.service;
 
+import com.musinsa.shop.common.config.CategoryProperties;
 import com.musinsa.shop.common.exception.ResourceNotFoundException;
 import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
 import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
 import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
 import com.musinsa.shop.domain.category.repository.CategoryRepository;
 import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.service.CategoryTreeAssembler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -31,6 +36,12 @@ public class CategorySelectServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryPathMigrationRepository pathMigrationRepository;
+
+    @Spy
+    private CategoryTreeAssembler treeAssembler = new CategoryTreeAssembler(new CategoryProperties());
+
     @Nested
     @DisplayName("성공 케이스")
     class SuccessCases {
@@ -44,7 +55,7 @@ public class CategorySelectServiceTest {
                     new CategoryDto(3L, "셔츠", 2L, "/1/2/3/", "/category/shirt", 1, true, null, null, null)
             );
 
-            when(categoryRepository.findAllTree()).thenReturn(flatList);
+            when(categoryRepository.findAllTree(CategoryTreeFields.ALL)).thenReturn(flatList);
 
             // when
             List<CategoryTreeResponse> result = categoryService.getCategories(null);
@@ -79,7 +90,7 @@ public class CategorySelectServiceTest {
             );
 
             when(categoryRepository.findById(parentId)).thenReturn(Optional.of(parent));
-            when(categoryRepository.findTreeByPath(parentPath)).thenReturn(flatList);
+            when(categoryRepository.findTreeByPath(parentPath, CategoryTreeFields.ALL)).thenReturn(flatList);
 
             // when
             List<CategoryTreeResponse> result = categoryService.getCategories(parentId);
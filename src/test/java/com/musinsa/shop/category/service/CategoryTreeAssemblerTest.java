@@ -0,0 +1,132 @@
+package com.musinsa.shop.category.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.service.CategoryTreeAssembler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("단위 테스트: 카테고리 트리 병렬 구성")
+class CategoryTreeAssemblerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CategoryTreeAssembler sequential;
+    private CategoryTreeAssembler parallel;
+
+    @BeforeEach
+    void setUp() {
+        CategoryProperties sequentialProperties = new CategoryProperties();
+        sequentialProperties.getTree().getParallelAssembly().setEnabled(false);
+        sequential = new CategoryTreeAssembler(sequentialProperties);
+
+        CategoryProperties parallelProperties = new CategoryProperties();
+        parallelProperties.getTree().getParallelAssembly().setThreshold(1);
+        parallelProperties.getTree().getParallelAssembly().setParallelism(4);
+        parallel = new CategoryTreeAssembler(parallelProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    // 최상위 roots 개, 각 하위 middles 개, 각 하위 leaves 개 (path 순, displayOrder 역순/중복 포함)
+    private static List<CategoryDto> catalog(int roots, int middles, int leaves) {
+        List<CategoryDto> rows = new ArrayList<>();
+        long id = 1;
+        for (int r = 0; r < roots; r++) {
+            long rootId = id++;
+            rows.add(row(rootId, null, "/" + rootId + "/", roots - r));
+            for (int m = 0; m < middles; m++) {
+                long middleId = id++;
+                String middlePath = "/" + rootId + "/" + middleId + "/";
+                rows.add(row(middleId, rootId, middlePath, (middles - m) % 3));
+                for (int l = 0; l < leaves; l++) {
+                    long leafId = id++;
+                    rows.add(row(leafId, middleId, middlePath + leafId + "/", leaves - l));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static CategoryDto row(long id, Long parentId, String path, int displayOrder) {
+        return new CategoryDto(id, "카테고리-" + id, parentId, path, "/category/" + id, displayOrder, true, null, null, null);
+    }
+
+    private String json(List<CategoryTreeResponse> tree) throws Exception {
+        return objectMapper.writeValueAsString(tree);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("최상위 카테고리별 병렬 구성 결과가 순차 구성과 동일")
+        void test_success_parallel_same_as_sequential() throws Exception {
+            // given
+            List<CategoryDto> rows = catalog(8, 5, 6);
+
+            // when
+            List<CategoryTreeResponse> expected = sequential.assemble(rows);
+            List<CategoryTreeResponse> actual = parallel.assemble(rows);
+
+            // then
+            assertEquals(8, actual.size());
+            assertEquals(1, actual.get(0).getDisplayOrder());
+            assertEquals(json(expected), json(actual));
+        }
+
+        @Test
+        @DisplayName("이전 path 로 다른 최상위 구간에 있는 카테고리는 병합 시 상위 카테고리에 연결")
+        void test_success_stitch_across_partitions() throws Exception {
+            // given : 3 을 1 → 2 하위로 이동, 하위 4 는 아직 이전 path
+            List<CategoryDto> rows = List.of(
+                    row(1L, null, "/1/", 1),
+                    row(4L, 3L, "/1/3/4/", 1),
+                    row(2L, null, "/2/", 2),
+                    row(3L, 2L, "/2/3/", 1),
+                    row(5L, 3L, "/2/3/5/", 2)
+            );
+
+            // when
+            List<CategoryTreeResponse> actual = parallel.assemble(rows);
+
+            // then
+            assertEquals(2, actual.size());
+            CategoryTreeResponse moved = actual.get(1).getChildren().get(0);
+            assertEquals(3L, moved.getId());
+            assertEquals(List.of(4L, 5L), moved.getChildren().stream().map(CategoryTreeResponse::getId).toList());
+            assertEquals(json(sequential.assemble(rows)), json(actual));
+        }
+
+        @Test
+        @DisplayName("구성된 트리 병렬 정렬 결과가 순차 정렬과 동일")
+        void test_success_parallel_sort() throws Exception {
+            // given
+            List<CategoryTreeResponse> expected = sequential.assemble(catalog(6, 4, 5));
+            List<CategoryTreeResponse> shuffled = sequential.assemble(catalog(6, 4, 5));
+            shuffled.forEach(root -> root.getChildren().forEach(middle -> Collections.reverse(middle.getChildren())));
+            Collections.reverse(shuffled);
+
+            // when
+            parallel.sort(shuffled);
+
+            // then
+            assertEquals(json(expected), json(shuffled));
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.musinsa.shop.category.service;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.common.exception.InvalidRequestException;
+import com.musinsa.shop.common.exception.ResourceNotFoundException;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.event.CategoryChangedEvent;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.service.CategoryTreeService;
+import com.musinsa.shop.domain.category.service.CategoryTreeVersionService;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 트리 조회 동시 요청 병합 / stale-while-revalidate 테스트
+ * - 변경 직후 동시에 들어온 조회 CALLERS 건이 버전당 DB 조회 1회만 수행하는지 검증
+ * - 최신이 아닌 트리를 즉시 응답하고 백그라운드 재조회 1회로 갱신하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("단위 테스트: 카테고리 트리 조회 동시 요청 병합 / stale-while-revalidate")
+class CategoryTreeServiceTest {
+
+    private static final int CALLERS = 500;
+    private static final long QUERY_MILLIS = 200;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryPathMigrationRepository pathMigrationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // 다른 인스턴스 변경 대역 : 동시 조회마다 호출되므로 mock 대신 직접 구현 (호출 기록 비용으로 병합 대상 요청이 늦게 도착하지 않도록)
+    private final Queue<Boolean> externalChanges = new ConcurrentLinkedQueue<>();
+    private final CategoryTreeVersionService treeVersionService = new CategoryTreeVersionService(null, null, mock(PlatformTransactionManager.class)) {
+        @Override
+        public long currentVersion() {
+            return 0L;
+        }
+
+        @Override
+        public boolean hasExternalChange() {
+            return Boolean.TRUE.equals(externalChanges.poll());
+        }
+    };
+
+    private CategoryProperties categoryProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private CategoryTreeService categoryTreeService;
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicInteger treeVersion = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        categoryProperties = new CategoryProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        CategorySubtreeCache subtreeCache = new CategorySubtreeCache(categoryProperties, meterRegistry);
+        categoryTreeService = new CategoryTreeService(categoryService, categoryRepository, pathMigrationRepository,
+                subtreeCache, treeVersionService, categoryProperties, transactionManager, meterRegistry);
+
+        when(pathMigrationRepository.findAllByStatusInOrderByIdAsc(any())).thenReturn(List.of());
+    }
+
+    private List<CategoryDto> categories() {
+        return List.of(
+                new CategoryDto(1L, "패션", null, "/1/", null, 1, true, null, null, null),
+                new CategoryDto(2L, "상의", 1L, "/1/2/", null, 1, true, null, null, null)
+        );
+    }
+
+    // DB 조회 대역 : 조회 횟수 집계, 동시 요청이 모두 도착하도록 QUERY_MILLIS 대기
+    private <T> T slowQuery(Supplier<T> result) throws InterruptedException {
+        queries.incrementAndGet();
+        Thread.sleep(QUERY_MILLIS);
+        return result.get();
+    }
+
+    private List<CategoryTreeResponse> tree() {
+        List<CategoryTreeResponse> tree = new ArrayList<>();
+        tree.add(CategoryTreeResponse.of(categories().get(0)));
+        return tree;
+    }
+
+    // CALLERS 개 스레드가 동시에 조회, 결과(또는 예외) 목록 반환
+    private List<Object> getConcurrently(Long parentId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        return categoryTreeService.getCategories(parentId);
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 조회할 때마다 제목이 바뀌는 트리 ("v1", "v2" ...)
+    private List<CategoryTreeResponse> nextTree() {
+        CategoryDto root = new CategoryDto(1L, "v" + treeVersion.incrementAndGet(), null, "/1/", null, 1, true, null, null, null);
+        return new ArrayList<>(List.of(CategoryTreeResponse.of(root)));
+    }
+
+    private String title(Object result) {
+        return ((List<?>) result).stream()
+                .map(CategoryTreeResponse.class::cast)
+                .findFirst().orElseThrow().getTitle();
+    }
+
+    private void enableStaleWhileRevalidate(Duration refreshAfter, Duration maxStaleness) {
+        CategoryProperties.SubtreeCache config = categoryProperties.getSubtreeCache();
+        config.setStaleWhileRevalidate(true);
+        config.setRefreshAfter(refreshAfter);
+        config.setMaxStaleness(maxStaleness);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).counter().count();
+    }
+
+    // 백그라운드 재조회 완료 대기
+    private void awaitRefreshes(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count("category.subtree.cache.refreshes", "result", result) < expected) {
+            assertTrue(System.nanoTime() < deadline, "background refresh timeout");
+            Thread.sleep(10);
+        }
+    }
+
+    private void commitChange() {
+        categoryTreeService.onCategoryChanged(CategoryChangedEvent.of(2L, "/1/2/"));
+    }
+
+    private List<CategoryTreeResponse> subtree(Long id, String title) {
+        return List.of(CategoryTreeResponse.of(new CategoryDto(id, title, null, "/" + id + "/", null, 1, true, null, null, null)));
+    }
+
+    private List<String> titles(List<CategoryTreeResponse> tree) {
+        return tree.stream().map(CategoryTreeResponse::getTitle).toList();
+    }
+
+    private int distinct(List<Object> results) {
+        Set<Integer> identities = new HashSet<>();
+        results.forEach(result -> identities.add(System.identityHashCode(result)));
+        return identities.size();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("하위 트리 캐시 사용 시 동시 조회 500건이 버전당 DB 조회 1회, 같은 결과 공유")
+        void test_success_single_query_per_version_with_cache() throws Exception {
+            // given
+            when(categoryService.readCategories(null, CategoryTreeFields.ALL)).thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::tree));
+
+            // when
+            List<Object> first = getConcurrently(null);
+            commitChange();
+            List<Object> second = getConcurrently(null);
+
+            // then
+            assertEquals(2, queries.get());
+            assertEquals(1, distinct(first));
+            assertEquals(1, distinct(second));
+            assertNotSame(first.get(0), second.get(0));
+        }
+
+        @Test
+        @DisplayName("하위 트리 캐시 미사용 시에도 진행 중인 동일 조회는 1회로 병합")
+        void test_success_single_query_without_cache() throws Exception {
+            // given
+            categoryProperties.getSubtreeCache().setEnabled(false);
+            when(categoryService.readCategories(1L, CategoryTreeFields.ALL)).thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::tree));
+
+            // when
+            List<Object> results = getConcurrently(1L);
+
+            // then
+            assertEquals(1, queries.get());
+            assertEquals(1, distinct(results));
+        }
+
+        @Test
+        @DisplayName("응답 필드 선택 : 캐시 사용 시 전체 필드 트리 캐시 공유, 캐시 미사용 시 선택 필드만 DB 조회")
+        void test_success_selected_fields() {
+            // given
+            CategoryTreeFields fields = CategoryTreeFields.from("id,title,children");
+            when(categoryService.readCategories(null, CategoryTreeFields.ALL)).thenReturn(tree());
+            when(categoryService.readCategories(null, fields)).thenReturn(tree());
+
+            // when
+            List<CategoryTreeResponse> cached = categoryTreeService.getCategories(null, fields);
+            List<CategoryTreeResponse> full = categoryTreeService.getCategories(null);
+            categoryProperties.getSubtreeCache().setEnabled(false);
+            categoryTreeService.getCategories(null, fields);
+
+            // then
+            assertSame(cached, full);
+            verify(categoryService, times(1)).readCategories(null, CategoryTreeFields.ALL);
+            verify(categoryService, times(1)).readCategories(null, fields);
+        }
+
+        @Test
+        @DisplayName("컬럼형 저장소 사용 시 동시 조회 500건이 버전당 전체 트리 조회 1회")
+        void test_success_single_rebuild_per_version_with_store() throws Exception {
+            // given
+            categoryProperties.getTree().setCompactStore(true);
+            when(categoryRepository.findAllTree()).thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::categories));
+
+            // when
+            getConcurrently(null);
+            commitChange();
+            List<Object> results = getConcurrently(null);
+
+            // then
+            assertEquals(2, queries.get());
+            results.forEach(result -> assertEquals("패션", title(result)));
+        }
+
+        @Test
+        @DisplayName("stale-while-revalidate : 변경 후 동시 조회 500건 모두 이전 트리 즉시 응답, 백그라운드 재조회 1회로 갱신")
+        void test_success_serve_stale_after_change() throws Exception {
+            // given
+            enableStaleWhileRevalidate(Duration.ofMinutes(1), Duration.ofMinutes(5));
+            when(categoryService.readCategories(null, CategoryTreeFields.ALL)).thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::nextTree));
+            assertEquals("v1", title(categoryTreeService.getCategories(null)));
+
+            // when
+            commitChange();
+            List<Object> results = getConcurrently(null);
+            awaitRefreshes("success", 1);
+
+            // then
+            results.forEach(result -> assertEquals("v1", title(result)));
+            assertEquals(2, queries.get());
+            assertEquals(CALLERS, count("category.subtree.cache.stale.served"));
+            assertEquals("v2", title(categoryTreeService.getCategories(null)));
+            assertEquals(CALLERS + 2, meterRegistry.get("category.subtree.cache.served.age").timer().count());
+        }
+
+        @Test
+        @DisplayName("stale-while-revalidate : 변경이 없어도 refresh-after 경과 시 이전 트리 응답 후 백그라운드 재조회")
+        void test_success_refresh_after_ttl() throws Exception {
+            // given
+            enableStaleWhileRevalidate(Duration.ofMillis(50), Duration.ofMinutes(5));
+            when(categoryService.readCategories(1L, CategoryTreeFields.ALL)).thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::nextTree));
+            categoryTreeService.getCategories(1L);
+            Thread.sleep(100);
+
+            // when
+            String served = title(categoryTreeService.getCategories(1L));
+            awaitRefreshes("success", 1);
+
+            // then
+            assertEquals("v1", served);
+            assertEquals("v2", title(categoryTreeService.getCategories(1L)));
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스 변경 : DB 트리 버전이 바뀌면 하위 트리 캐시와 컬럼형 트리 모두 다시 조회")
+        void test_success_reload_on_external_change() {
+            // given
+            when(categoryService.readCategories(1L, CategoryTreeFields.ALL)).thenAnswer(invocation -> nextTree());
+            when(categoryRepository.findAllTree()).thenReturn(categories());
+            categoryTreeService.getCategories(1L);
+            categoryProperties.getTree().setCompactStore(true);
+            categoryTreeService.getCategories(null);
+            categoryProperties.getTree().setCompactStore(false);
+
+            // when
+            externalChanges.add(true);
+            String reloaded = title(categoryTreeService.getCategories(1L));
+            categoryProperties.getTree().setCompactStore(true);
+            categoryTreeService.getCategories(null);
+
+            // then
+            assertEquals("v2", reloaded);
+            verify(categoryRepository, times(2)).findAllTree();
+        }
+
+        @Test
+        @DisplayName("여러 하위 트리 : 캐시에 없는 카테고리만 모아 1회 조회 후 카테고리별 보관, 요청 순서로 응답 (중복 ID 1회)")
+        void test_success_subtrees_load_missing_only() {
+            // given : 1 은 캐시에 보관된 상태
+            when(categoryService.readCategories(1L, CategoryTreeFields.ALL)).thenReturn(subtree(1L, "패션"));
+            when(categoryService.readSubtrees(List.of(3L, 2L))).thenReturn(Map.of(
+                    3L, subtree(3L, "뷰티"),
+                    2L, subtree(2L, "상의")
+            ));
+            categoryTreeService.getCategories(1L);
+
+            // when
+            List<CategoryTreeResponse> first = categoryTreeService.getSubtrees(null, List.of(3L, 1L, 2L, 3L));
+            List<CategoryTreeResponse> second = categoryTreeService.getSubtrees(null, List.of(1L, 2L, 3L));
+
+            // then
+            assertEquals(List.of("뷰티", "패션", "상의"), titles(first));
+            assertEquals(List.of("패션", "상의", "뷰티"), titles(second));
+            verify(categoryService, times(1)).readSubtrees(any());
+            assertEquals("상의", categoryTreeService.getCategories(2L).get(0).getTitle());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("여러 하위 트리 : parentId 와 함께 사용, 빈 목록, 최대 카테고리 수 초과 시 예외")
+        void test_fail_invalid_subtrees_request() {
+            // given
+            categoryProperties.getTree().setMaxParentIds(2);
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> categoryTreeService.getSubtrees(1L, List.of(2L)));
+            assertThrows(InvalidRequestException.class, () -> categoryTreeService.getSubtrees(null, List.of()));
+            assertThrows(InvalidRequestException.class, () -> categoryTreeService.getSubtrees(null, List.of(1L, 2L, 3L)));
+            verify(categoryService, never()).readSubtrees(any());
+        }
+
+        @Test
+        @DisplayName("병합된 조회가 실패하면 대기 중인 요청 모두 같은 예외를 받고, 이후 요청은 다시 조회")
+        void test_fail_exception_shared_then_retried() throws Exception {
+            // given
+            when(categoryService.readCategories(99L, CategoryTreeFields.ALL)).thenAnswer(invocation -> slowQuery(() -> {
+                throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다.");
+            }));
+
+            // when
+            List<Object> results = getConcurrently(99L);
+
+            // then
+            assertEquals(1, queries.get());
+            results.forEach(result -> assertInstanceOf(ResourceNotFoundException.class, result));
+            assertThrows(ResourceNotFoundException.class, () -> categoryTreeService.getCategories(99L));
+            assertEquals(2, queries.get());
+        }
+
+        @Test
+        @DisplayName("stale-while-revalidate : max-staleness 를 넘은 트리는 응답하지 않고 재조회 완료까지 대기")
+        void test_fail_exceed_max_staleness() throws Exception {
+            // given
+            enableStaleWhileRevalidate(Duration.ofMillis(10), Duration.ofMillis(100));
+            when(categoryService.readCategories(null, CategoryTreeFields.ALL)).thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::nextTree));
+            categoryTreeService.getCategories(null);
+            Thread.sleep(150);
+
+            // when & then
+            assertEquals("v2", title(categoryTreeService.getCategories(null)));
+            assertEquals(0, count("category.subtree.cache.stale.served"));
+        }
+
+        @Test
+        @DisplayName("stale-while-revalidate : 백그라운드 재조회 실패 시 이전 트리 계속 응답, 삭제된 카테고리는 캐시 제거")
+        void test_fail_background_refresh() throws Exception {
+            // given
+            enableStaleWhileRevalidate(Duration.ofMinutes(1), Duration.ofMinutes(5));
+            when(categoryService.readCategories(null, CategoryTreeFields.ALL))
+                    .thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::nextTree))
+                    .thenThrow(new IllegalStateException("DB 지연"))
+                    .thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::nextTree));
+            when(categoryService.readCategories(2L, CategoryTreeFields.ALL))
+                    .thenAnswer(invocation -> slowQuery(CategoryTreeServiceTest.this::nextTree))
+                    .thenThrow(new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
+            categoryTreeService.getCategories(null);
+            categoryTreeService.getCategories(2L);
+
+            // when
+            commitChange();
+            String whileFailing = title(categoryTreeService.getCategories(null));
+            String deleted = title(categoryTreeService.getCategories(2L));
+            awaitRefreshes("failure", 2);
+
+            // then
+            assertEquals("v1", whileFailing);
+            assertEquals("v2", deleted);
+            assertEquals("v1", title(categoryTreeService.getCategories(null)));
+            assertThrows(ResourceNotFoundException.class, () -> categoryTreeService.getCategories(2L));
+        }
+    }
+}
@@ -6,8 +6,11 @@ import com.musinsa.shop.common.exception.ResourceNotFoundException;
 import com.musinsa.shop.domain.category.dto.CategoryResponse;
 import com.musinsa.shop.domain.category.dto.CategoryUpdateRequest;
 import com.musinsa.shop.domain.category.entity.Category;
+import com.musinsa.shop.domain.category.repository.CategoryPathMigrationRepository;
 import com.musinsa.shop.domain.category.repository.CategoryRepository;
 import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.service.CategoryVisibilityUpdater;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -33,6 +37,18 @@ class CategoryUpdateServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryPathMigrationRepository pathMigrationRepository;
+
+    @Mock
+    private CategoryTitleIndex titleIndex;
+
+    @Mock
+    private CategoryVisibilityUpdater visibilityUpdater;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("성공 케이스")
     class SuccessCases {
@@ -194,7 +210,6 @@ class CategoryUpdateServiceTest {
             Category child = Category.create("셔츠", 2, "/category/top/shirt", true, parent);
             ReflectionTestUtils.setField(child, "id", childId);
 
-            parent.addChildCategory(child);
             parent.updatePath();
             child.updatePath();
 
@@ -245,5 +260,28 @@ class CategoryUpdateServiceTest {
 
                     assertEquals("동일 상위 카테고리 내 이미 존재하는 카테고리명입니다.", exception.getMessage());
         }
+
+        @Test
+        @DisplayName("다른 카테고리가 사용 중인 링크로 변경하면 예외 발생")
+        void test_update_fail_when_link_duplicate() {
+            // given
+            Long categoryId = 1L;
+
+            Category category = Category.create("상의", 1, "/category/top", true, null);
+            ReflectionTestUtils.setField(category, "id", categoryId);
+            category.updatePath();
+
+            CategoryUpdateRequest request = new CategoryUpdateRequest(null, null, null, "/category/outer", null);
+
+            when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+            when(categoryRepository.existsByLinkKeyAndIdNot("/category/outer", categoryId)).thenReturn(true);
+
+            // when & then
+            DuplicateResourceException exception = assertThrows(DuplicateResourceException.class, () ->
+                    categoryService.updateCategory(categoryId, request));
+
+            assertEquals("이미 사용 중인 링크입니다.", exception.getMessage());
+            assertEquals("/category/top", category.getLink());
+        }
     }
 }
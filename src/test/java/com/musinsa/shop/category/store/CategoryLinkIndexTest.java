@@ -0,0 +1,116 @@
+package com.musinsa.shop.category.store;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.store.CategoryLinkIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 링크 색인")
+class CategoryLinkIndexTest {
+
+    private CategoryLinkIndex linkIndex;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private final CategoryProperties categoryProperties = new CategoryProperties();
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAllLiveTitles()).thenReturn(List.of(
+                category(1L, "/category/top"),
+                category(2L, "/category/top/shirt"),
+                category(3L, null),
+                category(4L, " ")
+        ));
+        linkIndex = new CategoryLinkIndex(categoryRepository, categoryProperties);
+        linkIndex.afterSingletonsInstantiated();
+    }
+
+    private static CategoryDto category(Long id, String link) {
+        return new CategoryDto(id, "카테고리-" + id, null, "/" + id + "/", link, 0, true, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("시작 시 링크가 있는 카테고리만 색인 구성")
+        void test_success_load() {
+            // when & then
+            assertTrue(linkIndex.isEnabled());
+            assertEquals(2, linkIndex.size());
+            assertEquals(1L, linkIndex.get("/category/top"));
+            assertEquals(2L, linkIndex.get("/category/top/shirt"));
+        }
+
+        @Test
+        @DisplayName("변경 반영 : 링크 변경/제거/삭제/등록한 카테고리만 다시 읽어 반영, 다른 카테고리로 옮긴 링크 유지")
+        void test_success_refresh_changed_categories() {
+            // given : 1 링크 제거, 2 링크 변경, 3 링크 추가(1 의 이전 링크), 5 등록, 6 삭제(색인에 없음)
+            when(categoryRepository.findAllByIds(List.of(1L, 2L, 3L, 5L, 6L))).thenReturn(List.of(
+                    category(1L, ""),
+                    category(2L, "/category/shirt"),
+                    category(3L, "/category/top"),
+                    category(5L, "/category/knit")
+            ));
+
+            // when
+            linkIndex.refresh(List.of(1L, 2L, 3L, 5L, 6L));
+
+            // then
+            assertEquals(3L, linkIndex.get("/category/top"));
+            assertEquals(2L, linkIndex.get("/category/shirt"));
+            assertEquals(5L, linkIndex.get("/category/knit"));
+            assertNull(linkIndex.get("/category/top/shirt"));
+            assertEquals(3, linkIndex.size());
+        }
+
+        @Test
+        @DisplayName("삭제된 카테고리 링크 제거")
+        void test_success_refresh_deleted_category() {
+            // given
+            when(categoryRepository.findAllByIds(List.of(2L))).thenReturn(List.of());
+
+            // when
+            linkIndex.refresh(List.of(2L));
+
+            // then
+            assertNull(linkIndex.get("/category/top/shirt"));
+            assertEquals(1, linkIndex.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("색인 미사용 설정이면 구성하지 않고 미사용 상태")
+        void test_fail_disabled() {
+            // given
+            categoryProperties.getLinkIndex().setEnabled(false);
+            CategoryLinkIndex disabled = new CategoryLinkIndex(categoryRepository, categoryProperties);
+
+            // when
+            disabled.afterSingletonsInstantiated();
+
+            // then
+            assertFalse(disabled.isEnabled());
+            assertEquals(0, disabled.size());
+            verify(categoryRepository, times(1)).findAllLiveTitles();
+        }
+    }
+}
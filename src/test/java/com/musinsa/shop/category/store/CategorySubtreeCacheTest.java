@@ -0,0 +1,139 @@
+package com.musinsa.shop.category.store;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.store.CategorySubtreeCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("단위 테스트: 하위 트리 캐시")
+class CategorySubtreeCacheTest {
+
+    private CategoryProperties categoryProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private CategorySubtreeCache subtreeCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryProperties = new CategoryProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        subtreeCache = new CategorySubtreeCache(categoryProperties, meterRegistry);
+    }
+
+    // id 카테고리 + 하위 카테고리 childCount 개 트리
+    private List<CategoryTreeResponse> tree(long id, int childCount) {
+        CategoryTreeResponse root = CategoryTreeResponse.of(new CategoryDto(id, "카테고리-" + id, null, null, null, 1, true, null, null, null));
+        for (int i = 1; i <= childCount; i++) {
+            root.getChildren().add(CategoryTreeResponse.of(
+                    new CategoryDto(id * 1000 + i, "하위-" + i, id, null, null, i, true, null, null, null)));
+        }
+        return new ArrayList<>(List.of(root));
+    }
+
+    private double meter(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).meter().measure().iterator().next().getValue();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("같은 parentId 재조회 시 loader 호출 없이 캐시 응답, 적중률 지표 반영")
+        void test_success_cache_hit() {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+            List<CategoryTreeResponse> expected = tree(1L, 2);
+
+            // when
+            List<CategoryTreeResponse> first = subtreeCache.get(1L, () -> {
+                loads.incrementAndGet();
+                return expected;
+            });
+            List<CategoryTreeResponse> second = subtreeCache.get(1L, () -> {
+                loads.incrementAndGet();
+                return tree(1L, 2);
+            });
+
+            // then
+            assertEquals(1, loads.get());
+            assertSame(expected, first);
+            assertSame(expected, second);
+            assertEquals(0.5, meter("category.subtree.cache.hit.ratio"));
+            assertEquals(1.0, meter("cache.gets", "cache", CategorySubtreeCache.CACHE_NAME, "result", "hit"));
+            assertEquals(1.0, meter("cache.gets", "cache", CategorySubtreeCache.CACHE_NAME, "result", "miss"));
+        }
+
+        @Test
+        @DisplayName("변경된 path 의 상위 카테고리/본인 항목과 전체 트리만 무효화, 다른 하위 트리는 유지")
+        void test_success_invalidate_ancestors_only() {
+            // given
+            // 1 ─ 5 ─ 9 / 2 ─ 6
+            for (long id : new long[]{1L, 5L, 9L, 2L, 6L}) {
+                subtreeCache.get(id, () -> tree(id, 1));
+            }
+            subtreeCache.get(null, () -> tree(100L, 1));
+
+            // when
+            subtreeCache.invalidate(Set.of("/1/5/9/"));
+
+            // then
+            assertFalse(subtreeCache.contains(1L));
+            assertFalse(subtreeCache.contains(5L));
+            assertFalse(subtreeCache.contains(9L));
+            assertFalse(subtreeCache.contains(null));
+            assertTrue(subtreeCache.contains(2L));
+            assertTrue(subtreeCache.contains(6L));
+            assertEquals(4.0, meter("category.subtree.cache.invalidations"));
+        }
+
+        @Test
+        @DisplayName("보관한 노드 수 합계가 최대 가중치를 넘으면 제거, 제거 지표 반영")
+        void test_success_evict_by_weight() {
+            // given
+            categoryProperties.getSubtreeCache().setMaxWeight(100);
+            subtreeCache = new CategorySubtreeCache(categoryProperties, meterRegistry = new SimpleMeterRegistry());
+
+            // when : 노드 30개 트리 10개 (합계 300)
+            for (long id = 1; id <= 10; id++) {
+                long parentId = id;
+                subtreeCache.get(parentId, () -> tree(parentId, 29));
+            }
+
+            // then
+            long cached = LongStream.rangeClosed(1, 10).filter(subtreeCache::contains).count();
+            assertTrue(cached <= 3, "cached " + cached);
+            assertTrue(meter("cache.evictions", "cache", CategorySubtreeCache.CACHE_NAME) >= 7);
+            assertTrue(meter("cache.eviction.weight", "cache", CategorySubtreeCache.CACHE_NAME) >= 7 * 30);
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("조회 도중 무효화되면 조회 결과를 보관하지 않음 (변경 전 데이터 캐시 방지)")
+        void test_fail_not_cached_when_invalidated_during_load() {
+            // when
+            List<CategoryTreeResponse> result = subtreeCache.get(1L, () -> {
+                subtreeCache.invalidate(Set.of("/3/"));
+                return tree(1L, 1);
+            });
+
+            // then
+            assertEquals(1, result.size());
+            assertFalse(subtreeCache.contains(1L));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.shop.category.store;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.store.CategoryTitleIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 이름 색인")
+class CategoryTitleIndexTest {
+
+    private CategoryTitleIndex titleIndex;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAllLiveTitles()).thenReturn(List.of(
+                new CategoryDto(1L, "상의", null, null, null, 0, false, null, null, null),
+                new CategoryDto(2L, "셔츠", 1L, null, null, 0, false, null, null, null)
+        ));
+        titleIndex = new CategoryTitleIndex(categoryRepository, new CategoryProperties());
+        titleIndex.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 등록된 트랜잭션 동기화 콜백에 완료 상태 전달
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("DB 에 있는 이름은 선점 불가, 없는 이름은 선점 가능")
+        void test_success_claim_by_loaded_titles() {
+            assertTrue(titleIndex.isEnabled());
+            assertFalse(titleIndex.claim(null, "상의"));
+            assertFalse(titleIndex.claim(1L, "셔츠"));
+            assertTrue(titleIndex.claim(2L, "셔츠"));
+            assertFalse(titleIndex.claim(2L, "셔츠"));
+        }
+
+        @Test
+        @DisplayName("트랜잭션 롤백 시 선점한 이름 해제, 커밋 시 확정")
+        void test_success_claim_released_on_rollback() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+            assertTrue(titleIndex.claim(1L, "니트"));
+            assertTrue(titleIndex.isClaimed(1L, "니트"));
+
+            // when
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            assertFalse(titleIndex.isClaimed(1L, "니트"));
+            assertTrue(titleIndex.claim(1L, "니트"));
+            assertFalse(titleIndex.isClaimed(1L, "니트"));
+        }
+
+        @Test
+        @DisplayName("이전 이름은 커밋 후 제거되어 다시 사용 가능")
+        void test_success_remove_after_commit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+            titleIndex.removeAfterCommit(1L, "셔츠");
+            assertFalse(titleIndex.claim(1L, "셔츠"));
+
+            // when
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            // then
+            assertTrue(titleIndex.claim(1L, "셔츠"));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.musinsa.shop.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategorySearchResponse;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.store.CategoryTitleSearchIndex;
+import com.musinsa.shop.domain.category.store.KoreanTitleNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 카테고리 이름 자동완성 색인")
+class CategoryTitleSearchIndexTest {
+
+    private CategoryTitleSearchIndex searchIndex;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAllLiveTitles()).thenReturn(List.of(
+                category(1L, "상의", null),
+                category(2L, "셔츠", 1L),
+                category(3L, "셔츠 원피스", 1L),
+                category(4L, "반팔 티셔츠", 1L),
+                category(5L, "하의", null),
+                category(6L, "Denim 팬츠", 5L),
+                category(7L, "셔츠", 5L)
+        ));
+        searchIndex = new CategoryTitleSearchIndex(categoryRepository);
+        searchIndex.afterSingletonsInstantiated();
+    }
+
+    private static CategoryDto category(Long id, String title, Long parentId) {
+        return new CategoryDto(id, title, parentId, null, null, 0, true, null, null, null);
+    }
+
+    private List<Long> ids(String prefix) {
+        return searchIndex.search(prefix, 10).stream().map(CategorySearchResponse::getId).toList();
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        @DisplayName("이름 정규화 : 공백/대소문자 무시, 한글 자모 분해, 초성 추출")
+        void test_success_normalize() {
+            // when & then
+            assertEquals("ㅅㅕㅊㅡ", KoreanTitleNormalizer.normalize("셔 츠"));
+            assertEquals("ㄷㅏㄹㄱ", KoreanTitleNormalizer.normalize("닭"));
+            assertEquals("ㄱㅗㅏ", KoreanTitleNormalizer.normalize("과"));
+            assertEquals("denimㅍㅐㄴㅊㅡ", KoreanTitleNormalizer.normalize("Denim 팬츠"));
+            assertEquals("ㅂㅍㅌㅅㅊ", KoreanTitleNormalizer.choseong("반팔 티셔츠"));
+            assertTrue(KoreanTitleNormalizer.isChoseongOnly("ㅅ ㅊ"));
+            assertFalse(KoreanTitleNormalizer.isChoseongOnly("셔ㅊ"));
+        }
+
+        @Test
+        @DisplayName("접두어 검색 : 같은 접두어면 짧은 이름 먼저, 입력 중인 음절도 일치")
+        void test_success_search_prefix() {
+            // when & then
+            assertEquals(List.of(2L, 7L, 3L), ids("셔츠"));
+            assertEquals(List.of(2L, 7L, 3L), ids("셔ㅊ"));
+            assertEquals(List.of(2L, 7L, 3L), ids("셫"));
+            assertEquals(List.of(3L), ids("셔츠 원"));
+            assertEquals(List.of(3L), ids("셔츠원"));
+            assertEquals(List.of(6L), ids("DENIM"));
+            assertTrue(ids("티셔츠").isEmpty());
+        }
+
+        @Test
+        @DisplayName("초성 검색 : 자음만 입력하면 초성 키로 검색")
+        void test_success_search_choseong() {
+            // when & then
+            assertEquals(List.of(4L), ids("ㅂㅍ"));
+            assertEquals(List.of(2L, 7L, 3L), ids("ㅅㅊ"));
+            assertEquals(List.of(1L, 2L, 7L, 3L), ids("ㅅ"));
+        }
+
+        @Test
+        @DisplayName("검색 결과 : 최상위부터 본인까지 ID 경로/이름, limit 건까지")
+        void test_success_search_breadcrumb_and_limit() {
+            // when
+            List<CategorySearchResponse> results = searchIndex.search("셔츠", 2);
+
+            // then
+            assertEquals(2, results.size());
+            assertEquals("/1/2/", results.get(0).getPath());
+            assertEquals(List.of("상의", "셔츠"), results.get(0).getBreadcrumb());
+            assertEquals(List.of("하의", "셔츠"), results.get(1).getBreadcrumb());
+        }
+
+        @Test
+        @DisplayName("변경 반영 : 이름 변경/이동/삭제한 카테고리만 다시 읽어 반영, 상위 이름 변경은 경로에 즉시 반영")
+        void test_success_refresh_changed_categories() {
+            // given : 2 이름 변경 + 하의 아래로 이동, 5 이름 변경, 3 삭제, 8 등록
+            when(categoryRepository.findAllByIds(List.of(2L, 3L, 5L, 8L))).thenReturn(List.of(
+                    category(2L, "블라우스", 5L),
+                    category(5L, "바지", null),
+                    category(8L, "셔링 스커트", 5L)
+            ));
+
+            // when
+            searchIndex.refresh(List.of(2L, 3L, 5L, 8L));
+
+            // then
+            assertEquals(List.of(8L, 7L), ids("셔"));
+            assertEquals(List.of("바지", "블라우스"), searchIndex.search("블라", 10).get(0).getBreadcrumb());
+            assertEquals(List.of("바지", "셔츠"), searchIndex.search("ㅅㅊ", 10).get(0).getBreadcrumb());
+            assertTrue(ids("하의").isEmpty());
+            assertEquals(7, searchIndex.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        @DisplayName("일치하는 이름이 없거나 공백만 입력하면 빈 목록")
+        void test_fail_no_match() {
+            // when & then
+            assertTrue(ids("아우터").isEmpty());
+            assertTrue(ids("ㅇㅇ").isEmpty());
+            assertTrue(ids("  ").isEmpty());
+        }
+    }
+}
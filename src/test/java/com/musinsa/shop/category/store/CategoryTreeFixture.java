@@ -0,0 +1,66 @@
+package com.musinsa.shop.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 카테고리 트리 테스트 데이터 및 검증 공통 메서드
+ */
+final class CategoryTreeFixture {
+
+    private static final String[] TITLES = {
+            "상의", "하의", "아우터", "원피스", "스커트", "신발", "가방", "모자", "양말", "액세서리",
+            "반팔 티셔츠", "긴팔 티셔츠", "셔츠/블라우스", "니트/스웨터", "후드 티셔츠", "맨투맨", "데님 팬츠", "코튼 팬츠",
+            "슬랙스", "트레이닝 팬츠", "숏 팬츠", "레깅스", "스니커즈", "로퍼", "부츠", "샌들", "백팩", "크로스백", "기타"
+    };
+
+    private CategoryTreeFixture() {
+    }
+
+    // 부서(depth 1) > 중분류(depth 2) > 소분류(depth 3) 구조의 path 정렬 목록 생성
+    static List<CategoryDto> createCatalog(int departments, int middles, int leaves) {
+        List<CategoryDto> categories = new ArrayList<>();
+        long id = 1;
+        for (int d = 0; d < departments; d++) {
+            long departmentId = id++;
+            categories.add(row(departmentId, null, "/" + departmentId + "/", d));
+            for (int m = 0; m < middles; m++) {
+                long middleId = id++;
+                String middlePath = "/" + departmentId + "/" + middleId + "/";
+                categories.add(row(middleId, departmentId, middlePath, middles - m));
+                for (int l = 0; l < leaves; l++) {
+                    long leafId = id++;
+                    categories.add(row(leafId, middleId, middlePath + leafId + "/", l % 3));
+                }
+            }
+        }
+        return categories;
+    }
+
+    // DB 조회 결과와 동일하게 행마다 별도 문자열 인스턴스 사용
+    private static CategoryDto row(long id, Long parentId, String path, int displayOrder) {
+        String title = new String(TITLES[(int) (id % TITLES.length)].toCharArray());
+        String link = "/category/" + id;
+        return new CategoryDto(id, title, parentId, path, link, displayOrder, true, null, null, null);
+    }
+
+    static void assertSameTree(List<CategoryTreeResponse> expected, List<CategoryTreeResponse> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            CategoryTreeResponse e = expected.get(i);
+            CategoryTreeResponse a = actual.get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getTitle(), a.getTitle());
+            assertEquals(e.getParentId(), a.getParentId());
+            assertEquals(e.getLink(), a.getLink());
+            assertEquals(e.getDisplayOrder(), a.getDisplayOrder());
+            assertEquals(e.isActive(), a.isActive());
+            assertSameTree(e.getChildren(), a.getChildren());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.musinsa.shop.category.store;
+
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeStamp;
+import com.musinsa.shop.domain.category.store.CategoryTreeSnapshot;
+import com.musinsa.shop.domain.category.store.CompactCategoryTree;
+import com.musinsa.shop.domain.category.store.MappedCategoryTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static com.musinsa.shop.category.store.CategoryTreeFixture.assertSameTree;
+import static com.musinsa.shop.category.store.CategoryTreeFixture.createCatalog;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("단위 테스트: 카테고리 트리 스냅샷")
+class CategoryTreeSnapshotTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final CategoryTreeStamp stamp = new CategoryTreeStamp(12L);
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+
+        @Test
+        @DisplayName("스냅샷 기록 후 매핑한 트리 응답이 원본과 동일")
+        void test_success_write_and_open() throws Exception {
+            // given
+            List<CategoryDto> categories = createCatalog(4, 5, 6);
+            CompactCategoryTree tree = CompactCategoryTree.from(categories);
+            Path path = tempDir.resolve("category-tree.snapshot");
+
+            // when
+            CategoryTreeSnapshot.write(path, tree, stamp);
+            MappedCategoryTree mapped = CategoryTreeSnapshot.open(path).orElseThrow();
+
+            // then
+            assertEquals(stamp, mapped.getStamp());
+            assertEquals(tree.size(), mapped.size());
+            assertSameTree(tree.toTree(), mapped.toTree());
+            assertSameTree(tree.toSubtree(2L), mapped.toSubtree(2L));
+        }
+
+        @Test
+        @DisplayName("부모가 목록에 없는 카테고리와 null 필드 유지")
+        void test_success_detached_parent_and_null_fields() throws Exception {
+            // given
+            List<CategoryDto> categories = List.of(
+                    new CategoryDto(5L, "상의", null, "/5/", null, 1, true, null, null, null),
+                    new CategoryDto(9L, "반팔티", 7L, "/5/7/9/", "/category/tshirt", 1, false, null, null, null)
+            );
+            Path path = tempDir.resolve("detached.snapshot");
+
+            // when
+            MappedCategoryTree mapped = CategoryTreeSnapshot.write(path, CompactCategoryTree.from(categories),
+                    new CategoryTreeStamp(0L));
+
+            // then
+            assertSameTree(CompactCategoryTree.from(categories).toTree(), mapped.toTree());
+            assertEquals(7L, mapped.toSubtree(9L).get(0).getParentId());
+            assertEquals(0L, mapped.getStamp().getVersion());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+
+        @Test
+        @DisplayName("스냅샷 파일이 없으면 empty")
+        void test_fail_open_when_file_not_found() throws Exception {
+            assertTrue(CategoryTreeSnapshot.open(tempDir.resolve("none.snapshot")).isEmpty());
+        }
+
+        @Test
+        @DisplayName("본문이 손상되면 checksum 불일치로 empty")
+        void test_fail_open_when_checksum_mismatch() throws Exception {
+            // given
+            Path path = tempDir.resolve("corrupted.snapshot");
+            CategoryTreeSnapshot.write(path, CompactCategoryTree.from(createCatalog(1, 2, 3)), stamp);
+
+            try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                file.seek(file.length() - 1);
+                int last = file.read();
+                file.seek(file.length() - 1);
+                file.write(last ^ 0xFF);
+            }
+
+            // when
+            Optional<MappedCategoryTree> result = CategoryTreeSnapshot.open(path);
+
+            // then
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        @DisplayName("포맷 버전이 다르면 empty")
+        void test_fail_open_when_format_version_mismatch() throws Exception {
+            // given
+            Path path = tempDir.resolve("old.snapshot");
+            CategoryTreeSnapshot.write(path, CompactCategoryTree.from(createCatalog(1, 2, 3)), stamp);
+
+            try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                file.seek(4);
+                file.writeInt(0);
+            }
+
+            // when & then
+            assertTrue(CategoryTreeSnapshot.open(path).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.musinsa.shop.category.store;
+
+import com.musinsa.shop.common.config.CategoryProperties;
+import com.musinsa.shop.domain.category.dto.CategoryDto;
+import com.musinsa.shop.domain.category.dto.CategoryTreeFields;
+import com.musinsa.shop.domain.category.dto.CategoryTreeResponse;
+import com.musinsa.shop.domain.category.repository.CategoryRepository;
+import com.musinsa.shop.domain.category.service.CategoryService;
+import com.musinsa.shop.domain.category.service.CategoryTreeAssembler;
+import com.musinsa.shop.domain.category.store.CompactCategoryTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+
+import static com.musinsa.shop.category.store.CategoryTreeFixture.assertSameTree;
+import static com.musinsa.shop.category.store.CategoryTreeFixture.createCatalog;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("단위 테스트: 컬럼형 카테고리 저장소")
+class CompactCategoryTreeTest {
+
+    @InjectMocks
+    private CategoryService categoryService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Spy
+    private CategoryTreeAssembler treeAssembler = new CategoryTreeAssembler(new CategoryProperties());
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+
+        @Test
+        @DisplayName("전체 트리 응답이 기존 트리 구성 결과와 동일")
+        void test_success_to_tree_same_as_service() {
+            // given
+            List<CategoryDto> categories = createCatalog(3, 4, 5);
+            when(categoryRepository.findAllTree(CategoryTreeFields.ALL)).thenReturn(categories);
+
+            // when
+            List<CategoryTreeResponse> expected = categoryService.getCategories(null);
+            List<CategoryTreeResponse> actual = CompactCategoryTree.from(categories).toTree();
+
+            // then
+            assertSameTree(expected, actual);
+        }
+
+        @Test
+        @DisplayName("특정 카테고리 기준 하위 트리 응답 생성")
+        void test_success_to_subtree() {
+            // given
+            List<CategoryDto> categories = List.of(
+                    new CategoryDto(1L, "상의", null, "/1/", "/category/top", 1, true, null, null, null),
+                    new CategoryDto(2L, "셔츠", 1L, "/1/2/", "/category/shirt", 2, true, null, null, null),
+                    new CategoryDto(3L, "맨투맨", 1L, "/1/3/", "/category/hoodie", 1, true, null, null, null),
+                    new CategoryDto(4L, "옥스포드", 2L, "/1/2/4/", "/category/oxford", 1, true, null, null, null)
+            );
+            CompactCategoryTree tree = CompactCategoryTree.from(categories);
+
+            // when
+            List<CategoryTreeResponse> result = tree.toSubtree(2L);
+
+            // then
+            assertEquals(1, result.size());
+            assertEquals("셔츠", result.get(0).getTitle());
+            assertEquals(1L, result.get(0).getParentId());
+            assertEquals(1, result.get(0).getChildren().size());
+            assertEquals("옥스포드", result.get(0).getChildren().get(0).getTitle());
+            assertEquals("맨투맨", tree.toTree().get(0).getChildren().get(0).getTitle());
+            assertTrue(tree.toSubtree(99L).isEmpty());
+        }
+
+        @Test
+        @DisplayName("부모가 목록에 없는 카테고리는 parentId 유지한 채 루트로 구성")
+        void test_success_detached_parent_as_root() {
+            // given
+            List<CategoryDto> categories = List.of(
+                    new CategoryDto(1L, "상의", null, "/1/", "/category/top", 2, true, null, null, null),
+                    new CategoryDto(3L, "반팔티", 2L, "/1/2/3/", null, 1, true, null, null, null)
+            );
+
+            // when
+            List<CategoryTreeResponse> result = CompactCategoryTree.from(categories).toTree();
+
+            // then
+            assertEquals(2, result.size());
+            assertEquals(3L, result.get(0).getId());
+            assertEquals(2L, result.get(0).getParentId());
+            assertNull(result.get(0).getLink());
+            assertNull(result.get(1).getParentId());
+        }
+
+        @Test
+        @DisplayName("노드당 힙 사용량이 DTO 트리 대비 1/5 이하")
+        void test_success_heap_per_node() {
+            // given
+            List<CategoryDto> categories = createCatalog(20, 25, 20);
+            when(categoryRepository.findAllTree(CategoryTreeFields.ALL)).thenReturn(categories);
+
+            // when
+            List<CategoryTreeResponse> dtoTree = categoryService.getCategories(null);
+            CompactCategoryTree compactTree = CompactCategoryTree.from(categories);
+
+            long dtoBytes = GraphLayout.parseInstance(dtoTree).totalSize();
+            long compactBytes = GraphLayout.parseInstance(compactTree).totalSize();
+
+            // then
+            double dtoPerNode = (double) dtoBytes / categories.size();
+            double compactPerNode = (double) compactBytes / categories.size();
+            assertTrue(dtoPerNode >= compactPerNode * 5,
+                    String.format("dto %.1f bytes/node, compact %.1f bytes/node", dtoPerNode, compactPerNode));
+        }
+    }
+}